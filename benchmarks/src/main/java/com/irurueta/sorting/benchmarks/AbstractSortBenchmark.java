@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import com.irurueta.sorting.Sorter;
+import com.irurueta.sorting.SortingException;
+import com.irurueta.sorting.SortingMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sort and sortWithIndices of a sorting method.
+ * Each invocation first restores the input, which is measured on its own by
+ * {@link #copyInput()}.
+ * Subclasses define the measured methods and lengths, so that slow methods
+ * are only measured on arrays they can sort in reasonable time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractSortBenchmark extends InputData {
+
+    /**
+     * Sorter being measured.
+     */
+    private Sorter<Double> sorter;
+
+    /**
+     * Creates sorter being measured.
+     */
+    @Setup
+    public void createSorter() {
+        sorter = Sorter.create(getMethod());
+    }
+
+    /**
+     * Restores the input without sorting it.
+     *
+     * @return restored input.
+     */
+    @Benchmark
+    public Object copyInput() {
+        return copy();
+    }
+
+    /**
+     * Restores and sorts the input.
+     *
+     * @return sorted input.
+     * @throws SortingException if sorting fails.
+     */
+    @Benchmark
+    public Object sort() throws SortingException {
+        final var array = copy();
+        switch (type) {
+            case DOUBLE -> sorter.sort((double[]) array);
+            case FLOAT -> sorter.sort((float[]) array);
+            case INT -> sorter.sort((int[]) array);
+            case LONG -> sorter.sort((long[]) array);
+            default -> sorter.sort((Double[]) array, COMPARATOR);
+        }
+        return array;
+    }
+
+    /**
+     * Restores the input and sorts it retrieving indices.
+     *
+     * @return indices of sorted input.
+     * @throws SortingException if sorting fails.
+     */
+    @Benchmark
+    public int[] sortWithIndices() throws SortingException {
+        final var array = copy();
+        return switch (type) {
+            case DOUBLE -> sorter.sortWithIndices((double[]) array);
+            case FLOAT -> sorter.sortWithIndices((float[]) array);
+            case INT -> sorter.sortWithIndices((int[]) array);
+            case LONG -> sorter.sortWithIndices((long[]) array);
+            default -> sorter.sortWithIndices((Double[]) array, COMPARATOR);
+        };
+    }
+
+    /**
+     * Gets sorting method being measured.
+     *
+     * @return sorting method.
+     */
+    abstract SortingMethod getMethod();
+}
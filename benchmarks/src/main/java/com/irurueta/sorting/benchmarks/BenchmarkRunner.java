@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks accepting the usual JMH command line options, and always
+ * reporting allocated memory and garbage collections through the JMH GC
+ * profiler.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs benchmarks.
+     *
+     * @param args JMH command line options (e.g. a regular expression
+     *             selecting benchmarks, or {@code -p length=1000}).
+     * @throws CommandLineOptionException if options are not valid.
+     * @throws RunnerException            if benchmarks cannot be run.
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final var options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+/**
+ * Types of array elements sorted by benchmarks.
+ */
+public enum ElementType {
+    /**
+     * Arrays of double values.
+     */
+    DOUBLE,
+
+    /**
+     * Arrays of float values.
+     */
+    FLOAT,
+
+    /**
+     * Arrays of int values.
+     */
+    INT,
+
+    /**
+     * Arrays of long values.
+     */
+    LONG,
+
+    /**
+     * Arrays of {@link Double} instances sorted with a comparator.
+     */
+    OBJECT
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+
+/**
+ * Arrays sorted by benchmarks, along with the working copies that each
+ * benchmark invocation modifies.
+ * Benchmarks restore the working copy before every invocation, so that every
+ * invocation sorts the same input. The time spent copying can be measured
+ * separately through the copy benchmark of each class.
+ * Number of elements is a parameter of each benchmark class, so that slow
+ * methods can be measured on shorter arrays only.
+ */
+@State(Scope.Thread)
+public abstract class InputData {
+
+    /**
+     * Comparator used to sort arrays of objects.
+     */
+    static final Comparator<Double> COMPARATOR = Comparator.naturalOrder();
+
+    /**
+     * Type of array elements.
+     */
+    @Param
+    public ElementType type;
+
+    /**
+     * Arrangement of values.
+     */
+    @Param
+    public InputShape shape;
+
+    /**
+     * Original double values.
+     */
+    double[] doubleSource;
+
+    /**
+     * Working copy of double values.
+     */
+    double[] doubles;
+
+    /**
+     * Original float values.
+     */
+    float[] floatSource;
+
+    /**
+     * Working copy of float values.
+     */
+    float[] floats;
+
+    /**
+     * Original int values.
+     */
+    int[] intSource;
+
+    /**
+     * Working copy of int values.
+     */
+    int[] ints;
+
+    /**
+     * Original long values.
+     */
+    long[] longSource;
+
+    /**
+     * Working copy of long values.
+     */
+    long[] longs;
+
+    /**
+     * Original objects.
+     */
+    Double[] objectSource;
+
+    /**
+     * Working copy of objects.
+     */
+    Double[] objects;
+
+    /**
+     * Creates original values and working copies of current type.
+     */
+    @Setup
+    public void createData() {
+        final var length = getLength();
+        final var values = shape.create(length);
+        switch (type) {
+            case DOUBLE -> {
+                doubleSource = new double[length];
+                for (int i = 0; i < length; i++) {
+                    doubleSource[i] = values[i];
+                }
+                doubles = new double[length];
+            }
+            case FLOAT -> {
+                floatSource = new float[length];
+                for (int i = 0; i < length; i++) {
+                    floatSource[i] = values[i];
+                }
+                floats = new float[length];
+            }
+            case INT -> {
+                intSource = values;
+                ints = new int[length];
+            }
+            case LONG -> {
+                longSource = new long[length];
+                for (int i = 0; i < length; i++) {
+                    longSource[i] = values[i];
+                }
+                longs = new long[length];
+            }
+            default -> {
+                objectSource = new Double[length];
+                for (int i = 0; i < length; i++) {
+                    objectSource[i] = (double) values[i];
+                }
+                objects = new Double[length];
+            }
+        }
+    }
+
+    /**
+     * Restores working copy of current type from original values.
+     *
+     * @return restored working copy.
+     */
+    Object copy() {
+        final var length = getLength();
+        switch (type) {
+            case DOUBLE -> {
+                System.arraycopy(doubleSource, 0, doubles, 0, length);
+                return doubles;
+            }
+            case FLOAT -> {
+                System.arraycopy(floatSource, 0, floats, 0, length);
+                return floats;
+            }
+            case INT -> {
+                System.arraycopy(intSource, 0, ints, 0, length);
+                return ints;
+            }
+            case LONG -> {
+                System.arraycopy(longSource, 0, longs, 0, length);
+                return longs;
+            }
+            default -> {
+                System.arraycopy(objectSource, 0, objects, 0, length);
+                return objects;
+            }
+        }
+    }
+
+    /**
+     * Gets number of elements.
+     *
+     * @return number of elements.
+     */
+    abstract int getLength();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Arrangements of values to be sorted by benchmarks.
+ */
+public enum InputShape {
+    /**
+     * Uniformly distributed random values.
+     */
+    RANDOM {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return random.nextInt();
+        }
+    },
+
+    /**
+     * Values already in ascending order.
+     */
+    SORTED {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return i;
+        }
+    },
+
+    /**
+     * Values in descending order.
+     */
+    REVERSED {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return length - 1 - i;
+        }
+    },
+
+    /**
+     * Values ascending up to the middle of the array and descending
+     * afterwards.
+     */
+    ORGAN_PIPE {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return i < length / 2 ? i : length - 1 - i;
+        }
+    },
+
+    /**
+     * Random values taken from a small set of distinct values.
+     */
+    FEW_UNIQUE {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return random.nextInt(FEW_UNIQUE_VALUES);
+        }
+    },
+
+    /**
+     * Several consecutive ascending runs of equal length.
+     */
+    SAWTOOTH {
+        @Override
+        int value(final int i, final int length, final Random random) {
+            return i % Math.max(1, length / SAWTOOTH_TEETH);
+        }
+    };
+
+    /**
+     * Number of distinct values of {@link #FEW_UNIQUE} inputs.
+     */
+    private static final int FEW_UNIQUE_VALUES = 16;
+
+    /**
+     * Number of ascending runs of {@link #SAWTOOTH} inputs.
+     */
+    private static final int SAWTOOTH_TEETH = 64;
+
+    /**
+     * Seed of random values, so that every benchmark sorts the same values.
+     */
+    private static final long SEED = 0x5eed;
+
+    /**
+     * Creates values having this shape.
+     *
+     * @param length number of values.
+     * @return created values.
+     */
+    public int[] create(final int length) {
+        final var random = new Random(SEED);
+        final var result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = value(i, length, random);
+        }
+        return result;
+    }
+
+    /**
+     * Gets value at provided position.
+     *
+     * @param i      position of value.
+     * @param length number of values.
+     * @param random generator of random values.
+     * @return value at provided position.
+     */
+    abstract int value(final int i, final int length, final Random random);
+}
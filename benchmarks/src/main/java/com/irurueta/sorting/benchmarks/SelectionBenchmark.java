@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import com.irurueta.sorting.ComparatorAndAverager;
+import com.irurueta.sorting.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures select and median.
+ * Selection does not depend on the sorting method, so a single sorter is
+ * measured. Each invocation first restores the input, which is measured on
+ * its own by {@link #copyInput()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark extends InputData {
+
+    /**
+     * Compares and averages objects when computing their median.
+     */
+    private static final ComparatorAndAverager<Double> AVERAGER = new ComparatorAndAverager<>() {
+        @Override
+        public Double average(final Double t1, final Double t2) {
+            return 0.5 * (t1 + t2);
+        }
+
+        @Override
+        public int compare(final Double o1, final Double o2) {
+            return COMPARATOR.compare(o1, o2);
+        }
+    };
+
+    /**
+     * Number of elements. Largest lengths require a large heap (e.g.
+     * {@code -jvmArgsAppend -Xmx16g}).
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int length;
+
+    /**
+     * Sorter being measured.
+     */
+    private final Sorter<Double> sorter = Sorter.create();
+
+    /**
+     * Gets number of elements.
+     *
+     * @return number of elements.
+     */
+    @Override
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Restores the input without selecting anything.
+     *
+     * @return restored input.
+     */
+    @Benchmark
+    public Object copyInput() {
+        return copy();
+    }
+
+    /**
+     * Restores the input and selects its first quartile.
+     *
+     * @param blackhole consumes selected value.
+     */
+    @Benchmark
+    public void select(final Blackhole blackhole) {
+        final var array = copy();
+        final var k = length / 4;
+        switch (type) {
+            case DOUBLE -> blackhole.consume(sorter.select(k, (double[]) array));
+            case FLOAT -> blackhole.consume(sorter.select(k, (float[]) array));
+            case INT -> blackhole.consume(sorter.select(k, (int[]) array));
+            case LONG -> blackhole.consume(sorter.select(k, (long[]) array));
+            default -> blackhole.consume(sorter.select(k, (Double[]) array, COMPARATOR));
+        }
+    }
+
+    /**
+     * Restores the input and computes its median.
+     *
+     * @param blackhole consumes median.
+     */
+    @Benchmark
+    public void median(final Blackhole blackhole) {
+        final var array = copy();
+        switch (type) {
+            case DOUBLE -> blackhole.consume(sorter.median((double[]) array));
+            case FLOAT -> blackhole.consume(sorter.median((float[]) array));
+            case INT -> blackhole.consume(sorter.median((int[]) array));
+            case LONG -> blackhole.consume(sorter.median((long[]) array));
+            default -> blackhole.consume(sorter.median((Double[]) array, AVERAGER));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import com.irurueta.sorting.SortingMethod;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures sort and sortWithIndices of Shell sort, which takes more than
+ * linearithmic time and is therefore only measured up to 10^6 elements.
+ */
+public class ShellSortBenchmark extends AbstractSortBenchmark {
+
+    /**
+     * Sorting method being measured.
+     */
+    @Param("SHELL_SORTING_METHOD")
+    public SortingMethod method;
+
+    /**
+     * Number of elements.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    public int length;
+
+    /**
+     * Gets sorting method being measured.
+     *
+     * @return sorting method.
+     */
+    @Override
+    SortingMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets number of elements.
+     *
+     * @return number of elements.
+     */
+    @Override
+    int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting.benchmarks;
+
+import com.irurueta.sorting.SortingMethod;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures sort and sortWithIndices of every sorting method taking
+ * linearithmic time, at every length.
+ * Straight insertion and Shell sort are measured on shorter arrays by
+ * {@link StraightInsertionSortBenchmark} and {@link ShellSortBenchmark}.
+ */
+public class SortBenchmark extends AbstractSortBenchmark {
+
+    /**
+     * Sorting method being measured.
+     */
+    @Param({"QUICKSORT_SORTING_METHOD", "HEAPSORT_SORTING_METHOD", "SYSTEM_SORTING_METHOD",
+            "PARALLEL_QUICKSORT_SORTING_METHOD", "RADIX_SORTING_METHOD", "INTROSORT_SORTING_METHOD",
+            "PDQSORT_SORTING_METHOD", "TIMSORT_SORTING_METHOD", "PARALLEL_MERGE_SORTING_METHOD",
+            "PARALLEL_RADIX_SORTING_METHOD", "AUTO_SORTING_METHOD"})
+    public SortingMethod method;
+
+    /**
+     * Number of elements. Largest lengths require a large heap (e.g.
+     * {@code -jvmArgsAppend -Xmx16g}).
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int length;
+
+    /**
+     * Gets sorting method being measured.
+     *
+     * @return sorting method.
+     */
+    @Override
+    SortingMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets number of elements.
+     *
+     * @return number of elements.
+     */
+    @Override
+    int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,1144 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sorts instances of type T in provided arrays choosing, on each call, the
+ * sorting method that best fits the length of the range being sorted, the
+ * type of its elements and whether indices are requested:
+ * <ul>
+ *     <li>Ranges smaller or equal than an insertion threshold are sorted
+ *     using straight insertion.</li>
+ *     <li>Ranges larger than a parallel threshold are sorted using a parallel
+ *     radix sort for integers and longs, a parallel Quicksort for doubles and
+ *     floats, and a parallel merge sort for objects, as long as more than one
+ *     processor is available. Otherwise, integers and longs are radix sorted
+ *     and remaining types are sorted as for medium ranges.</li>
+ *     <li>Medium ranges of primitive values are sorted using the JDK sort, and
+ *     medium ranges of objects using TimSort.</li>
+ *     <li>When the scratch memory required by the chosen method exceeds the
+ *     memory budget, Heapsort is used instead, since it sorts in place.</li>
+ * </ul>
+ * Doubles and floats are always sorted in the order given by
+ * {@link java.util.Arrays#sort(double[])}: when the chosen method only
+ * compares values with {@code <}, NaN values are moved to the end of the range
+ * before sorting, and negative zeros are placed before positive zeros
+ * afterward.
+ * Thresholds of primitive types can be measured on the running machine by a
+ * {@link SortingCalibration}.
+ * The method chosen by the last call is available through
+ * {@link #getLastChosenMethod()}.
+ *
+ * @param <T> Type of instances being sorted.
+ */
+public class AutoSorter<T> extends Sorter<T> {
+
+    /**
+     * Default size of ranges below or equal which straight insertion is used.
+     */
+    public static final int DEFAULT_INSERTION_THRESHOLD = 32;
+
+    /**
+     * Default size of ranges above which parallel sorting methods are used.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Memory budget indicating that scratch memory is limited to half of the
+     * heap memory available when sorting starts.
+     */
+    public static final long AVAILABLE_MEMORY_BUDGET = -1;
+
+    /**
+     * Size of an object reference assumed when estimating scratch memory.
+     */
+    private static final int REFERENCE_BYTES = 8;
+
+    /**
+     * Size of ranges below or equal which straight insertion is used.
+     */
+    private final int insertionThreshold;
+
+    /**
+     * Size of ranges above which parallel sorting methods are used.
+     */
+    private final int parallelThreshold;
+
+    /**
+     * Maximum number of bytes of scratch memory that sorting can use, or
+     * {@link #AVAILABLE_MEMORY_BUDGET} to use half of the available heap.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Thresholds of primitive types, or null to use the same thresholds for
+     * every type.
+     */
+    private final SortingCalibration calibration;
+
+    /**
+     * Indicates whether more than one processor is available for parallel
+     * sorting methods.
+     */
+    private final boolean parallel;
+
+    /**
+     * Sorters for each of the methods that can be chosen.
+     */
+    private final Map<SortingMethod, Sorter<T>> sorters = new EnumMap<>(SortingMethod.class);
+
+    /**
+     * Method chosen by last call, or null if nothing has been sorted yet.
+     */
+    private volatile SortingMethod lastChosenMethod;
+
+    /**
+     * Constructor using default thresholds and half of the available heap as
+     * memory budget.
+     */
+    public AutoSorter() {
+        this(DEFAULT_INSERTION_THRESHOLD, DEFAULT_PARALLEL_THRESHOLD, AVAILABLE_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructor using default thresholds.
+     *
+     * @param memoryBudget maximum number of bytes of scratch memory that
+     *                     sorting can use, or {@link #AVAILABLE_MEMORY_BUDGET}
+     *                     to use half of the available heap.
+     * @throws IllegalArgumentException if memory budget is negative and not
+     *                                  {@link #AVAILABLE_MEMORY_BUDGET}.
+     */
+    public AutoSorter(final long memoryBudget) {
+        this(DEFAULT_INSERTION_THRESHOLD, DEFAULT_PARALLEL_THRESHOLD, memoryBudget);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param insertionThreshold size of ranges below or equal which straight
+     *                           insertion is used.
+     * @param parallelThreshold  size of ranges above which parallel sorting
+     *                           methods are used.
+     * @param memoryBudget       maximum number of bytes of scratch memory that
+     *                           sorting can use, or
+     *                           {@link #AVAILABLE_MEMORY_BUDGET} to use half of
+     *                           the available heap.
+     * @throws IllegalArgumentException if any threshold is negative, if
+     *                                  parallel threshold is lower than
+     *                                  insertion threshold or if memory budget
+     *                                  is negative and not
+     *                                  {@link #AVAILABLE_MEMORY_BUDGET}.
+     */
+    public AutoSorter(final int insertionThreshold, final int parallelThreshold, final long memoryBudget) {
+        this(insertionThreshold, parallelThreshold, memoryBudget, null);
+    }
+
+    /**
+     * Constructor using calibrated thresholds for arrays of primitive values
+     * and default thresholds for arrays of objects.
+     *
+     * @param calibration  thresholds of primitive types.
+     * @param memoryBudget maximum number of bytes of scratch memory that
+     *                     sorting can use, or {@link #AVAILABLE_MEMORY_BUDGET}
+     *                     to use half of the available heap.
+     * @throws IllegalArgumentException if calibration is null or if memory
+     *                                  budget is negative and not
+     *                                  {@link #AVAILABLE_MEMORY_BUDGET}.
+     */
+    public AutoSorter(final SortingCalibration calibration, final long memoryBudget) {
+        this(DEFAULT_INSERTION_THRESHOLD, DEFAULT_PARALLEL_THRESHOLD, memoryBudget, calibration);
+        if (calibration == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Internal constructor.
+     *
+     * @param insertionThreshold size of ranges below or equal which straight
+     *                           insertion is used.
+     * @param parallelThreshold  size of ranges above which parallel sorting
+     *                           methods are used.
+     * @param memoryBudget       maximum number of bytes of scratch memory that
+     *                           sorting can use, or
+     *                           {@link #AVAILABLE_MEMORY_BUDGET} to use half of
+     *                           the available heap.
+     * @param calibration        thresholds of primitive types, or null to use
+     *                           the same thresholds for every type.
+     * @throws IllegalArgumentException if any threshold is negative, if
+     *                                  parallel threshold is lower than
+     *                                  insertion threshold or if memory budget
+     *                                  is negative and not
+     *                                  {@link #AVAILABLE_MEMORY_BUDGET}.
+     */
+    private AutoSorter(final int insertionThreshold, final int parallelThreshold, final long memoryBudget,
+                       final SortingCalibration calibration) {
+        if (insertionThreshold < 0 || parallelThreshold < insertionThreshold
+                || (memoryBudget < 0 && memoryBudget != AVAILABLE_MEMORY_BUDGET)) {
+            throw new IllegalArgumentException();
+        }
+        this.insertionThreshold = insertionThreshold;
+        this.parallelThreshold = parallelThreshold;
+        this.memoryBudget = memoryBudget;
+        this.calibration = calibration;
+        parallel = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+        for (final var method : new SortingMethod[]{
+                SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD, SortingMethod.HEAPSORT_SORTING_METHOD,
+                SortingMethod.SYSTEM_SORTING_METHOD, SortingMethod.RADIX_SORTING_METHOD,
+                SortingMethod.TIMSORT_SORTING_METHOD, SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD,
+                SortingMethod.PARALLEL_RADIX_SORTING_METHOD, SortingMethod.PARALLEL_MERGE_SORTING_METHOD}) {
+            sorters.put(method, Sorter.create(method));
+        }
+    }
+
+    /**
+     * Gets size of ranges below or equal which straight insertion is used.
+     * When a calibration is used, this only applies to arrays of objects.
+     *
+     * @return size of ranges below or equal which straight insertion is used.
+     */
+    public int getInsertionThreshold() {
+        return insertionThreshold;
+    }
+
+    /**
+     * Gets size of ranges above which parallel sorting methods are used.
+     * When a calibration is used, this only applies to arrays of objects.
+     *
+     * @return size of ranges above which parallel sorting methods are used.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Gets thresholds of primitive types.
+     *
+     * @return thresholds of primitive types, or null if the same thresholds
+     * are used for every type.
+     */
+    public SortingCalibration getCalibration() {
+        return calibration;
+    }
+
+    /**
+     * Gets maximum number of bytes of scratch memory that sorting can use.
+     *
+     * @return maximum number of bytes of scratch memory that sorting can use,
+     * or {@link #AVAILABLE_MEMORY_BUDGET} if half of the available heap is
+     * used.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Gets sorting method chosen by the last call to sort or sortWithIndices.
+     * When this sorter is shared among threads, the method chosen by the call
+     * of any thread that finished choosing last is returned.
+     *
+     * @return method chosen by last call, or null if nothing has been sorted
+     * yet.
+     */
+    public SortingMethod getLastChosenMethod() {
+        return lastChosenMethod;
+    }
+
+    /**
+     * Chooses sorting method to be used for a range of provided length and
+     * element type, without sorting anything.
+     *
+     * @param elementType type of elements to be sorted. Either double.class,
+     *                    float.class, int.class or long.class for arrays of
+     *                    primitive values, or any other class for arrays of
+     *                    objects.
+     * @param length      number of elements of the range to be sorted.
+     * @param withIndices true if indices are requested, false otherwise.
+     * @return chosen sorting method.
+     */
+    public SortingMethod chooseMethod(final Class<?> elementType, final int length, final boolean withIndices) {
+        final var integral = elementType == int.class || elementType == long.class;
+        final var primitive = integral || elementType == double.class || elementType == float.class;
+        final var calibrated = calibration != null && primitive;
+        if (length <= (calibrated ? calibration.getInsertionThreshold(elementType) : insertionThreshold)) {
+            return SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD;
+        }
+
+        final SortingMethod method;
+        final var large = length > (calibrated ? calibration.getParallelThreshold(elementType) : parallelThreshold);
+        if (large && integral) {
+            method = parallel ? SortingMethod.PARALLEL_RADIX_SORTING_METHOD : SortingMethod.RADIX_SORTING_METHOD;
+        } else if (large && parallel) {
+            method = primitive ? SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD
+                    : SortingMethod.PARALLEL_MERGE_SORTING_METHOD;
+        } else {
+            method = primitive ? SortingMethod.SYSTEM_SORTING_METHOD : SortingMethod.TIMSORT_SORTING_METHOD;
+        }
+
+        final var elementSize = getElementSize(elementType);
+        if (getScratchSize(method, elementType, elementSize, length, withIndices) > getAvailableMemory()) {
+            return SortingMethod.HEAPSORT_SORTING_METHOD;
+        }
+        return method;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator)
+            throws SortingException {
+        choose(Object.class, toIndex - fromIndex, false).sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) throws SortingException {
+        return choose(Object.class, toIndex - fromIndex, true).sortWithIndices(array, fromIndex, toIndex,
+                comparator);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sorter = choose(double.class, toIndex - fromIndex, false);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sort(array, fromIndex, toIndex);
+            return;
+        }
+        final var end = moveNaNsToEnd(array, null, fromIndex, toIndex);
+        sorter.sort(array, fromIndex, end);
+        moveNegativeZerosFirst(array, null, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sorter = choose(double.class, toIndex - fromIndex, true);
+        if (ordersLikeJdk(sorter)) {
+            return sorter.sortWithIndices(array, fromIndex, toIndex);
+        }
+        final var indices = getInitialIndicesVector(array.length);
+        final var end = moveNaNsToEnd(array, indices, fromIndex, toIndex);
+        // indices moved along with NaN values must be kept by the chosen
+        // sorter, which otherwise starts from natural order
+        if (end == toIndex) {
+            sorter.sortWithIndices(array, fromIndex, toIndex, indices, new SortingWorkspace());
+        } else {
+            sorter.sortRangeWithIndices(array, indices, fromIndex, end, new SortingWorkspace());
+        }
+        moveNegativeZerosFirst(array, indices, fromIndex, end);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sorter = choose(float.class, toIndex - fromIndex, false);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sort(array, fromIndex, toIndex);
+            return;
+        }
+        final var end = moveNaNsToEnd(array, null, fromIndex, toIndex);
+        sorter.sort(array, fromIndex, end);
+        moveNegativeZerosFirst(array, null, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sorter = choose(float.class, toIndex - fromIndex, true);
+        if (ordersLikeJdk(sorter)) {
+            return sorter.sortWithIndices(array, fromIndex, toIndex);
+        }
+        final var indices = getInitialIndicesVector(array.length);
+        final var end = moveNaNsToEnd(array, indices, fromIndex, toIndex);
+        // indices moved along with NaN values must be kept by the chosen
+        // sorter, which otherwise starts from natural order
+        if (end == toIndex) {
+            sorter.sortWithIndices(array, fromIndex, toIndex, indices, new SortingWorkspace());
+        } else {
+            sorter.sortRangeWithIndices(array, indices, fromIndex, end, new SortingWorkspace());
+        }
+        moveNegativeZerosFirst(array, indices, fromIndex, end);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+        choose(int.class, toIndex - fromIndex, false).sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+        return choose(int.class, toIndex - fromIndex, true).sortWithIndices(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+        choose(long.class, toIndex - fromIndex, false).sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, using the method chosen for
+     * the length of the range.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+        return choose(long.class, toIndex - fromIndex, true).sortWithIndices(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) throws SortingException {
+        choose(Object.class, toIndex - fromIndex, false).sortRange(array, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator,
+                                        final SortingWorkspace workspace) throws SortingException {
+        choose(Object.class, toIndex - fromIndex, true).sortRangeWithIndices(array, indices, fromIndex, toIndex,
+                comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        final var sorter = choose(double.class, toIndex - fromIndex, false);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sortRange(array, fromIndex, toIndex, workspace);
+            return;
+        }
+        final var end = moveNaNsToEnd(array, null, fromIndex, toIndex);
+        sorter.sortRange(array, fromIndex, end, workspace);
+        moveNegativeZerosFirst(array, null, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        final var sorter = choose(double.class, toIndex - fromIndex, true);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+            return;
+        }
+        // NaN values are swapped along with their indices, and the chosen
+        // sorter keeps reordering the indices of the remaining values
+        final var end = moveNaNsToEnd(array, indices, fromIndex, toIndex);
+        sorter.sortRangeWithIndices(array, indices, fromIndex, end, workspace);
+        moveNegativeZerosFirst(array, indices, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        final var sorter = choose(float.class, toIndex - fromIndex, false);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sortRange(array, fromIndex, toIndex, workspace);
+            return;
+        }
+        final var end = moveNaNsToEnd(array, null, fromIndex, toIndex);
+        sorter.sortRange(array, fromIndex, end, workspace);
+        moveNegativeZerosFirst(array, null, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        final var sorter = choose(float.class, toIndex - fromIndex, true);
+        if (ordersLikeJdk(sorter)) {
+            sorter.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+            return;
+        }
+        // NaN values are swapped along with their indices, and the chosen
+        // sorter keeps reordering the indices of the remaining values
+        final var end = moveNaNsToEnd(array, indices, fromIndex, toIndex);
+        sorter.sortRangeWithIndices(array, indices, fromIndex, end, workspace);
+        moveNegativeZerosFirst(array, indices, fromIndex, end);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        choose(int.class, toIndex - fromIndex, false).sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        choose(int.class, toIndex - fromIndex, true).sortRangeWithIndices(array, indices, fromIndex, toIndex,
+                workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        choose(long.class, toIndex - fromIndex, false).sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Range is sorted by the sorter of the method chosen for its length,
+     * which takes its stacks and scratch arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        choose(long.class, toIndex - fromIndex, true).sortRangeWithIndices(array, indices, fromIndex, toIndex,
+                workspace);
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.AUTO_SORTING_METHOD;
+    }
+
+    /**
+     * Chooses sorting method for a range and keeps it as the last chosen
+     * method.
+     *
+     * @param elementType type of elements to be sorted.
+     * @param length      number of elements of the range to be sorted.
+     * @param withIndices true if indices are requested, false otherwise.
+     * @return sorter of chosen method.
+     */
+    private Sorter<T> choose(final Class<?> elementType, final int length, final boolean withIndices) {
+        final var method = chooseMethod(elementType, length, withIndices);
+        lastChosenMethod = method;
+        return sorters.get(method);
+    }
+
+    /**
+     * Indicates whether provided sorter orders NaN and -0.0 values as
+     * {@link java.util.Arrays#sort(double[])} does.
+     *
+     * @param sorter sorter to be checked.
+     * @return true if NaN values are placed last and -0.0 before 0.0, false
+     * if values are only compared with {@code <}.
+     */
+    private static boolean ordersLikeJdk(final Sorter<?> sorter) {
+        final var method = sorter.getMethod();
+        return method == SortingMethod.SYSTEM_SORTING_METHOD || method == SortingMethod.RADIX_SORTING_METHOD
+                || method == SortingMethod.PARALLEL_RADIX_SORTING_METHOD;
+    }
+
+    /**
+     * Gets maximum number of bytes of scratch memory that sorting can use.
+     *
+     * @return maximum number of bytes of scratch memory.
+     */
+    private long getAvailableMemory() {
+        if (memoryBudget != AVAILABLE_MEMORY_BUDGET) {
+            return memoryBudget;
+        }
+        final var runtime = Runtime.getRuntime();
+        return (runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory())) / 2;
+    }
+
+    /**
+     * Gets number of bytes of each element of provided type.
+     *
+     * @param elementType type of elements.
+     * @return number of bytes of each element.
+     */
+    private static int getElementSize(final Class<?> elementType) {
+        if (elementType == double.class) {
+            return Double.BYTES;
+        } else if (elementType == float.class) {
+            return Float.BYTES;
+        } else if (elementType == int.class) {
+            return Integer.BYTES;
+        } else if (elementType == long.class) {
+            return Long.BYTES;
+        } else {
+            return REFERENCE_BYTES;
+        }
+    }
+
+    /**
+     * Estimates number of bytes of scratch memory that provided method
+     * allocates to sort a range, besides the returned indices.
+     *
+     * @param method      sorting method.
+     * @param elementType type of elements to be sorted.
+     * @param elementSize number of bytes of each element.
+     * @param length      number of elements of the range to be sorted.
+     * @param withIndices true if indices are requested, false otherwise.
+     * @return estimated number of bytes of scratch memory.
+     */
+    private static long getScratchSize(final SortingMethod method, final Class<?> elementType,
+                                       final int elementSize, final int length, final boolean withIndices) {
+        final var indexSize = withIndices ? Integer.BYTES : 0;
+        return switch (method) {
+            // values and indices of floats and integers are packed into
+            // longs, and doubles and longs are radix sorted along with their
+            // indices
+            case SYSTEM_SORTING_METHOD -> {
+                if (!withIndices) {
+                    yield 0L;
+                }
+                yield elementType == float.class || elementType == int.class ? (long) Long.BYTES * length
+                        : (long) (elementSize + indexSize) * length;
+            }
+            // scratch copy of values and indices
+            case RADIX_SORTING_METHOD, PARALLEL_RADIX_SORTING_METHOD, PARALLEL_MERGE_SORTING_METHOD ->
+                    (long) (elementSize + indexSize) * length;
+            // sample sort also keeps the bucket of each element
+            case PARALLEL_QUICKSORT_SORTING_METHOD -> (long) (elementSize + indexSize + 1) * length;
+            // merges copy at most half of the range
+            case TIMSORT_SORTING_METHOD -> (long) (elementSize + indexSize) * length / 2;
+            default -> 0L;
+        };
+    }
+
+    /**
+     * Moves NaN values of provided range to its end, along with their indices.
+     * Remaining values keep their relative order.
+     *
+     * @param array     Array containing range.
+     * @param indices   Indices reordered along with provided array, or null
+     *                  if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range ends (exclusive).
+     * @return Position where NaN values start.
+     */
+    private static int moveNaNsToEnd(final double[] array, final int[] indices, final int fromIndex,
+                                     final int toIndex) {
+        var end = fromIndex;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!Double.isNaN(array[i])) {
+                swap(array, indices, i, end++);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Places negative zeros of provided sorted range before positive zeros,
+     * along with their indices, as {@link java.util.Arrays#sort(double[])} does.
+     *
+     * @param array     Array containing range, sorted except for the sign of
+     *                  its zeros.
+     * @param indices   Indices reordered along with provided array, or null
+     *                  if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range ends (exclusive).
+     */
+    private static void moveNegativeZerosFirst(final double[] array, final int[] indices, final int fromIndex,
+                                               final int toIndex) {
+        // zeros are contiguous, find where they start
+        var lo = fromIndex;
+        var hi = toIndex;
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[mid] < 0.0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        var pos = lo;
+        for (int i = lo; i < toIndex && array[i] == 0.0; i++) {
+            if (Double.doubleToRawLongBits(array[i]) < 0) {
+                swap(array, indices, i, pos++);
+            }
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param i       First position.
+     * @param j       Second position.
+     */
+    private static void swap(final double[] array, final int[] indices, final int i, final int j) {
+        if (i == j) {
+            return;
+        }
+        final var value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+        if (indices != null) {
+            final var index = indices[i];
+            indices[i] = indices[j];
+            indices[j] = index;
+        }
+    }
+
+    /**
+     * Moves NaN values of provided range to its end, along with their indices.
+     * Remaining values keep their relative order.
+     *
+     * @param array     Array containing range.
+     * @param indices   Indices reordered along with provided array, or null
+     *                  if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range ends (exclusive).
+     * @return Position where NaN values start.
+     */
+    private static int moveNaNsToEnd(final float[] array, final int[] indices, final int fromIndex,
+                                     final int toIndex) {
+        var end = fromIndex;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!Float.isNaN(array[i])) {
+                swap(array, indices, i, end++);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Places negative zeros of provided sorted range before positive zeros,
+     * along with their indices, as {@link java.util.Arrays#sort(float[])} does.
+     *
+     * @param array     Array containing range, sorted except for the sign of
+     *                  its zeros.
+     * @param indices   Indices reordered along with provided array, or null
+     *                  if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range ends (exclusive).
+     */
+    private static void moveNegativeZerosFirst(final float[] array, final int[] indices, final int fromIndex,
+                                               final int toIndex) {
+        // zeros are contiguous, find where they start
+        var lo = fromIndex;
+        var hi = toIndex;
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[mid] < 0.0f) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        var pos = lo;
+        for (int i = lo; i < toIndex && array[i] == 0.0f; i++) {
+            if (Float.floatToRawIntBits(array[i]) < 0) {
+                swap(array, indices, i, pos++);
+            }
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param i       First position.
+     * @param j       Second position.
+     */
+    private static void swap(final float[] array, final int[] indices, final int i, final int j) {
+        if (i == j) {
+            return;
+        }
+        final var value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+        if (indices != null) {
+            final var index = indices[i];
+            indices[i] = indices[j];
+            indices[j] = index;
+        }
+    }
+}
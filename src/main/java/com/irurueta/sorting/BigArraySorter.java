@@ -0,0 +1,749 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+/**
+ * Sorts and selects elements of arrays addressed by long indices, such as
+ * {@link BigDoubleArray} and {@link BigLongArray}, which can contain more than
+ * {@link Integer#MAX_VALUE} elements.
+ * Sorting uses an Introsort over long indices that hands partitions contained
+ * within a single segment over to the array kernels of a {@link Sorter}.
+ */
+@SuppressWarnings("Duplicates")
+final class BigArraySorter {
+
+    /**
+     * Partitions having this number of elements or fewer are sorted using
+     * straight insertion.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private BigArraySorter() {
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using Introsort over long indices.
+     * Partitions contained within a single segment are sorted by provided
+     * sorter on that segment.
+     *
+     * @param sorter    Sorter used to sort partitions contained within a
+     *                  single segment.
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static void sort(final Sorter<?> sorter, final BigDoubleArray array, final long fromIndex, final long toIndex)
+            throws SortingException {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        introsort(sorter, array, null, fromIndex, toIndex - 1, getDepthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using Introsort over long indices,
+     * returning the original position of every element.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Original position of every element of provided array.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static BigLongArray sortWithIndices(final Sorter<?> sorter, final BigDoubleArray array, final long fromIndex,
+                                        final long toIndex) throws SortingException {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        final var indices = sorter.getInitialIndicesVector(array.getLength(), array.getSegmentSize());
+        introsort(null, array, indices, fromIndex, toIndex - 1, getDepthLimit(toIndex - fromIndex));
+        return indices;
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param array     Array to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException       if k is negative or not lower
+     *                                        than (toIndex - fromIndex), or if
+     *                                        fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static double select(final long k, final BigDoubleArray array, final long fromIndex, final long toIndex) {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array.get(ir) < array.get(l)) {
+                    swap(array, null, l, ir);
+                }
+                return array.get(kk);
+            }
+
+            final var j = partition(array, null, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Computes median of provided array between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param array     Array to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException       if fromIndex &gt;= toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static double median(final BigDoubleArray array, final long fromIndex, final long toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(pos1, array, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = array.get(fromIndex);
+            for (long i = 1; i < pos1; i++) {
+                final var value3 = array.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return 0.5 * (value1 + value2);
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param sorter     Sorter used to sort partitions contained within a
+     *                   single segment, or null if partitions must be sorted
+     *                   by this method.
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    private static void introsort(final Sorter<?> sorter, final BigDoubleArray array, final BigLongArray indices,
+                                  final long lo, final long hi, final int depthLimit) throws SortingException {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            final var segment = array.getSegmentIndex(l);
+            if (sorter != null && segment == array.getSegmentIndex(ir)) {
+                sorter.sort(array.getSegments()[segment], array.getSegmentOffset(l),
+                        array.getSegmentOffset(ir) + 1);
+                return;
+            }
+            if (depth-- == 0) {
+                heapsort(array, indices, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(array, indices, l, ir);
+            if (j - l < ir - j) {
+                introsort(sorter, array, indices, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(sorter, array, indices, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(array, indices, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Indices to be reordered along with provided array or
+     *                null if not needed.
+     * @param l       Position of first element of the range (inclusive).
+     * @param ir      Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static long partition(final BigDoubleArray array, final BigLongArray indices, final long l, final long ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(array, indices, (l + ir) >>> 1, l + 1);
+        if (array.get(l) > array.get(ir)) {
+            swap(array, indices, l, ir);
+        }
+        if (array.get(l + 1) > array.get(ir)) {
+            swap(array, indices, l + 1, ir);
+        }
+        if (array.get(l) > array.get(l + 1)) {
+            swap(array, indices, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array.get(l + 1);
+        final var b = indices != null ? indices.get(l + 1) : 0L;
+        for (; ; ) {
+            do {
+                i++;
+            } while (array.get(i) < a);
+            do {
+                j--;
+            } while (array.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, indices, i, j);
+        }
+        // Insert partitioning element
+        array.set(l + 1, array.get(j));
+        array.set(j, a);
+        if (indices != null) {
+            indices.set(l + 1, indices.get(j));
+            indices.set(j, b);
+        }
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Indices to be reordered along with provided array or
+     *                  null if not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final BigDoubleArray array, final BigLongArray indices, final long fromIndex,
+                                 final long toIndex) {
+        final var n = toIndex - fromIndex;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, indices, fromIndex, i, n);
+        }
+        for (long i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, fromIndex + i);
+            siftDown(array, indices, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param array   Array containing the heap.
+     * @param indices Indices to be reordered along with provided array or
+     *                null if not needed.
+     * @param offset  Position of the root of the heap.
+     * @param pos     Position of the element to be moved, relative to offset.
+     * @param n       Number of elements in the heap.
+     */
+    private static void siftDown(final BigDoubleArray array, final BigLongArray indices, final long offset,
+                                 final long pos, final long n) {
+        final var value = array.get(offset + pos);
+        final var index = indices != null ? indices.get(offset + pos) : 0L;
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && array.get(offset + child) < array.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = array.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            array.set(offset + parent, childValue);
+            if (indices != null) {
+                indices.set(offset + parent, indices.get(offset + child));
+            }
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        array.set(offset + parent, value);
+        if (indices != null) {
+            indices.set(offset + parent, index);
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Indices to be reordered along with provided array or
+     *                  null if not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final BigDoubleArray array, final BigLongArray indices, final long fromIndex,
+                                      final long toIndex) {
+        for (long i = fromIndex + 1; i < toIndex; i++) {
+            final var value = array.get(i);
+            final var index = indices != null ? indices.get(i) : 0L;
+            var j = i - 1;
+            while (j >= fromIndex && array.get(j) > value) {
+                array.set(j + 1, array.get(j));
+                if (indices != null) {
+                    indices.set(j + 1, indices.get(j));
+                }
+                j--;
+            }
+            array.set(j + 1, value);
+            if (indices != null) {
+                indices.set(j + 1, index);
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and indices at locations posA and posB.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices where values are swapped or null if not needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final BigDoubleArray array, final BigLongArray indices, final long posA, final long posB) {
+        final var value = array.get(posA);
+        array.set(posA, array.get(posB));
+        array.set(posB, value);
+        if (indices != null) {
+            final var index = indices.get(posA);
+            indices.set(posA, indices.get(posB));
+            indices.set(posB, index);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using Introsort over long indices.
+     * Partitions contained within a single segment are sorted by provided
+     * sorter on that segment.
+     *
+     * @param sorter    Sorter used to sort partitions contained within a
+     *                  single segment.
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static void sort(final Sorter<?> sorter, final BigLongArray array, final long fromIndex, final long toIndex)
+            throws SortingException {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        introsort(sorter, array, null, fromIndex, toIndex - 1, getDepthLimit(toIndex - fromIndex));
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using Introsort over long indices,
+     * returning the original position of every element.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Original position of every element of provided array.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static BigLongArray sortWithIndices(final Sorter<?> sorter, final BigLongArray array, final long fromIndex,
+                                        final long toIndex) throws SortingException {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        final var indices = sorter.getInitialIndicesVector(array.getLength(), array.getSegmentSize());
+        introsort(null, array, indices, fromIndex, toIndex - 1, getDepthLimit(toIndex - fromIndex));
+        return indices;
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param array     Array to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException       if k is negative or not lower
+     *                                        than (toIndex - fromIndex), or if
+     *                                        fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static long select(final long k, final BigLongArray array, final long fromIndex, final long toIndex) {
+        checkRange(array.getLength(), fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array.get(ir) < array.get(l)) {
+                    swap(array, null, l, ir);
+                }
+                return array.get(kk);
+            }
+
+            final var j = partition(array, null, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Computes median of provided array between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param array     Array to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException       if fromIndex &gt;= toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    static long median(final BigLongArray array, final long fromIndex, final long toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(pos1, array, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = array.get(fromIndex);
+            for (long i = 1; i < pos1; i++) {
+                final var value3 = array.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return (long) (0.5 * ((double) value1 + (double) value2));
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param sorter     Sorter used to sort partitions contained within a
+     *                   single segment, or null if partitions must be sorted
+     *                   by this method.
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    private static void introsort(final Sorter<?> sorter, final BigLongArray array, final BigLongArray indices,
+                                  final long lo, final long hi, final int depthLimit) throws SortingException {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            final var segment = array.getSegmentIndex(l);
+            if (sorter != null && segment == array.getSegmentIndex(ir)) {
+                sorter.sort(array.getSegments()[segment], array.getSegmentOffset(l),
+                        array.getSegmentOffset(ir) + 1);
+                return;
+            }
+            if (depth-- == 0) {
+                heapsort(array, indices, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(array, indices, l, ir);
+            if (j - l < ir - j) {
+                introsort(sorter, array, indices, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(sorter, array, indices, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(array, indices, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Indices to be reordered along with provided array or
+     *                null if not needed.
+     * @param l       Position of first element of the range (inclusive).
+     * @param ir      Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static long partition(final BigLongArray array, final BigLongArray indices, final long l, final long ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(array, indices, (l + ir) >>> 1, l + 1);
+        if (array.get(l) > array.get(ir)) {
+            swap(array, indices, l, ir);
+        }
+        if (array.get(l + 1) > array.get(ir)) {
+            swap(array, indices, l + 1, ir);
+        }
+        if (array.get(l) > array.get(l + 1)) {
+            swap(array, indices, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array.get(l + 1);
+        final var b = indices != null ? indices.get(l + 1) : 0L;
+        for (; ; ) {
+            do {
+                i++;
+            } while (array.get(i) < a);
+            do {
+                j--;
+            } while (array.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, indices, i, j);
+        }
+        // Insert partitioning element
+        array.set(l + 1, array.get(j));
+        array.set(j, a);
+        if (indices != null) {
+            indices.set(l + 1, indices.get(j));
+            indices.set(j, b);
+        }
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Indices to be reordered along with provided array or
+     *                  null if not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final BigLongArray array, final BigLongArray indices, final long fromIndex,
+                                 final long toIndex) {
+        final var n = toIndex - fromIndex;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, indices, fromIndex, i, n);
+        }
+        for (long i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, fromIndex + i);
+            siftDown(array, indices, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param array   Array containing the heap.
+     * @param indices Indices to be reordered along with provided array or
+     *                null if not needed.
+     * @param offset  Position of the root of the heap.
+     * @param pos     Position of the element to be moved, relative to offset.
+     * @param n       Number of elements in the heap.
+     */
+    private static void siftDown(final BigLongArray array, final BigLongArray indices, final long offset,
+                                 final long pos, final long n) {
+        final var value = array.get(offset + pos);
+        final var index = indices != null ? indices.get(offset + pos) : 0L;
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && array.get(offset + child) < array.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = array.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            array.set(offset + parent, childValue);
+            if (indices != null) {
+                indices.set(offset + parent, indices.get(offset + child));
+            }
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        array.set(offset + parent, value);
+        if (indices != null) {
+            indices.set(offset + parent, index);
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Indices to be reordered along with provided array or
+     *                  null if not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final BigLongArray array, final BigLongArray indices, final long fromIndex,
+                                      final long toIndex) {
+        for (long i = fromIndex + 1; i < toIndex; i++) {
+            final var value = array.get(i);
+            final var index = indices != null ? indices.get(i) : 0L;
+            var j = i - 1;
+            while (j >= fromIndex && array.get(j) > value) {
+                array.set(j + 1, array.get(j));
+                if (indices != null) {
+                    indices.set(j + 1, indices.get(j));
+                }
+                j--;
+            }
+            array.set(j + 1, value);
+            if (indices != null) {
+                indices.set(j + 1, index);
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and indices at locations posA and posB.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices where values are swapped or null if not needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final BigLongArray array, final BigLongArray indices, final long posA, final long posB) {
+        final var value = array.get(posA);
+        array.set(posA, array.get(posB));
+        array.set(posB, value);
+        if (indices != null) {
+            final var index = indices.get(posA);
+            indices.set(posA, indices.get(posB));
+            indices.set(posB, index);
+        }
+    }
+
+    /**
+     * Gets maximum number of partitioning steps before switching to Heapsort
+     * when sorting provided number of elements.
+     *
+     * @param n number of elements to be sorted.
+     * @return maximum number of partitioning steps.
+     */
+    private static int getDepthLimit(final long n) {
+        return 2 * (Long.SIZE - Long.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Checks that provided range is within the bounds of an array addressed
+     * by long indices.
+     *
+     * @param length    length of the array.
+     * @param fromIndex index were range starts (inclusive).
+     * @param toIndex   index were range stops (exclusive).
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex or toIndex are
+     *                                        outside array boundaries.
+     */
+    private static void checkRange(final long length, final long fromIndex, final long toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+/**
+ * Array of doubles addressed by long indices, so that it can contain more than
+ * {@link Integer#MAX_VALUE} elements.
+ * Elements are stored in consecutive segments of Java arrays, all of them
+ * having the same size except the last one, which might be shorter. Segment
+ * size is a power of two so that the segment and offset of an element are
+ * obtained by shifting and masking its index.
+ */
+public class BigDoubleArray {
+
+    /**
+     * Default number of elements of each segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 24;
+
+    /**
+     * Segments containing elements of this array.
+     */
+    private final double[][] segments;
+
+    /**
+     * Number of elements of this array.
+     */
+    private final long length;
+
+    /**
+     * Number of bits to shift an index to obtain the segment containing it.
+     */
+    private final int segmentShift;
+
+    /**
+     * Mask to obtain the offset of an index within its segment.
+     */
+    private final int segmentMask;
+
+    /**
+     * Constructor.
+     * Creates an array filled with zeros using segments having the default
+     * size.
+     *
+     * @param length number of elements of the array.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    public BigDoubleArray(final long length) {
+        this(length, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * Creates an array filled with zeros.
+     *
+     * @param length      number of elements of the array.
+     * @param segmentSize number of elements of each segment. Must be a
+     *                    positive power of two.
+     * @throws IllegalArgumentException if length is negative, if segment size
+     *                                  is not a positive power of two or if
+     *                                  the array would require more than
+     *                                  {@link Integer#MAX_VALUE} segments.
+     */
+    public BigDoubleArray(final long length, final int segmentSize) {
+        if (length < 0 || segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException();
+        }
+
+        segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        segmentMask = segmentSize - 1;
+
+        final var numSegments = (length + segmentMask) >>> segmentShift;
+        if (numSegments > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException();
+        }
+
+        this.length = length;
+        segments = new double[(int) numSegments][];
+        for (int i = 0; i < segments.length; i++) {
+            final var remaining = length - ((long) i << segmentShift);
+            segments[i] = new double[(int) Math.min(segmentSize, remaining)];
+        }
+    }
+
+    /**
+     * Gets number of elements of this array.
+     *
+     * @return number of elements of this array.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Gets number of elements of each segment, except the last one, which
+     * might be shorter.
+     *
+     * @return number of elements of each segment.
+     */
+    public int getSegmentSize() {
+        return segmentMask + 1;
+    }
+
+    /**
+     * Gets segments containing elements of this array.
+     * Segments are returned by reference, so that they can be used to fill or
+     * read this array in bulk. Element at index i is located at position
+     * i % segmentSize of segment i / segmentSize.
+     *
+     * @return segments containing elements of this array.
+     */
+    public double[][] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Gets element at provided index.
+     *
+     * @param index index of element to be retrieved.
+     * @return element at provided index.
+     * @throws ArrayIndexOutOfBoundsException if index is negative or not
+     *                                        lower than array length.
+     */
+    public double get(final long index) {
+        return segments[(int) (index >>> segmentShift)][(int) index & segmentMask];
+    }
+
+    /**
+     * Sets element at provided index.
+     *
+     * @param index index of element to be set.
+     * @param value value to be set.
+     * @throws ArrayIndexOutOfBoundsException if index is negative or not
+     *                                        lower than array length.
+     */
+    public void set(final long index, final double value) {
+        segments[(int) (index >>> segmentShift)][(int) index & segmentMask] = value;
+    }
+
+    /**
+     * Gets index of segment containing provided index.
+     *
+     * @param index index of an element.
+     * @return index of segment containing the element.
+     */
+    int getSegmentIndex(final long index) {
+        return (int) (index >>> segmentShift);
+    }
+
+    /**
+     * Gets position of provided index within its segment.
+     *
+     * @param index index of an element.
+     * @return position of the element within its segment.
+     */
+    int getSegmentOffset(final long index) {
+        return (int) index & segmentMask;
+    }
+}
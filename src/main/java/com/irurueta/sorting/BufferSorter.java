@@ -0,0 +1,1308 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Sorts and selects elements of primitive buffers in place, such as buffers
+ * obtained from memory-mapped files, without copying their contents into
+ * heap arrays.
+ * Buffers are accessed through absolute get and put operations, hence their
+ * position and limit are not modified.
+ * Buffers backed by an accessible array are handed over to a {@link Sorter}
+ * on their backing array instead.
+ */
+@SuppressWarnings("Duplicates")
+final class BufferSorter {
+
+    /**
+     * Partitions having this number of elements or fewer are sorted using
+     * straight insertion.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private BufferSorter() {
+    }
+
+    /**
+     * Sorts provided buffer between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * Buffers backed by an accessible array are sorted by provided sorter on
+     * their backing array. Any other buffer is sorted in place using
+     * Introsort, accessing the buffer through absolute get and put
+     * operations.
+     *
+     * @param sorter    Sorter used to sort buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static void sort(final Sorter<?> sorter, final DoubleBuffer buffer, final int fromIndex, final int toIndex)
+            throws SortingException {
+        checkRange(buffer, fromIndex, toIndex);
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            sorter.sort(buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            final var n = toIndex - fromIndex;
+            introsort(buffer, fromIndex, toIndex - 1, 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(n)));
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive).
+     * Buffers backed by an accessible array are searched by provided sorter
+     * on their backing array. Any other buffer is partitioned in place.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static double select(final Sorter<?> sorter, final int k, final DoubleBuffer buffer, final int fromIndex,
+                       final int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            return sorter.select(k, buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            return quickselect(k, buffer, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static double median(final Sorter<?> sorter, final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(sorter, pos1, buffer, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = buffer.get(fromIndex);
+            for (int i = 1; i < pos1; i++) {
+                final var value3 = buffer.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return 0.5 * (value1 + value2);
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     * This method does not check provided range.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     */
+    private static double quickselect(final int k, final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && buffer.get(ir) < buffer.get(l)) {
+                    swap(buffer, l, ir);
+                }
+                return buffer.get(kk);
+            }
+
+            final var j = partition(buffer, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param buffer     Buffer to be sorted.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     */
+    private static void introsort(final DoubleBuffer buffer, final int lo, final int hi, final int depthLimit) {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapsort(buffer, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(buffer, l, ir);
+            if (j - l < ir - j) {
+                introsort(buffer, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(buffer, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(buffer, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param buffer Buffer to be partitioned.
+     * @param l      Position of first element of the range (inclusive).
+     * @param ir     Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static int partition(final DoubleBuffer buffer, final int l, final int ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(buffer, (l + ir) >>> 1, l + 1);
+        if (buffer.get(l) > buffer.get(ir)) {
+            swap(buffer, l, ir);
+        }
+        if (buffer.get(l + 1) > buffer.get(ir)) {
+            swap(buffer, l + 1, ir);
+        }
+        if (buffer.get(l) > buffer.get(l + 1)) {
+            swap(buffer, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = buffer.get(l + 1);
+        for (; ; ) {
+            do {
+                i++;
+            } while (buffer.get(i) < a);
+            do {
+                j--;
+            } while (buffer.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(buffer, i, j);
+        }
+        // Insert partitioning element
+        buffer.put(l + 1, buffer.get(j));
+        buffer.put(j, a);
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buffer, fromIndex, i, n);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(buffer, fromIndex, fromIndex + i);
+            siftDown(buffer, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param buffer Buffer containing the heap.
+     * @param offset Position of the root of the heap.
+     * @param pos    Position of the element to be moved, relative to offset.
+     * @param n      Number of elements in the heap.
+     */
+    private static void siftDown(final DoubleBuffer buffer, final int offset, final int pos, final int n) {
+        final var value = buffer.get(offset + pos);
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && buffer.get(offset + child) < buffer.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = buffer.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            buffer.put(offset + parent, childValue);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        buffer.put(offset + parent, value);
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final var value = buffer.get(i);
+            var j = i - 1;
+            while (j >= fromIndex && buffer.get(j) > value) {
+                buffer.put(j + 1, buffer.get(j));
+                j--;
+            }
+            buffer.put(j + 1, value);
+        }
+    }
+
+    /**
+     * Swaps values in buffer at locations posA and posB.
+     *
+     * @param buffer Buffer where values are swapped.
+     * @param posA   Location to be swapped.
+     * @param posB   Location to be swapped.
+     */
+    private static void swap(final DoubleBuffer buffer, final int posA, final int posB) {
+        final var value = buffer.get(posA);
+        buffer.put(posA, buffer.get(posB));
+        buffer.put(posB, value);
+    }
+
+    /**
+     * Sorts provided buffer between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * Buffers backed by an accessible array are sorted by provided sorter on
+     * their backing array. Any other buffer is sorted in place using
+     * Introsort, accessing the buffer through absolute get and put
+     * operations.
+     *
+     * @param sorter    Sorter used to sort buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static void sort(final Sorter<?> sorter, final FloatBuffer buffer, final int fromIndex, final int toIndex)
+            throws SortingException {
+        checkRange(buffer, fromIndex, toIndex);
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            sorter.sort(buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            final var n = toIndex - fromIndex;
+            introsort(buffer, fromIndex, toIndex - 1, 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(n)));
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive).
+     * Buffers backed by an accessible array are searched by provided sorter
+     * on their backing array. Any other buffer is partitioned in place.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static float select(final Sorter<?> sorter, final int k, final FloatBuffer buffer, final int fromIndex,
+                       final int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            return sorter.select(k, buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            return quickselect(k, buffer, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static float median(final Sorter<?> sorter, final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(sorter, pos1, buffer, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = buffer.get(fromIndex);
+            for (int i = 1; i < pos1; i++) {
+                final var value3 = buffer.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return 0.5f * (value1 + value2);
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     * This method does not check provided range.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     */
+    private static float quickselect(final int k, final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && buffer.get(ir) < buffer.get(l)) {
+                    swap(buffer, l, ir);
+                }
+                return buffer.get(kk);
+            }
+
+            final var j = partition(buffer, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param buffer     Buffer to be sorted.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     */
+    private static void introsort(final FloatBuffer buffer, final int lo, final int hi, final int depthLimit) {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapsort(buffer, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(buffer, l, ir);
+            if (j - l < ir - j) {
+                introsort(buffer, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(buffer, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(buffer, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param buffer Buffer to be partitioned.
+     * @param l      Position of first element of the range (inclusive).
+     * @param ir     Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static int partition(final FloatBuffer buffer, final int l, final int ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(buffer, (l + ir) >>> 1, l + 1);
+        if (buffer.get(l) > buffer.get(ir)) {
+            swap(buffer, l, ir);
+        }
+        if (buffer.get(l + 1) > buffer.get(ir)) {
+            swap(buffer, l + 1, ir);
+        }
+        if (buffer.get(l) > buffer.get(l + 1)) {
+            swap(buffer, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = buffer.get(l + 1);
+        for (; ; ) {
+            do {
+                i++;
+            } while (buffer.get(i) < a);
+            do {
+                j--;
+            } while (buffer.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(buffer, i, j);
+        }
+        // Insert partitioning element
+        buffer.put(l + 1, buffer.get(j));
+        buffer.put(j, a);
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buffer, fromIndex, i, n);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(buffer, fromIndex, fromIndex + i);
+            siftDown(buffer, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param buffer Buffer containing the heap.
+     * @param offset Position of the root of the heap.
+     * @param pos    Position of the element to be moved, relative to offset.
+     * @param n      Number of elements in the heap.
+     */
+    private static void siftDown(final FloatBuffer buffer, final int offset, final int pos, final int n) {
+        final var value = buffer.get(offset + pos);
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && buffer.get(offset + child) < buffer.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = buffer.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            buffer.put(offset + parent, childValue);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        buffer.put(offset + parent, value);
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final var value = buffer.get(i);
+            var j = i - 1;
+            while (j >= fromIndex && buffer.get(j) > value) {
+                buffer.put(j + 1, buffer.get(j));
+                j--;
+            }
+            buffer.put(j + 1, value);
+        }
+    }
+
+    /**
+     * Swaps values in buffer at locations posA and posB.
+     *
+     * @param buffer Buffer where values are swapped.
+     * @param posA   Location to be swapped.
+     * @param posB   Location to be swapped.
+     */
+    private static void swap(final FloatBuffer buffer, final int posA, final int posB) {
+        final var value = buffer.get(posA);
+        buffer.put(posA, buffer.get(posB));
+        buffer.put(posB, value);
+    }
+
+    /**
+     * Sorts provided buffer between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * Buffers backed by an accessible array are sorted by provided sorter on
+     * their backing array. Any other buffer is sorted in place using
+     * Introsort, accessing the buffer through absolute get and put
+     * operations.
+     *
+     * @param sorter    Sorter used to sort buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static void sort(final Sorter<?> sorter, final IntBuffer buffer, final int fromIndex, final int toIndex)
+            throws SortingException {
+        checkRange(buffer, fromIndex, toIndex);
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            sorter.sort(buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            final var n = toIndex - fromIndex;
+            introsort(buffer, fromIndex, toIndex - 1, 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(n)));
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive).
+     * Buffers backed by an accessible array are searched by provided sorter
+     * on their backing array. Any other buffer is partitioned in place.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static int select(final Sorter<?> sorter, final int k, final IntBuffer buffer, final int fromIndex,
+                       final int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            return sorter.select(k, buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            return quickselect(k, buffer, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static int median(final Sorter<?> sorter, final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(sorter, pos1, buffer, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = buffer.get(fromIndex);
+            for (int i = 1; i < pos1; i++) {
+                final var value3 = buffer.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return (int) (0.5 * ((double) value1 + (double) value2));
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     * This method does not check provided range.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     */
+    private static int quickselect(final int k, final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && buffer.get(ir) < buffer.get(l)) {
+                    swap(buffer, l, ir);
+                }
+                return buffer.get(kk);
+            }
+
+            final var j = partition(buffer, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param buffer     Buffer to be sorted.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     */
+    private static void introsort(final IntBuffer buffer, final int lo, final int hi, final int depthLimit) {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapsort(buffer, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(buffer, l, ir);
+            if (j - l < ir - j) {
+                introsort(buffer, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(buffer, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(buffer, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param buffer Buffer to be partitioned.
+     * @param l      Position of first element of the range (inclusive).
+     * @param ir     Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static int partition(final IntBuffer buffer, final int l, final int ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(buffer, (l + ir) >>> 1, l + 1);
+        if (buffer.get(l) > buffer.get(ir)) {
+            swap(buffer, l, ir);
+        }
+        if (buffer.get(l + 1) > buffer.get(ir)) {
+            swap(buffer, l + 1, ir);
+        }
+        if (buffer.get(l) > buffer.get(l + 1)) {
+            swap(buffer, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = buffer.get(l + 1);
+        for (; ; ) {
+            do {
+                i++;
+            } while (buffer.get(i) < a);
+            do {
+                j--;
+            } while (buffer.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(buffer, i, j);
+        }
+        // Insert partitioning element
+        buffer.put(l + 1, buffer.get(j));
+        buffer.put(j, a);
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buffer, fromIndex, i, n);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(buffer, fromIndex, fromIndex + i);
+            siftDown(buffer, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param buffer Buffer containing the heap.
+     * @param offset Position of the root of the heap.
+     * @param pos    Position of the element to be moved, relative to offset.
+     * @param n      Number of elements in the heap.
+     */
+    private static void siftDown(final IntBuffer buffer, final int offset, final int pos, final int n) {
+        final var value = buffer.get(offset + pos);
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && buffer.get(offset + child) < buffer.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = buffer.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            buffer.put(offset + parent, childValue);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        buffer.put(offset + parent, value);
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final var value = buffer.get(i);
+            var j = i - 1;
+            while (j >= fromIndex && buffer.get(j) > value) {
+                buffer.put(j + 1, buffer.get(j));
+                j--;
+            }
+            buffer.put(j + 1, value);
+        }
+    }
+
+    /**
+     * Swaps values in buffer at locations posA and posB.
+     *
+     * @param buffer Buffer where values are swapped.
+     * @param posA   Location to be swapped.
+     * @param posB   Location to be swapped.
+     */
+    private static void swap(final IntBuffer buffer, final int posA, final int posB) {
+        final var value = buffer.get(posA);
+        buffer.put(posA, buffer.get(posB));
+        buffer.put(posB, value);
+    }
+
+    /**
+     * Sorts provided buffer between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * Buffers backed by an accessible array are sorted by provided sorter on
+     * their backing array. Any other buffer is sorted in place using
+     * Introsort, accessing the buffer through absolute get and put
+     * operations.
+     *
+     * @param sorter    Sorter used to sort buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static void sort(final Sorter<?> sorter, final LongBuffer buffer, final int fromIndex, final int toIndex)
+            throws SortingException {
+        checkRange(buffer, fromIndex, toIndex);
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            sorter.sort(buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            final var n = toIndex - fromIndex;
+            introsort(buffer, fromIndex, toIndex - 1, 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(n)));
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive).
+     * Buffers backed by an accessible array are searched by provided sorter
+     * on their backing array. Any other buffer is partitioned in place.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static long select(final Sorter<?> sorter, final int k, final LongBuffer buffer, final int fromIndex,
+                       final int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        if (k < 0 || k >= toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.hasArray()) {
+            final var offset = buffer.arrayOffset();
+            return sorter.select(k, buffer.array(), offset + fromIndex, offset + toIndex);
+        } else {
+            checkWritable(buffer);
+            return quickselect(k, buffer, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive) by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, and averaging it with the previous one for ranges of even
+     * length.
+     *
+     * @param sorter    Sorter used to search buffers backed by an accessible
+     *                  array.
+     * @param buffer    Buffer to be used for computation of median.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided range.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    static long median(final Sorter<?> sorter, final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        final var length = toIndex - fromIndex;
+        final var pos1 = length / 2;
+
+        // select pos1 ordered element of v and modifies v so that
+        // v(0) ... v(pos1 - 1) < value1 < v(pos1 + 1) ... v(length - 1)
+        final var value1 = select(sorter, pos1, buffer, fromIndex, toIndex);
+        if ((length % 2) == 0) {
+            // for even length
+
+            // value2 is the previously ordered element of v, which is the maximum
+            // element within v(0) ... v(pos1 - 1)
+            var value2 = buffer.get(fromIndex);
+            for (int i = 1; i < pos1; i++) {
+                final var value3 = buffer.get(i + fromIndex);
+                if (value3 > value2) {
+                    value2 = value3;
+                }
+            }
+
+            return (long) (0.5 * ((double) value1 + (double) value2));
+        } else {
+            // for odd length
+            return value1;
+        }
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), so that after execution the k-th
+     * location of the range contains the k-th sorted element, previous
+     * locations contain unsorted elements smaller than it and following
+     * locations contain unsorted elements greater than it.
+     * This method does not check provided range.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided range.
+     */
+    private static long quickselect(final int k, final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        var l = fromIndex;
+        var ir = toIndex - 1;
+        final var kk = k + fromIndex;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && buffer.get(ir) < buffer.get(l)) {
+                    swap(buffer, l, ir);
+                }
+                return buffer.get(kk);
+            }
+
+            final var j = partition(buffer, l, ir);
+            if (j >= kk) {
+                ir = j - 1;
+            }
+            if (j <= kk) {
+                l = j + 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using Quicksort while partitions are larger than
+     * {@link #INSERTION_SORT_THRESHOLD} elements, switching to Heapsort when
+     * recursion depth limit is reached.
+     *
+     * @param buffer     Buffer to be sorted.
+     * @param lo         Position of first element of the range (inclusive).
+     * @param hi         Position of last element of the range (inclusive).
+     * @param depthLimit Number of partitioning steps allowed before switching
+     *                   to Heapsort.
+     */
+    private static void introsort(final LongBuffer buffer, final int lo, final int hi, final int depthLimit) {
+        var l = lo;
+        var ir = hi;
+        var depth = depthLimit;
+        while (ir - l + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapsort(buffer, l, ir + 1);
+                return;
+            }
+
+            // sort smaller partition recursively and keep iterating on the
+            // larger one, so that stack depth is logarithmic
+            final var j = partition(buffer, l, ir);
+            if (j - l < ir - j) {
+                introsort(buffer, l, j - 1, depth);
+                l = j + 1;
+            } else {
+                introsort(buffer, j + 1, ir, depth);
+                ir = j - 1;
+            }
+        }
+        insertionSort(buffer, l, ir + 1);
+    }
+
+    /**
+     * Partitions provided range around the median of its left, center and
+     * right elements.
+     * The range must contain at least 3 elements.
+     *
+     * @param buffer Buffer to be partitioned.
+     * @param l      Position of first element of the range (inclusive).
+     * @param ir     Position of last element of the range (inclusive).
+     * @return Final position of partitioning element, so that no element
+     * before it is greater and no element after it is lower.
+     */
+    private static int partition(final LongBuffer buffer, final int l, final int ir) {
+        // Choose median of left, center, and right elements as partitioning
+        // element "a". Also rearrange so that a(l) <= a(l+1) <= a(ir)
+        swap(buffer, (l + ir) >>> 1, l + 1);
+        if (buffer.get(l) > buffer.get(ir)) {
+            swap(buffer, l, ir);
+        }
+        if (buffer.get(l + 1) > buffer.get(ir)) {
+            swap(buffer, l + 1, ir);
+        }
+        if (buffer.get(l) > buffer.get(l + 1)) {
+            swap(buffer, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = buffer.get(l + 1);
+        for (; ; ) {
+            do {
+                i++;
+            } while (buffer.get(i) < a);
+            do {
+                j--;
+            } while (buffer.get(j) > a);
+            if (j < i) {
+                break;
+            }
+            swap(buffer, i, j);
+        }
+        // Insert partitioning element
+        buffer.put(l + 1, buffer.get(j));
+        buffer.put(j, a);
+        return j;
+    }
+
+    /**
+     * Sorts provided range using Heapsort.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void heapsort(final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buffer, fromIndex, i, n);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(buffer, fromIndex, fromIndex + i);
+            siftDown(buffer, fromIndex, 0, i);
+        }
+    }
+
+    /**
+     * Moves down the element at provided position of a heap until its
+     * children are not greater than it.
+     *
+     * @param buffer Buffer containing the heap.
+     * @param offset Position of the root of the heap.
+     * @param pos    Position of the element to be moved, relative to offset.
+     * @param n      Number of elements in the heap.
+     */
+    private static void siftDown(final LongBuffer buffer, final int offset, final int pos, final int n) {
+        final var value = buffer.get(offset + pos);
+        var parent = pos;
+        var child = 2 * parent + 1;
+        while (child < n) {
+            if (child + 1 < n && buffer.get(offset + child) < buffer.get(offset + child + 1)) {
+                child++;
+            }
+            final var childValue = buffer.get(offset + child);
+            if (!(value < childValue)) {
+                break;
+            }
+            buffer.put(offset + parent, childValue);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        buffer.put(offset + parent, value);
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param buffer    Buffer to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final var value = buffer.get(i);
+            var j = i - 1;
+            while (j >= fromIndex && buffer.get(j) > value) {
+                buffer.put(j + 1, buffer.get(j));
+                j--;
+            }
+            buffer.put(j + 1, value);
+        }
+    }
+
+    /**
+     * Swaps values in buffer at locations posA and posB.
+     *
+     * @param buffer Buffer where values are swapped.
+     * @param posA   Location to be swapped.
+     * @param posB   Location to be swapped.
+     */
+    private static void swap(final LongBuffer buffer, final int posA, final int posB) {
+        final var value = buffer.get(posA);
+        buffer.put(posA, buffer.get(posB));
+        buffer.put(posB, value);
+    }
+
+    /**
+     * Checks that provided range is within buffer limit.
+     *
+     * @param buffer    buffer to be checked.
+     * @param fromIndex index were range starts (inclusive).
+     * @param toIndex   index were range stops (exclusive).
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     */
+    private static void checkRange(final Buffer buffer, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > buffer.limit()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Checks that provided buffer can be modified.
+     *
+     * @param buffer buffer to be checked.
+     * @throws ReadOnlyBufferException if provided buffer is read-only.
+     */
+    private static void checkWritable(final Buffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+    }
+}
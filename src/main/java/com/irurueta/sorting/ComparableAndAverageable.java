@@ -30,4 +30,25 @@ public interface ComparableAndAverageable<T> extends Comparable<T> {
      * @return An instance representing the average of both instances.
      */
     T averageWith(final T other);
+
+    /**
+     * Interpolates linearly between current instance and another instance,
+     * returning an instance located at provided fraction of the way from the
+     * current one to the other one (i.e. if both objects were Doubles, then
+     * the result would be equal to obj1 + weight * (obj2 - obj1)).
+     * This method is required to compute quantiles of arrays of these objects
+     * using any of the interpolating methods (R types 4 to 9) of
+     * {@link QuantileMethod}, and must return current instance when weight is
+     * 0. Default implementation throws {@link UnsupportedOperationException}.
+     *
+     * @param other  Other instance where interpolation ends.
+     * @param weight Fraction of the way from current instance to the other
+     *               one, between 0 and 1.
+     * @return An instance representing interpolation between both instances.
+     * @throws UnsupportedOperationException if interpolation is not
+     *                                       implemented.
+     */
+    default T interpolateWith(final T other, final double weight) {
+        throw new UnsupportedOperationException();
+    }
 }
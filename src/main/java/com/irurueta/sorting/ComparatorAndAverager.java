@@ -35,4 +35,24 @@ public interface ComparatorAndAverager<T> extends Comparator<T> {
      * @return Instance representing average of provided ones.
      */
     T average(final T t1, final T t2);
+
+    /**
+     * Interpolates linearly between provided instances and returns an instance
+     * located at provided fraction of the way from t1 to t2 (i.e. if provided
+     * instances were doubles, then result would be t1 + weight * (t2 - t1)).
+     * This method is required to compute quantiles using any of the
+     * interpolating methods (R types 4 to 9) of {@link QuantileMethod}, and
+     * must return t1 when weight is 0. Default implementation throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param t1     Instance where interpolation starts.
+     * @param t2     Instance where interpolation ends.
+     * @param weight Fraction of the way from t1 to t2, between 0 and 1.
+     * @return Instance representing interpolation between provided ones.
+     * @throws UnsupportedOperationException if interpolation is not
+     *                                       implemented.
+     */
+    default T interpolate(final T t1, final T t2, final double weight) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -0,0 +1,874 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sorts binary files of doubles or longs that are too large to be loaded in
+ * memory, using an external merge sort.
+ * Files contain values stored consecutively using big-endian byte order, as
+ * written by {@link java.io.DataOutputStream}.
+ * The input file is read in chunks fitting in the configured memory budget,
+ * each chunk is sorted in memory using a {@link Sorter} of the configured
+ * {@link SortingMethod}, and sorted chunks are written to temporary files
+ * (runs). Runs are then merged using a loser tree, at most fan-in runs at a
+ * time, until a single run remains, which is written to the output file.
+ * Inputs fitting in a single chunk are sorted without temporary files.
+ * <p>
+ * The memory budget bounds the size of the chunk being sorted and of the
+ * buffers used to read and write files. Sorting methods requiring scratch
+ * buffers (such as radix sort or TimSort) allocate them in addition to the
+ * memory budget.
+ */
+@SuppressWarnings("Duplicates")
+public class ExternalSorter {
+
+    /**
+     * Default memory budget expressed in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024L * 1024L;
+
+    /**
+     * Minimum allowed memory budget expressed in bytes.
+     */
+    public static final long MIN_MEMORY_BUDGET = 1024;
+
+    /**
+     * Default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Minimum allowed number of runs merged at once.
+     */
+    public static final int MIN_FAN_IN = 2;
+
+    /**
+     * Maximum size of buffers used to read or write files expressed in bytes.
+     */
+    private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Maximum number of values of a chunk.
+     */
+    private static final int MAX_CHUNK_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Prefix of names of temporary files containing runs.
+     */
+    private static final String RUN_PREFIX = "irurueta-sorting-";
+
+    /**
+     * Suffix of names of temporary files containing runs.
+     */
+    private static final String RUN_SUFFIX = ".run";
+
+    /**
+     * Method used to sort chunks in memory.
+     */
+    private final SortingMethod method;
+
+    /**
+     * Memory budget expressed in bytes.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Maximum number of runs merged at once.
+     */
+    private final int fanIn;
+
+    /**
+     * Directory where temporary files are created or null to use the default
+     * temporary directory.
+     */
+    private final Path tempDirectory;
+
+    /**
+     * Constructor using default sorting method, memory budget and fan-in.
+     */
+    public ExternalSorter() {
+        this(Sorter.DEFAULT_SORTING_METHOD);
+    }
+
+    /**
+     * Constructor using default memory budget and fan-in.
+     *
+     * @param method method used to sort chunks in memory.
+     * @throws IllegalArgumentException if method is null.
+     */
+    public ExternalSorter(final SortingMethod method) {
+        this(method, DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN);
+    }
+
+    /**
+     * Constructor using default temporary directory.
+     *
+     * @param method       method used to sort chunks in memory.
+     * @param memoryBudget memory budget expressed in bytes.
+     * @param fanIn        maximum number of runs merged at once.
+     * @throws IllegalArgumentException if method is null, memory budget is
+     *                                  less than {@link #MIN_MEMORY_BUDGET} or
+     *                                  fan-in is less than {@link #MIN_FAN_IN}.
+     */
+    public ExternalSorter(final SortingMethod method, final long memoryBudget, final int fanIn) {
+        this(method, memoryBudget, fanIn, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param method        method used to sort chunks in memory.
+     * @param memoryBudget  memory budget expressed in bytes.
+     * @param fanIn         maximum number of runs merged at once.
+     * @param tempDirectory directory where temporary files are created or
+     *                      null to use the default temporary directory.
+     * @throws IllegalArgumentException if method is null, memory budget is
+     *                                  less than {@link #MIN_MEMORY_BUDGET} or
+     *                                  fan-in is less than {@link #MIN_FAN_IN}.
+     */
+    public ExternalSorter(final SortingMethod method, final long memoryBudget, final int fanIn,
+                          final Path tempDirectory) {
+        if (method == null || memoryBudget < MIN_MEMORY_BUDGET || fanIn < MIN_FAN_IN) {
+            throw new IllegalArgumentException();
+        }
+        this.method = method;
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Gets method used to sort chunks in memory.
+     *
+     * @return method used to sort chunks in memory.
+     */
+    public SortingMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets memory budget expressed in bytes.
+     *
+     * @return memory budget expressed in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Gets maximum number of runs merged at once.
+     *
+     * @return maximum number of runs merged at once.
+     */
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    /**
+     * Gets directory where temporary files are created.
+     *
+     * @return directory where temporary files are created or null if the
+     * default temporary directory is used.
+     */
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Sorts doubles contained in input file in ascending order and writes
+     * them into output file.
+     * Input and output files might be the same one.
+     *
+     * @param input  file containing doubles to be sorted.
+     * @param output file where sorted doubles are written. If it already
+     *               exists, it is overwritten.
+     * @throws IOException      if files cannot be read or written, or if
+     *                          size of input file is not a multiple of the
+     *                          size of a double.
+     * @throws SortingException if sorting of a chunk fails.
+     */
+    public void sortDoubles(final Path input, final Path output) throws IOException, SortingException {
+        final var size = Files.size(input);
+        if (size % Double.BYTES != 0) {
+            throw new IOException("Size of " + input + " is not a multiple of " + Double.BYTES + " bytes");
+        }
+
+        final var runs = new ArrayDeque<Path>();
+        try {
+            createDoubleRuns(input, output, size / Double.BYTES, runs);
+            if (!runs.isEmpty()) {
+                mergeRuns(runs, output, this::mergeDoubles);
+            }
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    /**
+     * Sorts longs contained in input file in ascending order and writes them
+     * into output file.
+     * Input and output files might be the same one.
+     *
+     * @param input  file containing longs to be sorted.
+     * @param output file where sorted longs are written. If it already exists,
+     *               it is overwritten.
+     * @throws IOException      if files cannot be read or written, or if
+     *                          size of input file is not a multiple of the
+     *                          size of a long.
+     * @throws SortingException if sorting of a chunk fails.
+     */
+    public void sortLongs(final Path input, final Path output) throws IOException, SortingException {
+        final var size = Files.size(input);
+        if (size % Long.BYTES != 0) {
+            throw new IOException("Size of " + input + " is not a multiple of " + Long.BYTES + " bytes");
+        }
+
+        final var runs = new ArrayDeque<Path>();
+        try {
+            createLongRuns(input, output, size / Long.BYTES, runs);
+            if (!runs.isEmpty()) {
+                mergeRuns(runs, output, this::mergeLongs);
+            }
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    /**
+     * Reads input file in chunks, sorting each chunk in memory and writing it
+     * into a new run. If input file fits in a single chunk, the sorted chunk is
+     * directly written into output file instead.
+     *
+     * @param input  file containing doubles to be sorted.
+     * @param output file where sorted doubles are written.
+     * @param length number of doubles in input file.
+     * @param runs   queue where created runs are added.
+     * @throws IOException      if files cannot be read or written.
+     * @throws SortingException if sorting of a chunk fails.
+     */
+    private void createDoubleRuns(final Path input, final Path output, final long length, final Deque<Path> runs)
+            throws IOException, SortingException {
+        final var sorter = Sorter.<Double>create(method);
+        final var bufferSize = getBufferSize(memoryBudget / 8, 2);
+        final var chunkLength = getChunkLength(length, bufferSize);
+        final var chunk = new double[chunkLength];
+
+        if (chunkLength == length) {
+            // input fits in a single chunk
+            try (final var reader = new RunReader(input, bufferSize)) {
+                reader.read(chunk);
+            }
+            sorter.sort(chunk);
+            try (final var writer = new RunWriter(output, bufferSize)) {
+                writer.write(chunk, chunkLength);
+            }
+            return;
+        }
+
+        try (final var reader = new RunReader(input, bufferSize)) {
+            int count;
+            while ((count = reader.read(chunk)) > 0) {
+                sorter.sort(chunk, 0, count);
+                try (final var writer = new RunWriter(createRun(runs), bufferSize)) {
+                    writer.write(chunk, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads input file in chunks, sorting each chunk in memory and writing it
+     * into a new run. If input file fits in a single chunk, the sorted chunk is
+     * directly written into output file instead.
+     *
+     * @param input  file containing longs to be sorted.
+     * @param output file where sorted longs are written.
+     * @param length number of longs in input file.
+     * @param runs   queue where created runs are added.
+     * @throws IOException      if files cannot be read or written.
+     * @throws SortingException if sorting of a chunk fails.
+     */
+    private void createLongRuns(final Path input, final Path output, final long length, final Deque<Path> runs)
+            throws IOException, SortingException {
+        final var sorter = Sorter.<Long>create(method);
+        final var bufferSize = getBufferSize(memoryBudget / 8, 2);
+        final var chunkLength = getChunkLength(length, bufferSize);
+        final var chunk = new long[chunkLength];
+
+        if (chunkLength == length) {
+            // input fits in a single chunk
+            try (final var reader = new RunReader(input, bufferSize)) {
+                reader.read(chunk);
+            }
+            sorter.sort(chunk);
+            try (final var writer = new RunWriter(output, bufferSize)) {
+                writer.write(chunk, chunkLength);
+            }
+            return;
+        }
+
+        try (final var reader = new RunReader(input, bufferSize)) {
+            int count;
+            while ((count = reader.read(chunk)) > 0) {
+                sorter.sort(chunk, 0, count);
+                try (final var writer = new RunWriter(createRun(runs), bufferSize)) {
+                    writer.write(chunk, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges provided runs, at most fan-in runs at a time, until the
+     * remaining ones can be merged into output file.
+     * Runs are merged in the same order as they were created, and merged runs
+     * are deleted.
+     *
+     * @param runs   runs to be merged. Runs created by intermediate merges are
+     *               added to this queue so that they can be deleted if merging
+     *               fails.
+     * @param output file where all runs are finally merged.
+     * @param merger merges a group of runs into a file.
+     * @throws IOException if runs cannot be read or written.
+     */
+    private void mergeRuns(final Deque<Path> runs, final Path output, final RunMerger merger) throws IOException {
+        while (runs.size() > fanIn) {
+            final var group = new ArrayList<Path>(fanIn);
+            for (int i = 0; i < fanIn; i++) {
+                group.add(runs.poll());
+            }
+            try {
+                merger.merge(group, createRun(runs));
+            } finally {
+                deleteRuns(group);
+            }
+        }
+        merger.merge(new ArrayList<>(runs), output);
+    }
+
+    /**
+     * Merges provided runs of doubles into output file using a loser tree.
+     * Equal values are taken from runs in the same order as runs are provided.
+     *
+     * @param runs   runs to be merged.
+     * @param output file where merged values are written.
+     * @throws IOException if runs cannot be read or output cannot be written.
+     */
+    private void mergeDoubles(final List<Path> runs, final Path output) throws IOException {
+        final var k = runs.size();
+        final var bufferSize = getBufferSize(memoryBudget, k + 1);
+        final var readers = new RunReader[k];
+        try (final var writer = new RunWriter(output, bufferSize)) {
+            final var heads = new double[k];
+            final var exhausted = new boolean[k];
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r), bufferSize);
+                exhausted[r] = !readers[r].hasNext();
+                if (!exhausted[r]) {
+                    heads[r] = readers[r].nextDouble();
+                }
+            }
+
+            // fill internal nodes with sentinels beating any run, and replay
+            // every run so that sentinels are pushed out of the tree
+            final var tree = new int[k];
+            Arrays.fill(tree, k);
+            for (int r = k - 1; r >= 0; r--) {
+                replay(heads, exhausted, tree, r);
+            }
+
+            var winner = tree[0];
+            while (!exhausted[winner]) {
+                writer.write(heads[winner]);
+                final var reader = readers[winner];
+                if (reader.hasNext()) {
+                    heads[winner] = reader.nextDouble();
+                } else {
+                    exhausted[winner] = true;
+                }
+                replay(heads, exhausted, tree, winner);
+                winner = tree[0];
+            }
+        } finally {
+            closeReaders(readers);
+        }
+    }
+
+    /**
+     * Merges provided runs of longs into output file using a loser tree.
+     * Equal values are taken from runs in the same order as runs are provided.
+     *
+     * @param runs   runs to be merged.
+     * @param output file where merged values are written.
+     * @throws IOException if runs cannot be read or output cannot be written.
+     */
+    private void mergeLongs(final List<Path> runs, final Path output) throws IOException {
+        final var k = runs.size();
+        final var bufferSize = getBufferSize(memoryBudget, k + 1);
+        final var readers = new RunReader[k];
+        try (final var writer = new RunWriter(output, bufferSize)) {
+            final var heads = new long[k];
+            final var exhausted = new boolean[k];
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r), bufferSize);
+                exhausted[r] = !readers[r].hasNext();
+                if (!exhausted[r]) {
+                    heads[r] = readers[r].nextLong();
+                }
+            }
+
+            // fill internal nodes with sentinels beating any run, and replay
+            // every run so that sentinels are pushed out of the tree
+            final var tree = new int[k];
+            Arrays.fill(tree, k);
+            for (int r = k - 1; r >= 0; r--) {
+                replay(heads, exhausted, tree, r);
+            }
+
+            var winner = tree[0];
+            while (!exhausted[winner]) {
+                writer.write(heads[winner]);
+                final var reader = readers[winner];
+                if (reader.hasNext()) {
+                    heads[winner] = reader.nextLong();
+                } else {
+                    exhausted[winner] = true;
+                }
+                replay(heads, exhausted, tree, winner);
+                winner = tree[0];
+            }
+        } finally {
+            closeReaders(readers);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root of a
+     * loser tree of runs of doubles, keeping losers in internal nodes and
+     * storing the overall winner at the root.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first.
+     *
+     * @param heads     next value of each run.
+     * @param exhausted indicates whether each run has been fully merged.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final double[] heads, final boolean[] exhausted, final int[] tree, final int run) {
+        final var k = heads.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            final boolean loserWins;
+            if (loser == k) {
+                loserWins = true;
+            } else if (winner == k || exhausted[loser]) {
+                loserWins = false;
+            } else if (exhausted[winner]) {
+                loserWins = true;
+            } else {
+                final var c = Double.compare(heads[loser], heads[winner]);
+                loserWins = c < 0 || (c == 0 && loser < winner);
+            }
+            if (loserWins) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root of a
+     * loser tree of runs of longs, keeping losers in internal nodes and
+     * storing the overall winner at the root.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first.
+     *
+     * @param heads     next value of each run.
+     * @param exhausted indicates whether each run has been fully merged.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final long[] heads, final boolean[] exhausted, final int[] tree, final int run) {
+        final var k = heads.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            final boolean loserWins;
+            if (loser == k) {
+                loserWins = true;
+            } else if (winner == k || exhausted[loser]) {
+                loserWins = false;
+            } else if (exhausted[winner]) {
+                loserWins = true;
+            } else {
+                loserWins = heads[loser] < heads[winner] || (heads[loser] == heads[winner] && loser < winner);
+            }
+            if (loserWins) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Gets size of buffers used to read or write files when provided amount
+     * of memory is shared among provided number of files.
+     *
+     * @param memory  amount of memory to be shared expressed in bytes.
+     * @param streams number of files being read or written.
+     * @return size of each buffer expressed in bytes.
+     */
+    private static int getBufferSize(final long memory, final int streams) {
+        final var size = Math.min(MAX_BUFFER_SIZE, memory / streams);
+        return (int) Math.max(Long.BYTES, size - size % Long.BYTES);
+    }
+
+    /**
+     * Gets number of values of chunks sorted in memory, so that chunks and
+     * buffers used to read and write them fit in the memory budget.
+     *
+     * @param length     number of values in input file.
+     * @param bufferSize size of buffers used to read and write chunks.
+     * @return number of values of chunks.
+     */
+    private int getChunkLength(final long length, final int bufferSize) {
+        final var maxLength = Math.min(MAX_CHUNK_LENGTH, (memoryBudget - 2L * bufferSize) / Long.BYTES);
+        return (int) Math.min(length, maxLength);
+    }
+
+    /**
+     * Creates a temporary file for a new run and adds it to provided runs.
+     *
+     * @param runs runs where new one is added.
+     * @return created temporary file.
+     * @throws IOException if temporary file cannot be created.
+     */
+    private Path createRun(final Deque<Path> runs) throws IOException {
+        final var run = tempDirectory != null
+                ? Files.createTempFile(tempDirectory, RUN_PREFIX, RUN_SUFFIX)
+                : Files.createTempFile(RUN_PREFIX, RUN_SUFFIX);
+        runs.add(run);
+        return run;
+    }
+
+    /**
+     * Deletes temporary files of provided runs.
+     *
+     * @param runs runs to be deleted.
+     * @throws IOException if any run cannot be deleted.
+     */
+    private static void deleteRuns(final Iterable<Path> runs) throws IOException {
+        for (final var run : runs) {
+            Files.deleteIfExists(run);
+        }
+    }
+
+    /**
+     * Closes provided readers, ignoring the ones not opened.
+     *
+     * @param readers readers to be closed.
+     * @throws IOException if any reader cannot be closed.
+     */
+    private static void closeReaders(final RunReader[] readers) throws IOException {
+        IOException exception = null;
+        for (final var reader : readers) {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final IOException e) {
+                    exception = e;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Merges a group of runs into a file.
+     */
+    @FunctionalInterface
+    private interface RunMerger {
+
+        /**
+         * Merges provided runs into output file.
+         *
+         * @param runs   runs to be merged.
+         * @param output file where merged values are written.
+         * @throws IOException if runs cannot be read or output cannot be
+         *                     written.
+         */
+        void merge(final List<Path> runs, final Path output) throws IOException;
+    }
+
+    /**
+     * Reads values from a file through a buffer.
+     */
+    private static final class RunReader implements Closeable {
+
+        /**
+         * Channel of file being read.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Buffer containing values read from file and not consumed yet.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor.
+         *
+         * @param path       file to be read.
+         * @param bufferSize size of buffer expressed in bytes.
+         * @throws IOException if file cannot be opened.
+         */
+        RunReader(final Path path, final int bufferSize) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocate(bufferSize);
+            buffer.flip();
+        }
+
+        /**
+         * Indicates whether there are more values to be read, refilling the
+         * buffer if needed.
+         *
+         * @return true if there are more values, false otherwise.
+         * @throws IOException if file cannot be read.
+         */
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Long.BYTES) {
+                return true;
+            }
+            buffer.compact();
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until buffer is full or end of file is reached
+            }
+            buffer.flip();
+            return buffer.remaining() >= Long.BYTES;
+        }
+
+        /**
+         * Reads next double.
+         * {@link #hasNext()} must be called before.
+         *
+         * @return next double.
+         */
+        double nextDouble() {
+            return buffer.getDouble();
+        }
+
+        /**
+         * Reads next long.
+         * {@link #hasNext()} must be called before.
+         *
+         * @return next long.
+         */
+        long nextLong() {
+            return buffer.getLong();
+        }
+
+        /**
+         * Reads as many doubles as fit in provided array.
+         *
+         * @param values array where doubles are stored.
+         * @return number of read doubles, which is less than array length only
+         * if end of file has been reached.
+         * @throws IOException if file cannot be read.
+         */
+        int read(final double[] values) throws IOException {
+            var length = 0;
+            while (length < values.length && hasNext()) {
+                final var count = Math.min(values.length - length, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().get(values, length, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                length += count;
+            }
+            return length;
+        }
+
+        /**
+         * Reads as many longs as fit in provided array.
+         *
+         * @param values array where longs are stored.
+         * @return number of read longs, which is less than array length only if
+         * end of file has been reached.
+         * @throws IOException if file cannot be read.
+         */
+        int read(final long[] values) throws IOException {
+            var length = 0;
+            while (length < values.length && hasNext()) {
+                final var count = Math.min(values.length - length, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().get(values, length, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                length += count;
+            }
+            return length;
+        }
+
+        /**
+         * Closes file.
+         *
+         * @throws IOException if file cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes values into a file through a buffer.
+     */
+    private static final class RunWriter implements Closeable {
+
+        /**
+         * Channel of file being written.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Buffer containing values not written into file yet.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor.
+         *
+         * @param path       file to be written. If it already exists, it is
+         *                   overwritten.
+         * @param bufferSize size of buffer expressed in bytes.
+         * @throws IOException if file cannot be opened.
+         */
+        RunWriter(final Path path, final int bufferSize) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        /**
+         * Writes a double.
+         *
+         * @param value double to be written.
+         * @throws IOException if file cannot be written.
+         */
+        void write(final double value) throws IOException {
+            if (buffer.remaining() < Double.BYTES) {
+                flush();
+            }
+            buffer.putDouble(value);
+        }
+
+        /**
+         * Writes a long.
+         *
+         * @param value long to be written.
+         * @throws IOException if file cannot be written.
+         */
+        void write(final long value) throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        /**
+         * Writes provided number of doubles from the start of provided array.
+         *
+         * @param values doubles to be written.
+         * @param length number of doubles to be written.
+         * @throws IOException if file cannot be written.
+         */
+        void write(final double[] values, final int length) throws IOException {
+            var written = 0;
+            while (written < length) {
+                if (buffer.remaining() < Double.BYTES) {
+                    flush();
+                }
+                final var count = Math.min(length - written, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(values, written, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                written += count;
+            }
+        }
+
+        /**
+         * Writes provided number of longs from the start of provided array.
+         *
+         * @param values longs to be written.
+         * @param length number of longs to be written.
+         * @throws IOException if file cannot be written.
+         */
+        void write(final long[] values, final int length) throws IOException {
+            var written = 0;
+            while (written < length) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush();
+                }
+                final var count = Math.min(length - written, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().put(values, written, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                written += count;
+            }
+        }
+
+        /**
+         * Writes pending buffered values into file and closes it.
+         *
+         * @throws IOException if file cannot be written or closed.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+        /**
+         * Writes buffered values into file.
+         *
+         * @throws IOException if file cannot be written.
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
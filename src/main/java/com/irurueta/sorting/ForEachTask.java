@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Task executing an action for each value in a range, splitting the range
+ * in halves that are processed concurrently.
+ */
+@SuppressWarnings("serial")
+final class ForEachTask extends RecursiveAction {
+
+    /**
+     * First value of the range (inclusive).
+     */
+    private final int lo;
+
+    /**
+     * Last value of the range (exclusive).
+     */
+    private final int hi;
+
+    /**
+     * Action to be executed for each value.
+     */
+    private final IntConsumer action;
+
+    /**
+     * Constructor.
+     *
+     * @param lo     first value of the range (inclusive).
+     * @param hi     last value of the range (exclusive).
+     * @param action action to be executed for each value.
+     */
+    ForEachTask(final int lo, final int hi, final IntConsumer action) {
+        this.lo = lo;
+        this.hi = hi;
+        this.action = action;
+    }
+
+    /**
+     * Executes the action for each value of the range.
+     */
+    @Override
+    protected void compute() {
+        if (hi - lo == 1) {
+            action.accept(lo);
+        } else if (hi - lo > 1) {
+            final var mid = (lo + hi) >>> 1;
+            invokeAll(new ForEachTask(lo, mid, action), new ForEachTask(mid, hi, action));
+        }
+    }
+}
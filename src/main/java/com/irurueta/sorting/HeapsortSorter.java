@@ -58,20 +58,12 @@ public class HeapsortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
             return;
         }
 
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDown(array, i, n - 1, comparator, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            siftDown(array, 0, i - 1, comparator, fromIndex);
-        }
+        heapsort(array, fromIndex, toIndex, comparator);
     }
 
     /**
@@ -109,23 +101,13 @@ public class HeapsortSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final var indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDownWithIndices(array, indices, i, n - 1, comparator, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            swapIndices(indices, fromIndex, i + fromIndex);
-            siftDownWithIndices(array, indices, 0, i - 1, comparator, fromIndex);
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final var indices = getInitialIndicesVector(array.length);
+        heapsortWithIndices(array, indices, fromIndex, toIndex, comparator);
         return indices;
     }
 
@@ -163,20 +145,12 @@ public class HeapsortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDown(array, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            siftDown(array, 0, i - 1, fromIndex);
-        }
+        heapsort(array, fromIndex, toIndex);
     }
 
     /**
@@ -211,23 +185,13 @@ public class HeapsortSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final int[] indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            swapIndices(indices, fromIndex, i + fromIndex);
-            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final var indices = getInitialIndicesVector(array.length);
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -255,20 +219,12 @@ public class HeapsortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDown(array, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            siftDown(array, 0, i - 1, fromIndex);
-        }
+        heapsort(array, fromIndex, toIndex);
     }
 
     /**
@@ -303,23 +259,13 @@ public class HeapsortSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final var indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            swapIndices(indices, fromIndex, i + fromIndex);
-            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final var indices = getInitialIndicesVector(array.length);
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -347,20 +293,12 @@ public class HeapsortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDown(array, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            siftDown(array, 0, i - 1, fromIndex);
-        }
+        heapsort(array, fromIndex, toIndex);
     }
 
     /**
@@ -395,23 +333,13 @@ public class HeapsortSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final int[] indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            swapIndices(indices, fromIndex, i + fromIndex);
-            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final var indices = getInitialIndicesVector(array.length);
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -439,20 +367,12 @@ public class HeapsortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        int i;
-        final var n = toIndex - fromIndex;
-
-        for (i = n / 2 - 1; i >= 0; i--) {
-            siftDown(array, i, n - 1, fromIndex);
-        }
-        for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            siftDown(array, 0, i - 1, fromIndex);
-        }
+        heapsort(array, fromIndex, toIndex);
     }
 
     /**
@@ -487,9 +407,323 @@ public class HeapsortSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
         final var indices = getInitialIndicesVector(array.length);
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        heapsort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        heapsortWithIndices(array, indices, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        heapsort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        heapsort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        heapsort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        heapsort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Heapsort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        heapsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    static <T> void heapsort(final T[] array, final int fromIndex, final int toIndex,
+                             final Comparator<T> comparator) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n - 1, comparator, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, null, fromIndex, i + fromIndex);
+            siftDown(array, 0, i - 1, comparator, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    static <T> void heapsortWithIndices(final T[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final Comparator<T> comparator) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDownWithIndices(array, indices, i, n - 1, comparator, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, i + fromIndex);
+            siftDownWithIndices(array, indices, 0, i - 1, comparator, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsort(final double[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, null, fromIndex, i + fromIndex);
+            siftDown(array, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsortWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                    final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
         }
 
         int i;
@@ -499,12 +733,177 @@ public class HeapsortSorter<T> extends Sorter<T> {
             siftDownWithIndices(array, indices, i, n - 1, fromIndex);
         }
         for (i = n - 1; i > 0; i--) {
-            swap(array, fromIndex, i + fromIndex);
-            swapIndices(indices, fromIndex, i + fromIndex);
+            swap(array, indices, fromIndex, i + fromIndex);
             siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
         }
+    }
 
-        return indices;
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsort(final float[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, null, fromIndex, i + fromIndex);
+            siftDown(array, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsortWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                    final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, i + fromIndex);
+            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsort(final int[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, null, fromIndex, i + fromIndex);
+            siftDown(array, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsortWithIndices(final int[] array, final int[] indices, final int fromIndex,
+                                    final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, i + fromIndex);
+            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsort(final long[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, null, fromIndex, i + fromIndex);
+            siftDown(array, 0, i - 1, fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    static void heapsortWithIndices(final long[] array, final int[] indices, final int fromIndex,
+                                    final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        final var n = toIndex - fromIndex;
+
+        for (i = n / 2 - 1; i >= 0; i--) {
+            siftDownWithIndices(array, indices, i, n - 1, fromIndex);
+        }
+        for (i = n - 1; i > 0; i--) {
+            swap(array, indices, fromIndex, i + fromIndex);
+            siftDownWithIndices(array, indices, 0, i - 1, fromIndex);
+        }
     }
 
     /**
@@ -516,7 +915,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param comparator a comparator.
      * @param fromIndex  initial position.
      */
-    private void siftDown(final T[] ra, final int l, final int r, final Comparator<T> comparator, final int fromIndex) {
+    static <T> void siftDown(final T[] ra, final int l, final int r, final Comparator<T> comparator,
+                             final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -547,8 +947,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param comparator a comparator.
      * @param fromIndex  initial position.
      */
-    private void siftDownWithIndices(final T[] ra, final int[] rb, final int l, final int r,
-                                     final Comparator<T> comparator, final int fromIndex) {
+    private static <T> void siftDownWithIndices(final T[] ra, final int[] rb, final int l, final int r,
+                                                final Comparator<T> comparator, final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -572,16 +972,103 @@ public class HeapsortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Swaps values in array of indices at locations posA and posB.
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static <T> void swap(final T[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        if (indices != null) {
+            final var index = indices[posA];
+            indices[posA] = indices[posB];
+            indices[posB] = index;
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final double[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        if (indices != null) {
+            final var index = indices[posA];
+            indices[posA] = indices[posB];
+            indices[posB] = index;
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final float[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        if (indices != null) {
+            final var index = indices[posA];
+            indices[posA] = indices[posB];
+            indices[posB] = index;
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
      *
-     * @param indices array containing indices to be swapped.
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
      * @param posA    Location to be swapped.
      * @param posB    Location to be swapped.
      */
-    private void swapIndices(final int[] indices, final int posA, final int posB) {
-        final var value = indices[posA];
-        indices[posA] = indices[posB];
-        indices[posB] = value;
+    private static void swap(final int[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        if (indices != null) {
+            final var index = indices[posA];
+            indices[posA] = indices[posB];
+            indices[posB] = index;
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array, or null if not
+     *                needed.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final long[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        if (indices != null) {
+            final var index = indices[posA];
+            indices[posA] = indices[posB];
+            indices[posB] = index;
+        }
     }
 
     /**
@@ -592,7 +1079,7 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDown(final double[] ra, final int l, final int r, final int fromIndex) {
+    static void siftDown(final double[] ra, final int l, final int r, final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -622,7 +1109,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDownWithIndices(final double[] ra, final int[] rb, final int l, final int r, final int fromIndex) {
+    private static void siftDownWithIndices(final double[] ra, final int[] rb, final int l, final int r,
+                                            final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -653,7 +1141,7 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDown(final float[] ra, final int l, final int r, final int fromIndex) {
+    private static void siftDown(final float[] ra, final int l, final int r, final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -683,7 +1171,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDownWithIndices(final float[] ra, final int[] rb, final int l, final int r, final int fromIndex) {
+    private static void siftDownWithIndices(final float[] ra, final int[] rb, final int l, final int r,
+                                            final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -714,7 +1203,7 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDown(final int[] ra, final int l, final int r, final int fromIndex) {
+    private static void siftDown(final int[] ra, final int l, final int r, final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -744,7 +1233,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial position.
      */
-    private void siftDownWithIndices(final int[] ra, final int[] rb, final int l, final int r, final int fromIndex) {
+    private static void siftDownWithIndices(final int[] ra, final int[] rb, final int l, final int r,
+                                            final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -775,7 +1265,7 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial value.
      */
-    private void siftDown(long[] ra, int l, int r, int fromIndex) {
+    static void siftDown(long[] ra, int l, int r, int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -805,7 +1295,8 @@ public class HeapsortSorter<T> extends Sorter<T> {
      * @param r         r value.
      * @param fromIndex initial value.
      */
-    private void siftDownWithIndices(final long[] ra, final int[] rb, final int l, final int r, final int fromIndex) {
+    private static void siftDownWithIndices(final long[] ra, final int[] rb, final int l, final int r,
+                                            final int fromIndex) {
         int j;
         int jold;
         final var a = ra[l + fromIndex];
@@ -0,0 +1,1892 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Sorts instances of type T in provided arrays using Introsort method.
+ * Introsort is a Quicksort that keeps track of the number of partitions
+ * performed to reach each subarray. When such number exceeds twice the
+ * logarithm of the number of elements to be sorted, chosen partitioning
+ * elements are considered to be poor (which might happen with crafted or
+ * organ-pipe inputs) and the subarray is sorted using Heapsort instead.
+ * Consequently, worst case performance is O(n log n) and, contrary to
+ * {@link QuicksortSorter}, no {@link SortingException} is ever thrown.
+ *
+ * @param <T> Type of instances being sorted.
+ *            <p>
+ *            This class is based on algorithm found at
+ *            Musser, D.R. 1997. "Introspective Sorting and Selection
+ *            Algorithms", Software: Practice and Experience, vol. 27,
+ *            pp. 983-993.
+ */
+@SuppressWarnings("Duplicates")
+public class IntrosortSorter<T> extends Sorter<T> {
+
+    /**
+     * Constant defining size of smallest subarrays to be ordered using
+     * straight insertion.
+     */
+    private static final int M = 7;
+
+    /**
+     * Constant defining size of stack.
+     * Because the largest subarray is always pushed on the stack, at most
+     * log2(n) subarrays are stacked at once, each one requiring three
+     * entries (start, end and depth).
+     */
+    private static final int NSTACK = 3 * Integer.SIZE;
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        introsort(array, fromIndex, toIndex, comparator, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        introsortWithIndices(array, indices, fromIndex, toIndex, comparator, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.INTROSORT_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        introsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        introsortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        introsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        introsortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        introsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        introsortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        introsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        introsortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        introsort(array, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        introsortWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        introsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        introsortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        introsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        introsortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        introsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        introsortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        introsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        introsortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing stack of pending partitions.
+     */
+    void introsort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                   final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        T a;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (comparator.compare(array[i + fromIndex], a) <= 0) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsort(array, l + fromIndex, ir + 1 + fromIndex, comparator);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                if (comparator.compare(array[l + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + 1 + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + fromIndex], array[l + 1 + fromIndex]) > 0) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (comparator.compare(array[i + fromIndex], a) < 0);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (comparator.compare(array[j + fromIndex], a) > 0);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing stack of pending partitions.
+     */
+    void introsortWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final Comparator<T> comparator, final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        T a;
+        int b;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        b = indices[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (comparator.compare(array[i + fromIndex], a) <= 0) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                            indices[i + 1 + fromIndex] = indices[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                        indices[i + 1 + fromIndex] = b;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsortWithIndices(array, indices, l + fromIndex, ir + 1 + fromIndex,
+                            comparator);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                swapIndices(indices, k + fromIndex, l + 1 + fromIndex);
+                if (comparator.compare(array[l + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + 1 + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + fromIndex], array[l + 1 + fromIndex]) > 0) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                    swapIndices(indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                b = indices[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (comparator.compare(array[i + fromIndex], a) < 0);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (comparator.compare(array[j + fromIndex], a) > 0);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    swapIndices(indices, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                indices[j + fromIndex] = b;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsort(final double[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        double a;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsort(array, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsortWithIndices(final double[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        double a;
+        int b;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        b = indices[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                            indices[i + 1 + fromIndex] = indices[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                        indices[i + 1 + fromIndex] = b;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsortWithIndices(array, indices, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                swapIndices(indices, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                    swapIndices(indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                b = indices[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    swapIndices(indices, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                indices[j + fromIndex] = b;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsort(final float[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        float a;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsort(array, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsortWithIndices(final float[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        float a;
+        int b;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        b = indices[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                            indices[i + 1 + fromIndex] = indices[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                        indices[i + 1 + fromIndex] = b;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsortWithIndices(array, indices, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                swapIndices(indices, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                    swapIndices(indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                b = indices[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    swapIndices(indices, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                indices[j + fromIndex] = b;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsort(final int[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        int a;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsort(array, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsortWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        int a;
+        int b;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        b = indices[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                            indices[i + 1 + fromIndex] = indices[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                        indices[i + 1 + fromIndex] = b;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsortWithIndices(array, indices, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                swapIndices(indices, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                    swapIndices(indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                b = indices[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    swapIndices(indices, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                indices[j + fromIndex] = b;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsort(final long[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        long a;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsort(array, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     */
+    void introsortWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        final var maxDepth = getMaxDepth(n);
+
+        int i;
+        int j;
+        int ir;
+        int k;
+        var jstack = -1;
+        var l = 0;
+        var depth = 0;
+        long a;
+        int b;
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
+        ir = n - 1;
+
+        for (; ; ) {
+            if (ir - l < M || depth > maxDepth) {
+                if (ir - l < M) {
+                    // Insertion sort when subarray is small enough
+                    for (j = l + 1; j <= ir; j++) {
+                        a = array[j + fromIndex];
+                        b = indices[j + fromIndex];
+                        for (i = j - 1; i >= l; i--) {
+                            if (array[i + fromIndex] <= a) {
+                                break;
+                            }
+                            array[i + 1 + fromIndex] = array[i + fromIndex];
+                            indices[i + 1 + fromIndex] = indices[i + fromIndex];
+                        }
+                        array[i + 1 + fromIndex] = a;
+                        indices[i + 1 + fromIndex] = b;
+                    }
+                } else {
+                    // Too many partitions, which happens when chosen
+                    // partitioning elements are poor. Heapsort subarray
+                    HeapsortSorter.heapsortWithIndices(array, indices, l + fromIndex, ir + 1 + fromIndex);
+                }
+                if (jstack < 0) {
+                    break;
+                }
+                // Pop stack and begin a new round of partitioning
+                depth = istack[jstack--];
+                ir = istack[jstack--];
+                l = istack[jstack--];
+            } else {
+                // Choose median of left, center, and right elements as
+                // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+                // <= a(ir)
+                k = (l + ir) >> 1;
+                swap(array, k + fromIndex, l + 1 + fromIndex);
+                swapIndices(indices, k + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, l + 1 + fromIndex, ir + fromIndex);
+                    swapIndices(indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, l + fromIndex, l + 1 + fromIndex);
+                    swapIndices(indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                // Initialize pointers for partitioning
+                i = l + 1;
+                j = ir;
+                // Partitioning element
+                a = array[l + 1 + fromIndex];
+                b = indices[l + 1 + fromIndex];
+                // Beginning of innermost loop
+                for (; ; ) {
+                    // Scan up to find element > a
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+                    // Scan down to find element < a
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+                    // Pointers crossed. Partitioning complete
+                    if (j < i) {
+                        break;
+                    }
+                    // Exchange elements
+                    swap(array, i + fromIndex, j + fromIndex);
+                    swapIndices(indices, i + fromIndex, j + fromIndex);
+                    // End of innermost loop
+                }
+                // Insert partitioning element
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                indices[j + fromIndex] = b;
+                depth++;
+                // Push pointers and depth of larger subarray on stack;
+                // process smaller subarray immediately
+                jstack += 3;
+                if (ir - i + 1 >= j - l) {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = ir;
+                    istack[jstack - 2] = i;
+                    ir = j - 1;
+                } else {
+                    istack[jstack] = depth;
+                    istack[jstack - 1] = j - 1;
+                    istack[jstack - 2] = l;
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns maximum number of partitions allowed to reach a subarray
+     * before it is sorted using Heapsort.
+     *
+     * @param n number of elements to be sorted.
+     * @return maximum number of partitions.
+     */
+    private static int getMaxDepth(final int n) {
+        return 2 * (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Swaps values in array of indices at locations posA and posB.
+     *
+     * @param indices array containing indices to be swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swapIndices(final int[] indices, final int posA, final int posB) {
+        final var value = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = value;
+    }
+}
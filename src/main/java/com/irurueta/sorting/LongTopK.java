@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Keeps the k smallest or the k largest long values among all values added to
+ * it, using O(k) memory regardless of how many values are added.
+ * Values are kept in a bounded binary heap of primitive values whose root is
+ * the worst kept value, so that each added value is either discarded after a
+ * single comparison or replaces the root and is sifted down, taking
+ * O(n log k) time for n added values. This is much cheaper than buffering all
+ * values and sorting them when n is large or unbounded, such as for event
+ * streams.
+ * Instances are not thread-safe. Values can be accumulated concurrently by
+ * using one instance per thread and merging them afterward, for instance by
+ * collecting a parallel stream:
+ * <pre>{@code
+ * LongTopK top = stream.parallel().collect(() -> new LongTopK(k), LongTopK::add, LongTopK::merge);
+ * }</pre>
+ */
+public class LongTopK {
+
+    /**
+     * Number of values to be kept.
+     */
+    private final int k;
+
+    /**
+     * True to keep the largest values, false to keep the smallest ones.
+     */
+    private final boolean largest;
+
+    /**
+     * Heap of kept values. When largest values are kept, values are stored
+     * bitwise complemented so that the root of the heap is always the worst kept value.
+     * Positions are arranged as a heap once k values are kept.
+     */
+    private final long[] heap;
+
+    /**
+     * Number of kept values.
+     */
+    private int size;
+
+    /**
+     * Constructor keeping the k smallest values.
+     *
+     * @param k number of values to be kept.
+     * @throws IllegalArgumentException if k is not positive.
+     */
+    public LongTopK(final int k) {
+        this(k, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param k       number of values to be kept.
+     * @param largest true to keep the k largest values, false to keep the k
+     *                smallest ones.
+     * @throws IllegalArgumentException if k is not positive.
+     */
+    public LongTopK(final int k, final boolean largest) {
+        if (k <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.largest = largest;
+        heap = new long[k];
+    }
+
+    /**
+     * Gets number of values to be kept.
+     *
+     * @return number of values to be kept.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Indicates whether the largest or the smallest values are kept.
+     *
+     * @return true if the k largest values are kept, false if the k smallest
+     * ones are kept.
+     */
+    public boolean isLargest() {
+        return largest;
+    }
+
+    /**
+     * Gets number of values currently kept, which is the minimum between k
+     * and the number of values added so far.
+     *
+     * @return number of values currently kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to be added.
+     */
+    public void add(final long value) {
+        final var key = largest ? ~value : value;
+        if (size < k) {
+            heap[size++] = key;
+            if (size == k) {
+                heapify(heap, k);
+            }
+        } else if (key < heap[0]) {
+            heap[0] = key;
+            HeapsortSorter.siftDown(heap, 0, k - 1, 0);
+        }
+    }
+
+    /**
+     * Adds all values of provided array.
+     *
+     * @param values values to be added.
+     */
+    public void addAll(final long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Adds values of provided array between fromIndex (inclusive) and toIndex
+     * (exclusive).
+     *
+     * @param values    values to be added.
+     * @param fromIndex index were values start (inclusive).
+     * @param toIndex   index were values stop (exclusive).
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > values.length}.
+     */
+    public void addAll(final long[] values, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > values.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds all values of provided stream, consuming it.
+     * Values of parallel streams are added one at a time, hence parallel
+     * streams are better collected into one instance per thread that are
+     * merged afterward.
+     *
+     * @param values values to be added.
+     */
+    public void addAll(final LongStream values) {
+        values.forEachOrdered(this::add);
+    }
+
+    /**
+     * Adds values kept by another instance, so that this instance keeps the
+     * best k values among the values added to both instances.
+     *
+     * @param other instance whose values are added. It is not modified.
+     * @throws IllegalArgumentException if other instance is null or does not
+     *                                  keep the same kind of values (largest or
+     *                                  smallest) as this instance.
+     */
+    public void merge(final LongTopK other) {
+        if (other == null || other.largest != largest) {
+            throw new IllegalArgumentException();
+        }
+
+        final var otherSize = other.size;
+        final var otherHeap = other == this ? Arrays.copyOf(heap, size) : other.heap;
+        for (int i = 0; i < otherSize; i++) {
+            final var key = otherHeap[i];
+            add(largest ? ~key : key);
+        }
+    }
+
+    /**
+     * Removes all kept values.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns kept values sorted from best to worst, which is in ascending
+     * order when the smallest values are kept and in descending order when
+     * the largest values are kept.
+     *
+     * @return new array containing kept values.
+     */
+    public long[] toSortedArray() {
+        final var result = Arrays.copyOf(heap, size);
+        if (size < k) {
+            heapify(result, size);
+        }
+
+        // extract the root of the heap until it is sorted in ascending order
+        for (int i = size - 1; i > 0; i--) {
+            final var root = result[0];
+            result[0] = result[i];
+            result[i] = root;
+            HeapsortSorter.siftDown(result, 0, i - 1, 0);
+        }
+
+        if (largest) {
+            for (int i = 0; i < size; i++) {
+                final var key = result[i];
+                result[i] = ~key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Arranges the first n positions of provided array as a heap whose root
+     * is its largest value.
+     *
+     * @param array array to be arranged.
+     * @param n     number of positions to be arranged.
+     */
+    private static void heapify(final long[] array, final int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            HeapsortSorter.siftDown(array, i, n - 1, 0);
+        }
+    }
+}
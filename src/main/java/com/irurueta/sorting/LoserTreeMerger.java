@@ -0,0 +1,772 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Merges runs already sorted in ascending order into a single sorted array
+ * using a loser tree (a tournament tree keeping the loser of each match).
+ * Each merged value only requires replaying the matches from the leaf of the
+ * run it was taken from up to the root, so that merging n values from k runs
+ * takes O(n log k) time.
+ * Equal values are taken from runs in ascending order of their indices, hence
+ * merging is stable with respect to the concatenation of the runs.
+ */
+@SuppressWarnings("Duplicates")
+final class LoserTreeMerger {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private LoserTreeMerger() {
+    }
+
+    /**
+     * Merges provided sorted runs of objects into a new array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     * @return new array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    static <T> T[] merge(final T[][] runs, final Comparator<T> comparator) {
+        final var result = newMergedArray(runs, getMergedLength(runs));
+        merge(runs, result, null, null, comparator);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of objects into a new array, indicating the
+     * run and position within its run where each merged element was located.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices array where run of each merged element is stored.
+     * @param runOffsets array where position of each merged element within its
+     *                   run is stored.
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     * @return new array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    static <T> T[] mergeWithIndices(final T[][] runs, final int[] runIndices, final int[] runOffsets,
+                                    final Comparator<T> comparator) {
+        final var length = getMergedLength(runs);
+        checkIndicesLength(runIndices, runOffsets, length);
+
+        final var result = newMergedArray(runs, length);
+        merge(runs, result, runIndices, runOffsets, comparator);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of objects into provided result array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param result     array where merged values are stored.
+     * @param runIndices array where run of each merged value is stored or null
+     *                   if not needed.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored or null if not needed.
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private static <T> void merge(final T[][] runs, final T[] result, final int[] runIndices,
+                                  final int[] runOffsets, final Comparator<T> comparator) {
+        final var k = runs.length;
+        if (k == 0) {
+            return;
+        }
+        final var positions = new int[k];
+        final var tree = new int[k];
+
+        // fill internal nodes with sentinels beating any run, and replay every
+        // run so that sentinels are pushed out of the tree
+        Arrays.fill(tree, k);
+        for (int r = k - 1; r >= 0; r--) {
+            replay(runs, positions, tree, r, comparator);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            final var winner = tree[0];
+            final var pos = positions[winner]++;
+            result[i] = runs[winner][pos];
+            if (runIndices != null) {
+                runIndices[i] = winner;
+            }
+            if (runOffsets != null) {
+                runOffsets[i] = pos;
+            }
+            replay(runs, positions, tree, winner, comparator);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root, keeping
+     * losers in internal nodes and storing the overall winner at the root.
+     *
+     * @param runs       runs being merged.
+     * @param positions  position of next value of each run.
+     * @param tree       loser tree.
+     * @param run        run whose head has changed.
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private static <T> void replay(final T[][] runs, final int[] positions, final int[] tree, final int run,
+                                   final Comparator<T> comparator) {
+        final var k = runs.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(runs, positions, loser, winner, comparator)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Indicates whether head of run a must be merged before head of run b.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first so that merging is stable.
+     *
+     * @param runs       runs being merged.
+     * @param positions  position of next value of each run.
+     * @param a          index of a run.
+     * @param b          index of another run.
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     * @return true if head of run a must be merged first, false otherwise.
+     */
+    private static <T> boolean beats(final T[][] runs, final int[] positions, final int a, final int b,
+                                     final Comparator<T> comparator) {
+        final var k = runs.length;
+        if (a == k) {
+            return true;
+        }
+        if (b == k) {
+            return false;
+        }
+        final var runA = runs[a];
+        final var runB = runs[b];
+        final var posA = positions[a];
+        final var posB = positions[b];
+        if (posA == runA.length) {
+            return false;
+        }
+        if (posB == runB.length) {
+            return true;
+        }
+        final var c = comparator.compare(runA[posA], runB[posB]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /**
+     * Merges provided sorted runs of doubles into a new array.
+     *
+     * @param runs runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     */
+    static double[] merge(final double[][] runs) {
+        final var result = new double[getMergedLength(runs)];
+        merge(runs, result, null, null);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of doubles into a new array, indicating the
+     * run and position within its run where each merged value was located.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices array where run of each merged value is stored.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  values.
+     */
+    static double[] mergeWithIndices(final double[][] runs, final int[] runIndices, final int[] runOffsets) {
+        final var length = getMergedLength(runs);
+        checkIndicesLength(runIndices, runOffsets, length);
+
+        final var result = new double[length];
+        merge(runs, result, runIndices, runOffsets);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of doubles into provided result array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param result     array where merged values are stored.
+     * @param runIndices array where run of each merged value is stored or null
+     *                   if not needed.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored or null if not needed.
+     */
+    private static void merge(final double[][] runs, final double[] result, final int[] runIndices,
+                              final int[] runOffsets) {
+        final var k = runs.length;
+        if (k == 0) {
+            return;
+        }
+        final var positions = new int[k];
+        final var tree = new int[k];
+
+        // fill internal nodes with sentinels beating any run, and replay every
+        // run so that sentinels are pushed out of the tree
+        Arrays.fill(tree, k);
+        for (int r = k - 1; r >= 0; r--) {
+            replay(runs, positions, tree, r);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            final var winner = tree[0];
+            final var pos = positions[winner]++;
+            result[i] = runs[winner][pos];
+            if (runIndices != null) {
+                runIndices[i] = winner;
+            }
+            if (runOffsets != null) {
+                runOffsets[i] = pos;
+            }
+            replay(runs, positions, tree, winner);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root, keeping
+     * losers in internal nodes and storing the overall winner at the root.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final double[][] runs, final int[] positions, final int[] tree, final int run) {
+        final var k = runs.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(runs, positions, loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Indicates whether head of run a must be merged before head of run b.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first so that merging is stable.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param a         index of a run.
+     * @param b         index of another run.
+     * @return true if head of run a must be merged first, false otherwise.
+     */
+    private static boolean beats(final double[][] runs, final int[] positions, final int a, final int b) {
+        final var k = runs.length;
+        if (a == k) {
+            return true;
+        }
+        if (b == k) {
+            return false;
+        }
+        final var runA = runs[a];
+        final var runB = runs[b];
+        final var posA = positions[a];
+        final var posB = positions[b];
+        if (posA == runA.length) {
+            return false;
+        }
+        if (posB == runB.length) {
+            return true;
+        }
+        final var c = Double.compare(runA[posA], runB[posB]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /**
+     * Merges provided sorted runs of floats into a new array.
+     *
+     * @param runs runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     */
+    static float[] merge(final float[][] runs) {
+        final var result = new float[getMergedLength(runs)];
+        merge(runs, result, null, null);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of floats into a new array, indicating the
+     * run and position within its run where each merged value was located.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices array where run of each merged value is stored.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  values.
+     */
+    static float[] mergeWithIndices(final float[][] runs, final int[] runIndices, final int[] runOffsets) {
+        final var length = getMergedLength(runs);
+        checkIndicesLength(runIndices, runOffsets, length);
+
+        final var result = new float[length];
+        merge(runs, result, runIndices, runOffsets);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of floats into provided result array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param result     array where merged values are stored.
+     * @param runIndices array where run of each merged value is stored or null
+     *                   if not needed.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored or null if not needed.
+     */
+    private static void merge(final float[][] runs, final float[] result, final int[] runIndices,
+                              final int[] runOffsets) {
+        final var k = runs.length;
+        if (k == 0) {
+            return;
+        }
+        final var positions = new int[k];
+        final var tree = new int[k];
+
+        // fill internal nodes with sentinels beating any run, and replay every
+        // run so that sentinels are pushed out of the tree
+        Arrays.fill(tree, k);
+        for (int r = k - 1; r >= 0; r--) {
+            replay(runs, positions, tree, r);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            final var winner = tree[0];
+            final var pos = positions[winner]++;
+            result[i] = runs[winner][pos];
+            if (runIndices != null) {
+                runIndices[i] = winner;
+            }
+            if (runOffsets != null) {
+                runOffsets[i] = pos;
+            }
+            replay(runs, positions, tree, winner);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root, keeping
+     * losers in internal nodes and storing the overall winner at the root.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final float[][] runs, final int[] positions, final int[] tree, final int run) {
+        final var k = runs.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(runs, positions, loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Indicates whether head of run a must be merged before head of run b.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first so that merging is stable.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param a         index of a run.
+     * @param b         index of another run.
+     * @return true if head of run a must be merged first, false otherwise.
+     */
+    private static boolean beats(final float[][] runs, final int[] positions, final int a, final int b) {
+        final var k = runs.length;
+        if (a == k) {
+            return true;
+        }
+        if (b == k) {
+            return false;
+        }
+        final var runA = runs[a];
+        final var runB = runs[b];
+        final var posA = positions[a];
+        final var posB = positions[b];
+        if (posA == runA.length) {
+            return false;
+        }
+        if (posB == runB.length) {
+            return true;
+        }
+        final var c = Float.compare(runA[posA], runB[posB]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /**
+     * Merges provided sorted runs of integers into a new array.
+     *
+     * @param runs runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     */
+    static int[] merge(final int[][] runs) {
+        final var result = new int[getMergedLength(runs)];
+        merge(runs, result, null, null);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of integers into a new array, indicating the
+     * run and position within its run where each merged value was located.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices array where run of each merged value is stored.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  values.
+     */
+    static int[] mergeWithIndices(final int[][] runs, final int[] runIndices, final int[] runOffsets) {
+        final var length = getMergedLength(runs);
+        checkIndicesLength(runIndices, runOffsets, length);
+
+        final var result = new int[length];
+        merge(runs, result, runIndices, runOffsets);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of integers into provided result array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param result     array where merged values are stored.
+     * @param runIndices array where run of each merged value is stored or null
+     *                   if not needed.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored or null if not needed.
+     */
+    private static void merge(final int[][] runs, final int[] result, final int[] runIndices,
+                              final int[] runOffsets) {
+        final var k = runs.length;
+        if (k == 0) {
+            return;
+        }
+        final var positions = new int[k];
+        final var tree = new int[k];
+
+        // fill internal nodes with sentinels beating any run, and replay every
+        // run so that sentinels are pushed out of the tree
+        Arrays.fill(tree, k);
+        for (int r = k - 1; r >= 0; r--) {
+            replay(runs, positions, tree, r);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            final var winner = tree[0];
+            final var pos = positions[winner]++;
+            result[i] = runs[winner][pos];
+            if (runIndices != null) {
+                runIndices[i] = winner;
+            }
+            if (runOffsets != null) {
+                runOffsets[i] = pos;
+            }
+            replay(runs, positions, tree, winner);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root, keeping
+     * losers in internal nodes and storing the overall winner at the root.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final int[][] runs, final int[] positions, final int[] tree, final int run) {
+        final var k = runs.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(runs, positions, loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Indicates whether head of run a must be merged before head of run b.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first so that merging is stable.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param a         index of a run.
+     * @param b         index of another run.
+     * @return true if head of run a must be merged first, false otherwise.
+     */
+    private static boolean beats(final int[][] runs, final int[] positions, final int a, final int b) {
+        final var k = runs.length;
+        if (a == k) {
+            return true;
+        }
+        if (b == k) {
+            return false;
+        }
+        final var runA = runs[a];
+        final var runB = runs[b];
+        final var posA = positions[a];
+        final var posB = positions[b];
+        if (posA == runA.length) {
+            return false;
+        }
+        if (posB == runB.length) {
+            return true;
+        }
+        final var c = Integer.compare(runA[posA], runB[posB]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /**
+     * Merges provided sorted runs of longs into a new array.
+     *
+     * @param runs runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     */
+    static long[] merge(final long[][] runs) {
+        final var result = new long[getMergedLength(runs)];
+        merge(runs, result, null, null);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of longs into a new array, indicating the
+     * run and position within its run where each merged value was located.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices array where run of each merged value is stored.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored.
+     * @return new array containing all values of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  values.
+     */
+    static long[] mergeWithIndices(final long[][] runs, final int[] runIndices, final int[] runOffsets) {
+        final var length = getMergedLength(runs);
+        checkIndicesLength(runIndices, runOffsets, length);
+
+        final var result = new long[length];
+        merge(runs, result, runIndices, runOffsets);
+        return result;
+    }
+
+    /**
+     * Merges provided sorted runs of longs into provided result array.
+     *
+     * @param runs       runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param result     array where merged values are stored.
+     * @param runIndices array where run of each merged value is stored or null
+     *                   if not needed.
+     * @param runOffsets array where position of each merged value within its
+     *                   run is stored or null if not needed.
+     */
+    private static void merge(final long[][] runs, final long[] result, final int[] runIndices,
+                              final int[] runOffsets) {
+        final var k = runs.length;
+        if (k == 0) {
+            return;
+        }
+        final var positions = new int[k];
+        final var tree = new int[k];
+
+        // fill internal nodes with sentinels beating any run, and replay every
+        // run so that sentinels are pushed out of the tree
+        Arrays.fill(tree, k);
+        for (int r = k - 1; r >= 0; r--) {
+            replay(runs, positions, tree, r);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            final var winner = tree[0];
+            final var pos = positions[winner]++;
+            result[i] = runs[winner][pos];
+            if (runIndices != null) {
+                runIndices[i] = winner;
+            }
+            if (runOffsets != null) {
+                runOffsets[i] = pos;
+            }
+            replay(runs, positions, tree, winner);
+        }
+    }
+
+    /**
+     * Plays the matches from the leaf of provided run up to the root, keeping
+     * losers in internal nodes and storing the overall winner at the root.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param tree      loser tree.
+     * @param run       run whose head has changed.
+     */
+    private static void replay(final long[][] runs, final int[] positions, final int[] tree, final int run) {
+        final var k = runs.length;
+        var winner = run;
+        for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+            final var loser = tree[node];
+            if (beats(runs, positions, loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Indicates whether head of run a must be merged before head of run b.
+     * Exhausted runs are beaten by any other run, sentinels (whose index is
+     * the number of runs) beat any run, and equal values are taken from the
+     * run having the lowest index first so that merging is stable.
+     *
+     * @param runs      runs being merged.
+     * @param positions position of next value of each run.
+     * @param a         index of a run.
+     * @param b         index of another run.
+     * @return true if head of run a must be merged first, false otherwise.
+     */
+    private static boolean beats(final long[][] runs, final int[] positions, final int a, final int b) {
+        final var k = runs.length;
+        if (a == k) {
+            return true;
+        }
+        if (b == k) {
+            return false;
+        }
+        final var runA = runs[a];
+        final var runB = runs[b];
+        final var posA = positions[a];
+        final var posB = positions[b];
+        if (posA == runA.length) {
+            return false;
+        }
+        if (posB == runB.length) {
+            return true;
+        }
+        final var c = Long.compare(runA[posA], runB[posB]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /**
+     * Checks that provided arrays can store the run and position of every
+     * merged element.
+     *
+     * @param runIndices array where run of each merged element is stored.
+     * @param runOffsets array where position of each merged element within its
+     *                   run is stored.
+     * @param length     total number of merged elements.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than length.
+     */
+    private static void checkIndicesLength(final int[] runIndices, final int[] runOffsets, final int length) {
+        if (runIndices.length < length || runOffsets.length < length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Returns total number of elements contained in provided runs.
+     *
+     * @param runs runs to be merged.
+     * @return total number of elements.
+     */
+    private static int getMergedLength(final Object[] runs) {
+        var length = 0;
+        for (final var run : runs) {
+            length += Array.getLength(run);
+        }
+        return length;
+    }
+
+    /**
+     * Creates an array having the same component type as provided runs to
+     * store their merged elements.
+     *
+     * @param runs   runs to be merged.
+     * @param length length of array.
+     * @return new array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newMergedArray(final T[][] runs, final int length) {
+        return (T[]) Array.newInstance(runs.getClass().getComponentType().getComponentType(), length);
+    }
+}
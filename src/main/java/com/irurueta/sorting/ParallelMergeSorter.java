@@ -0,0 +1,612 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts instances of type T in provided arrays using a parallel stable merge
+ * sort.
+ * When sorting arrays of objects with a comparator, ranges larger than a
+ * given threshold are split in two halves that are sorted concurrently as
+ * tasks of a {@link ForkJoinPool}, and the resulting runs are merged in
+ * parallel by splitting the longest run at its middle element and finding
+ * its position in the other run by binary search. Ranges smaller or equal
+ * than the threshold are sorted sequentially using TimSort.
+ * Both sorting and merging keep equal elements in their original relative
+ * order, hence sorting is stable and indices returned by sortWithIndices are
+ * in ascending order for any run of equal elements.
+ * Merging requires scratch buffers as large as the sorted range.
+ * <p>
+ * Arrays of primitive values are sorted sequentially using TimSort, as
+ * {@link TimsortSorter} does. {@link ParallelQuicksortSorter} should be used
+ * instead to sort them concurrently.
+ *
+ * @param <T> Type of instances being sorted.
+ */
+public class ParallelMergeSorter<T> extends TimsortSorter<T> {
+
+    /**
+     * Default size of ranges below or equal which sorting is done
+     * sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    /**
+     * Minimum allowed threshold.
+     */
+    public static final int MIN_THRESHOLD = 16;
+
+    /**
+     * Size of ranges below or equal which sorting is done sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Pool where sorting tasks are executed.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor using default threshold and common pool.
+     */
+    public ParallelMergeSorter() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor using common pool.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD}.
+     */
+    public ParallelMergeSorter(final int threshold) {
+        this(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @param pool      pool where sorting tasks are executed.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD} or pool is null.
+     */
+    public ParallelMergeSorter(final int threshold, final ForkJoinPool pool) {
+        if (threshold < MIN_THRESHOLD || pool == null) {
+            throw new IllegalArgumentException();
+        }
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Gets size of ranges below or equal which sorting is done sequentially.
+     *
+     * @return size of ranges below or equal which sorting is done sequentially.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets pool where sorting tasks are executed.
+     *
+     * @return pool where sorting tasks are executed.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            timsort(array, null, fromIndex, toIndex, comparator, new SortingWorkspace());
+        } else {
+            pool.invoke(new MergeSortTask(array, null, Arrays.copyOfRange(array, fromIndex, toIndex), null,
+                    fromIndex, fromIndex, toIndex, false, comparator));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            timsort(array, indices, fromIndex, toIndex, comparator, new SortingWorkspace());
+        } else {
+            pool.invoke(new MergeSortTask(array, indices, Arrays.copyOfRange(array, fromIndex, toIndex),
+                    new int[n], fromIndex, fromIndex, toIndex, false, comparator));
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, comparator, workspace);
+        } else {
+            sort(array, fromIndex, toIndex, comparator);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex, comparator);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted.
+     * Ranges longer than the threshold are split among parallel tasks that
+     * do not detect runs, hence ranges are scanned before being sorted.
+     *
+     * @return always true.
+     */
+    @Override
+    protected boolean isRunScanEnabled() {
+        return true;
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted with
+     * indices.
+     * Ranges longer than the threshold are split among parallel tasks that
+     * do not detect runs, hence ranges are scanned before being sorted.
+     *
+     * @return always true.
+     */
+    @Override
+    protected boolean isRunScanWithIndicesEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.PARALLEL_MERGE_SORTING_METHOD;
+    }
+
+    /**
+     * Task sorting a range of an array using a comparator, and optionally its
+     * indices.
+     * Ranges larger than the threshold are split in two halves that are sorted
+     * concurrently into the opposite buffer, and then merged in parallel into
+     * the destination buffer.
+     */
+    @SuppressWarnings("serial")
+    private final class MergeSortTask extends RecursiveAction {
+
+        /**
+         * Array being sorted.
+         */
+        private final T[] array;
+
+        /**
+         * Indices to be reordered along with array or null if not needed.
+         */
+        private final int[] indices;
+
+        /**
+         * Scratch buffer for values.
+         */
+        private final T[] scratch;
+
+        /**
+         * Scratch buffer for indices or null if not needed.
+         */
+        private final int[] scratchIndices;
+
+        /**
+         * Position in array corresponding to first position of scratch buffers.
+         */
+        private final int offset;
+
+        /**
+         * Position of first element of the range (inclusive).
+         */
+        private final int lo;
+
+        /**
+         * Position of last element of the range (exclusive).
+         */
+        private final int hi;
+
+        /**
+         * Indicates whether sorted range must be left in scratch buffers
+         * instead of in array.
+         */
+        private final boolean toScratch;
+
+        /**
+         * Determines whether an element is greater or lower than another one.
+         */
+        private final Comparator<T> comparator;
+
+        /**
+         * Constructor.
+         *
+         * @param array          array being sorted.
+         * @param indices        indices to be reordered along with array or null.
+         * @param scratch        scratch buffer for values.
+         * @param scratchIndices scratch buffer for indices or null.
+         * @param offset         position in array corresponding to first
+         *                       position of scratch buffers.
+         * @param lo             position of first element of the range (inclusive).
+         * @param hi             position of last element of the range (exclusive).
+         * @param toScratch      true if sorted range must be left in scratch
+         *                       buffers, false if it must be left in array.
+         * @param comparator     determines whether an element is greater or
+         *                       lower than another one.
+         */
+        MergeSortTask(final T[] array, final int[] indices, final T[] scratch, final int[] scratchIndices,
+                      final int offset, final int lo, final int hi, final boolean toScratch,
+                      final Comparator<T> comparator) {
+            this.array = array;
+            this.indices = indices;
+            this.scratch = scratch;
+            this.scratchIndices = scratchIndices;
+            this.offset = offset;
+            this.lo = lo;
+            this.hi = hi;
+            this.toScratch = toScratch;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Sorts the range.
+         */
+        @Override
+        protected void compute() {
+            final var n = hi - lo;
+            if (n <= threshold) {
+                timsort(array, indices, lo, hi, comparator, new SortingWorkspace());
+                if (toScratch) {
+                    System.arraycopy(array, lo, scratch, lo - offset, n);
+                    if (indices != null) {
+                        System.arraycopy(indices, lo, scratchIndices, lo - offset, n);
+                    }
+                }
+                return;
+            }
+
+            final var mid = (lo + hi) >>> 1;
+            invokeAll(new MergeSortTask(array, indices, scratch, scratchIndices, offset, lo, mid, !toScratch,
+                            comparator),
+                    new MergeSortTask(array, indices, scratch, scratchIndices, offset, mid, hi, !toScratch,
+                            comparator));
+            if (toScratch) {
+                new MergeTask(array, indices, 0, scratch, scratchIndices, offset,
+                        lo, mid, mid, hi, lo, comparator).invoke();
+            } else {
+                new MergeTask(scratch, scratchIndices, offset, array, indices, 0,
+                        lo, mid, mid, hi, lo, comparator).invoke();
+            }
+        }
+    }
+
+    /**
+     * Task merging two consecutive sorted runs, and optionally their indices,
+     * into a destination buffer.
+     * Large merges are split by taking the middle element of the longest run
+     * and finding its position in the other run by binary search, so that
+     * both halves can be merged concurrently. Elements of the first run are
+     * always placed before equal elements of the second run, so that merging
+     * is stable.
+     */
+    @SuppressWarnings("serial")
+    private final class MergeTask extends RecursiveAction {
+
+        /**
+         * Source buffer of values.
+         */
+        private final T[] src;
+
+        /**
+         * Source buffer of indices or null if not needed.
+         */
+        private final int[] srcIndices;
+
+        /**
+         * Position corresponding to first position of source buffers.
+         */
+        private final int srcOffset;
+
+        /**
+         * Destination buffer of values.
+         */
+        private final T[] dst;
+
+        /**
+         * Destination buffer of indices or null if not needed.
+         */
+        private final int[] dstIndices;
+
+        /**
+         * Position corresponding to first position of destination buffers.
+         */
+        private final int dstOffset;
+
+        /**
+         * Start of first run (inclusive).
+         */
+        private final int aLo;
+
+        /**
+         * End of first run (exclusive).
+         */
+        private final int aHi;
+
+        /**
+         * Start of second run (inclusive).
+         */
+        private final int bLo;
+
+        /**
+         * End of second run (exclusive).
+         */
+        private final int bHi;
+
+        /**
+         * Position where merged runs are written.
+         */
+        private final int dLo;
+
+        /**
+         * Determines whether an element is greater or lower than another one.
+         */
+        private final Comparator<T> comparator;
+
+        /**
+         * Constructor.
+         *
+         * @param src        source buffer of values.
+         * @param srcIndices source buffer of indices or null.
+         * @param srcOffset  position corresponding to first position of source
+         *                   buffers.
+         * @param dst        destination buffer of values.
+         * @param dstIndices destination buffer of indices or null.
+         * @param dstOffset  position corresponding to first position of
+         *                   destination buffers.
+         * @param aLo        start of first run (inclusive).
+         * @param aHi        end of first run (exclusive).
+         * @param bLo        start of second run (inclusive).
+         * @param bHi        end of second run (exclusive).
+         * @param dLo        position where merged runs are written.
+         * @param comparator determines whether an element is greater or lower
+         *                   than another one.
+         */
+        MergeTask(final T[] src, final int[] srcIndices, final int srcOffset,
+                  final T[] dst, final int[] dstIndices, final int dstOffset,
+                  final int aLo, final int aHi, final int bLo, final int bHi, final int dLo,
+                  final Comparator<T> comparator) {
+            this.src = src;
+            this.srcIndices = srcIndices;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstIndices = dstIndices;
+            this.dstOffset = dstOffset;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.dLo = dLo;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Merges both runs.
+         */
+        @Override
+        protected void compute() {
+            final var na = aHi - aLo;
+            final var nb = bHi - bLo;
+            if (na + nb <= threshold) {
+                var i = aLo - srcOffset;
+                var j = bLo - srcOffset;
+                var k = dLo - dstOffset;
+                final var iEnd = aHi - srcOffset;
+                final var jEnd = bHi - srcOffset;
+                while (i < iEnd && j < jEnd) {
+                    // on ties elements of first run are taken first to keep
+                    // stability
+                    if (comparator.compare(src[j], src[i]) < 0) {
+                        if (dstIndices != null) {
+                            dstIndices[k] = srcIndices[j];
+                        }
+                        dst[k++] = src[j++];
+                    } else {
+                        if (dstIndices != null) {
+                            dstIndices[k] = srcIndices[i];
+                        }
+                        dst[k++] = src[i++];
+                    }
+                }
+                System.arraycopy(src, i, dst, k, iEnd - i);
+                if (dstIndices != null) {
+                    System.arraycopy(srcIndices, i, dstIndices, k, iEnd - i);
+                }
+                k += iEnd - i;
+                System.arraycopy(src, j, dst, k, jEnd - j);
+                if (dstIndices != null) {
+                    System.arraycopy(srcIndices, j, dstIndices, k, jEnd - j);
+                }
+                return;
+            }
+
+            int am;
+            int bm;
+            if (na >= nb) {
+                am = (aLo + aHi) >>> 1;
+                final var value = src[am - srcOffset];
+                // find first element in second run not lower than value, so
+                // that elements equal to value remain after it
+                var l = bLo;
+                var h = bHi;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (comparator.compare(src[m - srcOffset], value) < 0) {
+                        l = m + 1;
+                    } else {
+                        h = m;
+                    }
+                }
+                bm = l;
+            } else {
+                bm = (bLo + bHi) >>> 1;
+                final var value = src[bm - srcOffset];
+                // find first element in first run greater than value, so that
+                // elements equal to value remain before it
+                var l = aLo;
+                var h = aHi;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (comparator.compare(src[m - srcOffset], value) <= 0) {
+                        l = m + 1;
+                    } else {
+                        h = m;
+                    }
+                }
+                am = l;
+            }
+            final var dm = dLo + (am - aLo) + (bm - bLo);
+            invokeAll(new MergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset,
+                            aLo, am, bLo, bm, dLo, comparator),
+                    new MergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset,
+                            am, aHi, bm, bHi, dm, comparator));
+        }
+    }
+}
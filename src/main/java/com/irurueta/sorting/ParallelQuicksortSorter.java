@@ -0,0 +1,3777 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorts instances of type T in provided arrays using a parallel version of
+ * Quicksort method.
+ * Ranges larger than a given threshold are partitioned using the same
+ * median-of-three scheme as {@link QuicksortSorter}, and the resulting
+ * subarrays are sorted concurrently as tasks of a {@link ForkJoinPool}.
+ * Ranges smaller or equal than the threshold are sorted sequentially, using
+ * workspaces borrowed from a pool owned by the sorter, so that concurrent
+ * tasks do not allocate their internal stacks on every call.
+ * <p>
+ * Large arrays of primitive values are instead sorted using sample sort,
+ * which avoids the initial sequential partitioning step of Quicksort.
+ * Splitters are picked from an oversampled random sample of the range, the
+ * range is split into blocks whose elements are concurrently classified and
+ * scattered into their buckets, and buckets are then sorted independently.
+ * Scattering requires a scratch buffer as large as the sorted range.
+ * <p>
+ * When indices are requested for arrays of primitive values, the range is
+ * instead split into chunks that are sorted concurrently along with their
+ * indices, and the resulting runs are merged in parallel, which avoids the
+ * initial sequential partitioning step and scales better with the number of
+ * cores. Merging requires scratch buffers as large as the sorted range.
+ *
+ * @param <T> Type of instances being sorted.
+ */
+@SuppressWarnings("Duplicates")
+public class ParallelQuicksortSorter<T> extends QuicksortSorter<T> {
+
+    /**
+     * Default size of ranges below or equal which sorting is done
+     * sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    /**
+     * Minimum allowed threshold.
+     */
+    public static final int MIN_THRESHOLD = 16;
+
+    /**
+     * Number of sampled elements per bucket when picking splitters for
+     * sample sort.
+     */
+    private static final int OVERSAMPLING = 32;
+
+    /**
+     * Number of sample sort buckets per thread of the pool, so that threads
+     * finishing their buckets early can take remaining ones.
+     */
+    private static final int BUCKETS_PER_THREAD = 4;
+
+    /**
+     * Maximum number of sample sort buckets, so that the bucket of each
+     * element fits in a byte.
+     */
+    private static final int MAX_BUCKETS = 256;
+
+    /**
+     * Size of ranges below or equal which sorting is done sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Pool where sorting tasks are executed.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Pool of workspaces borrowed by tasks sorting ranges sequentially, so
+     * that concurrent tasks reuse their stacks among calls.
+     */
+    private final SortingWorkspacePool workspaces;
+
+    /**
+     * Constructor using default threshold and common pool.
+     */
+    public ParallelQuicksortSorter() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor using common pool.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD}.
+     */
+    public ParallelQuicksortSorter(final int threshold) {
+        this(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @param pool      pool where sorting tasks are executed.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD} or pool is null.
+     */
+    public ParallelQuicksortSorter(final int threshold, final ForkJoinPool pool) {
+        if (threshold < MIN_THRESHOLD || pool == null) {
+            throw new IllegalArgumentException();
+        }
+        this.threshold = threshold;
+        this.pool = pool;
+        workspaces = new SortingWorkspacePool(pool.getParallelism(),
+                SortingWorkspacePool.DEFAULT_MAX_RETAINED_LENGTH, SortingWorkspacePool.DEFAULT_KEEP_ALIVE_MILLIS);
+    }
+
+    /**
+     * Gets size of ranges below or equal which sorting is done sequentially.
+     *
+     * @return size of ranges below or equal which sorting is done sequentially.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets pool where sorting tasks are executed.
+     *
+     * @return pool where sorting tasks are executed.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator)
+            throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            super.sort(array, fromIndex, toIndex, comparator);
+        } else {
+            invoke(new ComparatorSortTask(array, null, fromIndex, toIndex - 1, comparator));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        if (toIndex - fromIndex <= threshold) {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, comparator, new SortingWorkspace());
+        } else {
+            invoke(new ComparatorSortTask(array, indices, fromIndex, toIndex - 1, comparator));
+        }
+        return indices;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            super.sort(array, fromIndex, toIndex);
+        } else {
+            invoke(new DoubleSampleSortTask(array, fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            invoke(new DoubleMergeSortTask(array, indices, new double[n], new int[n], fromIndex, fromIndex, toIndex,
+                    false));
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            super.sort(array, fromIndex, toIndex);
+        } else {
+            invoke(new FloatSampleSortTask(array, fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            invoke(new FloatMergeSortTask(array, indices, new float[n], new int[n], fromIndex, fromIndex, toIndex,
+                    false));
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            super.sort(array, fromIndex, toIndex);
+        } else {
+            invoke(new IntSampleSortTask(array, fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            invoke(new IntMergeSortTask(array, indices, new int[n], new int[n], fromIndex, fromIndex, toIndex,
+                    false));
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            super.sort(array, fromIndex, toIndex);
+        } else {
+            invoke(new LongSampleSortTask(array, fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        final var n = toIndex - fromIndex;
+        if (n <= threshold) {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            invoke(new LongMergeSortTask(array, indices, new long[n], new int[n], fromIndex, fromIndex, toIndex,
+                    false));
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, comparator, workspace);
+        } else {
+            sort(array, fromIndex, toIndex, comparator);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator,
+                                        final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex, comparator);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently by tasks borrowing their workspaces from a pool owned by
+     * this sorter.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Executes provided task in the pool of this sorter and waits for its
+     * completion.
+     *
+     * @param task task to be executed.
+     * @throws SortingException if sorting of any range fails.
+     */
+    private void invoke(final RecursiveAction task) throws SortingException {
+        try {
+            pool.invoke(task);
+        } catch (final CompletionException e) {
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof SortingException)) {
+                cause = cause.getCause();
+            }
+            if (cause != null) {
+                throw (SortingException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets number of blocks and buckets used to sample sort a range.
+     *
+     * @param n length of range.
+     * @return number of blocks and buckets.
+     */
+    private int getNumBuckets(final int n) {
+        final var numBuckets = Math.min(BUCKETS_PER_THREAD * pool.getParallelism(), n / threshold);
+        return Math.max(2, Math.min(MAX_BUCKETS, numBuckets));
+    }
+
+    /**
+     * Converts counts of elements of each bucket in each block into the
+     * positions where each block must write its first element of each bucket.
+     *
+     * @param counts     counts of elements of each bucket in each block. They
+     *                   are replaced by positions of each bucket in each block.
+     * @param numBuckets number of buckets.
+     * @return positions where each bucket starts, followed by the total number
+     * of elements.
+     */
+    private static int[] getBucketStarts(final int[][] counts, final int numBuckets) {
+        final var bucketStarts = new int[numBuckets + 1];
+        var position = 0;
+        for (int bucket = 0; bucket < numBuckets; bucket++) {
+            bucketStarts[bucket] = position;
+            for (final var blockCounts : counts) {
+                final var count = blockCounts[bucket];
+                blockCounts[bucket] = position;
+                position += count;
+            }
+        }
+        bucketStarts[numBuckets] = position;
+        return bucketStarts;
+    }
+
+    /**
+     * Swaps values in array and, if provided, in array of indices at
+     * locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array of indices where values are swapped or null.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final T[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        if (indices != null) {
+            swapIndices(indices, posA, posB);
+        }
+    }
+
+    /**
+     * Swaps values in array of indices at locations posA and posB.
+     *
+     * @param indices array containing indices to be swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swapIndices(final int[] indices, final int posA, final int posB) {
+        final var value = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = value;
+    }
+
+    /**
+     * Partitions provided range using the median of left, center and right
+     * elements as partitioning element, so that elements before its final
+     * position are lower or equal and elements after it are greater or equal.
+     * Indices are reordered along with array, if provided.
+     *
+     * @param array      array being sorted.
+     * @param indices    indices to be reordered along with array or null.
+     * @param l          position of first element of the range (inclusive).
+     * @param ir         position of last element of the range (inclusive).
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     * @return final position of partitioning element.
+     */
+    private int partition(final T[] array, final int[] indices, final int l, final int ir,
+                          final Comparator<T> comparator) {
+        // Choose median of left, center, and right elements as
+        // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+        // <= a(ir)
+        final var k = (l + ir) >>> 1;
+        swap(array, indices, k, l + 1);
+        if (comparator.compare(array[l], array[ir]) > 0) {
+            swap(array, indices, l, ir);
+        }
+        if (comparator.compare(array[l + 1], array[ir]) > 0) {
+            swap(array, indices, l + 1, ir);
+        }
+        if (comparator.compare(array[l], array[l + 1]) > 0) {
+            swap(array, indices, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array[l + 1];
+        for (; ; ) {
+            do {
+                i++;
+            } while (comparator.compare(array[i], a) < 0);
+            do {
+                j--;
+            } while (comparator.compare(array[j], a) > 0);
+            if (j < i) {
+                break;
+            }
+            swap(array, indices, i, j);
+        }
+        // Insert partitioning element
+        array[l + 1] = array[j];
+        array[j] = a;
+        if (indices != null) {
+            swapIndices(indices, l + 1, j);
+        }
+        return j;
+    }
+
+    /**
+     * Partitions provided range using the median of left, center and right
+     * elements as partitioning element, so that elements before its final
+     * position are lower or equal and elements after it are greater or equal.
+     *
+     * @param array array being sorted.
+     * @param l     position of first element of the range (inclusive).
+     * @param ir    position of last element of the range (inclusive).
+     * @return final position of partitioning element.
+     */
+    private int partition(final double[] array, final int l, final int ir) {
+        // Choose median of left, center, and right elements as
+        // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+        // <= a(ir)
+        final var k = (l + ir) >>> 1;
+        swap(array, k, l + 1);
+        if (array[l] > array[ir]) {
+            swap(array, l, ir);
+        }
+        if (array[l + 1] > array[ir]) {
+            swap(array, l + 1, ir);
+        }
+        if (array[l] > array[l + 1]) {
+            swap(array, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array[l + 1];
+        for (; ; ) {
+            do {
+                i++;
+            } while (array[i] < a);
+            do {
+                j--;
+            } while (array[j] > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, i, j);
+        }
+        // Insert partitioning element
+        array[l + 1] = array[j];
+        array[j] = a;
+        return j;
+    }
+
+    /**
+     * Partitions provided range using the median of left, center and right
+     * elements as partitioning element, so that elements before its final
+     * position are lower or equal and elements after it are greater or equal.
+     *
+     * @param array array being sorted.
+     * @param l     position of first element of the range (inclusive).
+     * @param ir    position of last element of the range (inclusive).
+     * @return final position of partitioning element.
+     */
+    private int partition(final float[] array, final int l, final int ir) {
+        // Choose median of left, center, and right elements as
+        // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+        // <= a(ir)
+        final var k = (l + ir) >>> 1;
+        swap(array, k, l + 1);
+        if (array[l] > array[ir]) {
+            swap(array, l, ir);
+        }
+        if (array[l + 1] > array[ir]) {
+            swap(array, l + 1, ir);
+        }
+        if (array[l] > array[l + 1]) {
+            swap(array, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array[l + 1];
+        for (; ; ) {
+            do {
+                i++;
+            } while (array[i] < a);
+            do {
+                j--;
+            } while (array[j] > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, i, j);
+        }
+        // Insert partitioning element
+        array[l + 1] = array[j];
+        array[j] = a;
+        return j;
+    }
+
+    /**
+     * Partitions provided range using the median of left, center and right
+     * elements as partitioning element, so that elements before its final
+     * position are lower or equal and elements after it are greater or equal.
+     *
+     * @param array array being sorted.
+     * @param l     position of first element of the range (inclusive).
+     * @param ir    position of last element of the range (inclusive).
+     * @return final position of partitioning element.
+     */
+    private int partition(final int[] array, final int l, final int ir) {
+        // Choose median of left, center, and right elements as
+        // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+        // <= a(ir)
+        final var k = (l + ir) >>> 1;
+        swap(array, k, l + 1);
+        if (array[l] > array[ir]) {
+            swap(array, l, ir);
+        }
+        if (array[l + 1] > array[ir]) {
+            swap(array, l + 1, ir);
+        }
+        if (array[l] > array[l + 1]) {
+            swap(array, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array[l + 1];
+        for (; ; ) {
+            do {
+                i++;
+            } while (array[i] < a);
+            do {
+                j--;
+            } while (array[j] > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, i, j);
+        }
+        // Insert partitioning element
+        array[l + 1] = array[j];
+        array[j] = a;
+        return j;
+    }
+
+    /**
+     * Partitions provided range using the median of left, center and right
+     * elements as partitioning element, so that elements before its final
+     * position are lower or equal and elements after it are greater or equal.
+     *
+     * @param array array being sorted.
+     * @param l     position of first element of the range (inclusive).
+     * @param ir    position of last element of the range (inclusive).
+     * @return final position of partitioning element.
+     */
+    private int partition(final long[] array, final int l, final int ir) {
+        // Choose median of left, center, and right elements as
+        // partitioning element "a". Also rearrange so that a(l) <= a(l+1)
+        // <= a(ir)
+        final var k = (l + ir) >>> 1;
+        swap(array, k, l + 1);
+        if (array[l] > array[ir]) {
+            swap(array, l, ir);
+        }
+        if (array[l + 1] > array[ir]) {
+            swap(array, l + 1, ir);
+        }
+        if (array[l] > array[l + 1]) {
+            swap(array, l, l + 1);
+        }
+        var i = l + 1;
+        var j = ir;
+        final var a = array[l + 1];
+        for (; ; ) {
+            do {
+                i++;
+            } while (array[i] < a);
+            do {
+                j--;
+            } while (array[j] > a);
+            if (j < i) {
+                break;
+            }
+            swap(array, i, j);
+        }
+        // Insert partitioning element
+        array[l + 1] = array[j];
+        array[j] = a;
+        return j;
+    }
+
+    /**
+     * Base task sorting a range of an array by partitioning it while it is
+     * larger than the threshold, forking the smaller subarray and processing
+     * the larger one in this task. Subclasses provide partitioning and
+     * sequential sorting for each type of array, while forking, joining and
+     * borrowing workspaces to sort small ranges is shared.
+     */
+    @SuppressWarnings("serial")
+    private abstract class SortTask extends RecursiveAction {
+
+        /**
+         * Position of first element of the range (inclusive).
+         */
+        private final int lo;
+
+        /**
+         * Position of last element of the range (inclusive).
+         */
+        private final int hi;
+
+        /**
+         * Next forked task to be joined.
+         */
+        private SortTask next;
+
+        /**
+         * Constructor.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         */
+        SortTask(final int lo, final int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        abstract int partition(final int l, final int ir);
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        abstract SortTask newTask(final int lo, final int hi);
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        abstract void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException;
+
+        /**
+         * Partitions the range while it is larger than the threshold, forking
+         * the smaller subarray and processing the larger one in this task.
+         */
+        @Override
+        protected void compute() {
+            var l = lo;
+            var ir = hi;
+            SortTask pending = null;
+            while (ir - l + 1 > threshold) {
+                final var j = partition(l, ir);
+
+                final SortTask task;
+                if (ir - j >= j - l) {
+                    task = newTask(l, j - 1);
+                    l = j + 1;
+                } else {
+                    task = newTask(j + 1, ir);
+                    ir = j - 1;
+                }
+                task.next = pending;
+                pending = task;
+                task.fork();
+            }
+
+            final var workspace = workspaces.acquire();
+            try {
+                sortSequentially(l, ir + 1, workspace);
+            } catch (final SortingException e) {
+                throw new CompletionException(e);
+            } finally {
+                workspaces.release(workspace);
+            }
+
+            while (pending != null) {
+                pending.join();
+                pending = pending.next;
+            }
+        }
+    }
+
+    /**
+     * Task sorting a range of an array using a comparator, and optionally its
+     * indices.
+     */
+    @SuppressWarnings("serial")
+    private final class ComparatorSortTask extends SortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final T[] array;
+
+        /**
+         * Indices to be reordered along with array or null if not needed.
+         */
+        private final int[] indices;
+
+        /**
+         * Determines whether an element is greater or lower than another one.
+         */
+        private final Comparator<T> comparator;
+
+        /**
+         * Constructor.
+         *
+         * @param array      array being sorted.
+         * @param indices    indices to be reordered along with array or null.
+         * @param lo         position of first element of the range (inclusive).
+         * @param hi         position of last element of the range (inclusive).
+         * @param comparator determines whether an element is greater or lower
+         *                   than another one.
+         */
+        ComparatorSortTask(final T[] array, final int[] indices, final int lo, final int hi,
+                           final Comparator<T> comparator) {
+            super(lo, hi);
+            this.array = array;
+            this.indices = indices;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        @Override
+        int partition(final int l, final int ir) {
+            return ParallelQuicksortSorter.this.partition(array, indices, l, ir, comparator);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newTask(final int lo, final int hi) {
+            return new ComparatorSortTask(array, indices, lo, hi, comparator);
+        }
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            if (indices != null) {
+                quicksortWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+            } else {
+                quicksort(array, fromIndex, toIndex, comparator, workspace);
+            }
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of doubles.
+     */
+    @SuppressWarnings("serial")
+    private final class DoubleSortTask extends SortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final double[] array;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (inclusive).
+         */
+        DoubleSortTask(final double[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        @Override
+        int partition(final int l, final int ir) {
+            return ParallelQuicksortSorter.this.partition(array, l, ir);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newTask(final int lo, final int hi) {
+            return new DoubleSortTask(array, lo, hi);
+        }
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksort(array, fromIndex, toIndex, workspace);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of floats.
+     */
+    @SuppressWarnings("serial")
+    private final class FloatSortTask extends SortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final float[] array;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (inclusive).
+         */
+        FloatSortTask(final float[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        @Override
+        int partition(final int l, final int ir) {
+            return ParallelQuicksortSorter.this.partition(array, l, ir);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newTask(final int lo, final int hi) {
+            return new FloatSortTask(array, lo, hi);
+        }
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksort(array, fromIndex, toIndex, workspace);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of integers.
+     */
+    @SuppressWarnings("serial")
+    private final class IntSortTask extends SortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final int[] array;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (inclusive).
+         */
+        IntSortTask(final int[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        @Override
+        int partition(final int l, final int ir) {
+            return ParallelQuicksortSorter.this.partition(array, l, ir);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newTask(final int lo, final int hi) {
+            return new IntSortTask(array, lo, hi);
+        }
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksort(array, fromIndex, toIndex, workspace);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of longs.
+     */
+    @SuppressWarnings("serial")
+    private final class LongSortTask extends SortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final long[] array;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (inclusive).
+         */
+        LongSortTask(final long[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Partitions provided range.
+         *
+         * @param l  position of first element of the range (inclusive).
+         * @param ir position of last element of the range (inclusive).
+         * @return final position of partitioning element.
+         */
+        @Override
+        int partition(final int l, final int ir) {
+            return ParallelQuicksortSorter.this.partition(array, l, ir);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newTask(final int lo, final int hi) {
+            return new LongSortTask(array, lo, hi);
+        }
+
+        /**
+         * Sorts provided range sequentially.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksort(array, fromIndex, toIndex, workspace);
+        }
+    }
+
+    /**
+     * Base task sorting a range of an array using sample sort.
+     * Splitters are picked from a sorted random sample, elements are
+     * scattered into their buckets and buckets are sorted concurrently.
+     * Subclasses provide sampling, classification and scattering for each
+     * type of array, while splitting the range into blocks and buckets is
+     * shared.
+     */
+    @SuppressWarnings("serial")
+    private abstract class SampleSortTask extends RecursiveAction {
+
+        /**
+         * Position of first element of the range (inclusive).
+         */
+        private final int lo;
+
+        /**
+         * Position of last element of the range (exclusive).
+         */
+        private final int hi;
+
+        /**
+         * Constructor.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (exclusive).
+         */
+        SampleSortTask(final int lo, final int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        /**
+         * Takes a random sample having up to {@link #OVERSAMPLING} elements
+         * per bucket, sorts it and keeps distinct splitters evenly spaced in
+         * it. A scratch buffer as large as the range is allocated when any
+         * splitter is found.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param numBlocks number of blocks, which is the maximum number of
+         *                  buckets.
+         * @param workspace workspace providing the sample and internal stacks.
+         * @return number of distinct splitters.
+         * @throws SortingException if sorting the sample fails.
+         */
+        abstract int pickSplitters(final int fromIndex, final int toIndex, final int numBlocks,
+                                   final SortingWorkspace workspace) throws SortingException;
+
+        /**
+         * Finds the bucket of each element of provided block and counts the
+         * elements of each bucket.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   array where the bucket of each element of the block
+         *                  is stored.
+         * @param counts    array where elements of each bucket are counted.
+         */
+        abstract void classify(final int fromIndex, final int toIndex, final byte[] buckets, final int[] counts);
+
+        /**
+         * Scatters elements of provided block into the scratch buffer.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   bucket of each element of the block.
+         * @param positions positions of the scratch buffer where next element
+         *                  of each bucket is written. They are advanced as
+         *                  elements are written.
+         */
+        abstract void scatter(final int fromIndex, final int toIndex, final byte[] buckets, final int[] positions);
+
+        /**
+         * Copies elements from the scratch buffer back to array.
+         *
+         * @param srcPos  starting position in the scratch buffer.
+         * @param destPos starting position in array.
+         * @param length  number of elements to be copied.
+         */
+        abstract void copyBack(final int srcPos, final int destPos, final int length);
+
+        /**
+         * Creates a task sorting a range of the same array by partitioning it.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        abstract SortTask newSortTask(final int lo, final int hi);
+
+        /**
+         * Picks splitters from a sorted random sample, scatters elements into
+         * their buckets and sorts buckets concurrently.
+         */
+        @Override
+        protected void compute() {
+            final var n = hi - lo;
+            final var numBlocks = getNumBuckets(n);
+
+            final int numSplitters;
+            final var workspace = workspaces.acquire();
+            try {
+                numSplitters = pickSplitters(lo, hi, numBlocks, workspace);
+            } catch (final SortingException e) {
+                throw new CompletionException(e);
+            } finally {
+                workspaces.release(workspace);
+            }
+            if (numSplitters == 0) {
+                // sample contains a single value, which is best handled by
+                // partitioning
+                newSortTask(lo, hi - 1).invoke();
+                return;
+            }
+            final var numBuckets = numSplitters + 1;
+
+            // classify elements of each block, keeping the bucket of each
+            // element so that it is not searched again when scattering
+            final var buckets = new byte[numBlocks][];
+            final var counts = new int[numBlocks][numBuckets];
+            new ForEachTask(0, numBlocks, block -> {
+                final var start = lo + (int) ((long) block * n / numBlocks);
+                final var end = lo + (int) ((long) (block + 1) * n / numBlocks);
+                buckets[block] = new byte[end - start];
+                classify(start, end, buckets[block], counts[block]);
+            }).invoke();
+
+            // convert counts into positions where each block writes each
+            // bucket
+            final var bucketStarts = getBucketStarts(counts, numBuckets);
+
+            // scatter elements into scratch buffer
+            new ForEachTask(0, numBlocks, block -> {
+                final var start = lo + (int) ((long) block * n / numBlocks);
+                final var end = lo + (int) ((long) (block + 1) * n / numBlocks);
+                scatter(start, end, buckets[block], counts[block]);
+            }).invoke();
+
+            // copy buckets back and sort them independently
+            new ForEachTask(0, numBuckets, bucket -> {
+                final var start = bucketStarts[bucket];
+                final var end = bucketStarts[bucket + 1];
+                copyBack(start, lo + start, end - start);
+                newSortTask(lo + start, lo + end - 1).invoke();
+            }).invoke();
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of doubles using sample sort.
+     */
+    @SuppressWarnings("serial")
+    private final class DoubleSampleSortTask extends SampleSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final double[] array;
+
+        /**
+         * Distinct splitters in ascending order.
+         */
+        private double[] splitters;
+
+        /**
+         * Number of distinct splitters.
+         */
+        private int numSplitters;
+
+        /**
+         * Scratch buffer where elements are scattered.
+         */
+        private double[] scratch;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (exclusive).
+         */
+        DoubleSampleSortTask(final double[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Takes a random sample having up to {@link #OVERSAMPLING} elements
+         * per bucket, sorts it and keeps distinct splitters evenly spaced in
+         * it. A scratch buffer as large as the range is allocated when any
+         * splitter is found.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param numBlocks number of blocks, which is the maximum number of
+         *                  buckets.
+         * @param workspace workspace providing the sample and internal stacks.
+         * @return number of distinct splitters.
+         * @throws SortingException if sorting the sample fails.
+         */
+        @Override
+        int pickSplitters(final int fromIndex, final int toIndex, final int numBlocks,
+                          final SortingWorkspace workspace) throws SortingException {
+            // draw one element from each evenly sized stratum of the range
+            final var n = toIndex - fromIndex;
+            final var sampleLength = Math.min(n, numBlocks * OVERSAMPLING);
+            final var sample = workspace.getDoubles(sampleLength);
+            final var random = ThreadLocalRandom.current();
+            for (int i = 0; i < sampleLength; i++) {
+                final var start = fromIndex + (int) ((long) i * n / sampleLength);
+                final var end = fromIndex + (int) ((long) (i + 1) * n / sampleLength);
+                sample[i] = array[random.nextInt(start, end)];
+            }
+            quicksort(sample, 0, sampleLength, workspace);
+
+            splitters = new double[numBlocks - 1];
+            var count = 0;
+            for (int i = 1; i < numBlocks; i++) {
+                final var value = sample[i * sampleLength / numBlocks];
+                if (count == 0 || splitters[count - 1] < value) {
+                    splitters[count++] = value;
+                }
+            }
+            numSplitters = count;
+            if (count > 0) {
+                scratch = new double[n];
+            }
+            return count;
+        }
+
+        /**
+         * Finds the bucket of each element of provided block and counts the
+         * elements of each bucket.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   array where the bucket of each element of the block
+         *                  is stored.
+         * @param counts    array where elements of each bucket are counted.
+         */
+        @Override
+        void classify(final int fromIndex, final int toIndex, final byte[] buckets, final int[] counts) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                final var value = array[i];
+                var l = 0;
+                var h = numSplitters;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (value < splitters[m]) {
+                        h = m;
+                    } else {
+                        l = m + 1;
+                    }
+                }
+                buckets[i - fromIndex] = (byte) l;
+                counts[l]++;
+            }
+        }
+
+        /**
+         * Scatters elements of provided block into the scratch buffer.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   bucket of each element of the block.
+         * @param positions positions of the scratch buffer where next element
+         *                  of each bucket is written. They are advanced as
+         *                  elements are written.
+         */
+        @Override
+        void scatter(final int fromIndex, final int toIndex, final byte[] buckets, final int[] positions) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                scratch[positions[buckets[i - fromIndex] & 0xFF]++] = array[i];
+            }
+        }
+
+        /**
+         * Copies elements from the scratch buffer back to array.
+         *
+         * @param srcPos  starting position in the scratch buffer.
+         * @param destPos starting position in array.
+         * @param length  number of elements to be copied.
+         */
+        @Override
+        void copyBack(final int srcPos, final int destPos, final int length) {
+            System.arraycopy(scratch, srcPos, array, destPos, length);
+        }
+
+        /**
+         * Creates a task sorting a range of the same array by partitioning it.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newSortTask(final int lo, final int hi) {
+            return new DoubleSortTask(array, lo, hi);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of floats using sample sort.
+     */
+    @SuppressWarnings("serial")
+    private final class FloatSampleSortTask extends SampleSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final float[] array;
+
+        /**
+         * Distinct splitters in ascending order.
+         */
+        private float[] splitters;
+
+        /**
+         * Number of distinct splitters.
+         */
+        private int numSplitters;
+
+        /**
+         * Scratch buffer where elements are scattered.
+         */
+        private float[] scratch;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (exclusive).
+         */
+        FloatSampleSortTask(final float[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Takes a random sample having up to {@link #OVERSAMPLING} elements
+         * per bucket, sorts it and keeps distinct splitters evenly spaced in
+         * it. A scratch buffer as large as the range is allocated when any
+         * splitter is found.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param numBlocks number of blocks, which is the maximum number of
+         *                  buckets.
+         * @param workspace workspace providing the sample and internal stacks.
+         * @return number of distinct splitters.
+         * @throws SortingException if sorting the sample fails.
+         */
+        @Override
+        int pickSplitters(final int fromIndex, final int toIndex, final int numBlocks,
+                          final SortingWorkspace workspace) throws SortingException {
+            // draw one element from each evenly sized stratum of the range
+            final var n = toIndex - fromIndex;
+            final var sampleLength = Math.min(n, numBlocks * OVERSAMPLING);
+            final var sample = workspace.getFloats(sampleLength);
+            final var random = ThreadLocalRandom.current();
+            for (int i = 0; i < sampleLength; i++) {
+                final var start = fromIndex + (int) ((long) i * n / sampleLength);
+                final var end = fromIndex + (int) ((long) (i + 1) * n / sampleLength);
+                sample[i] = array[random.nextInt(start, end)];
+            }
+            quicksort(sample, 0, sampleLength, workspace);
+
+            splitters = new float[numBlocks - 1];
+            var count = 0;
+            for (int i = 1; i < numBlocks; i++) {
+                final var value = sample[i * sampleLength / numBlocks];
+                if (count == 0 || splitters[count - 1] < value) {
+                    splitters[count++] = value;
+                }
+            }
+            numSplitters = count;
+            if (count > 0) {
+                scratch = new float[n];
+            }
+            return count;
+        }
+
+        /**
+         * Finds the bucket of each element of provided block and counts the
+         * elements of each bucket.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   array where the bucket of each element of the block
+         *                  is stored.
+         * @param counts    array where elements of each bucket are counted.
+         */
+        @Override
+        void classify(final int fromIndex, final int toIndex, final byte[] buckets, final int[] counts) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                final var value = array[i];
+                var l = 0;
+                var h = numSplitters;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (value < splitters[m]) {
+                        h = m;
+                    } else {
+                        l = m + 1;
+                    }
+                }
+                buckets[i - fromIndex] = (byte) l;
+                counts[l]++;
+            }
+        }
+
+        /**
+         * Scatters elements of provided block into the scratch buffer.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   bucket of each element of the block.
+         * @param positions positions of the scratch buffer where next element
+         *                  of each bucket is written. They are advanced as
+         *                  elements are written.
+         */
+        @Override
+        void scatter(final int fromIndex, final int toIndex, final byte[] buckets, final int[] positions) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                scratch[positions[buckets[i - fromIndex] & 0xFF]++] = array[i];
+            }
+        }
+
+        /**
+         * Copies elements from the scratch buffer back to array.
+         *
+         * @param srcPos  starting position in the scratch buffer.
+         * @param destPos starting position in array.
+         * @param length  number of elements to be copied.
+         */
+        @Override
+        void copyBack(final int srcPos, final int destPos, final int length) {
+            System.arraycopy(scratch, srcPos, array, destPos, length);
+        }
+
+        /**
+         * Creates a task sorting a range of the same array by partitioning it.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newSortTask(final int lo, final int hi) {
+            return new FloatSortTask(array, lo, hi);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of integers using sample sort.
+     */
+    @SuppressWarnings("serial")
+    private final class IntSampleSortTask extends SampleSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final int[] array;
+
+        /**
+         * Distinct splitters in ascending order.
+         */
+        private int[] splitters;
+
+        /**
+         * Number of distinct splitters.
+         */
+        private int numSplitters;
+
+        /**
+         * Scratch buffer where elements are scattered.
+         */
+        private int[] scratch;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (exclusive).
+         */
+        IntSampleSortTask(final int[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Takes a random sample having up to {@link #OVERSAMPLING} elements
+         * per bucket, sorts it and keeps distinct splitters evenly spaced in
+         * it. A scratch buffer as large as the range is allocated when any
+         * splitter is found.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param numBlocks number of blocks, which is the maximum number of
+         *                  buckets.
+         * @param workspace workspace providing the sample and internal stacks.
+         * @return number of distinct splitters.
+         * @throws SortingException if sorting the sample fails.
+         */
+        @Override
+        int pickSplitters(final int fromIndex, final int toIndex, final int numBlocks,
+                          final SortingWorkspace workspace) throws SortingException {
+            // draw one element from each evenly sized stratum of the range
+            final var n = toIndex - fromIndex;
+            final var sampleLength = Math.min(n, numBlocks * OVERSAMPLING);
+            final var sample = workspace.getInts(SortingWorkspace.INTS, sampleLength);
+            final var random = ThreadLocalRandom.current();
+            for (int i = 0; i < sampleLength; i++) {
+                final var start = fromIndex + (int) ((long) i * n / sampleLength);
+                final var end = fromIndex + (int) ((long) (i + 1) * n / sampleLength);
+                sample[i] = array[random.nextInt(start, end)];
+            }
+            quicksort(sample, 0, sampleLength, workspace);
+
+            splitters = new int[numBlocks - 1];
+            var count = 0;
+            for (int i = 1; i < numBlocks; i++) {
+                final var value = sample[i * sampleLength / numBlocks];
+                if (count == 0 || splitters[count - 1] < value) {
+                    splitters[count++] = value;
+                }
+            }
+            numSplitters = count;
+            if (count > 0) {
+                scratch = new int[n];
+            }
+            return count;
+        }
+
+        /**
+         * Finds the bucket of each element of provided block and counts the
+         * elements of each bucket.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   array where the bucket of each element of the block
+         *                  is stored.
+         * @param counts    array where elements of each bucket are counted.
+         */
+        @Override
+        void classify(final int fromIndex, final int toIndex, final byte[] buckets, final int[] counts) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                final var value = array[i];
+                var l = 0;
+                var h = numSplitters;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (value < splitters[m]) {
+                        h = m;
+                    } else {
+                        l = m + 1;
+                    }
+                }
+                buckets[i - fromIndex] = (byte) l;
+                counts[l]++;
+            }
+        }
+
+        /**
+         * Scatters elements of provided block into the scratch buffer.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   bucket of each element of the block.
+         * @param positions positions of the scratch buffer where next element
+         *                  of each bucket is written. They are advanced as
+         *                  elements are written.
+         */
+        @Override
+        void scatter(final int fromIndex, final int toIndex, final byte[] buckets, final int[] positions) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                scratch[positions[buckets[i - fromIndex] & 0xFF]++] = array[i];
+            }
+        }
+
+        /**
+         * Copies elements from the scratch buffer back to array.
+         *
+         * @param srcPos  starting position in the scratch buffer.
+         * @param destPos starting position in array.
+         * @param length  number of elements to be copied.
+         */
+        @Override
+        void copyBack(final int srcPos, final int destPos, final int length) {
+            System.arraycopy(scratch, srcPos, array, destPos, length);
+        }
+
+        /**
+         * Creates a task sorting a range of the same array by partitioning it.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newSortTask(final int lo, final int hi) {
+            return new IntSortTask(array, lo, hi);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of longs using sample sort.
+     */
+    @SuppressWarnings("serial")
+    private final class LongSampleSortTask extends SampleSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final long[] array;
+
+        /**
+         * Distinct splitters in ascending order.
+         */
+        private long[] splitters;
+
+        /**
+         * Number of distinct splitters.
+         */
+        private int numSplitters;
+
+        /**
+         * Scratch buffer where elements are scattered.
+         */
+        private long[] scratch;
+
+        /**
+         * Constructor.
+         *
+         * @param array array being sorted.
+         * @param lo    position of first element of the range (inclusive).
+         * @param hi    position of last element of the range (exclusive).
+         */
+        LongSampleSortTask(final long[] array, final int lo, final int hi) {
+            super(lo, hi);
+            this.array = array;
+        }
+
+        /**
+         * Takes a random sample having up to {@link #OVERSAMPLING} elements
+         * per bucket, sorts it and keeps distinct splitters evenly spaced in
+         * it. A scratch buffer as large as the range is allocated when any
+         * splitter is found.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param numBlocks number of blocks, which is the maximum number of
+         *                  buckets.
+         * @param workspace workspace providing the sample and internal stacks.
+         * @return number of distinct splitters.
+         * @throws SortingException if sorting the sample fails.
+         */
+        @Override
+        int pickSplitters(final int fromIndex, final int toIndex, final int numBlocks,
+                          final SortingWorkspace workspace) throws SortingException {
+            // draw one element from each evenly sized stratum of the range
+            final var n = toIndex - fromIndex;
+            final var sampleLength = Math.min(n, numBlocks * OVERSAMPLING);
+            final var sample = workspace.getLongs(sampleLength);
+            final var random = ThreadLocalRandom.current();
+            for (int i = 0; i < sampleLength; i++) {
+                final var start = fromIndex + (int) ((long) i * n / sampleLength);
+                final var end = fromIndex + (int) ((long) (i + 1) * n / sampleLength);
+                sample[i] = array[random.nextInt(start, end)];
+            }
+            quicksort(sample, 0, sampleLength, workspace);
+
+            splitters = new long[numBlocks - 1];
+            var count = 0;
+            for (int i = 1; i < numBlocks; i++) {
+                final var value = sample[i * sampleLength / numBlocks];
+                if (count == 0 || splitters[count - 1] < value) {
+                    splitters[count++] = value;
+                }
+            }
+            numSplitters = count;
+            if (count > 0) {
+                scratch = new long[n];
+            }
+            return count;
+        }
+
+        /**
+         * Finds the bucket of each element of provided block and counts the
+         * elements of each bucket.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   array where the bucket of each element of the block
+         *                  is stored.
+         * @param counts    array where elements of each bucket are counted.
+         */
+        @Override
+        void classify(final int fromIndex, final int toIndex, final byte[] buckets, final int[] counts) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                final var value = array[i];
+                var l = 0;
+                var h = numSplitters;
+                while (l < h) {
+                    final var m = (l + h) >>> 1;
+                    if (value < splitters[m]) {
+                        h = m;
+                    } else {
+                        l = m + 1;
+                    }
+                }
+                buckets[i - fromIndex] = (byte) l;
+                counts[l]++;
+            }
+        }
+
+        /**
+         * Scatters elements of provided block into the scratch buffer.
+         *
+         * @param fromIndex position of first element of the block (inclusive).
+         * @param toIndex   position of last element of the block (exclusive).
+         * @param buckets   bucket of each element of the block.
+         * @param positions positions of the scratch buffer where next element
+         *                  of each bucket is written. They are advanced as
+         *                  elements are written.
+         */
+        @Override
+        void scatter(final int fromIndex, final int toIndex, final byte[] buckets, final int[] positions) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                scratch[positions[buckets[i - fromIndex] & 0xFF]++] = array[i];
+            }
+        }
+
+        /**
+         * Copies elements from the scratch buffer back to array.
+         *
+         * @param srcPos  starting position in the scratch buffer.
+         * @param destPos starting position in array.
+         * @param length  number of elements to be copied.
+         */
+        @Override
+        void copyBack(final int srcPos, final int destPos, final int length) {
+            System.arraycopy(scratch, srcPos, array, destPos, length);
+        }
+
+        /**
+         * Creates a task sorting a range of the same array by partitioning it.
+         *
+         * @param lo position of first element of the range (inclusive).
+         * @param hi position of last element of the range (inclusive).
+         * @return a new task.
+         */
+        @Override
+        SortTask newSortTask(final int lo, final int hi) {
+            return new LongSortTask(array, lo, hi);
+        }
+    }
+
+    /**
+     * Base task sorting a range of an array along with its indices.
+     * Ranges larger than the threshold are split in two halves that are sorted
+     * concurrently into the opposite buffer, and then merged in parallel into
+     * the destination buffer. Subclasses provide sequential sorting, copying
+     * and merging for each type of array, while splitting and borrowing
+     * workspaces to sort small ranges is shared.
+     */
+    @SuppressWarnings("serial")
+    private abstract class MergeSortTask extends RecursiveAction {
+
+        /**
+         * Position of first element of the range (inclusive).
+         */
+        private final int lo;
+
+        /**
+         * Position of last element of the range (exclusive).
+         */
+        private final int hi;
+
+        /**
+         * Indicates whether sorted range must be left in scratch buffers
+         * instead of in array.
+         */
+        private final boolean toScratch;
+
+        /**
+         * Constructor.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         */
+        MergeSortTask(final int lo, final int hi, final boolean toScratch) {
+            this.lo = lo;
+            this.hi = hi;
+            this.toScratch = toScratch;
+        }
+
+        /**
+         * Sorts provided range of array sequentially along with its indices.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        abstract void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException;
+
+        /**
+         * Copies provided range of array and its indices into scratch buffers.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         */
+        abstract void copyToScratch(final int fromIndex, final int toIndex);
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         * @return a new task.
+         */
+        abstract MergeSortTask newTask(final int lo, final int hi, final boolean toScratch);
+
+        /**
+         * Creates a task merging two consecutive sorted runs.
+         *
+         * @param toScratch true if runs are merged from array into scratch
+         *                  buffers, false if they are merged from scratch
+         *                  buffers into array.
+         * @param lo        start of first run (inclusive).
+         * @param mid       end of first run and start of second one.
+         * @param hi        end of second run (exclusive).
+         * @return a new task.
+         */
+        abstract MergeTask newMergeTask(final boolean toScratch, final int lo, final int mid, final int hi);
+
+        /**
+         * Sorts the range.
+         */
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                final var workspace = workspaces.acquire();
+                try {
+                    sortSequentially(lo, hi, workspace);
+                } catch (final SortingException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    workspaces.release(workspace);
+                }
+                if (toScratch) {
+                    copyToScratch(lo, hi);
+                }
+                return;
+            }
+
+            final var mid = (lo + hi) >>> 1;
+            invokeAll(newTask(lo, mid, !toScratch), newTask(mid, hi, !toScratch));
+            newMergeTask(toScratch, lo, mid, hi).invoke();
+        }
+    }
+
+    /**
+     * Base task merging two consecutive sorted runs along with their indices
+     * into a destination buffer.
+     * Large merges are split by taking the middle element of the longest run
+     * and finding its position in the other run by binary search, so that
+     * both halves can be merged concurrently. Subclasses provide sequential
+     * merging and searching for each type of array.
+     */
+    @SuppressWarnings("serial")
+    private abstract class MergeTask extends RecursiveAction {
+
+        /**
+         * Start of first run (inclusive).
+         */
+        private final int aLo;
+
+        /**
+         * End of first run (exclusive).
+         */
+        private final int aHi;
+
+        /**
+         * Start of second run (inclusive).
+         */
+        private final int bLo;
+
+        /**
+         * End of second run (exclusive).
+         */
+        private final int bHi;
+
+        /**
+         * Position where merged runs are written.
+         */
+        private final int dLo;
+
+        /**
+         * Constructor.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        MergeTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.dLo = dLo;
+        }
+
+        /**
+         * Merges provided runs sequentially.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        abstract void merge(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo);
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * not lower than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element not lower than searched one, or hi
+         * if there is none.
+         */
+        abstract int lowerBound(final int pos, final int lo, final int hi);
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * greater than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element greater than searched one, or hi
+         * if there is none.
+         */
+        abstract int upperBound(final int pos, final int lo, final int hi);
+
+        /**
+         * Creates a task merging other runs of the same buffers.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         * @return a new task.
+         */
+        abstract MergeTask newTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo);
+
+        /**
+         * Merges both runs.
+         */
+        @Override
+        protected void compute() {
+            final var na = aHi - aLo;
+            final var nb = bHi - bLo;
+            if (na + nb <= threshold) {
+                merge(aLo, aHi, bLo, bHi, dLo);
+                return;
+            }
+
+            final int am;
+            final int bm;
+            if (na >= nb) {
+                am = (aLo + aHi) >>> 1;
+                bm = lowerBound(am, bLo, bHi);
+            } else {
+                bm = (bLo + bHi) >>> 1;
+                am = upperBound(bm, aLo, aHi);
+            }
+            final var dm = dLo + (am - aLo) + (bm - bLo);
+            invokeAll(newTask(aLo, am, bLo, bm, dLo), newTask(am, aHi, bm, bHi, dm));
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of doubles along with its indices.
+     */
+    @SuppressWarnings("serial")
+    private final class DoubleMergeSortTask extends MergeSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final double[] array;
+
+        /**
+         * Indices to be reordered along with array.
+         */
+        private final int[] indices;
+
+        /**
+         * Scratch buffer for values.
+         */
+        private final double[] scratch;
+
+        /**
+         * Scratch buffer for indices.
+         */
+        private final int[] scratchIndices;
+
+        /**
+         * Position in array corresponding to first position of scratch buffers.
+         */
+        private final int offset;
+
+        /**
+         * Constructor.
+         *
+         * @param array          array being sorted.
+         * @param indices        indices to be reordered along with array.
+         * @param scratch        scratch buffer for values.
+         * @param scratchIndices scratch buffer for indices.
+         * @param offset         position in array corresponding to first
+         *                       position of scratch buffers.
+         * @param lo             position of first element of the range (inclusive).
+         * @param hi             position of last element of the range (exclusive).
+         * @param toScratch      true if sorted range must be left in scratch
+         *                       buffers, false if it must be left in array.
+         */
+        DoubleMergeSortTask(final double[] array, final int[] indices, final double[] scratch,
+                            final int[] scratchIndices, final int offset, final int lo, final int hi,
+                            final boolean toScratch) {
+            super(lo, hi, toScratch);
+            this.array = array;
+            this.indices = indices;
+            this.scratch = scratch;
+            this.scratchIndices = scratchIndices;
+            this.offset = offset;
+        }
+
+        /**
+         * Sorts provided range of array sequentially along with its indices.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+        }
+
+        /**
+         * Copies provided range of array and its indices into scratch buffers.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         */
+        @Override
+        void copyToScratch(final int fromIndex, final int toIndex) {
+            System.arraycopy(array, fromIndex, scratch, fromIndex - offset, toIndex - fromIndex);
+            System.arraycopy(indices, fromIndex, scratchIndices, fromIndex - offset, toIndex - fromIndex);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         * @return a new task.
+         */
+        @Override
+        MergeSortTask newTask(final int lo, final int hi, final boolean toScratch) {
+            return new DoubleMergeSortTask(array, indices, scratch, scratchIndices, offset, lo, hi, toScratch);
+        }
+
+        /**
+         * Creates a task merging two consecutive sorted runs.
+         *
+         * @param toScratch true if runs are merged from array into scratch
+         *                  buffers, false if they are merged from scratch
+         *                  buffers into array.
+         * @param lo        start of first run (inclusive).
+         * @param mid       end of first run and start of second one.
+         * @param hi        end of second run (exclusive).
+         * @return a new task.
+         */
+        @Override
+        MergeTask newMergeTask(final boolean toScratch, final int lo, final int mid, final int hi) {
+            if (toScratch) {
+                return new DoubleMergeTask(array, indices, 0, scratch, scratchIndices, offset, lo, mid, mid, hi, lo);
+            } else {
+                return new DoubleMergeTask(scratch, scratchIndices, offset, array, indices, 0, lo, mid, mid, hi, lo);
+            }
+        }
+    }
+
+    /**
+     * Task merging two consecutive sorted runs of doubles along with their
+     * indices into a destination buffer.
+     */
+    @SuppressWarnings("serial")
+    private final class DoubleMergeTask extends MergeTask {
+
+        /**
+         * Source buffer of values.
+         */
+        private final double[] src;
+
+        /**
+         * Source buffer of indices.
+         */
+        private final int[] srcIndices;
+
+        /**
+         * Position corresponding to first position of source buffers.
+         */
+        private final int srcOffset;
+
+        /**
+         * Destination buffer of values.
+         */
+        private final double[] dst;
+
+        /**
+         * Destination buffer of indices.
+         */
+        private final int[] dstIndices;
+
+        /**
+         * Position corresponding to first position of destination buffers.
+         */
+        private final int dstOffset;
+
+        /**
+         * Constructor.
+         *
+         * @param src        source buffer of values.
+         * @param srcIndices source buffer of indices.
+         * @param srcOffset  position corresponding to first position of source
+         *                   buffers.
+         * @param dst        destination buffer of values.
+         * @param dstIndices destination buffer of indices.
+         * @param dstOffset  position corresponding to first position of
+         *                   destination buffers.
+         * @param aLo        start of first run (inclusive).
+         * @param aHi        end of first run (exclusive).
+         * @param bLo        start of second run (inclusive).
+         * @param bHi        end of second run (exclusive).
+         * @param dLo        position where merged runs are written.
+         */
+        DoubleMergeTask(final double[] src, final int[] srcIndices, final int srcOffset,
+                        final double[] dst, final int[] dstIndices, final int dstOffset,
+                        final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            super(aLo, aHi, bLo, bHi, dLo);
+            this.src = src;
+            this.srcIndices = srcIndices;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstIndices = dstIndices;
+            this.dstOffset = dstOffset;
+        }
+
+        /**
+         * Merges provided runs sequentially.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        @Override
+        void merge(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            var i = aLo - srcOffset;
+            var j = bLo - srcOffset;
+            var k = dLo - dstOffset;
+            final var iEnd = aHi - srcOffset;
+            final var jEnd = bHi - srcOffset;
+            while (i < iEnd && j < jEnd) {
+                if (src[j] < src[i]) {
+                    dstIndices[k] = srcIndices[j];
+                    dst[k++] = src[j++];
+                } else {
+                    dstIndices[k] = srcIndices[i];
+                    dst[k++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, iEnd - i);
+            System.arraycopy(srcIndices, i, dstIndices, k, iEnd - i);
+            k += iEnd - i;
+            System.arraycopy(src, j, dst, k, jEnd - j);
+            System.arraycopy(srcIndices, j, dstIndices, k, jEnd - j);
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * not lower than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element not lower than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int lowerBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] < value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * greater than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element greater than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int upperBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] <= value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Creates a task merging other runs of the same buffers.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         * @return a new task.
+         */
+        @Override
+        MergeTask newTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            return new DoubleMergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, aLo, aHi, bLo, bHi, dLo);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of floats along with its indices.
+     */
+    @SuppressWarnings("serial")
+    private final class FloatMergeSortTask extends MergeSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final float[] array;
+
+        /**
+         * Indices to be reordered along with array.
+         */
+        private final int[] indices;
+
+        /**
+         * Scratch buffer for values.
+         */
+        private final float[] scratch;
+
+        /**
+         * Scratch buffer for indices.
+         */
+        private final int[] scratchIndices;
+
+        /**
+         * Position in array corresponding to first position of scratch buffers.
+         */
+        private final int offset;
+
+        /**
+         * Constructor.
+         *
+         * @param array          array being sorted.
+         * @param indices        indices to be reordered along with array.
+         * @param scratch        scratch buffer for values.
+         * @param scratchIndices scratch buffer for indices.
+         * @param offset         position in array corresponding to first
+         *                       position of scratch buffers.
+         * @param lo             position of first element of the range (inclusive).
+         * @param hi             position of last element of the range (exclusive).
+         * @param toScratch      true if sorted range must be left in scratch
+         *                       buffers, false if it must be left in array.
+         */
+        FloatMergeSortTask(final float[] array, final int[] indices, final float[] scratch,
+                            final int[] scratchIndices, final int offset, final int lo, final int hi,
+                            final boolean toScratch) {
+            super(lo, hi, toScratch);
+            this.array = array;
+            this.indices = indices;
+            this.scratch = scratch;
+            this.scratchIndices = scratchIndices;
+            this.offset = offset;
+        }
+
+        /**
+         * Sorts provided range of array sequentially along with its indices.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+        }
+
+        /**
+         * Copies provided range of array and its indices into scratch buffers.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         */
+        @Override
+        void copyToScratch(final int fromIndex, final int toIndex) {
+            System.arraycopy(array, fromIndex, scratch, fromIndex - offset, toIndex - fromIndex);
+            System.arraycopy(indices, fromIndex, scratchIndices, fromIndex - offset, toIndex - fromIndex);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         * @return a new task.
+         */
+        @Override
+        MergeSortTask newTask(final int lo, final int hi, final boolean toScratch) {
+            return new FloatMergeSortTask(array, indices, scratch, scratchIndices, offset, lo, hi, toScratch);
+        }
+
+        /**
+         * Creates a task merging two consecutive sorted runs.
+         *
+         * @param toScratch true if runs are merged from array into scratch
+         *                  buffers, false if they are merged from scratch
+         *                  buffers into array.
+         * @param lo        start of first run (inclusive).
+         * @param mid       end of first run and start of second one.
+         * @param hi        end of second run (exclusive).
+         * @return a new task.
+         */
+        @Override
+        MergeTask newMergeTask(final boolean toScratch, final int lo, final int mid, final int hi) {
+            if (toScratch) {
+                return new FloatMergeTask(array, indices, 0, scratch, scratchIndices, offset, lo, mid, mid, hi, lo);
+            } else {
+                return new FloatMergeTask(scratch, scratchIndices, offset, array, indices, 0, lo, mid, mid, hi, lo);
+            }
+        }
+    }
+
+    /**
+     * Task merging two consecutive sorted runs of floats along with their
+     * indices into a destination buffer.
+     */
+    @SuppressWarnings("serial")
+    private final class FloatMergeTask extends MergeTask {
+
+        /**
+         * Source buffer of values.
+         */
+        private final float[] src;
+
+        /**
+         * Source buffer of indices.
+         */
+        private final int[] srcIndices;
+
+        /**
+         * Position corresponding to first position of source buffers.
+         */
+        private final int srcOffset;
+
+        /**
+         * Destination buffer of values.
+         */
+        private final float[] dst;
+
+        /**
+         * Destination buffer of indices.
+         */
+        private final int[] dstIndices;
+
+        /**
+         * Position corresponding to first position of destination buffers.
+         */
+        private final int dstOffset;
+
+        /**
+         * Constructor.
+         *
+         * @param src        source buffer of values.
+         * @param srcIndices source buffer of indices.
+         * @param srcOffset  position corresponding to first position of source
+         *                   buffers.
+         * @param dst        destination buffer of values.
+         * @param dstIndices destination buffer of indices.
+         * @param dstOffset  position corresponding to first position of
+         *                   destination buffers.
+         * @param aLo        start of first run (inclusive).
+         * @param aHi        end of first run (exclusive).
+         * @param bLo        start of second run (inclusive).
+         * @param bHi        end of second run (exclusive).
+         * @param dLo        position where merged runs are written.
+         */
+        FloatMergeTask(final float[] src, final int[] srcIndices, final int srcOffset,
+                        final float[] dst, final int[] dstIndices, final int dstOffset,
+                        final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            super(aLo, aHi, bLo, bHi, dLo);
+            this.src = src;
+            this.srcIndices = srcIndices;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstIndices = dstIndices;
+            this.dstOffset = dstOffset;
+        }
+
+        /**
+         * Merges provided runs sequentially.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        @Override
+        void merge(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            var i = aLo - srcOffset;
+            var j = bLo - srcOffset;
+            var k = dLo - dstOffset;
+            final var iEnd = aHi - srcOffset;
+            final var jEnd = bHi - srcOffset;
+            while (i < iEnd && j < jEnd) {
+                if (src[j] < src[i]) {
+                    dstIndices[k] = srcIndices[j];
+                    dst[k++] = src[j++];
+                } else {
+                    dstIndices[k] = srcIndices[i];
+                    dst[k++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, iEnd - i);
+            System.arraycopy(srcIndices, i, dstIndices, k, iEnd - i);
+            k += iEnd - i;
+            System.arraycopy(src, j, dst, k, jEnd - j);
+            System.arraycopy(srcIndices, j, dstIndices, k, jEnd - j);
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * not lower than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element not lower than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int lowerBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] < value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * greater than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element greater than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int upperBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] <= value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Creates a task merging other runs of the same buffers.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         * @return a new task.
+         */
+        @Override
+        MergeTask newTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            return new FloatMergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, aLo, aHi, bLo, bHi, dLo);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of integers along with its indices.
+     */
+    @SuppressWarnings("serial")
+    private final class IntMergeSortTask extends MergeSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final int[] array;
+
+        /**
+         * Indices to be reordered along with array.
+         */
+        private final int[] indices;
+
+        /**
+         * Scratch buffer for values.
+         */
+        private final int[] scratch;
+
+        /**
+         * Scratch buffer for indices.
+         */
+        private final int[] scratchIndices;
+
+        /**
+         * Position in array corresponding to first position of scratch buffers.
+         */
+        private final int offset;
+
+        /**
+         * Constructor.
+         *
+         * @param array          array being sorted.
+         * @param indices        indices to be reordered along with array.
+         * @param scratch        scratch buffer for values.
+         * @param scratchIndices scratch buffer for indices.
+         * @param offset         position in array corresponding to first
+         *                       position of scratch buffers.
+         * @param lo             position of first element of the range (inclusive).
+         * @param hi             position of last element of the range (exclusive).
+         * @param toScratch      true if sorted range must be left in scratch
+         *                       buffers, false if it must be left in array.
+         */
+        IntMergeSortTask(final int[] array, final int[] indices, final int[] scratch,
+                            final int[] scratchIndices, final int offset, final int lo, final int hi,
+                            final boolean toScratch) {
+            super(lo, hi, toScratch);
+            this.array = array;
+            this.indices = indices;
+            this.scratch = scratch;
+            this.scratchIndices = scratchIndices;
+            this.offset = offset;
+        }
+
+        /**
+         * Sorts provided range of array sequentially along with its indices.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+        }
+
+        /**
+         * Copies provided range of array and its indices into scratch buffers.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         */
+        @Override
+        void copyToScratch(final int fromIndex, final int toIndex) {
+            System.arraycopy(array, fromIndex, scratch, fromIndex - offset, toIndex - fromIndex);
+            System.arraycopy(indices, fromIndex, scratchIndices, fromIndex - offset, toIndex - fromIndex);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         * @return a new task.
+         */
+        @Override
+        MergeSortTask newTask(final int lo, final int hi, final boolean toScratch) {
+            return new IntMergeSortTask(array, indices, scratch, scratchIndices, offset, lo, hi, toScratch);
+        }
+
+        /**
+         * Creates a task merging two consecutive sorted runs.
+         *
+         * @param toScratch true if runs are merged from array into scratch
+         *                  buffers, false if they are merged from scratch
+         *                  buffers into array.
+         * @param lo        start of first run (inclusive).
+         * @param mid       end of first run and start of second one.
+         * @param hi        end of second run (exclusive).
+         * @return a new task.
+         */
+        @Override
+        MergeTask newMergeTask(final boolean toScratch, final int lo, final int mid, final int hi) {
+            if (toScratch) {
+                return new IntMergeTask(array, indices, 0, scratch, scratchIndices, offset, lo, mid, mid, hi, lo);
+            } else {
+                return new IntMergeTask(scratch, scratchIndices, offset, array, indices, 0, lo, mid, mid, hi, lo);
+            }
+        }
+    }
+
+    /**
+     * Task merging two consecutive sorted runs of integers along with their
+     * indices into a destination buffer.
+     */
+    @SuppressWarnings("serial")
+    private final class IntMergeTask extends MergeTask {
+
+        /**
+         * Source buffer of values.
+         */
+        private final int[] src;
+
+        /**
+         * Source buffer of indices.
+         */
+        private final int[] srcIndices;
+
+        /**
+         * Position corresponding to first position of source buffers.
+         */
+        private final int srcOffset;
+
+        /**
+         * Destination buffer of values.
+         */
+        private final int[] dst;
+
+        /**
+         * Destination buffer of indices.
+         */
+        private final int[] dstIndices;
+
+        /**
+         * Position corresponding to first position of destination buffers.
+         */
+        private final int dstOffset;
+
+        /**
+         * Constructor.
+         *
+         * @param src        source buffer of values.
+         * @param srcIndices source buffer of indices.
+         * @param srcOffset  position corresponding to first position of source
+         *                   buffers.
+         * @param dst        destination buffer of values.
+         * @param dstIndices destination buffer of indices.
+         * @param dstOffset  position corresponding to first position of
+         *                   destination buffers.
+         * @param aLo        start of first run (inclusive).
+         * @param aHi        end of first run (exclusive).
+         * @param bLo        start of second run (inclusive).
+         * @param bHi        end of second run (exclusive).
+         * @param dLo        position where merged runs are written.
+         */
+        IntMergeTask(final int[] src, final int[] srcIndices, final int srcOffset,
+                        final int[] dst, final int[] dstIndices, final int dstOffset,
+                        final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            super(aLo, aHi, bLo, bHi, dLo);
+            this.src = src;
+            this.srcIndices = srcIndices;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstIndices = dstIndices;
+            this.dstOffset = dstOffset;
+        }
+
+        /**
+         * Merges provided runs sequentially.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        @Override
+        void merge(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            var i = aLo - srcOffset;
+            var j = bLo - srcOffset;
+            var k = dLo - dstOffset;
+            final var iEnd = aHi - srcOffset;
+            final var jEnd = bHi - srcOffset;
+            while (i < iEnd && j < jEnd) {
+                if (src[j] < src[i]) {
+                    dstIndices[k] = srcIndices[j];
+                    dst[k++] = src[j++];
+                } else {
+                    dstIndices[k] = srcIndices[i];
+                    dst[k++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, iEnd - i);
+            System.arraycopy(srcIndices, i, dstIndices, k, iEnd - i);
+            k += iEnd - i;
+            System.arraycopy(src, j, dst, k, jEnd - j);
+            System.arraycopy(srcIndices, j, dstIndices, k, jEnd - j);
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * not lower than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element not lower than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int lowerBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] < value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * greater than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element greater than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int upperBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] <= value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Creates a task merging other runs of the same buffers.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         * @return a new task.
+         */
+        @Override
+        MergeTask newTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            return new IntMergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, aLo, aHi, bLo, bHi, dLo);
+        }
+    }
+
+    /**
+     * Task sorting a range of an array of longs along with its indices.
+     */
+    @SuppressWarnings("serial")
+    private final class LongMergeSortTask extends MergeSortTask {
+
+        /**
+         * Array being sorted.
+         */
+        private final long[] array;
+
+        /**
+         * Indices to be reordered along with array.
+         */
+        private final int[] indices;
+
+        /**
+         * Scratch buffer for values.
+         */
+        private final long[] scratch;
+
+        /**
+         * Scratch buffer for indices.
+         */
+        private final int[] scratchIndices;
+
+        /**
+         * Position in array corresponding to first position of scratch buffers.
+         */
+        private final int offset;
+
+        /**
+         * Constructor.
+         *
+         * @param array          array being sorted.
+         * @param indices        indices to be reordered along with array.
+         * @param scratch        scratch buffer for values.
+         * @param scratchIndices scratch buffer for indices.
+         * @param offset         position in array corresponding to first
+         *                       position of scratch buffers.
+         * @param lo             position of first element of the range (inclusive).
+         * @param hi             position of last element of the range (exclusive).
+         * @param toScratch      true if sorted range must be left in scratch
+         *                       buffers, false if it must be left in array.
+         */
+        LongMergeSortTask(final long[] array, final int[] indices, final long[] scratch,
+                            final int[] scratchIndices, final int offset, final int lo, final int hi,
+                            final boolean toScratch) {
+            super(lo, hi, toScratch);
+            this.array = array;
+            this.indices = indices;
+            this.scratch = scratch;
+            this.scratchIndices = scratchIndices;
+            this.offset = offset;
+        }
+
+        /**
+         * Sorts provided range of array sequentially along with its indices.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         * @param workspace workspace providing internal stacks.
+         * @throws SortingException if sorting fails.
+         */
+        @Override
+        void sortSequentially(final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+                throws SortingException {
+            quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+        }
+
+        /**
+         * Copies provided range of array and its indices into scratch buffers.
+         *
+         * @param fromIndex position of first element of the range (inclusive).
+         * @param toIndex   position of last element of the range (exclusive).
+         */
+        @Override
+        void copyToScratch(final int fromIndex, final int toIndex) {
+            System.arraycopy(array, fromIndex, scratch, fromIndex - offset, toIndex - fromIndex);
+            System.arraycopy(indices, fromIndex, scratchIndices, fromIndex - offset, toIndex - fromIndex);
+        }
+
+        /**
+         * Creates a task sorting another range of the same array.
+         *
+         * @param lo        position of first element of the range (inclusive).
+         * @param hi        position of last element of the range (exclusive).
+         * @param toScratch true if sorted range must be left in scratch
+         *                  buffers, false if it must be left in array.
+         * @return a new task.
+         */
+        @Override
+        MergeSortTask newTask(final int lo, final int hi, final boolean toScratch) {
+            return new LongMergeSortTask(array, indices, scratch, scratchIndices, offset, lo, hi, toScratch);
+        }
+
+        /**
+         * Creates a task merging two consecutive sorted runs.
+         *
+         * @param toScratch true if runs are merged from array into scratch
+         *                  buffers, false if they are merged from scratch
+         *                  buffers into array.
+         * @param lo        start of first run (inclusive).
+         * @param mid       end of first run and start of second one.
+         * @param hi        end of second run (exclusive).
+         * @return a new task.
+         */
+        @Override
+        MergeTask newMergeTask(final boolean toScratch, final int lo, final int mid, final int hi) {
+            if (toScratch) {
+                return new LongMergeTask(array, indices, 0, scratch, scratchIndices, offset, lo, mid, mid, hi, lo);
+            } else {
+                return new LongMergeTask(scratch, scratchIndices, offset, array, indices, 0, lo, mid, mid, hi, lo);
+            }
+        }
+    }
+
+    /**
+     * Task merging two consecutive sorted runs of longs along with their
+     * indices into a destination buffer.
+     */
+    @SuppressWarnings("serial")
+    private final class LongMergeTask extends MergeTask {
+
+        /**
+         * Source buffer of values.
+         */
+        private final long[] src;
+
+        /**
+         * Source buffer of indices.
+         */
+        private final int[] srcIndices;
+
+        /**
+         * Position corresponding to first position of source buffers.
+         */
+        private final int srcOffset;
+
+        /**
+         * Destination buffer of values.
+         */
+        private final long[] dst;
+
+        /**
+         * Destination buffer of indices.
+         */
+        private final int[] dstIndices;
+
+        /**
+         * Position corresponding to first position of destination buffers.
+         */
+        private final int dstOffset;
+
+        /**
+         * Constructor.
+         *
+         * @param src        source buffer of values.
+         * @param srcIndices source buffer of indices.
+         * @param srcOffset  position corresponding to first position of source
+         *                   buffers.
+         * @param dst        destination buffer of values.
+         * @param dstIndices destination buffer of indices.
+         * @param dstOffset  position corresponding to first position of
+         *                   destination buffers.
+         * @param aLo        start of first run (inclusive).
+         * @param aHi        end of first run (exclusive).
+         * @param bLo        start of second run (inclusive).
+         * @param bHi        end of second run (exclusive).
+         * @param dLo        position where merged runs are written.
+         */
+        LongMergeTask(final long[] src, final int[] srcIndices, final int srcOffset,
+                        final long[] dst, final int[] dstIndices, final int dstOffset,
+                        final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            super(aLo, aHi, bLo, bHi, dLo);
+            this.src = src;
+            this.srcIndices = srcIndices;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstIndices = dstIndices;
+            this.dstOffset = dstOffset;
+        }
+
+        /**
+         * Merges provided runs sequentially.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         */
+        @Override
+        void merge(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            var i = aLo - srcOffset;
+            var j = bLo - srcOffset;
+            var k = dLo - dstOffset;
+            final var iEnd = aHi - srcOffset;
+            final var jEnd = bHi - srcOffset;
+            while (i < iEnd && j < jEnd) {
+                if (src[j] < src[i]) {
+                    dstIndices[k] = srcIndices[j];
+                    dst[k++] = src[j++];
+                } else {
+                    dstIndices[k] = srcIndices[i];
+                    dst[k++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, iEnd - i);
+            System.arraycopy(srcIndices, i, dstIndices, k, iEnd - i);
+            k += iEnd - i;
+            System.arraycopy(src, j, dst, k, jEnd - j);
+            System.arraycopy(srcIndices, j, dstIndices, k, jEnd - j);
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * not lower than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element not lower than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int lowerBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] < value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Finds first element within provided range of source buffer that is
+         * greater than element at provided position.
+         *
+         * @param pos position of element being searched.
+         * @param lo  start of searched range (inclusive).
+         * @param hi  end of searched range (exclusive).
+         * @return position of first element greater than searched one, or hi
+         * if there is none.
+         */
+        @Override
+        int upperBound(final int pos, final int lo, final int hi) {
+            final var value = src[pos - srcOffset];
+            var l = lo;
+            var h = hi;
+            while (l < h) {
+                final var m = (l + h) >>> 1;
+                if (src[m - srcOffset] <= value) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            return l;
+        }
+
+        /**
+         * Creates a task merging other runs of the same buffers.
+         *
+         * @param aLo start of first run (inclusive).
+         * @param aHi end of first run (exclusive).
+         * @param bLo start of second run (inclusive).
+         * @param bHi end of second run (exclusive).
+         * @param dLo position where merged runs are written.
+         * @return a new task.
+         */
+        @Override
+        MergeTask newTask(final int aLo, final int aHi, final int bLo, final int bHi, final int dLo) {
+            return new LongMergeTask(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, aLo, aHi, bLo, bHi, dLo);
+        }
+    }
+}
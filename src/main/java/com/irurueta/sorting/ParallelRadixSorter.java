@@ -0,0 +1,749 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sorts instances of type T in provided arrays using a parallel least
+ * significant digit (LSD) radix sort for integers and longs.
+ * Ranges larger than a given threshold are split into as many blocks as
+ * threads in a {@link ForkJoinPool}. Histograms of digits are computed for
+ * each block concurrently, their prefix sums determine where each block
+ * writes the elements of each digit, and blocks are then scattered
+ * concurrently, so that sorting uses the memory bandwidth of all cores.
+ * Because each block writes its elements in order into positions located
+ * after the ones of the previous blocks, sorting remains stable, and so do
+ * indices of elements having equal values.
+ * Ranges smaller or equal than the threshold are sorted sequentially.
+ * <p>
+ * Arrays of doubles and floats are sorted sequentially as done by
+ * {@link RadixSorter}, and arrays of objects are sorted using Quicksort.
+ *
+ * @param <T> Type of instances being sorted.
+ */
+@SuppressWarnings("Duplicates")
+public class ParallelRadixSorter<T> extends RadixSorter<T> {
+
+    /**
+     * Default size of ranges below or equal which sorting is done
+     * sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * Minimum allowed threshold.
+     */
+    public static final int MIN_THRESHOLD = 16;
+
+    /**
+     * Size of ranges below or equal which sorting is done sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Pool where sorting tasks are executed.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor using default threshold and common pool.
+     */
+    public ParallelRadixSorter() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor using common pool.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD}.
+     */
+    public ParallelRadixSorter(final int threshold) {
+        this(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param threshold size of ranges below or equal which sorting is done
+     *                  sequentially.
+     * @param pool      pool where sorting tasks are executed.
+     * @throws IllegalArgumentException if threshold is less than
+     *                                  {@link #MIN_THRESHOLD} or pool is null.
+     */
+    public ParallelRadixSorter(final int threshold, final ForkJoinPool pool) {
+        if (threshold < MIN_THRESHOLD || pool == null) {
+            throw new IllegalArgumentException();
+        }
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Gets size of ranges below or equal which sorting is done sequentially.
+     *
+     * @return size of ranges below or equal which sorting is done sequentially.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets pool where sorting tasks are executed.
+     *
+     * @return pool where sorting tasks are executed.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            parallelRadixSort(array, null, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        if (toIndex - fromIndex <= threshold) {
+            radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            parallelRadixSort(array, indices, fromIndex, toIndex);
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        if (toIndex - fromIndex <= threshold) {
+            radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            parallelRadixSort(array, null, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        if (toIndex - fromIndex <= threshold) {
+            radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        } else {
+            parallelRadixSort(array, indices, fromIndex, toIndex);
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRange(array, fromIndex, toIndex, workspace);
+        } else {
+            sort(array, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Ranges smaller or equal than the threshold are sorted sequentially
+     * without allocating memory, whereas larger ranges are sorted
+     * concurrently, allocating memory for each task.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        if (toIndex - fromIndex <= threshold) {
+            super.sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+        } else {
+            final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+            System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.PARALLEL_RADIX_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * The range is split into as many blocks as threads in the pool, and for
+     * each digit, histograms of all blocks are computed concurrently and then
+     * each block scatters its elements concurrently into the positions
+     * reserved for it, so that sorting remains stable.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void parallelRadixSort(final int[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        final var blockStarts = getBlockStarts(n);
+        final var numBlocks = blockStarts.length - 1;
+
+        // compute histograms of all digits of each block concurrently
+        final var blockCounts = new int[numBlocks][INT_DIGITS * RADIX];
+        pool.invoke(new ForEachTask(0, numBlocks, block -> {
+            final var counts = blockCounts[block];
+            final var end = fromIndex + blockStarts[block + 1];
+            for (int i = fromIndex + blockStarts[block]; i < end; i++) {
+                final var value = array[i];
+                for (int d = 0; d < INT_DIGITS; d++) {
+                    counts[d * RADIX + intDigit(value, d)]++;
+                }
+            }
+        }));
+        final var counts = new int[INT_DIGITS * RADIX];
+        for (final var c : blockCounts) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += c[i];
+            }
+        }
+
+        final var scratch = new int[n];
+        final var scratchIndices = indices != null ? new int[n] : null;
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        var first = true;
+        final var offsets = new int[numBlocks][RADIX];
+        for (int d = 0; d < INT_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + intDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            // histograms computed at the beginning are only valid for blocks
+            // of the original array
+            if (!first) {
+                countDigits(src, srcOffset, blockStarts, blockCounts, d);
+            }
+            first = false;
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                for (int block = 0; block < numBlocks; block++) {
+                    offsets[block][b] = sum;
+                    sum += blockCounts[block][base + b];
+                }
+            }
+
+            scatter(src, srcIndices, srcOffset, dst, dstIndices, blockStarts, offsets, d);
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            final var sorted = src;
+            final var sortedIndices = srcIndices;
+            pool.invoke(new ForEachTask(0, numBlocks, block -> {
+                final var start = blockStarts[block];
+                final var length = blockStarts[block + 1] - start;
+                System.arraycopy(sorted, start, array, fromIndex + start, length);
+                if (indices != null) {
+                    System.arraycopy(sortedIndices, start, indices, fromIndex + start, length);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Computes concurrently the histogram of provided digit for each block.
+     *
+     * @param src         buffer containing values.
+     * @param srcOffset   position of first value in buffer.
+     * @param blockStarts positions where each block starts, relative to
+     *                    first value.
+     * @param blockCounts histograms of each block, where histogram of
+     *                    provided digit is replaced.
+     * @param d           position of digit, starting at the least significant
+     *                    one.
+     */
+    private void countDigits(final int[] src, final int srcOffset, final int[] blockStarts,
+                             final int[][] blockCounts, final int d) {
+        final var base = d * RADIX;
+        pool.invoke(new ForEachTask(0, blockStarts.length - 1, block -> {
+            final var counts = blockCounts[block];
+            Arrays.fill(counts, base, base + RADIX, 0);
+            final var end = srcOffset + blockStarts[block + 1];
+            for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                counts[base + intDigit(src[i], d)]++;
+            }
+        }));
+    }
+
+    /**
+     * Concurrently moves values of each block, and their indices if needed,
+     * to the positions of their digit reserved for the block.
+     *
+     * @param src         source buffer of values.
+     * @param srcIndices  source buffer of indices or null.
+     * @param srcOffset   position of first value in source buffer.
+     * @param dst         destination buffer of values.
+     * @param dstIndices  destination buffer of indices or null.
+     * @param blockStarts positions where each block starts, relative to
+     *                    first value.
+     * @param offsets     positions in destination buffer where each block
+     *                    writes its next value of each digit.
+     * @param d           position of digit, starting at the least significant
+     *                    one.
+     */
+    private void scatter(final int[] src, final int[] srcIndices, final int srcOffset, final int[] dst,
+                         final int[] dstIndices, final int[] blockStarts, final int[][] offsets, final int d) {
+        pool.invoke(new ForEachTask(0, blockStarts.length - 1, block -> {
+            final var positions = offsets[block];
+            final var end = srcOffset + blockStarts[block + 1];
+            if (srcIndices != null) {
+                for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                    final var value = src[i];
+                    final var pos = positions[intDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                    final var value = src[i];
+                    dst[positions[intDigit(value, d)]++] = value;
+                }
+            }
+        }));
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * The range is split into as many blocks as threads in the pool, and for
+     * each digit, histograms of all blocks are computed concurrently and then
+     * each block scatters its elements concurrently into the positions
+     * reserved for it, so that sorting remains stable.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void parallelRadixSort(final long[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        final var blockStarts = getBlockStarts(n);
+        final var numBlocks = blockStarts.length - 1;
+
+        // compute histograms of all digits of each block concurrently
+        final var blockCounts = new int[numBlocks][LONG_DIGITS * RADIX];
+        pool.invoke(new ForEachTask(0, numBlocks, block -> {
+            final var counts = blockCounts[block];
+            final var end = fromIndex + blockStarts[block + 1];
+            for (int i = fromIndex + blockStarts[block]; i < end; i++) {
+                final var value = array[i];
+                for (int d = 0; d < LONG_DIGITS; d++) {
+                    counts[d * RADIX + longDigit(value, d)]++;
+                }
+            }
+        }));
+        final var counts = new int[LONG_DIGITS * RADIX];
+        for (final var c : blockCounts) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += c[i];
+            }
+        }
+
+        final var scratch = new long[n];
+        final var scratchIndices = indices != null ? new int[n] : null;
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        var first = true;
+        final var offsets = new int[numBlocks][RADIX];
+        for (int d = 0; d < LONG_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + longDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            // histograms computed at the beginning are only valid for blocks
+            // of the original array
+            if (!first) {
+                countDigits(src, srcOffset, blockStarts, blockCounts, d);
+            }
+            first = false;
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                for (int block = 0; block < numBlocks; block++) {
+                    offsets[block][b] = sum;
+                    sum += blockCounts[block][base + b];
+                }
+            }
+
+            scatter(src, srcIndices, srcOffset, dst, dstIndices, blockStarts, offsets, d);
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            final var sorted = src;
+            final var sortedIndices = srcIndices;
+            pool.invoke(new ForEachTask(0, numBlocks, block -> {
+                final var start = blockStarts[block];
+                final var length = blockStarts[block + 1] - start;
+                System.arraycopy(sorted, start, array, fromIndex + start, length);
+                if (indices != null) {
+                    System.arraycopy(sortedIndices, start, indices, fromIndex + start, length);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Computes concurrently the histogram of provided digit for each block.
+     *
+     * @param src         buffer containing values.
+     * @param srcOffset   position of first value in buffer.
+     * @param blockStarts positions where each block starts, relative to
+     *                    first value.
+     * @param blockCounts histograms of each block, where histogram of
+     *                    provided digit is replaced.
+     * @param d           position of digit, starting at the least significant
+     *                    one.
+     */
+    private void countDigits(final long[] src, final int srcOffset, final int[] blockStarts,
+                             final int[][] blockCounts, final int d) {
+        final var base = d * RADIX;
+        pool.invoke(new ForEachTask(0, blockStarts.length - 1, block -> {
+            final var counts = blockCounts[block];
+            Arrays.fill(counts, base, base + RADIX, 0);
+            final var end = srcOffset + blockStarts[block + 1];
+            for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                counts[base + longDigit(src[i], d)]++;
+            }
+        }));
+    }
+
+    /**
+     * Concurrently moves values of each block, and their indices if needed,
+     * to the positions of their digit reserved for the block.
+     *
+     * @param src         source buffer of values.
+     * @param srcIndices  source buffer of indices or null.
+     * @param srcOffset   position of first value in source buffer.
+     * @param dst         destination buffer of values.
+     * @param dstIndices  destination buffer of indices or null.
+     * @param blockStarts positions where each block starts, relative to
+     *                    first value.
+     * @param offsets     positions in destination buffer where each block
+     *                    writes its next value of each digit.
+     * @param d           position of digit, starting at the least significant
+     *                    one.
+     */
+    private void scatter(final long[] src, final int[] srcIndices, final int srcOffset, final long[] dst,
+                         final int[] dstIndices, final int[] blockStarts, final int[][] offsets, final int d) {
+        pool.invoke(new ForEachTask(0, blockStarts.length - 1, block -> {
+            final var positions = offsets[block];
+            final var end = srcOffset + blockStarts[block + 1];
+            if (srcIndices != null) {
+                for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                    final var value = src[i];
+                    final var pos = positions[longDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset + blockStarts[block]; i < end; i++) {
+                    final var value = src[i];
+                    dst[positions[longDigit(value, d)]++] = value;
+                }
+            }
+        }));
+    }
+
+    /**
+     * Splits a range into as many blocks as threads in the pool, as long as
+     * blocks are larger than the threshold.
+     *
+     * @param n length of range.
+     * @return positions where each block starts, relative to the start of the
+     * range, followed by the length of the range.
+     */
+    private int[] getBlockStarts(final int n) {
+        final var numBlocks = Math.max(1, Math.min(pool.getParallelism(), n / threshold));
+        final var blockStarts = new int[numBlocks + 1];
+        for (int block = 0; block <= numBlocks; block++) {
+            blockStarts[block] = (int) ((long) block * n / numBlocks);
+        }
+        return blockStarts;
+    }
+}
@@ -0,0 +1,849 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Sorts the k smallest elements of an array range, leaving the remaining
+ * elements of the range unsorted after them.
+ * Elements are first partitioned around the k-th smallest one, and the k
+ * smallest ones are then sorted using Heapsort, hence partial sorting takes
+ * O(n + k log k) time.
+ */
+@SuppressWarnings("Duplicates")
+final class PartialSorter {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private PartialSorter() {
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range.
+     *
+     * @param sorter     Sorter used to select the k-th smallest element.
+     * @param array      Array to be partially sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param k          Number of smallest elements to be sorted.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static <T> void partialSort(final Sorter<T> sorter, final T[] array, final int fromIndex, final int toIndex,
+                                final int k, final Comparator<T> comparator) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        if (k == 0) {
+            return;
+        }
+        if (k < toIndex - fromIndex) {
+            sorter.select(k - 1, array, fromIndex, toIndex, comparator);
+        }
+        HeapsortSorter.heapsort(array, fromIndex, fromIndex + k, comparator);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range, and returns the original position of every
+     * element.
+     *
+     * @param sorter     Sorter providing the initial indices.
+     * @param array      Array to be partially sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param k          Number of smallest elements to be sorted.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Original position of every element of provided array.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static <T> int[] partialSortWithIndices(final Sorter<T> sorter, final T[] array, final int fromIndex,
+                                            final int toIndex, final int k, final Comparator<T> comparator) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        final var indices = sorter.getInitialIndicesVector(array.length);
+        if (k == 0) {
+            return indices;
+        }
+        if (k < toIndex - fromIndex) {
+            selectWithIndices(k - 1, array, indices, fromIndex, toIndex, comparator);
+        }
+        HeapsortSorter.heapsortWithIndices(array, indices, fromIndex, fromIndex + k, comparator);
+        return indices;
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range.
+     *
+     * @param sorter    Sorter used to select the k-th smallest value.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static void partialSort(final Sorter<?> sorter, final double[] array, final int fromIndex, final int toIndex,
+                            final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        if (k == 0) {
+            return;
+        }
+        if (k < toIndex - fromIndex) {
+            sorter.select(k - 1, array, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsort(array, fromIndex, fromIndex + k);
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range, and returns the original position of every
+     * value.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @return Original position of every value of provided array.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static int[] partialSortWithIndices(final Sorter<?> sorter, final double[] array, final int fromIndex,
+                                        final int toIndex, final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        final var indices = sorter.getInitialIndicesVector(array.length);
+        if (k == 0) {
+            return indices;
+        }
+        if (k < toIndex - fromIndex) {
+            selectWithIndices(k - 1, array, indices, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsortWithIndices(array, indices, fromIndex, fromIndex + k);
+        return indices;
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range.
+     *
+     * @param sorter    Sorter used to select the k-th smallest value.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static void partialSort(final Sorter<?> sorter, final float[] array, final int fromIndex, final int toIndex,
+                            final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        if (k == 0) {
+            return;
+        }
+        if (k < toIndex - fromIndex) {
+            sorter.select(k - 1, array, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsort(array, fromIndex, fromIndex + k);
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range, and returns the original position of every
+     * value.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @return Original position of every value of provided array.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static int[] partialSortWithIndices(final Sorter<?> sorter, final float[] array, final int fromIndex,
+                                        final int toIndex, final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        final var indices = sorter.getInitialIndicesVector(array.length);
+        if (k == 0) {
+            return indices;
+        }
+        if (k < toIndex - fromIndex) {
+            selectWithIndices(k - 1, array, indices, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsortWithIndices(array, indices, fromIndex, fromIndex + k);
+        return indices;
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range.
+     *
+     * @param sorter    Sorter used to select the k-th smallest value.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static void partialSort(final Sorter<?> sorter, final int[] array, final int fromIndex, final int toIndex,
+                            final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        if (k == 0) {
+            return;
+        }
+        if (k < toIndex - fromIndex) {
+            sorter.select(k - 1, array, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsort(array, fromIndex, fromIndex + k);
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range, and returns the original position of every
+     * value.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @return Original position of every value of provided array.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static int[] partialSortWithIndices(final Sorter<?> sorter, final int[] array, final int fromIndex,
+                                        final int toIndex, final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        final var indices = sorter.getInitialIndicesVector(array.length);
+        if (k == 0) {
+            return indices;
+        }
+        if (k < toIndex - fromIndex) {
+            selectWithIndices(k - 1, array, indices, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsortWithIndices(array, indices, fromIndex, fromIndex + k);
+        return indices;
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range.
+     *
+     * @param sorter    Sorter used to select the k-th smallest value.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static void partialSort(final Sorter<?> sorter, final long[] array, final int fromIndex, final int toIndex,
+                            final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        if (k == 0) {
+            return;
+        }
+        if (k < toIndex - fromIndex) {
+            sorter.select(k - 1, array, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsort(array, fromIndex, fromIndex + k);
+    }
+
+    /**
+     * Sorts the k smallest values of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to
+     * the beginning of the range, and returns the original position of every
+     * value.
+     *
+     * @param sorter    Sorter providing the initial indices.
+     * @param array     Array to be partially sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest values to be sorted.
+     * @return Original position of every value of provided array.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static int[] partialSortWithIndices(final Sorter<?> sorter, final long[] array, final int fromIndex,
+                                        final int toIndex, final int k) {
+        checkRange(array.length, fromIndex, toIndex, k);
+
+        final var indices = sorter.getInitialIndicesVector(array.length);
+        if (k == 0) {
+            return indices;
+        }
+        if (k < toIndex - fromIndex) {
+            selectWithIndices(k - 1, array, indices, fromIndex, toIndex);
+        }
+        HeapsortSorter.heapsortWithIndices(array, indices, fromIndex, fromIndex + k);
+        return indices;
+    }
+
+    /**
+     * Moves the k-th sorted element of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) to position k + fromIndex, so that
+     * smaller elements are located before it and greater elements after it,
+     * applying the same reordering to provided indices.
+     * This method does not check provided range nor k.
+     *
+     * @param k          Position of sorted element to be selected.
+     * @param array      Array where element is selected.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param fromIndex  Index were selection starts (inclusive).
+     * @param toIndex    Index were selection stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private static <T> void selectWithIndices(final int k, final T[] array, final int[] indices, final int fromIndex,
+                                              final int toIndex, final Comparator<T> comparator) {
+        int i;
+        int ir;
+        int j;
+        int l;
+        int mid;
+        final var n = toIndex - fromIndex;
+
+        T a;
+        int ia;
+        l = 0;
+        ir = n - 1;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && comparator.compare(array[ir + fromIndex], array[l + fromIndex]) < 0) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                return;
+            } else {
+                mid = (l + ir) >> 1;
+                swap(array, indices, mid + fromIndex, l + 1 + fromIndex);
+                if (comparator.compare(array[l + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + 1 + fromIndex], array[ir + fromIndex]) > 0) {
+                    swap(array, indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (comparator.compare(array[l + fromIndex], array[l + 1 + fromIndex]) > 0) {
+                    swap(array, indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                i = l + 1;
+                j = ir;
+                a = array[l + 1 + fromIndex];
+                ia = indices[l + 1 + fromIndex];
+                for (; ; ) {
+                    do {
+                        i++;
+                    } while (comparator.compare(array[i + fromIndex], a) < 0);
+
+                    do {
+                        j--;
+                    } while (comparator.compare(array[j + fromIndex], a) > 0);
+
+                    if (j < i) {
+                        break;
+                    }
+
+                    swap(array, indices, i + fromIndex, j + fromIndex);
+                }
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[j + fromIndex] = ia;
+                if (j >= k) {
+                    ir = j - 1;
+                }
+                if (j <= k) {
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the k-th sorted element of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) to position k + fromIndex, so that
+     * smaller elements are located before it and greater elements after it,
+     * applying the same reordering to provided indices.
+     * This method does not check provided range nor k.
+     *
+     * @param k         Position of sorted element to be selected.
+     * @param array     Array where element is selected.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     */
+    private static void selectWithIndices(final int k, final double[] array, final int[] indices, final int fromIndex,
+                                          final int toIndex) {
+        int i;
+        int ir;
+        int j;
+        int l;
+        int mid;
+        final var n = toIndex - fromIndex;
+
+        double a;
+        int ia;
+        l = 0;
+        ir = n - 1;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir + fromIndex] < array[l + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                return;
+            } else {
+                mid = (l + ir) >> 1;
+                swap(array, indices, mid + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                i = l + 1;
+                j = ir;
+                a = array[l + 1 + fromIndex];
+                ia = indices[l + 1 + fromIndex];
+                for (; ; ) {
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+
+                    if (j < i) {
+                        break;
+                    }
+
+                    swap(array, indices, i + fromIndex, j + fromIndex);
+                }
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[j + fromIndex] = ia;
+                if (j >= k) {
+                    ir = j - 1;
+                }
+                if (j <= k) {
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the k-th sorted element of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) to position k + fromIndex, so that
+     * smaller elements are located before it and greater elements after it,
+     * applying the same reordering to provided indices.
+     * This method does not check provided range nor k.
+     *
+     * @param k         Position of sorted element to be selected.
+     * @param array     Array where element is selected.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     */
+    private static void selectWithIndices(final int k, final float[] array, final int[] indices, final int fromIndex,
+                                          final int toIndex) {
+        int i;
+        int ir;
+        int j;
+        int l;
+        int mid;
+        final var n = toIndex - fromIndex;
+
+        float a;
+        int ia;
+        l = 0;
+        ir = n - 1;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir + fromIndex] < array[l + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                return;
+            } else {
+                mid = (l + ir) >> 1;
+                swap(array, indices, mid + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                i = l + 1;
+                j = ir;
+                a = array[l + 1 + fromIndex];
+                ia = indices[l + 1 + fromIndex];
+                for (; ; ) {
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+
+                    if (j < i) {
+                        break;
+                    }
+
+                    swap(array, indices, i + fromIndex, j + fromIndex);
+                }
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[j + fromIndex] = ia;
+                if (j >= k) {
+                    ir = j - 1;
+                }
+                if (j <= k) {
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the k-th sorted element of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) to position k + fromIndex, so that
+     * smaller elements are located before it and greater elements after it,
+     * applying the same reordering to provided indices.
+     * This method does not check provided range nor k.
+     *
+     * @param k         Position of sorted element to be selected.
+     * @param array     Array where element is selected.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     */
+    private static void selectWithIndices(final int k, final int[] array, final int[] indices, final int fromIndex,
+                                          final int toIndex) {
+        int i;
+        int ir;
+        int j;
+        int l;
+        int mid;
+        final var n = toIndex - fromIndex;
+
+        int a;
+        int ia;
+        l = 0;
+        ir = n - 1;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir + fromIndex] < array[l + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                return;
+            } else {
+                mid = (l + ir) >> 1;
+                swap(array, indices, mid + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                i = l + 1;
+                j = ir;
+                a = array[l + 1 + fromIndex];
+                ia = indices[l + 1 + fromIndex];
+                for (; ; ) {
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+
+                    if (j < i) {
+                        break;
+                    }
+
+                    swap(array, indices, i + fromIndex, j + fromIndex);
+                }
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[j + fromIndex] = ia;
+                if (j >= k) {
+                    ir = j - 1;
+                }
+                if (j <= k) {
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the k-th sorted element of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) to position k + fromIndex, so that
+     * smaller elements are located before it and greater elements after it,
+     * applying the same reordering to provided indices.
+     * This method does not check provided range nor k.
+     *
+     * @param k         Position of sorted element to be selected.
+     * @param array     Array where element is selected.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     */
+    private static void selectWithIndices(final int k, final long[] array, final int[] indices, final int fromIndex,
+                                          final int toIndex) {
+        int i;
+        int ir;
+        int j;
+        int l;
+        int mid;
+        final var n = toIndex - fromIndex;
+
+        long a;
+        int ia;
+        l = 0;
+        ir = n - 1;
+        for (; ; ) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir + fromIndex] < array[l + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                return;
+            } else {
+                mid = (l + ir) >> 1;
+                swap(array, indices, mid + fromIndex, l + 1 + fromIndex);
+                if (array[l + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + fromIndex, ir + fromIndex);
+                }
+                if (array[l + 1 + fromIndex] > array[ir + fromIndex]) {
+                    swap(array, indices, l + 1 + fromIndex, ir + fromIndex);
+                }
+                if (array[l + fromIndex] > array[l + 1 + fromIndex]) {
+                    swap(array, indices, l + fromIndex, l + 1 + fromIndex);
+                }
+                i = l + 1;
+                j = ir;
+                a = array[l + 1 + fromIndex];
+                ia = indices[l + 1 + fromIndex];
+                for (; ; ) {
+                    do {
+                        i++;
+                    } while (array[i + fromIndex] < a);
+
+                    do {
+                        j--;
+                    } while (array[j + fromIndex] > a);
+
+                    if (j < i) {
+                        break;
+                    }
+
+                    swap(array, indices, i + fromIndex, j + fromIndex);
+                }
+                array[l + 1 + fromIndex] = array[j + fromIndex];
+                indices[l + 1 + fromIndex] = indices[j + fromIndex];
+                array[j + fromIndex] = a;
+                indices[j + fromIndex] = ia;
+                if (j >= k) {
+                    ir = j - 1;
+                }
+                if (j <= k) {
+                    l = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static <T> void swap(final T[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        final var index = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = index;
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final double[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        final var index = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = index;
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final float[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        final var index = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = index;
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final int[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        final var index = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = index;
+    }
+
+    /**
+     * Swaps two positions of provided array and indices.
+     *
+     * @param array   Array where values are swapped.
+     * @param indices Indices swapped along with provided array.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private static void swap(final long[] array, final int[] indices, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+        final var index = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = index;
+    }
+
+    /**
+     * Checks provided range and number of elements to be sorted.
+     *
+     * @param length    Length of the array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > length}.
+     */
+    private static void checkRange(final int length, final int fromIndex, final int toIndex, final int k) {
+        if (fromIndex > toIndex || k < 0 || k > toIndex - fromIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,4691 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Sorts instances of type T in provided arrays using pattern-defeating
+ * Quicksort (pdqsort).
+ * Pdqsort is an Introsort that adapts to patterns found in data:
+ * <ul>
+ *     <li>When a partition does not need to move any element, both sides
+ *     are finished with an insertion sort that gives up after a few moves, so
+ *     that already sorted (or almost sorted) arrays are sorted in linear
+ *     time.</li>
+ *     <li>When chosen pivot is equal to the element preceding the subarray,
+ *     all elements equal to it are put into place at once, so that arrays
+ *     having long runs of equal elements are sorted in linear time.</li>
+ *     <li>When a partition is highly unbalanced, some elements are swapped to
+ *     break patterns that might cause further poor partitions, and if that
+ *     happens too many times the subarray is sorted using Heapsort.</li>
+ * </ul>
+ * Arrays of primitives are partitioned using branchless block partitioning,
+ * which avoids branch mispredictions when comparing against the pivot.
+ * Worst case performance is O(n log n) and no {@link SortingException} is
+ * ever thrown.
+ *
+ * @param <T> Type of instances being sorted.
+ *            <p>
+ *            This class is based on algorithm found at
+ *            Peters, O.R.L. 2021. "Pattern-defeating Quicksort",
+ *            arXiv:2106.05123.
+ *            Edelkamp, S., Weiss, A. 2016. "BlockQuicksort: How Branch
+ *            Mispredictions don't affect Quicksort", arXiv:1604.06697.
+ */
+@SuppressWarnings("Duplicates")
+public class PdqSorter<T> extends Sorter<T> {
+
+    /**
+     * Constant defining size of subarrays below which straight insertion is
+     * used.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Constant defining size of subarrays above which the pseudo-median of
+     * nine elements is used as pivot instead of the median of three.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Maximum number of elements that can be moved by an insertion sort
+     * attempted on a subarray that seems to be already sorted.
+     */
+    private static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+
+    /**
+     * Number of elements compared before any of them is moved during
+     * branchless block partitioning.
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        pdqsort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        pdqsortWithIndices(array, indices, fromIndex, toIndex, comparator);
+        return indices;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.PDQSORT_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        pdqsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        pdqsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        pdqsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        pdqsort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        pdqsort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        pdqsortWithIndices(array, indices, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        pdqsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        pdqsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        pdqsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        pdqsort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        pdqsortWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    void pdqsort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoop(array, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    void pdqsortWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                            final Comparator<T> comparator) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoopWithIndices(array, indices, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true,
+                comparator);
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort. The left partition is sorted
+     * recursively, while the right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void pdqsortLoop(final T[] array, int begin, final int end, int badAllowed, boolean leftmost,
+                             final Comparator<T> comparator) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end, comparator);
+                } else {
+                    unguardedInsertionSort(array, begin, end, comparator);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + s2, end - 1, comparator);
+                sort3(array, begin + 1, begin + s2 - 1, end - 2, comparator);
+                sort3(array, begin + 2, begin + s2 + 1, end - 3, comparator);
+                sort3(array, begin + s2 - 1, begin + s2, begin + s2 + 1, comparator);
+                swap(array, begin, begin + s2);
+            } else {
+                sort3(array, begin + s2, begin, end - 1, comparator);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && comparator.compare(array[begin - 1], array[begin]) >= 0) {
+                begin = partitionLeft(array, begin, end, comparator) + 1;
+                continue;
+            }
+
+            final var result = partitionRight(array, begin, end, comparator);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsort(array, begin, end, comparator);
+                    return;
+                }
+                breakPatterns(array, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSort(array, begin, pivotPos, comparator)
+                    && partialInsertionSort(array, pivotPos + 1, end, comparator)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoop(array, begin, pivotPos, badAllowed, leftmost, comparator);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort, applying the same reordering
+     * to provided indices. The left partition is sorted recursively, while the
+     * right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void pdqsortLoopWithIndices(final T[] array, final int[] indices, int begin, final int end, int badAllowed,
+                                        boolean leftmost, final Comparator<T> comparator) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSortWithIndices(array, indices, begin, end, comparator);
+                } else {
+                    unguardedInsertionSortWithIndices(array, indices, begin, end, comparator);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3WithIndices(array, indices, begin, begin + s2, end - 1, comparator);
+                sort3WithIndices(array, indices, begin + 1, begin + s2 - 1, end - 2, comparator);
+                sort3WithIndices(array, indices, begin + 2, begin + s2 + 1, end - 3, comparator);
+                sort3WithIndices(array, indices, begin + s2 - 1, begin + s2, begin + s2 + 1, comparator);
+                swap(array, begin, begin + s2);
+                swapIndices(indices, begin, begin + s2);
+            } else {
+                sort3WithIndices(array, indices, begin + s2, begin, end - 1, comparator);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && comparator.compare(array[begin - 1], array[begin]) >= 0) {
+                begin = partitionLeftWithIndices(array, indices, begin, end, comparator) + 1;
+                continue;
+            }
+
+            final var result = partitionRightWithIndices(array, indices, begin, end, comparator);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsortWithIndices(array, indices, begin, end, comparator);
+                    return;
+                }
+                breakPatternsWithIndices(array, indices, begin, pivotPos, end);
+            } else if (alreadyPartitioned
+                    && partialInsertionSortWithIndices(array, indices, begin, pivotPos, comparator)
+                    && partialInsertionSortWithIndices(array, indices, pivotPos + 1, end, comparator)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoopWithIndices(array, indices, begin, pivotPos, badAllowed, leftmost, comparator);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void insertionSort(final T[] array, final int begin, final int end, final Comparator<T> comparator) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, assuming that the
+     * element preceding begin is lower or equal than any element in range,
+     * so that it acts as a sentinel and no bound checks are required.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void unguardedInsertionSort(final T[] array, final int begin, final int end,
+                                        final Comparator<T> comparator) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, giving up
+     * once more than PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return true if range has been sorted, false otherwise.
+     */
+    private boolean partialInsertionSort(final T[] array, final int begin, final int end,
+                                         final Comparator<T> comparator) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}.
+     *
+     * @param array      Array containing elements to be sorted.
+     * @param a          Position of first element.
+     * @param b          Position of second element.
+     * @param c          Position of third element.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void sort3(final T[] array, final int a, final int b, final int c, final Comparator<T> comparator) {
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+        }
+        if (comparator.compare(array[c], array[b]) < 0) {
+            swap(array, b, c);
+        }
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin. Elements lower than
+     * the pivot are moved to its left, and elements greater or equal are moved
+     * to its right.
+     *
+     * @param array      Array to be partitioned.
+     * @param begin      Index were partitioning starts (inclusive). Contains
+     *                   pivot.
+     * @param end        Index were partitioning stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRight(final T[] array, final int begin, final int end, final Comparator<T> comparator) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (comparator.compare(array[first], pivot) < 0);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && comparator.compare(array[last], pivot) >= 0);
+        } else {
+            do {
+                last--;
+            } while (comparator.compare(array[last], pivot) >= 0);
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                first++;
+            } while (comparator.compare(array[first], pivot) < 0);
+            do {
+                last--;
+            } while (comparator.compare(array[last], pivot) >= 0);
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, so that elements
+     * equal to pivot are moved to its left. This is used when pivot is known
+     * to be the smallest element in range, so that all equal elements are
+     * put into place at once.
+     *
+     * @param array      Array to be partitioned.
+     * @param begin      Index were partitioning starts (inclusive). Contains pivot.
+     * @param end        Index were partitioning stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Final position of pivot.
+     */
+    private int partitionLeft(final T[] array, final int begin, final int end, final Comparator<T> comparator) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (comparator.compare(pivot, array[last]) < 0);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && comparator.compare(pivot, array[first]) >= 0);
+        } else {
+            do {
+                first++;
+            } while (comparator.compare(pivot, array[first]) >= 0);
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                last--;
+            } while (comparator.compare(pivot, array[last]) < 0);
+            do {
+                first++;
+            } while (comparator.compare(pivot, array[first]) >= 0);
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions.
+     *
+     * @param array    Array being sorted.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatterns(final T[] array, final int begin, final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, begin, begin + lSize / 4);
+            swap(array, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, begin + 1, begin + lSize / 4 + 1);
+                swap(array, begin + 2, begin + lSize / 4 + 2);
+                swap(array, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, end - 2, end - (1 + rSize / 4));
+                swap(array, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void insertionSortWithIndices(final T[] array, final int[] indices, final int begin, final int end,
+                                          final Comparator<T> comparator) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices and assuming that the element preceding
+     * begin is lower or equal than any element in range, so that it acts as a
+     * sentinel and no bound checks are required.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void unguardedInsertionSortWithIndices(final T[] array, final int[] indices, final int begin, final int end,
+                                                   final Comparator<T> comparator) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, applying the
+     * same reordering to provided indices and giving up once more than
+     * PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return true if range has been sorted, false otherwise.
+     */
+    private boolean partialInsertionSortWithIndices(final T[] array, final int[] indices, final int begin,
+                                                    final int end, final Comparator<T> comparator) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && comparator.compare(a, array[sift - 1]) < 0) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}, applying the same reordering
+     * to provided indices.
+     *
+     * @param array      Array containing elements to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param a          Position of first element.
+     * @param b          Position of second element.
+     * @param c          Position of third element.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void sort3WithIndices(final T[] array, final int[] indices, final int a, final int b, final int c,
+                                  final Comparator<T> comparator) {
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+        if (comparator.compare(array[c], array[b]) < 0) {
+            swap(array, b, c);
+            swapIndices(indices, b, c);
+        }
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices. Elements lower than the pivot are moved
+     * to its left, and elements greater or equal are moved to its right.
+     *
+     * @param array      Array to be partitioned.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were partitioning starts (inclusive). Contains
+     *                   pivot.
+     * @param end        Index were partitioning stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightWithIndices(final T[] array, final int[] indices, final int begin, final int end,
+                                          final Comparator<T> comparator) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (comparator.compare(array[first], pivot) < 0);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && comparator.compare(array[last], pivot) >= 0);
+        } else {
+            do {
+                last--;
+            } while (comparator.compare(array[last], pivot) >= 0);
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                first++;
+            } while (comparator.compare(array[first], pivot) < 0);
+            do {
+                last--;
+            } while (comparator.compare(array[last], pivot) >= 0);
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        indices[begin] = indices[pivotPos];
+        indices[pivotPos] = pivotIndex;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices, so that elements equal to pivot are
+     * moved to its left.
+     *
+     * @param array      Array to be partitioned.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were partitioning starts (inclusive). Contains
+     *                   pivot.
+     * @param end        Index were partitioning stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Final position of pivot.
+     */
+    private int partitionLeftWithIndices(final T[] array, final int[] indices, final int begin, final int end,
+                                         final Comparator<T> comparator) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (comparator.compare(pivot, array[last]) < 0);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && comparator.compare(pivot, array[first]) >= 0);
+        } else {
+            do {
+                first++;
+            } while (comparator.compare(pivot, array[first]) >= 0);
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                last--;
+            } while (comparator.compare(pivot, array[last]) < 0);
+            do {
+                first++;
+            } while (comparator.compare(pivot, array[first]) >= 0);
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+        indices[begin] = indices[last];
+        indices[last] = pivotIndex;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions, applying the
+     * same reordering to provided indices.
+     *
+     * @param array    Array being sorted.
+     * @param indices  Array containing indices to be reordered along with
+     *                 provided array.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatternsWithIndices(final T[] array, final int[] indices, final int begin, final int pivotPos,
+                                          final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, begin, begin + lSize / 4);
+            swap(array, indices, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, indices, begin + 1, begin + lSize / 4 + 1);
+                swap(array, indices, begin + 2, begin + lSize / 4 + 2);
+                swap(array, indices, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, indices, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, indices, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, indices, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, indices, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, indices, end - 2, end - (1 + rSize / 4));
+                swap(array, indices, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and in indices at locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array where indices are swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final T[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        swapIndices(indices, posA, posB);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing offsets of block partitions.
+     */
+    void pdqsort(final double[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var offsetsL = workspace.getInts(SortingWorkspace.LEFT_OFFSETS, BLOCK_SIZE);
+        final var offsetsR = workspace.getInts(SortingWorkspace.RIGHT_OFFSETS, BLOCK_SIZE);
+        pdqsortLoop(array, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true, offsetsL, offsetsR);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void pdqsortWithIndices(final double[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoopWithIndices(array, indices, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true);
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort. The left partition is sorted
+     * recursively, while the right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param offsetsL   Buffer of offsets of elements to be moved from the left
+     *                   block during branchless partitioning.
+     * @param offsetsR   Buffer of offsets of elements to be moved from the right
+     *                   block during branchless partitioning.
+     */
+    private void pdqsortLoop(final double[] array, int begin, final int end, int badAllowed, boolean leftmost,
+                             final int[] offsetsL, final int[] offsetsR) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                } else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + s2, end - 1);
+                sort3(array, begin + 1, begin + s2 - 1, end - 2);
+                sort3(array, begin + 2, begin + s2 + 1, end - 3);
+                sort3(array, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+            } else {
+                sort3(array, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightBranchless(array, begin, end, offsetsL, offsetsR);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsort(array, begin, end);
+                    return;
+                }
+                breakPatterns(array, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSort(array, begin, pivotPos)
+                    && partialInsertionSort(array, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoop(array, begin, pivotPos, badAllowed, leftmost, offsetsL, offsetsR);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort, applying the same reordering
+     * to provided indices. The left partition is sorted recursively, while the
+     * right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     */
+    private void pdqsortLoopWithIndices(final double[] array, final int[] indices, int begin, final int end,
+                                        int badAllowed, boolean leftmost) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSortWithIndices(array, indices, begin, end);
+                } else {
+                    unguardedInsertionSortWithIndices(array, indices, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3WithIndices(array, indices, begin, begin + s2, end - 1);
+                sort3WithIndices(array, indices, begin + 1, begin + s2 - 1, end - 2);
+                sort3WithIndices(array, indices, begin + 2, begin + s2 + 1, end - 3);
+                sort3WithIndices(array, indices, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+                swapIndices(indices, begin, begin + s2);
+            } else {
+                sort3WithIndices(array, indices, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeftWithIndices(array, indices, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightWithIndices(array, indices, begin, end);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsortWithIndices(array, indices, begin, end);
+                    return;
+                }
+                breakPatternsWithIndices(array, indices, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSortWithIndices(array, indices, begin, pivotPos)
+                    && partialInsertionSortWithIndices(array, indices, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoopWithIndices(array, indices, begin, pivotPos, badAllowed, leftmost);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final double[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, assuming that the
+     * element preceding begin is lower or equal than any element in range,
+     * so that it acts as a sentinel and no bound checks are required.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSort(final double[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, giving up
+     * once more than PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSort(final double[] array, final int begin, final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}.
+     *
+     * @param array Array containing elements to be sorted.
+     * @param a     Position of first element.
+     * @param b     Position of second element.
+     * @param c     Position of third element.
+     */
+    private void sort3(final double[] array, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin using branchless
+     * block partitioning. Elements lower than the pivot are moved to its left,
+     * and elements greater or equal are moved to its right. Comparisons of a
+     * whole block are stored as offsets before any element is moved, so that
+     * branch mispredictions are avoided.
+     *
+     * @param array    Array to be partitioned.
+     * @param begin    Index were partitioning starts (inclusive). Contains
+     *                 pivot.
+     * @param end      Index were partitioning stops (exclusive).
+     * @param offsetsL Buffer of offsets of elements to be moved from the left
+     *                 block.
+     * @param offsetsR Buffer of offsets of elements to be moved from the right
+     *                 block.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightBranchless(final double[] array, final int begin, final int end, final int[] offsetsL,
+                                         final int[] offsetsR) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            swap(array, first, last);
+            first++;
+
+            var offsetsLBase = first;
+            var offsetsRBase = last;
+            var numL = 0;
+            var numR = 0;
+            var startL = 0;
+            var startR = 0;
+            while (first < last) {
+                // Fill up offset blocks with elements on the wrong side
+                final var numUnknown = last - first;
+                final var leftSplit = numL == 0 ? (numR == 0 ? numUnknown / 2 : numUnknown) : 0;
+                final var rightSplit = numR == 0 ? (numUnknown - leftSplit) : 0;
+
+                if (numL == 0) {
+                    final var count = Math.min(leftSplit, BLOCK_SIZE);
+                    for (int i = 0; i < count; i++) {
+                        offsetsL[numL] = i;
+                        numL += array[first++] < pivot ? 0 : 1;
+                    }
+                }
+                if (numR == 0) {
+                    final var count = Math.min(rightSplit, BLOCK_SIZE);
+                    for (int i = 1; i <= count; i++) {
+                        offsetsR[numR] = i;
+                        numR += array[--last] < pivot ? 1 : 0;
+                    }
+                }
+
+                // Swap elements and update block sizes and first/last
+                // boundaries
+                final var num = Math.min(numL, numR);
+                swapOffsets(array, offsetsLBase, offsetsRBase, offsetsL, startL, offsetsR, startR, num,
+                        numL == numR);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+
+                if (numL == 0) {
+                    startL = 0;
+                    offsetsLBase = first;
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    offsetsRBase = last;
+                }
+            }
+
+            // Process remaining elements of at most one block
+            if (numL != 0) {
+                while (numL-- > 0) {
+                    swap(array, offsetsLBase + offsetsL[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR != 0) {
+                while (numR-- > 0) {
+                    swap(array, offsetsRBase - offsetsR[startR + numR], first++);
+                }
+            }
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Swaps elements found on the wrong side of the pivot during branchless
+     * block partitioning.
+     *
+     * @param array        Array being partitioned.
+     * @param offsetsLBase Position offsets of left block are relative to.
+     * @param offsetsRBase Position offsets of right block are relative to.
+     * @param offsetsL     Offsets of elements to be moved from left block.
+     * @param startL       First offset to be used in left block.
+     * @param offsetsR     Offsets of elements to be moved from right block.
+     * @param startR       First offset to be used in right block.
+     * @param num          Number of elements to be swapped.
+     * @param useSwaps     True to use plain swaps, false to use a cyclic
+     *                     permutation requiring fewer moves.
+     */
+    private void swapOffsets(final double[] array, final int offsetsLBase, final int offsetsRBase, final int[] offsetsL,
+                             final int startL, final int[] offsetsR, final int startR, final int num,
+                             final boolean useSwaps) {
+        if (useSwaps) {
+            // If both blocks have the same number of elements on the wrong
+            // side, a cyclic permutation might create new elements on the
+            // wrong side
+            for (int i = 0; i < num; i++) {
+                swap(array, offsetsLBase + offsetsL[startL + i], offsetsRBase - offsetsR[startR + i]);
+            }
+        } else if (num > 0) {
+            var l = offsetsLBase + offsetsL[startL];
+            var r = offsetsRBase - offsetsR[startR];
+            final var tmp = array[l];
+            array[l] = array[r];
+            for (int i = 1; i < num; i++) {
+                l = offsetsLBase + offsetsL[startL + i];
+                array[r] = array[l];
+                r = offsetsRBase - offsetsR[startR + i];
+                array[l] = array[r];
+            }
+            array[r] = tmp;
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, so that elements
+     * equal to pivot are moved to its left. This is used when pivot is known
+     * to be the smallest element in range, so that all equal elements are
+     * put into place at once.
+     *
+     * @param array Array to be partitioned.
+     * @param begin Index were partitioning starts (inclusive). Contains pivot.
+     * @param end   Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeft(final double[] array, final int begin, final int end) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions.
+     *
+     * @param array    Array being sorted.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatterns(final double[] array, final int begin, final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, begin, begin + lSize / 4);
+            swap(array, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, begin + 1, begin + lSize / 4 + 1);
+                swap(array, begin + 2, begin + lSize / 4 + 2);
+                swap(array, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, end - 2, end - (1 + rSize / 4));
+                swap(array, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void insertionSortWithIndices(final double[] array, final int[] indices, final int begin,
+                                                 final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices and assuming that the element preceding
+     * begin is lower or equal than any element in range, so that it acts as a
+     * sentinel and no bound checks are required.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSortWithIndices(final double[] array, final int[] indices, final int begin,
+                                                          final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, applying the
+     * same reordering to provided indices and giving up once more than
+     * PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSortWithIndices(final double[] array, final int[] indices, final int begin,
+                                                           final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}, applying the same reordering
+     * to provided indices.
+     *
+     * @param array   Array containing elements to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param a       Position of first element.
+     * @param b       Position of second element.
+     * @param c       Position of third element.
+     */
+    private void sort3WithIndices(final double[] array, final int[] indices, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+            swapIndices(indices, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices. Elements lower than the pivot are moved
+     * to its left, and elements greater or equal are moved to its right.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightWithIndices(final double[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                first++;
+            } while (array[first] < pivot);
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        indices[begin] = indices[pivotPos];
+        indices[pivotPos] = pivotIndex;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices, so that elements equal to pivot are
+     * moved to its left.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeftWithIndices(final double[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+        indices[begin] = indices[last];
+        indices[last] = pivotIndex;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions, applying the
+     * same reordering to provided indices.
+     *
+     * @param array    Array being sorted.
+     * @param indices  Array containing indices to be reordered along with
+     *                 provided array.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatternsWithIndices(final double[] array, final int[] indices, final int begin,
+                                          final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, begin, begin + lSize / 4);
+            swap(array, indices, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, indices, begin + 1, begin + lSize / 4 + 1);
+                swap(array, indices, begin + 2, begin + lSize / 4 + 2);
+                swap(array, indices, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, indices, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, indices, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, indices, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, indices, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, indices, end - 2, end - (1 + rSize / 4));
+                swap(array, indices, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and in indices at locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array where indices are swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final double[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        swapIndices(indices, posA, posB);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing offsets of block partitions.
+     */
+    void pdqsort(final float[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var offsetsL = workspace.getInts(SortingWorkspace.LEFT_OFFSETS, BLOCK_SIZE);
+        final var offsetsR = workspace.getInts(SortingWorkspace.RIGHT_OFFSETS, BLOCK_SIZE);
+        pdqsortLoop(array, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true, offsetsL, offsetsR);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void pdqsortWithIndices(final float[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoopWithIndices(array, indices, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true);
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort. The left partition is sorted
+     * recursively, while the right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param offsetsL   Buffer of offsets of elements to be moved from the left
+     *                   block during branchless partitioning.
+     * @param offsetsR   Buffer of offsets of elements to be moved from the right
+     *                   block during branchless partitioning.
+     */
+    private void pdqsortLoop(final float[] array, int begin, final int end, int badAllowed, boolean leftmost,
+                             final int[] offsetsL, final int[] offsetsR) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                } else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + s2, end - 1);
+                sort3(array, begin + 1, begin + s2 - 1, end - 2);
+                sort3(array, begin + 2, begin + s2 + 1, end - 3);
+                sort3(array, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+            } else {
+                sort3(array, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightBranchless(array, begin, end, offsetsL, offsetsR);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsort(array, begin, end);
+                    return;
+                }
+                breakPatterns(array, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSort(array, begin, pivotPos)
+                    && partialInsertionSort(array, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoop(array, begin, pivotPos, badAllowed, leftmost, offsetsL, offsetsR);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort, applying the same reordering
+     * to provided indices. The left partition is sorted recursively, while the
+     * right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     */
+    private void pdqsortLoopWithIndices(final float[] array, final int[] indices, int begin, final int end,
+                                        int badAllowed, boolean leftmost) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSortWithIndices(array, indices, begin, end);
+                } else {
+                    unguardedInsertionSortWithIndices(array, indices, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3WithIndices(array, indices, begin, begin + s2, end - 1);
+                sort3WithIndices(array, indices, begin + 1, begin + s2 - 1, end - 2);
+                sort3WithIndices(array, indices, begin + 2, begin + s2 + 1, end - 3);
+                sort3WithIndices(array, indices, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+                swapIndices(indices, begin, begin + s2);
+            } else {
+                sort3WithIndices(array, indices, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeftWithIndices(array, indices, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightWithIndices(array, indices, begin, end);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsortWithIndices(array, indices, begin, end);
+                    return;
+                }
+                breakPatternsWithIndices(array, indices, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSortWithIndices(array, indices, begin, pivotPos)
+                    && partialInsertionSortWithIndices(array, indices, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoopWithIndices(array, indices, begin, pivotPos, badAllowed, leftmost);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final float[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, assuming that the
+     * element preceding begin is lower or equal than any element in range,
+     * so that it acts as a sentinel and no bound checks are required.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSort(final float[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, giving up
+     * once more than PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSort(final float[] array, final int begin, final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}.
+     *
+     * @param array Array containing elements to be sorted.
+     * @param a     Position of first element.
+     * @param b     Position of second element.
+     * @param c     Position of third element.
+     */
+    private void sort3(final float[] array, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin using branchless
+     * block partitioning. Elements lower than the pivot are moved to its left,
+     * and elements greater or equal are moved to its right. Comparisons of a
+     * whole block are stored as offsets before any element is moved, so that
+     * branch mispredictions are avoided.
+     *
+     * @param array    Array to be partitioned.
+     * @param begin    Index were partitioning starts (inclusive). Contains
+     *                 pivot.
+     * @param end      Index were partitioning stops (exclusive).
+     * @param offsetsL Buffer of offsets of elements to be moved from the left
+     *                 block.
+     * @param offsetsR Buffer of offsets of elements to be moved from the right
+     *                 block.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightBranchless(final float[] array, final int begin, final int end, final int[] offsetsL,
+                                         final int[] offsetsR) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            swap(array, first, last);
+            first++;
+
+            var offsetsLBase = first;
+            var offsetsRBase = last;
+            var numL = 0;
+            var numR = 0;
+            var startL = 0;
+            var startR = 0;
+            while (first < last) {
+                // Fill up offset blocks with elements on the wrong side
+                final var numUnknown = last - first;
+                final var leftSplit = numL == 0 ? (numR == 0 ? numUnknown / 2 : numUnknown) : 0;
+                final var rightSplit = numR == 0 ? (numUnknown - leftSplit) : 0;
+
+                if (numL == 0) {
+                    final var count = Math.min(leftSplit, BLOCK_SIZE);
+                    for (int i = 0; i < count; i++) {
+                        offsetsL[numL] = i;
+                        numL += array[first++] < pivot ? 0 : 1;
+                    }
+                }
+                if (numR == 0) {
+                    final var count = Math.min(rightSplit, BLOCK_SIZE);
+                    for (int i = 1; i <= count; i++) {
+                        offsetsR[numR] = i;
+                        numR += array[--last] < pivot ? 1 : 0;
+                    }
+                }
+
+                // Swap elements and update block sizes and first/last
+                // boundaries
+                final var num = Math.min(numL, numR);
+                swapOffsets(array, offsetsLBase, offsetsRBase, offsetsL, startL, offsetsR, startR, num,
+                        numL == numR);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+
+                if (numL == 0) {
+                    startL = 0;
+                    offsetsLBase = first;
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    offsetsRBase = last;
+                }
+            }
+
+            // Process remaining elements of at most one block
+            if (numL != 0) {
+                while (numL-- > 0) {
+                    swap(array, offsetsLBase + offsetsL[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR != 0) {
+                while (numR-- > 0) {
+                    swap(array, offsetsRBase - offsetsR[startR + numR], first++);
+                }
+            }
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Swaps elements found on the wrong side of the pivot during branchless
+     * block partitioning.
+     *
+     * @param array        Array being partitioned.
+     * @param offsetsLBase Position offsets of left block are relative to.
+     * @param offsetsRBase Position offsets of right block are relative to.
+     * @param offsetsL     Offsets of elements to be moved from left block.
+     * @param startL       First offset to be used in left block.
+     * @param offsetsR     Offsets of elements to be moved from right block.
+     * @param startR       First offset to be used in right block.
+     * @param num          Number of elements to be swapped.
+     * @param useSwaps     True to use plain swaps, false to use a cyclic
+     *                     permutation requiring fewer moves.
+     */
+    private void swapOffsets(final float[] array, final int offsetsLBase, final int offsetsRBase, final int[] offsetsL,
+                             final int startL, final int[] offsetsR, final int startR, final int num,
+                             final boolean useSwaps) {
+        if (useSwaps) {
+            // If both blocks have the same number of elements on the wrong
+            // side, a cyclic permutation might create new elements on the
+            // wrong side
+            for (int i = 0; i < num; i++) {
+                swap(array, offsetsLBase + offsetsL[startL + i], offsetsRBase - offsetsR[startR + i]);
+            }
+        } else if (num > 0) {
+            var l = offsetsLBase + offsetsL[startL];
+            var r = offsetsRBase - offsetsR[startR];
+            final var tmp = array[l];
+            array[l] = array[r];
+            for (int i = 1; i < num; i++) {
+                l = offsetsLBase + offsetsL[startL + i];
+                array[r] = array[l];
+                r = offsetsRBase - offsetsR[startR + i];
+                array[l] = array[r];
+            }
+            array[r] = tmp;
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, so that elements
+     * equal to pivot are moved to its left. This is used when pivot is known
+     * to be the smallest element in range, so that all equal elements are
+     * put into place at once.
+     *
+     * @param array Array to be partitioned.
+     * @param begin Index were partitioning starts (inclusive). Contains pivot.
+     * @param end   Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeft(final float[] array, final int begin, final int end) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions.
+     *
+     * @param array    Array being sorted.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatterns(final float[] array, final int begin, final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, begin, begin + lSize / 4);
+            swap(array, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, begin + 1, begin + lSize / 4 + 1);
+                swap(array, begin + 2, begin + lSize / 4 + 2);
+                swap(array, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, end - 2, end - (1 + rSize / 4));
+                swap(array, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void insertionSortWithIndices(final float[] array, final int[] indices, final int begin,
+                                                 final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices and assuming that the element preceding
+     * begin is lower or equal than any element in range, so that it acts as a
+     * sentinel and no bound checks are required.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSortWithIndices(final float[] array, final int[] indices, final int begin,
+                                                          final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, applying the
+     * same reordering to provided indices and giving up once more than
+     * PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSortWithIndices(final float[] array, final int[] indices, final int begin,
+                                                           final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}, applying the same reordering
+     * to provided indices.
+     *
+     * @param array   Array containing elements to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param a       Position of first element.
+     * @param b       Position of second element.
+     * @param c       Position of third element.
+     */
+    private void sort3WithIndices(final float[] array, final int[] indices, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+            swapIndices(indices, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices. Elements lower than the pivot are moved
+     * to its left, and elements greater or equal are moved to its right.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightWithIndices(final float[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                first++;
+            } while (array[first] < pivot);
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        indices[begin] = indices[pivotPos];
+        indices[pivotPos] = pivotIndex;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices, so that elements equal to pivot are
+     * moved to its left.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeftWithIndices(final float[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+        indices[begin] = indices[last];
+        indices[last] = pivotIndex;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions, applying the
+     * same reordering to provided indices.
+     *
+     * @param array    Array being sorted.
+     * @param indices  Array containing indices to be reordered along with
+     *                 provided array.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatternsWithIndices(final float[] array, final int[] indices, final int begin, final int pivotPos,
+                                          final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, begin, begin + lSize / 4);
+            swap(array, indices, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, indices, begin + 1, begin + lSize / 4 + 1);
+                swap(array, indices, begin + 2, begin + lSize / 4 + 2);
+                swap(array, indices, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, indices, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, indices, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, indices, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, indices, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, indices, end - 2, end - (1 + rSize / 4));
+                swap(array, indices, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and in indices at locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array where indices are swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final float[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        swapIndices(indices, posA, posB);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing offsets of block partitions.
+     */
+    void pdqsort(final int[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var offsetsL = workspace.getInts(SortingWorkspace.LEFT_OFFSETS, BLOCK_SIZE);
+        final var offsetsR = workspace.getInts(SortingWorkspace.RIGHT_OFFSETS, BLOCK_SIZE);
+        pdqsortLoop(array, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true, offsetsL, offsetsR);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void pdqsortWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoopWithIndices(array, indices, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true);
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort. The left partition is sorted
+     * recursively, while the right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param offsetsL   Buffer of offsets of elements to be moved from the left
+     *                   block during branchless partitioning.
+     * @param offsetsR   Buffer of offsets of elements to be moved from the right
+     *                   block during branchless partitioning.
+     */
+    private void pdqsortLoop(final int[] array, int begin, final int end, int badAllowed, boolean leftmost,
+                             final int[] offsetsL, final int[] offsetsR) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                } else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + s2, end - 1);
+                sort3(array, begin + 1, begin + s2 - 1, end - 2);
+                sort3(array, begin + 2, begin + s2 + 1, end - 3);
+                sort3(array, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+            } else {
+                sort3(array, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightBranchless(array, begin, end, offsetsL, offsetsR);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsort(array, begin, end);
+                    return;
+                }
+                breakPatterns(array, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSort(array, begin, pivotPos)
+                    && partialInsertionSort(array, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoop(array, begin, pivotPos, badAllowed, leftmost, offsetsL, offsetsR);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort, applying the same reordering
+     * to provided indices. The left partition is sorted recursively, while the
+     * right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     */
+    private void pdqsortLoopWithIndices(final int[] array, final int[] indices, int begin, final int end,
+                                        int badAllowed, boolean leftmost) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSortWithIndices(array, indices, begin, end);
+                } else {
+                    unguardedInsertionSortWithIndices(array, indices, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3WithIndices(array, indices, begin, begin + s2, end - 1);
+                sort3WithIndices(array, indices, begin + 1, begin + s2 - 1, end - 2);
+                sort3WithIndices(array, indices, begin + 2, begin + s2 + 1, end - 3);
+                sort3WithIndices(array, indices, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+                swapIndices(indices, begin, begin + s2);
+            } else {
+                sort3WithIndices(array, indices, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeftWithIndices(array, indices, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightWithIndices(array, indices, begin, end);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsortWithIndices(array, indices, begin, end);
+                    return;
+                }
+                breakPatternsWithIndices(array, indices, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSortWithIndices(array, indices, begin, pivotPos)
+                    && partialInsertionSortWithIndices(array, indices, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoopWithIndices(array, indices, begin, pivotPos, badAllowed, leftmost);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final int[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, assuming that the
+     * element preceding begin is lower or equal than any element in range,
+     * so that it acts as a sentinel and no bound checks are required.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSort(final int[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, giving up
+     * once more than PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSort(final int[] array, final int begin, final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}.
+     *
+     * @param array Array containing elements to be sorted.
+     * @param a     Position of first element.
+     * @param b     Position of second element.
+     * @param c     Position of third element.
+     */
+    private void sort3(final int[] array, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin using branchless
+     * block partitioning. Elements lower than the pivot are moved to its left,
+     * and elements greater or equal are moved to its right. Comparisons of a
+     * whole block are stored as offsets before any element is moved, so that
+     * branch mispredictions are avoided.
+     *
+     * @param array    Array to be partitioned.
+     * @param begin    Index were partitioning starts (inclusive). Contains
+     *                 pivot.
+     * @param end      Index were partitioning stops (exclusive).
+     * @param offsetsL Buffer of offsets of elements to be moved from the left
+     *                 block.
+     * @param offsetsR Buffer of offsets of elements to be moved from the right
+     *                 block.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightBranchless(final int[] array, final int begin, final int end, final int[] offsetsL,
+                                         final int[] offsetsR) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            swap(array, first, last);
+            first++;
+
+            var offsetsLBase = first;
+            var offsetsRBase = last;
+            var numL = 0;
+            var numR = 0;
+            var startL = 0;
+            var startR = 0;
+            while (first < last) {
+                // Fill up offset blocks with elements on the wrong side
+                final var numUnknown = last - first;
+                final var leftSplit = numL == 0 ? (numR == 0 ? numUnknown / 2 : numUnknown) : 0;
+                final var rightSplit = numR == 0 ? (numUnknown - leftSplit) : 0;
+
+                if (numL == 0) {
+                    final var count = Math.min(leftSplit, BLOCK_SIZE);
+                    for (int i = 0; i < count; i++) {
+                        offsetsL[numL] = i;
+                        numL += array[first++] < pivot ? 0 : 1;
+                    }
+                }
+                if (numR == 0) {
+                    final var count = Math.min(rightSplit, BLOCK_SIZE);
+                    for (int i = 1; i <= count; i++) {
+                        offsetsR[numR] = i;
+                        numR += array[--last] < pivot ? 1 : 0;
+                    }
+                }
+
+                // Swap elements and update block sizes and first/last
+                // boundaries
+                final var num = Math.min(numL, numR);
+                swapOffsets(array, offsetsLBase, offsetsRBase, offsetsL, startL, offsetsR, startR, num,
+                        numL == numR);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+
+                if (numL == 0) {
+                    startL = 0;
+                    offsetsLBase = first;
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    offsetsRBase = last;
+                }
+            }
+
+            // Process remaining elements of at most one block
+            if (numL != 0) {
+                while (numL-- > 0) {
+                    swap(array, offsetsLBase + offsetsL[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR != 0) {
+                while (numR-- > 0) {
+                    swap(array, offsetsRBase - offsetsR[startR + numR], first++);
+                }
+            }
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Swaps elements found on the wrong side of the pivot during branchless
+     * block partitioning.
+     *
+     * @param array        Array being partitioned.
+     * @param offsetsLBase Position offsets of left block are relative to.
+     * @param offsetsRBase Position offsets of right block are relative to.
+     * @param offsetsL     Offsets of elements to be moved from left block.
+     * @param startL       First offset to be used in left block.
+     * @param offsetsR     Offsets of elements to be moved from right block.
+     * @param startR       First offset to be used in right block.
+     * @param num          Number of elements to be swapped.
+     * @param useSwaps     True to use plain swaps, false to use a cyclic
+     *                     permutation requiring fewer moves.
+     */
+    private void swapOffsets(final int[] array, final int offsetsLBase, final int offsetsRBase, final int[] offsetsL,
+                             final int startL, final int[] offsetsR, final int startR, final int num,
+                             final boolean useSwaps) {
+        if (useSwaps) {
+            // If both blocks have the same number of elements on the wrong
+            // side, a cyclic permutation might create new elements on the
+            // wrong side
+            for (int i = 0; i < num; i++) {
+                swap(array, offsetsLBase + offsetsL[startL + i], offsetsRBase - offsetsR[startR + i]);
+            }
+        } else if (num > 0) {
+            var l = offsetsLBase + offsetsL[startL];
+            var r = offsetsRBase - offsetsR[startR];
+            final var tmp = array[l];
+            array[l] = array[r];
+            for (int i = 1; i < num; i++) {
+                l = offsetsLBase + offsetsL[startL + i];
+                array[r] = array[l];
+                r = offsetsRBase - offsetsR[startR + i];
+                array[l] = array[r];
+            }
+            array[r] = tmp;
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, so that elements
+     * equal to pivot are moved to its left. This is used when pivot is known
+     * to be the smallest element in range, so that all equal elements are
+     * put into place at once.
+     *
+     * @param array Array to be partitioned.
+     * @param begin Index were partitioning starts (inclusive). Contains pivot.
+     * @param end   Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeft(final int[] array, final int begin, final int end) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions.
+     *
+     * @param array    Array being sorted.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatterns(final int[] array, final int begin, final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, begin, begin + lSize / 4);
+            swap(array, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, begin + 1, begin + lSize / 4 + 1);
+                swap(array, begin + 2, begin + lSize / 4 + 2);
+                swap(array, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, end - 2, end - (1 + rSize / 4));
+                swap(array, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void insertionSortWithIndices(final int[] array, final int[] indices, final int begin,
+                                                 final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices and assuming that the element preceding
+     * begin is lower or equal than any element in range, so that it acts as a
+     * sentinel and no bound checks are required.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSortWithIndices(final int[] array, final int[] indices, final int begin,
+                                                          final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, applying the
+     * same reordering to provided indices and giving up once more than
+     * PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSortWithIndices(final int[] array, final int[] indices, final int begin,
+                                                           final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}, applying the same reordering
+     * to provided indices.
+     *
+     * @param array   Array containing elements to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param a       Position of first element.
+     * @param b       Position of second element.
+     * @param c       Position of third element.
+     */
+    private void sort3WithIndices(final int[] array, final int[] indices, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+            swapIndices(indices, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices. Elements lower than the pivot are moved
+     * to its left, and elements greater or equal are moved to its right.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightWithIndices(final int[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                first++;
+            } while (array[first] < pivot);
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        indices[begin] = indices[pivotPos];
+        indices[pivotPos] = pivotIndex;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices, so that elements equal to pivot are
+     * moved to its left.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeftWithIndices(final int[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+        indices[begin] = indices[last];
+        indices[last] = pivotIndex;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions, applying the
+     * same reordering to provided indices.
+     *
+     * @param array    Array being sorted.
+     * @param indices  Array containing indices to be reordered along with
+     *                 provided array.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatternsWithIndices(final int[] array, final int[] indices, final int begin, final int pivotPos,
+                                          final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, begin, begin + lSize / 4);
+            swap(array, indices, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, indices, begin + 1, begin + lSize / 4 + 1);
+                swap(array, indices, begin + 2, begin + lSize / 4 + 2);
+                swap(array, indices, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, indices, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, indices, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, indices, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, indices, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, indices, end - 2, end - (1 + rSize / 4));
+                swap(array, indices, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and in indices at locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array where indices are swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final int[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        swapIndices(indices, posA, posB);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing offsets of block partitions.
+     */
+    void pdqsort(final long[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var offsetsL = workspace.getInts(SortingWorkspace.LEFT_OFFSETS, BLOCK_SIZE);
+        final var offsetsR = workspace.getInts(SortingWorkspace.RIGHT_OFFSETS, BLOCK_SIZE);
+        pdqsortLoop(array, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true, offsetsL, offsetsR);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void pdqsortWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        pdqsortLoopWithIndices(array, indices, fromIndex, toIndex, getBadAllowed(toIndex - fromIndex), true);
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort. The left partition is sorted
+     * recursively, while the right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     * @param offsetsL   Buffer of offsets of elements to be moved from the left
+     *                   block during branchless partitioning.
+     * @param offsetsR   Buffer of offsets of elements to be moved from the right
+     *                   block during branchless partitioning.
+     */
+    private void pdqsortLoop(final long[] array, int begin, final int end, int badAllowed, boolean leftmost,
+                             final int[] offsetsL, final int[] offsetsR) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSort(array, begin, end);
+                } else {
+                    unguardedInsertionSort(array, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + s2, end - 1);
+                sort3(array, begin + 1, begin + s2 - 1, end - 2);
+                sort3(array, begin + 2, begin + s2 + 1, end - 3);
+                sort3(array, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+            } else {
+                sort3(array, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightBranchless(array, begin, end, offsetsL, offsetsR);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsort(array, begin, end);
+                    return;
+                }
+                breakPatterns(array, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSort(array, begin, pivotPos)
+                    && partialInsertionSort(array, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoop(array, begin, pivotPos, badAllowed, leftmost, offsetsL, offsetsR);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Main loop of pattern-defeating quicksort, applying the same reordering
+     * to provided indices. The left partition is sorted recursively, while the
+     * right one is sorted by iterating.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param begin      Index were sorting starts (inclusive).
+     * @param end        Index were sorting stops (exclusive).
+     * @param badAllowed Number of highly unbalanced partitions still allowed
+     *                   before switching to Heapsort.
+     * @param leftmost   True if range is the leftmost one of the array being
+     *                   sorted, false if the element preceding begin is known to
+     *                   be lower or equal than any element in range.
+     */
+    private void pdqsortLoopWithIndices(final long[] array, final int[] indices, int begin, final int end,
+                                        int badAllowed, boolean leftmost) {
+        for (; ; ) {
+            final var size = end - begin;
+
+            // Insertion sort when subarray is small enough
+            if (size < INSERTION_SORT_THRESHOLD) {
+                if (leftmost) {
+                    insertionSortWithIndices(array, indices, begin, end);
+                } else {
+                    unguardedInsertionSortWithIndices(array, indices, begin, end);
+                }
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it
+            // to begin
+            final var s2 = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3WithIndices(array, indices, begin, begin + s2, end - 1);
+                sort3WithIndices(array, indices, begin + 1, begin + s2 - 1, end - 2);
+                sort3WithIndices(array, indices, begin + 2, begin + s2 + 1, end - 3);
+                sort3WithIndices(array, indices, begin + s2 - 1, begin + s2, begin + s2 + 1);
+                swap(array, begin, begin + s2);
+                swapIndices(indices, begin, begin + s2);
+            } else {
+                sort3WithIndices(array, indices, begin + s2, begin, end - 1);
+            }
+
+            // If pivot is equal to the element preceding this range, then
+            // it is the smallest element in range. Put all elements equal to
+            // pivot on the left side, since they don't need to be sorted
+            // anymore
+            if (!leftmost && !(array[begin - 1] < array[begin])) {
+                begin = partitionLeftWithIndices(array, indices, begin, end) + 1;
+                continue;
+            }
+
+            final var result = partitionRightWithIndices(array, indices, begin, end);
+            final var alreadyPartitioned = result < 0;
+            final var pivotPos = alreadyPartitioned ? ~result : result;
+
+            final var lSize = pivotPos - begin;
+            final var rSize = end - (pivotPos + 1);
+            if (lSize < size / 8 || rSize < size / 8) {
+                // Highly unbalanced partition. If too many have happened,
+                // switch to Heapsort to guarantee O(n log n) worst case
+                if (--badAllowed == 0) {
+                    HeapsortSorter.heapsortWithIndices(array, indices, begin, end);
+                    return;
+                }
+                breakPatternsWithIndices(array, indices, begin, pivotPos, end);
+            } else if (alreadyPartitioned && partialInsertionSortWithIndices(array, indices, begin, pivotPos)
+                    && partialInsertionSortWithIndices(array, indices, pivotPos + 1, end)) {
+                // Partition was balanced and no element had to be moved, so
+                // range was probably already sorted. Attempt insertion sort
+                // and give up if too many elements have to be moved
+                return;
+            }
+
+            // Sort left partition recursively and right one by iterating
+            pdqsortLoopWithIndices(array, indices, begin, pivotPos, badAllowed, leftmost);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void insertionSort(final long[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, assuming that the
+     * element preceding begin is lower or equal than any element in range,
+     * so that it acts as a sentinel and no bound checks are required.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSort(final long[] array, final int begin, final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, giving up
+     * once more than PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array Array to be sorted.
+     * @param begin Index were sorting starts (inclusive).
+     * @param end   Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSort(final long[] array, final int begin, final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}.
+     *
+     * @param array Array containing elements to be sorted.
+     * @param a     Position of first element.
+     * @param b     Position of second element.
+     * @param c     Position of third element.
+     */
+    private void sort3(final long[] array, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin using branchless
+     * block partitioning. Elements lower than the pivot are moved to its left,
+     * and elements greater or equal are moved to its right. Comparisons of a
+     * whole block are stored as offsets before any element is moved, so that
+     * branch mispredictions are avoided.
+     *
+     * @param array    Array to be partitioned.
+     * @param begin    Index were partitioning starts (inclusive). Contains
+     *                 pivot.
+     * @param end      Index were partitioning stops (exclusive).
+     * @param offsetsL Buffer of offsets of elements to be moved from the left
+     *                 block.
+     * @param offsetsR Buffer of offsets of elements to be moved from the right
+     *                 block.
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightBranchless(final long[] array, final int begin, final int end, final int[] offsetsL,
+                                         final int[] offsetsR) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            swap(array, first, last);
+            first++;
+
+            var offsetsLBase = first;
+            var offsetsRBase = last;
+            var numL = 0;
+            var numR = 0;
+            var startL = 0;
+            var startR = 0;
+            while (first < last) {
+                // Fill up offset blocks with elements on the wrong side
+                final var numUnknown = last - first;
+                final var leftSplit = numL == 0 ? (numR == 0 ? numUnknown / 2 : numUnknown) : 0;
+                final var rightSplit = numR == 0 ? (numUnknown - leftSplit) : 0;
+
+                if (numL == 0) {
+                    final var count = Math.min(leftSplit, BLOCK_SIZE);
+                    for (int i = 0; i < count; i++) {
+                        offsetsL[numL] = i;
+                        numL += array[first++] < pivot ? 0 : 1;
+                    }
+                }
+                if (numR == 0) {
+                    final var count = Math.min(rightSplit, BLOCK_SIZE);
+                    for (int i = 1; i <= count; i++) {
+                        offsetsR[numR] = i;
+                        numR += array[--last] < pivot ? 1 : 0;
+                    }
+                }
+
+                // Swap elements and update block sizes and first/last
+                // boundaries
+                final var num = Math.min(numL, numR);
+                swapOffsets(array, offsetsLBase, offsetsRBase, offsetsL, startL, offsetsR, startR, num,
+                        numL == numR);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+
+                if (numL == 0) {
+                    startL = 0;
+                    offsetsLBase = first;
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    offsetsRBase = last;
+                }
+            }
+
+            // Process remaining elements of at most one block
+            if (numL != 0) {
+                while (numL-- > 0) {
+                    swap(array, offsetsLBase + offsetsL[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR != 0) {
+                while (numR-- > 0) {
+                    swap(array, offsetsRBase - offsetsR[startR + numR], first++);
+                }
+            }
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Swaps elements found on the wrong side of the pivot during branchless
+     * block partitioning.
+     *
+     * @param array        Array being partitioned.
+     * @param offsetsLBase Position offsets of left block are relative to.
+     * @param offsetsRBase Position offsets of right block are relative to.
+     * @param offsetsL     Offsets of elements to be moved from left block.
+     * @param startL       First offset to be used in left block.
+     * @param offsetsR     Offsets of elements to be moved from right block.
+     * @param startR       First offset to be used in right block.
+     * @param num          Number of elements to be swapped.
+     * @param useSwaps     True to use plain swaps, false to use a cyclic
+     *                     permutation requiring fewer moves.
+     */
+    private void swapOffsets(final long[] array, final int offsetsLBase, final int offsetsRBase, final int[] offsetsL,
+                             final int startL, final int[] offsetsR, final int startR, final int num,
+                             final boolean useSwaps) {
+        if (useSwaps) {
+            // If both blocks have the same number of elements on the wrong
+            // side, a cyclic permutation might create new elements on the
+            // wrong side
+            for (int i = 0; i < num; i++) {
+                swap(array, offsetsLBase + offsetsL[startL + i], offsetsRBase - offsetsR[startR + i]);
+            }
+        } else if (num > 0) {
+            var l = offsetsLBase + offsetsL[startL];
+            var r = offsetsRBase - offsetsR[startR];
+            final var tmp = array[l];
+            array[l] = array[r];
+            for (int i = 1; i < num; i++) {
+                l = offsetsLBase + offsetsL[startL + i];
+                array[r] = array[l];
+                r = offsetsRBase - offsetsR[startR + i];
+                array[l] = array[r];
+            }
+            array[r] = tmp;
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, so that elements
+     * equal to pivot are moved to its left. This is used when pivot is known
+     * to be the smallest element in range, so that all equal elements are
+     * put into place at once.
+     *
+     * @param array Array to be partitioned.
+     * @param begin Index were partitioning starts (inclusive). Contains pivot.
+     * @param end   Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeft(final long[] array, final int begin, final int end) {
+        final var pivot = array[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions.
+     *
+     * @param array    Array being sorted.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatterns(final long[] array, final int begin, final int pivotPos, final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, begin, begin + lSize / 4);
+            swap(array, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, begin + 1, begin + lSize / 4 + 1);
+                swap(array, begin + 2, begin + lSize / 4 + 2);
+                swap(array, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, end - 2, end - (1 + rSize / 4));
+                swap(array, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void insertionSortWithIndices(final long[] array, final int[] indices, final int begin,
+                                                 final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Sorts provided range using straight insertion, applying the same
+     * reordering to provided indices and assuming that the element preceding
+     * begin is lower or equal than any element in range, so that it acts as a
+     * sentinel and no bound checks are required.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     */
+    private static void unguardedInsertionSortWithIndices(final long[] array, final int[] indices, final int begin,
+                                                          final int end) {
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+        }
+    }
+
+    /**
+     * Attempts to sort provided range using straight insertion, applying the
+     * same reordering to provided indices and giving up once more than
+     * PARTIAL_INSERTION_SORT_LIMIT elements have been moved.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were sorting starts (inclusive).
+     * @param end     Index were sorting stops (exclusive).
+     * @return true if range has been sorted, false otherwise.
+     */
+    private static boolean partialInsertionSortWithIndices(final long[] array, final int[] indices, final int begin,
+                                                           final int end) {
+        var limit = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            final var a = array[cur];
+            final var b = indices[cur];
+            var sift = cur;
+            while (sift > begin && a < array[sift - 1]) {
+                array[sift] = array[sift - 1];
+                indices[sift] = indices[sift - 1];
+                sift--;
+            }
+            array[sift] = a;
+            indices[sift] = b;
+
+            limit += cur - sift;
+            if (limit > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts elements at positions a, b and c so that
+     * {@code array[a] <= array[b] <= array[c]}, applying the same reordering
+     * to provided indices.
+     *
+     * @param array   Array containing elements to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param a       Position of first element.
+     * @param b       Position of second element.
+     * @param c       Position of third element.
+     */
+    private void sort3WithIndices(final long[] array, final int[] indices, final int a, final int b, final int c) {
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+        if (array[c] < array[b]) {
+            swap(array, b, c);
+            swapIndices(indices, b, c);
+        }
+        if (array[b] < array[a]) {
+            swap(array, a, b);
+            swapIndices(indices, a, b);
+        }
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices. Elements lower than the pivot are moved
+     * to its left, and elements greater or equal are moved to its right.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot, or its bitwise complement if range was
+     * already partitioned.
+     */
+    private int partitionRightWithIndices(final long[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        // Find first element greater or equal than pivot (median of 3
+        // guarantees it exists)
+        do {
+            first++;
+        } while (array[first] < pivot);
+
+        // Find first element strictly lower than pivot from the right
+        if (first - 1 == begin) {
+            do {
+                last--;
+            } while (first < last && !(array[last] < pivot));
+        } else {
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        final var alreadyPartitioned = first >= last;
+
+        // Keep swapping pairs of elements on the wrong side of the pivot
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                first++;
+            } while (array[first] < pivot);
+            do {
+                last--;
+            } while (!(array[last] < pivot));
+        }
+
+        // Put pivot in the right place
+        final var pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        indices[begin] = indices[pivotPos];
+        indices[pivotPos] = pivotIndex;
+
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partitions provided range around the pivot at begin, applying the same
+     * reordering to provided indices, so that elements equal to pivot are
+     * moved to its left.
+     *
+     * @param array   Array to be partitioned.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array.
+     * @param begin   Index were partitioning starts (inclusive). Contains
+     *                pivot.
+     * @param end     Index were partitioning stops (exclusive).
+     * @return Final position of pivot.
+     */
+    private int partitionLeftWithIndices(final long[] array, final int[] indices, final int begin, final int end) {
+        final var pivot = array[begin];
+        final var pivotIndex = indices[begin];
+        var first = begin;
+        var last = end;
+
+        do {
+            last--;
+        } while (pivot < array[last]);
+
+        if (last + 1 == end) {
+            do {
+                first++;
+            } while (first < last && !(pivot < array[first]));
+        } else {
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        while (first < last) {
+            swap(array, first, last);
+            swapIndices(indices, first, last);
+            do {
+                last--;
+            } while (pivot < array[last]);
+            do {
+                first++;
+            } while (!(pivot < array[first]));
+        }
+
+        array[begin] = array[last];
+        array[last] = pivot;
+        indices[begin] = indices[last];
+        indices[last] = pivotIndex;
+
+        return last;
+    }
+
+    /**
+     * Swaps some elements of both sides of a highly unbalanced partition to
+     * break patterns that might cause further poor partitions, applying the
+     * same reordering to provided indices.
+     *
+     * @param array    Array being sorted.
+     * @param indices  Array containing indices to be reordered along with
+     *                 provided array.
+     * @param begin    Index were partitioned range starts (inclusive).
+     * @param pivotPos Position of pivot.
+     * @param end      Index were partitioned range stops (exclusive).
+     */
+    private void breakPatternsWithIndices(final long[] array, final int[] indices, final int begin, final int pivotPos,
+                                          final int end) {
+        final var lSize = pivotPos - begin;
+        final var rSize = end - (pivotPos + 1);
+        if (lSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, begin, begin + lSize / 4);
+            swap(array, indices, pivotPos - 1, pivotPos - lSize / 4);
+
+            if (lSize > NINTHER_THRESHOLD) {
+                swap(array, indices, begin + 1, begin + lSize / 4 + 1);
+                swap(array, indices, begin + 2, begin + lSize / 4 + 2);
+                swap(array, indices, pivotPos - 2, pivotPos - (lSize / 4 + 1));
+                swap(array, indices, pivotPos - 3, pivotPos - (lSize / 4 + 2));
+            }
+        }
+
+        if (rSize >= INSERTION_SORT_THRESHOLD) {
+            swap(array, indices, pivotPos + 1, pivotPos + 1 + rSize / 4);
+            swap(array, indices, end - 1, end - rSize / 4);
+
+            if (rSize > NINTHER_THRESHOLD) {
+                swap(array, indices, pivotPos + 2, pivotPos + 2 + rSize / 4);
+                swap(array, indices, pivotPos + 3, pivotPos + 3 + rSize / 4);
+                swap(array, indices, end - 2, end - (1 + rSize / 4));
+                swap(array, indices, end - 3, end - (2 + rSize / 4));
+            }
+        }
+    }
+
+    /**
+     * Swaps values in array and in indices at locations posA and posB.
+     *
+     * @param array   array where values are swapped.
+     * @param indices array where indices are swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swap(final long[] array, final int[] indices, final int posA, final int posB) {
+        swap(array, posA, posB);
+        swapIndices(indices, posA, posB);
+    }
+
+    /**
+     * Returns number of highly unbalanced partitions allowed before a
+     * subarray is sorted using Heapsort.
+     *
+     * @param n number of elements to be sorted.
+     * @return number of highly unbalanced partitions allowed.
+     */
+    private static int getBadAllowed(final int n) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(n);
+    }
+
+    /**
+     * Swaps values in array of indices at locations posA and posB.
+     *
+     * @param indices array containing indices to be swapped.
+     * @param posA    Location to be swapped.
+     * @param posB    Location to be swapped.
+     */
+    private void swapIndices(final int[] indices, final int posA, final int posB) {
+        final var value = indices[posA];
+        indices[posA] = indices[posB];
+        indices[posB] = value;
+    }
+}
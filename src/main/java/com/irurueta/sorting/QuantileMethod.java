@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+/**
+ * Enumerator containing different methods to estimate quantiles of a sample,
+ * following the nine types described by Hyndman and Fan and implemented by the
+ * quantile function of R.
+ * Discontinuous methods (R types 1 to 3) always return an element of the
+ * sample (or the average of two of them), whereas continuous methods (R types
+ * 4 to 9) interpolate linearly between the two elements surrounding the
+ * position of the requested quantile.
+ */
+public enum QuantileMethod {
+    /**
+     * Inverse of the empirical distribution function (R type 1). Returns the
+     * smallest element whose empirical cumulative probability is greater or
+     * equal than the requested probability.
+     */
+    INVERTED_CDF_QUANTILE_METHOD,
+
+    /**
+     * Inverse of the empirical distribution function averaging at
+     * discontinuities (R type 2). Behaves as R type 1, except that the two
+     * elements around the requested position are averaged when the position
+     * is exact.
+     */
+    AVERAGED_INVERTED_CDF_QUANTILE_METHOD,
+
+    /**
+     * Nearest even order statistic (R type 3, as used by SAS).
+     */
+    CLOSEST_OBSERVATION_QUANTILE_METHOD,
+
+    /**
+     * Linear interpolation of the empirical distribution function (R type 4).
+     */
+    INTERPOLATED_INVERTED_CDF_QUANTILE_METHOD,
+
+    /**
+     * Piecewise linear function where knots are the midpoints of the steps of
+     * the empirical distribution function (R type 5).
+     */
+    HAZEN_QUANTILE_METHOD,
+
+    /**
+     * Linear interpolation where the k-th smallest element has probability
+     * k / (n + 1) (R type 6, as used by Minitab and SPSS).
+     */
+    WEIBULL_QUANTILE_METHOD,
+
+    /**
+     * Linear interpolation where the k-th smallest element has probability
+     * (k - 1) / (n - 1) (R type 7). This is the default method of R, NumPy and
+     * spreadsheets.
+     */
+    LINEAR_QUANTILE_METHOD,
+
+    /**
+     * Linear interpolation resulting in approximately median-unbiased
+     * estimates regardless of the distribution of the sample (R type 8, as
+     * recommended by Hyndman and Fan).
+     */
+    MEDIAN_UNBIASED_QUANTILE_METHOD,
+
+    /**
+     * Linear interpolation resulting in approximately unbiased estimates when
+     * the sample is normally distributed (R type 9).
+     */
+    NORMAL_UNBIASED_QUANTILE_METHOD
+}
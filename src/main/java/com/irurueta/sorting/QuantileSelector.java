@@ -0,0 +1,1132 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Selects several order statistics of an array range at once, and computes
+ * quantiles from them.
+ * Requested positions are sorted and the range is partitioned as done by
+ * select, descending only into the parts containing requested positions, so
+ * that m positions are selected in O(n log m) time.
+ */
+@SuppressWarnings("Duplicates")
+final class QuantileSelector {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private QuantileSelector() {
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     *
+     * @param ks         Positions of sorted elements to be retrieved, relative
+     *                   to fromIndex. Positions can be repeated and be in any
+     *                   order.
+     * @param array      Array to be used for retrieving sorted elements.
+     * @param fromIndex  Index were selection starts (inclusive).
+     * @param toIndex    Index were selection stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static <T> T[] select(final int[] ks, final T[] array, final int fromIndex, final int toIndex,
+                          final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var positions = getSelectPositions(ks, fromIndex, toIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1, comparator);
+
+        final var result = Arrays.copyOf(array, ks.length);
+        for (int q = 0; q < ks.length; q++) {
+            result[q] = array[ks[q] + fromIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sorted values at provided positions of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     *
+     * @param ks        Positions of sorted values to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted values.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted values at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static double[] select(final int[] ks, final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var positions = getSelectPositions(ks, fromIndex, toIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new double[ks.length];
+        for (int q = 0; q < ks.length; q++) {
+            result[q] = array[ks[q] + fromIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sorted values at provided positions of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     *
+     * @param ks        Positions of sorted values to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted values.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted values at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static float[] select(final int[] ks, final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var positions = getSelectPositions(ks, fromIndex, toIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new float[ks.length];
+        for (int q = 0; q < ks.length; q++) {
+            result[q] = array[ks[q] + fromIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sorted values at provided positions of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     *
+     * @param ks        Positions of sorted values to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted values.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted values at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static int[] select(final int[] ks, final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var positions = getSelectPositions(ks, fromIndex, toIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new int[ks.length];
+        for (int q = 0; q < ks.length; q++) {
+            result[q] = array[ks[q] + fromIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sorted values at provided positions of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     *
+     * @param ks        Positions of sorted values to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted values.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted values at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static long[] select(final int[] ks, final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var positions = getSelectPositions(ks, fromIndex, toIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new long[ks.length];
+        for (int q = 0; q < ks.length; q++) {
+            result[q] = array[ks[q] + fromIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method, selecting all surrounding elements in a single pass.
+     *
+     * @param ps         Probabilities of quantiles to be computed, between 0
+     *                   and 1.
+     * @param array      Array to be used for computation of quantiles.
+     * @param fromIndex  Index were computation starts (inclusive).
+     * @param toIndex    Index were computation stops (exclusive).
+     * @param method     Method to estimate quantiles.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static <T> T[] quantiles(final double[] ps, final T[] array, final int fromIndex, final int toIndex,
+                             final QuantileMethod method, final ComparatorAndAverager<T> comparator) {
+
+        if (fromIndex >= toIndex || method == null) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var lowers = new int[ps.length];
+        final var weights = new double[ps.length];
+        computeQuantilePositions(ps, toIndex - fromIndex, method, lowers, weights);
+        final var positions = getQuantilePositions(lowers, weights, fromIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1, comparator);
+
+        // interpolating methods always go through interpolate, so that a
+        // comparator not implementing it fails regardless of the data
+        final var interpolating = isInterpolating(method);
+        final var result = Arrays.copyOf(array, ps.length);
+        for (int q = 0; q < ps.length; q++) {
+            final var lower = lowers[q] + fromIndex;
+            if (interpolating) {
+                final var upper = weights[q] == 0.0 ? lower : lower + 1;
+                result[q] = comparator.interpolate(array[lower], array[upper], weights[q]);
+            } else {
+                result[q] = weights[q] == 0.0 ? array[lower] : comparator.average(array[lower], array[lower + 1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method, selecting all surrounding values in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static double[] quantiles(final double[] ps, final double[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+
+        if (fromIndex >= toIndex || method == null) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var lowers = new int[ps.length];
+        final var weights = new double[ps.length];
+        computeQuantilePositions(ps, toIndex - fromIndex, method, lowers, weights);
+        final var positions = getQuantilePositions(lowers, weights, fromIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new double[ps.length];
+        for (int q = 0; q < ps.length; q++) {
+            final var lower = lowers[q] + fromIndex;
+            result[q] = weights[q] == 0.0 ? array[lower]
+                    : (1.0 - weights[q]) * array[lower] + weights[q] * array[lower + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method, selecting all surrounding values in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static double[] quantiles(final double[] ps, final float[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+
+        if (fromIndex >= toIndex || method == null) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var lowers = new int[ps.length];
+        final var weights = new double[ps.length];
+        computeQuantilePositions(ps, toIndex - fromIndex, method, lowers, weights);
+        final var positions = getQuantilePositions(lowers, weights, fromIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new double[ps.length];
+        for (int q = 0; q < ps.length; q++) {
+            final var lower = lowers[q] + fromIndex;
+            result[q] = weights[q] == 0.0 ? array[lower]
+                    : (1.0 - weights[q]) * array[lower] + weights[q] * array[lower + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method, selecting all surrounding values in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static double[] quantiles(final double[] ps, final int[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+
+        if (fromIndex >= toIndex || method == null) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var lowers = new int[ps.length];
+        final var weights = new double[ps.length];
+        computeQuantilePositions(ps, toIndex - fromIndex, method, lowers, weights);
+        final var positions = getQuantilePositions(lowers, weights, fromIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new double[ps.length];
+        for (int q = 0; q < ps.length; q++) {
+            final var lower = lowers[q] + fromIndex;
+            result[q] = weights[q] == 0.0 ? array[lower]
+                    : (1.0 - weights[q]) * array[lower] + weights[q] * array[lower + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method, selecting all surrounding values in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    static double[] quantiles(final double[] ps, final long[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+
+        if (fromIndex >= toIndex || method == null) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var lowers = new int[ps.length];
+        final var weights = new double[ps.length];
+        computeQuantilePositions(ps, toIndex - fromIndex, method, lowers, weights);
+        final var positions = getQuantilePositions(lowers, weights, fromIndex);
+        selectPositions(positions, 0, positions.length, array, fromIndex, toIndex - 1);
+
+        final var result = new double[ps.length];
+        for (int q = 0; q < ps.length; q++) {
+            final var lower = lowers[q] + fromIndex;
+            result[q] = weights[q] == 0.0 ? array[lower]
+                    : (1.0 - weights[q]) * array[lower] + weights[q] * array[lower + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Moves sorted elements to provided absolute positions between kFrom
+     * (inclusive) and kTo (exclusive), all of them within left and right
+     * (inclusive). Array is partitioned as done by select, and only parts
+     * containing requested positions are further partitioned. The smallest
+     * part is processed recursively and the largest one iteratively, so that
+     * recursion depth is logarithmic.
+     *
+     * @param positions  absolute positions sorted in ascending order.
+     * @param kFrom      first position to be selected (inclusive).
+     * @param kTo        last position to be selected (exclusive).
+     * @param array      array where elements are selected.
+     * @param left       first index of range being partitioned (inclusive).
+     * @param right      last index of range being partitioned (inclusive).
+     * @param comparator determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private static <T> void selectPositions(final int[] positions, final int kFrom, final int kTo, final T[] array,
+                                            final int left, final int right, final Comparator<T> comparator) {
+        int i;
+        int j;
+        int mid;
+        T a;
+        int from = kFrom;
+        int to = kTo;
+        int l = left;
+        int ir = right;
+        while (from < to) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && comparator.compare(array[ir], array[l]) < 0) {
+                    swap(array, l, ir);
+                }
+                return;
+            }
+
+            mid = (l + ir) >>> 1;
+            swap(array, mid, l + 1);
+            if (comparator.compare(array[l], array[ir]) > 0) {
+                swap(array, l, ir);
+            }
+            if (comparator.compare(array[l + 1], array[ir]) > 0) {
+                swap(array, l + 1, ir);
+            }
+            if (comparator.compare(array[l], array[l + 1]) > 0) {
+                swap(array, l, l + 1);
+            }
+            i = l + 1;
+            j = ir;
+            a = array[l + 1];
+            for (; ; ) {
+                do {
+                    i++;
+                } while (comparator.compare(array[i], a) < 0);
+
+                do {
+                    j--;
+                } while (comparator.compare(array[j], a) > 0);
+
+                if (j < i) {
+                    break;
+                }
+
+                swap(array, i, j);
+            }
+            array[l + 1] = array[j];
+            array[j] = a;
+
+            // elements between j and i - 1 are already sorted, positions lower
+            // than j are within l and j - 1, and remaining ones within i and ir
+            final var leftTo = firstPositionAtLeast(positions, from, to, j);
+            final var rightFrom = firstPositionAtLeast(positions, leftTo, to, i);
+            if (j - l < ir - i) {
+                selectPositions(positions, from, leftTo, array, l, j - 1, comparator);
+                from = rightFrom;
+                l = i;
+            } else {
+                selectPositions(positions, rightFrom, to, array, i, ir, comparator);
+                to = leftTo;
+                ir = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Moves sorted elements to provided absolute positions between kFrom
+     * (inclusive) and kTo (exclusive), all of them within left and right
+     * (inclusive). Array is partitioned as done by select, and only parts
+     * containing requested positions are further partitioned. The smallest
+     * part is processed recursively and the largest one iteratively, so that
+     * recursion depth is logarithmic.
+     *
+     * @param positions absolute positions sorted in ascending order.
+     * @param kFrom     first position to be selected (inclusive).
+     * @param kTo       last position to be selected (exclusive).
+     * @param array     array where elements are selected.
+     * @param left      first index of range being partitioned (inclusive).
+     * @param right     last index of range being partitioned (inclusive).
+     */
+    private static void selectPositions(final int[] positions, final int kFrom, final int kTo, final double[] array,
+                                        final int left, final int right) {
+        int i;
+        int j;
+        int mid;
+        double a;
+        int from = kFrom;
+        int to = kTo;
+        int l = left;
+        int ir = right;
+        while (from < to) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir] < array[l]) {
+                    swap(array, l, ir);
+                }
+                return;
+            }
+
+            mid = (l + ir) >>> 1;
+            swap(array, mid, l + 1);
+            if (array[l] > array[ir]) {
+                swap(array, l, ir);
+            }
+            if (array[l + 1] > array[ir]) {
+                swap(array, l + 1, ir);
+            }
+            if (array[l] > array[l + 1]) {
+                swap(array, l, l + 1);
+            }
+            i = l + 1;
+            j = ir;
+            a = array[l + 1];
+            for (; ; ) {
+                do {
+                    i++;
+                } while (array[i] < a);
+
+                do {
+                    j--;
+                } while (array[j] > a);
+
+                if (j < i) {
+                    break;
+                }
+
+                swap(array, i, j);
+            }
+            array[l + 1] = array[j];
+            array[j] = a;
+
+            // elements between j and i - 1 are already sorted, positions lower
+            // than j are within l and j - 1, and remaining ones within i and ir
+            final var leftTo = firstPositionAtLeast(positions, from, to, j);
+            final var rightFrom = firstPositionAtLeast(positions, leftTo, to, i);
+            if (j - l < ir - i) {
+                selectPositions(positions, from, leftTo, array, l, j - 1);
+                from = rightFrom;
+                l = i;
+            } else {
+                selectPositions(positions, rightFrom, to, array, i, ir);
+                to = leftTo;
+                ir = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Moves sorted elements to provided absolute positions between kFrom
+     * (inclusive) and kTo (exclusive), all of them within left and right
+     * (inclusive). Array is partitioned as done by select, and only parts
+     * containing requested positions are further partitioned. The smallest
+     * part is processed recursively and the largest one iteratively, so that
+     * recursion depth is logarithmic.
+     *
+     * @param positions absolute positions sorted in ascending order.
+     * @param kFrom     first position to be selected (inclusive).
+     * @param kTo       last position to be selected (exclusive).
+     * @param array     array where elements are selected.
+     * @param left      first index of range being partitioned (inclusive).
+     * @param right     last index of range being partitioned (inclusive).
+     */
+    private static void selectPositions(final int[] positions, final int kFrom, final int kTo, final float[] array,
+                                        final int left, final int right) {
+        int i;
+        int j;
+        int mid;
+        float a;
+        int from = kFrom;
+        int to = kTo;
+        int l = left;
+        int ir = right;
+        while (from < to) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir] < array[l]) {
+                    swap(array, l, ir);
+                }
+                return;
+            }
+
+            mid = (l + ir) >>> 1;
+            swap(array, mid, l + 1);
+            if (array[l] > array[ir]) {
+                swap(array, l, ir);
+            }
+            if (array[l + 1] > array[ir]) {
+                swap(array, l + 1, ir);
+            }
+            if (array[l] > array[l + 1]) {
+                swap(array, l, l + 1);
+            }
+            i = l + 1;
+            j = ir;
+            a = array[l + 1];
+            for (; ; ) {
+                do {
+                    i++;
+                } while (array[i] < a);
+
+                do {
+                    j--;
+                } while (array[j] > a);
+
+                if (j < i) {
+                    break;
+                }
+
+                swap(array, i, j);
+            }
+            array[l + 1] = array[j];
+            array[j] = a;
+
+            // elements between j and i - 1 are already sorted, positions lower
+            // than j are within l and j - 1, and remaining ones within i and ir
+            final var leftTo = firstPositionAtLeast(positions, from, to, j);
+            final var rightFrom = firstPositionAtLeast(positions, leftTo, to, i);
+            if (j - l < ir - i) {
+                selectPositions(positions, from, leftTo, array, l, j - 1);
+                from = rightFrom;
+                l = i;
+            } else {
+                selectPositions(positions, rightFrom, to, array, i, ir);
+                to = leftTo;
+                ir = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Moves sorted elements to provided absolute positions between kFrom
+     * (inclusive) and kTo (exclusive), all of them within left and right
+     * (inclusive). Array is partitioned as done by select, and only parts
+     * containing requested positions are further partitioned. The smallest
+     * part is processed recursively and the largest one iteratively, so that
+     * recursion depth is logarithmic.
+     *
+     * @param positions absolute positions sorted in ascending order.
+     * @param kFrom     first position to be selected (inclusive).
+     * @param kTo       last position to be selected (exclusive).
+     * @param array     array where elements are selected.
+     * @param left      first index of range being partitioned (inclusive).
+     * @param right     last index of range being partitioned (inclusive).
+     */
+    private static void selectPositions(final int[] positions, final int kFrom, final int kTo, final int[] array,
+                                        final int left, final int right) {
+        int i;
+        int j;
+        int mid;
+        int a;
+        int from = kFrom;
+        int to = kTo;
+        int l = left;
+        int ir = right;
+        while (from < to) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir] < array[l]) {
+                    swap(array, l, ir);
+                }
+                return;
+            }
+
+            mid = (l + ir) >>> 1;
+            swap(array, mid, l + 1);
+            if (array[l] > array[ir]) {
+                swap(array, l, ir);
+            }
+            if (array[l + 1] > array[ir]) {
+                swap(array, l + 1, ir);
+            }
+            if (array[l] > array[l + 1]) {
+                swap(array, l, l + 1);
+            }
+            i = l + 1;
+            j = ir;
+            a = array[l + 1];
+            for (; ; ) {
+                do {
+                    i++;
+                } while (array[i] < a);
+
+                do {
+                    j--;
+                } while (array[j] > a);
+
+                if (j < i) {
+                    break;
+                }
+
+                swap(array, i, j);
+            }
+            array[l + 1] = array[j];
+            array[j] = a;
+
+            // elements between j and i - 1 are already sorted, positions lower
+            // than j are within l and j - 1, and remaining ones within i and ir
+            final var leftTo = firstPositionAtLeast(positions, from, to, j);
+            final var rightFrom = firstPositionAtLeast(positions, leftTo, to, i);
+            if (j - l < ir - i) {
+                selectPositions(positions, from, leftTo, array, l, j - 1);
+                from = rightFrom;
+                l = i;
+            } else {
+                selectPositions(positions, rightFrom, to, array, i, ir);
+                to = leftTo;
+                ir = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Moves sorted elements to provided absolute positions between kFrom
+     * (inclusive) and kTo (exclusive), all of them within left and right
+     * (inclusive). Array is partitioned as done by select, and only parts
+     * containing requested positions are further partitioned. The smallest
+     * part is processed recursively and the largest one iteratively, so that
+     * recursion depth is logarithmic.
+     *
+     * @param positions absolute positions sorted in ascending order.
+     * @param kFrom     first position to be selected (inclusive).
+     * @param kTo       last position to be selected (exclusive).
+     * @param array     array where elements are selected.
+     * @param left      first index of range being partitioned (inclusive).
+     * @param right     last index of range being partitioned (inclusive).
+     */
+    private static void selectPositions(final int[] positions, final int kFrom, final int kTo, final long[] array,
+                                        final int left, final int right) {
+        int i;
+        int j;
+        int mid;
+        long a;
+        int from = kFrom;
+        int to = kTo;
+        int l = left;
+        int ir = right;
+        while (from < to) {
+            if (ir <= l + 1) {
+                if (ir == l + 1 && array[ir] < array[l]) {
+                    swap(array, l, ir);
+                }
+                return;
+            }
+
+            mid = (l + ir) >>> 1;
+            swap(array, mid, l + 1);
+            if (array[l] > array[ir]) {
+                swap(array, l, ir);
+            }
+            if (array[l + 1] > array[ir]) {
+                swap(array, l + 1, ir);
+            }
+            if (array[l] > array[l + 1]) {
+                swap(array, l, l + 1);
+            }
+            i = l + 1;
+            j = ir;
+            a = array[l + 1];
+            for (; ; ) {
+                do {
+                    i++;
+                } while (array[i] < a);
+
+                do {
+                    j--;
+                } while (array[j] > a);
+
+                if (j < i) {
+                    break;
+                }
+
+                swap(array, i, j);
+            }
+            array[l + 1] = array[j];
+            array[j] = a;
+
+            // elements between j and i - 1 are already sorted, positions lower
+            // than j are within l and j - 1, and remaining ones within i and ir
+            final var leftTo = firstPositionAtLeast(positions, from, to, j);
+            final var rightFrom = firstPositionAtLeast(positions, leftTo, to, i);
+            if (j - l < ir - i) {
+                selectPositions(positions, from, leftTo, array, l, j - 1);
+                from = rightFrom;
+                l = i;
+            } else {
+                selectPositions(positions, rightFrom, to, array, i, ir);
+                to = leftTo;
+                ir = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether provided method interpolates between consecutive
+     * order statistics (R types 4 to 9). Remaining methods only take one of
+     * them, or average both of them at discontinuities.
+     *
+     * @param method method to estimate quantiles.
+     * @return true if method interpolates, false otherwise.
+     */
+    private static boolean isInterpolating(final QuantileMethod method) {
+        return switch (method) {
+            case INVERTED_CDF_QUANTILE_METHOD, AVERAGED_INVERTED_CDF_QUANTILE_METHOD,
+                 CLOSEST_OBSERVATION_QUANTILE_METHOD -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Computes the positions of the two sorted elements surrounding each
+     * quantile, relative to the beginning of the range, and the weight of the
+     * second one, following the definitions of Hyndman and Fan as implemented
+     * by R.
+     *
+     * @param ps      probabilities of quantiles.
+     * @param n       number of elements of the range.
+     * @param method  method to estimate quantiles.
+     * @param lowers  array where position of the lower element of each
+     *                quantile is stored.
+     * @param weights array where weight of the element following the lower one
+     *                is stored. Weight is zero when only the lower element is
+     *                needed.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1.
+     */
+    private static void computeQuantilePositions(final double[] ps, final int n, final QuantileMethod method,
+                                                 final int[] lowers, final double[] weights) {
+        // tolerance to absorb rounding errors on exact positions, as done by R
+        final var fuzz = 4.0 * Math.ulp(1.0);
+        for (int q = 0; q < ps.length; q++) {
+            final var p = ps[q];
+            if (!(p >= 0.0 && p <= 1.0)) {
+                throw new IllegalArgumentException();
+            }
+
+            // 1-based position of lower element and weight of the next one
+            int j;
+            double h;
+            switch (method) {
+                case INVERTED_CDF_QUANTILE_METHOD, AVERAGED_INVERTED_CDF_QUANTILE_METHOD,
+                     CLOSEST_OBSERVATION_QUANTILE_METHOD -> {
+                    final var np = method == QuantileMethod.CLOSEST_OBSERVATION_QUANTILE_METHOD ? n * p - 0.5 : n * p;
+                    j = (int) Math.floor(np + fuzz);
+                    final var exact = np <= j + fuzz;
+                    if (!exact) {
+                        h = 1.0;
+                    } else if (method == QuantileMethod.AVERAGED_INVERTED_CDF_QUANTILE_METHOD) {
+                        h = 0.5;
+                    } else if (method == QuantileMethod.CLOSEST_OBSERVATION_QUANTILE_METHOD) {
+                        h = j % 2 == 0 ? 0.0 : 1.0;
+                    } else {
+                        h = 0.0;
+                    }
+                }
+                default -> {
+                    final double alpha;
+                    final double beta;
+                    switch (method) {
+                        case INTERPOLATED_INVERTED_CDF_QUANTILE_METHOD -> {
+                            alpha = 0.0;
+                            beta = 1.0;
+                        }
+                        case HAZEN_QUANTILE_METHOD -> {
+                            alpha = 0.5;
+                            beta = 0.5;
+                        }
+                        case WEIBULL_QUANTILE_METHOD -> {
+                            alpha = 0.0;
+                            beta = 0.0;
+                        }
+                        case MEDIAN_UNBIASED_QUANTILE_METHOD -> {
+                            alpha = 1.0 / 3.0;
+                            beta = 1.0 / 3.0;
+                        }
+                        case NORMAL_UNBIASED_QUANTILE_METHOD -> {
+                            alpha = 3.0 / 8.0;
+                            beta = 3.0 / 8.0;
+                        }
+                        default -> {
+                            alpha = 1.0;
+                            beta = 1.0;
+                        }
+                    }
+                    final var position = alpha + p * (n + 1 - alpha - beta);
+                    j = (int) Math.floor(position + fuzz);
+                    h = position - j;
+                    if (Math.abs(h) < fuzz) {
+                        h = 0.0;
+                    }
+                }
+            }
+
+            if (h >= 1.0) {
+                j++;
+                h = 0.0;
+            }
+            if (j < 1) {
+                lowers[q] = 0;
+                weights[q] = 0.0;
+            } else if (j >= n) {
+                lowers[q] = n - 1;
+                weights[q] = 0.0;
+            } else {
+                lowers[q] = j - 1;
+                weights[q] = h;
+            }
+        }
+    }
+
+    /**
+     * Gets absolute positions of the elements to be selected to compute
+     * quantiles, sorted in ascending order.
+     *
+     * @param lowers    positions of the lower element of each quantile,
+     *                  relative to fromIndex.
+     * @param weights   weights of the element following the lower one.
+     * @param fromIndex index were computation starts (inclusive).
+     * @return absolute positions sorted in ascending order.
+     */
+    private static int[] getQuantilePositions(final int[] lowers, final double[] weights, final int fromIndex) {
+        var count = 0;
+        for (final var weight : weights) {
+            count += weight == 0.0 ? 1 : 2;
+        }
+
+        final var positions = new int[count];
+        var pos = 0;
+        for (int q = 0; q < lowers.length; q++) {
+            positions[pos++] = lowers[q] + fromIndex;
+            if (weights[q] != 0.0) {
+                positions[pos++] = lowers[q] + 1 + fromIndex;
+            }
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Converts provided positions relative to fromIndex into absolute
+     * positions sorted in ascending order.
+     *
+     * @param ks        positions relative to fromIndex.
+     * @param fromIndex index were selection starts (inclusive).
+     * @param toIndex   index were selection stops (exclusive).
+     * @return absolute positions sorted in ascending order.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than {@code toIndex - fromIndex}.
+     */
+    private static int[] getSelectPositions(final int[] ks, final int fromIndex, final int toIndex) {
+        final var n = toIndex - fromIndex;
+        final var positions = new int[ks.length];
+        for (int q = 0; q < ks.length; q++) {
+            final var k = ks[q];
+            if (k < 0 || k >= n) {
+                throw new IllegalArgumentException();
+            }
+            positions[q] = k + fromIndex;
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Finds the first of provided sorted positions between from (inclusive)
+     * and to (exclusive) that is greater or equal than provided value.
+     *
+     * @param positions positions sorted in ascending order.
+     * @param from      first position to be checked (inclusive).
+     * @param to        last position to be checked (exclusive).
+     * @param value     value to be compared.
+     * @return index of first position greater or equal than value, or to if
+     * there is none.
+     */
+    private static int firstPositionAtLeast(final int[] positions, final int from, final int to, final int value) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (positions[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Swaps values in array at locations posA and posB.
+     *
+     * @param array Array where values are swapped.
+     * @param posA  Location to be swapped.
+     * @param posB  Location to be swapped.
+     */
+    private static <T> void swap(final T[] array, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+    }
+
+    /**
+     * Swaps values in array at locations posA and posB.
+     *
+     * @param array Array where values are swapped.
+     * @param posA  Location to be swapped.
+     * @param posB  Location to be swapped.
+     */
+    private static void swap(final double[] array, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+    }
+
+    /**
+     * Swaps values in array at locations posA and posB.
+     *
+     * @param array Array where values are swapped.
+     * @param posA  Location to be swapped.
+     * @param posB  Location to be swapped.
+     */
+    private static void swap(final float[] array, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+    }
+
+    /**
+     * Swaps values in array at locations posA and posB.
+     *
+     * @param array Array where values are swapped.
+     * @param posA  Location to be swapped.
+     * @param posB  Location to be swapped.
+     */
+    private static void swap(final int[] array, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+    }
+
+    /**
+     * Swaps values in array at locations posA and posB.
+     *
+     * @param array Array where values are swapped.
+     * @param posA  Location to be swapped.
+     * @param posB  Location to be swapped.
+     */
+    private static void swap(final long[] array, final int posA, final int posB) {
+        final var value = array[posA];
+        array[posA] = array[posB];
+        array[posB] = value;
+    }
+}
@@ -69,6 +69,75 @@ public class QuicksortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        quicksort(array, fromIndex, toIndex, comparator, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        quicksortWithIndices(array, indices, fromIndex, toIndex, comparator, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    void quicksort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                   final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
             return;
         }
@@ -82,7 +151,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var jstack = -1;
         var l = 0;
         T a;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -166,44 +235,26 @@ public class QuicksortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array      Array to be sorted. After execution of this method
-     *                   elements in array between fromIndex (inclusive) and toIndex
-     *                   (exclusive) are modified so that they are on ascending order.
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
      * @param fromIndex  Index were sorting starts (inclusive).
      * @param toIndex    Index were sorting stops (exclusive).
      * @param comparator Determines whether an element is greater or lower
      *                   than another one.
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws SortingException               If for some reason sorting fails.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
+     * @param workspace  Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
      */
-    @Override
-    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
-                                 final Comparator<T> comparator) throws SortingException {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void quicksortWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final Comparator<T> comparator,
+                              final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         final int n = toIndex - fromIndex;
@@ -216,7 +267,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var l = 0;
         T a;
         int b;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -308,8 +359,6 @@ public class QuicksortSorter<T> extends Sorter<T> {
                 }
             }
         }
-
-        return indices;
     }
 
     /**
@@ -347,6 +396,70 @@ public class QuicksortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        quicksort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    void quicksort(final double[] array, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
             return;
         }
@@ -360,7 +473,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var jstack = -1;
         var l = 0;
         double a;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -444,41 +557,23 @@ public class QuicksortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws SortingException               If for some reason sorting fails.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
      */
-    @Override
-    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void quicksortWithIndices(final double[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         final int n = toIndex - fromIndex;
@@ -491,7 +586,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var l = 0;
         double a;
         int b;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -583,8 +678,6 @@ public class QuicksortSorter<T> extends Sorter<T> {
                 }
             }
         }
-
-        return indices;
     }
 
     /**
@@ -612,6 +705,70 @@ public class QuicksortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        quicksort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    void quicksort(final float[] array, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
             return;
         }
@@ -625,7 +782,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var jstack = -1;
         var l = 0;
         float a;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -709,41 +866,23 @@ public class QuicksortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws SortingException               If for some reason sorting fails.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
      */
-    @Override
-    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void quicksortWithIndices(final float[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         final var n = toIndex - fromIndex;
@@ -756,7 +895,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var l = 0;
         float a;
         int b;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -848,8 +987,6 @@ public class QuicksortSorter<T> extends Sorter<T> {
                 }
             }
         }
-
-        return indices;
     }
 
     /**
@@ -877,6 +1014,70 @@ public class QuicksortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        quicksort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    void quicksort(final int[] array, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
             return;
         }
@@ -890,7 +1091,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var jstack = -1;
         var l = 0;
         int a;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -974,41 +1175,23 @@ public class QuicksortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws SortingException               If for some reason sorting fails.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
      */
-    @Override
-    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void quicksortWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         final var n = toIndex - fromIndex;
@@ -1021,7 +1204,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var l = 0;
         int a;
         int b;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -1113,8 +1296,6 @@ public class QuicksortSorter<T> extends Sorter<T> {
                 }
             }
         }
-
-        return indices;
     }
 
     /**
@@ -1142,6 +1323,275 @@ public class QuicksortSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        quicksort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        quicksortWithIndices(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) throws SortingException {
+        quicksort(array, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator,
+                                        final SortingWorkspace workspace) throws SortingException {
+        quicksortWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        quicksort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        quicksort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        quicksort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        quicksort(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        quicksortWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    void quicksort(final long[] array, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
             return;
         }
@@ -1155,7 +1605,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var jstack = -1;
         var l = 0;
         long a;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -1239,41 +1689,23 @@ public class QuicksortSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws SortingException               If for some reason sorting fails.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
+     * @param workspace Workspace providing stack of pending partitions.
+     * @throws SortingException If for some reason sorting fails.
      */
-    @Override
-    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void quicksortWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                              final SortingWorkspace workspace) throws SortingException {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         final int n = toIndex - fromIndex;
@@ -1286,7 +1718,7 @@ public class QuicksortSorter<T> extends Sorter<T> {
         var l = 0;
         long a;
         int b;
-        final var istack = new int[NSTACK];
+        final var istack = workspace.getInts(SortingWorkspace.STACK, NSTACK);
         ir = n - 1;
 
         for (; ; ) {
@@ -1378,8 +1810,6 @@ public class QuicksortSorter<T> extends Sorter<T> {
                 }
             }
         }
-
-        return indices;
     }
 
     /**
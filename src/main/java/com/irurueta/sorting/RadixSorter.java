@@ -0,0 +1,1031 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Sorts instances of type T in provided arrays using a least significant
+ * digit (LSD) radix sort for primitive types.
+ * Arrays of doubles, floats, integers and longs are sorted without
+ * comparisons, one byte at a time starting from the least significant one, so
+ * that sorting takes linear time on the number of elements. The histograms of
+ * all digits are computed in a single pass, and digits shared by all elements
+ * are skipped. Because LSD radix sort is stable, elements having equal values
+ * keep their original relative order, and so do their indices.
+ * <p>
+ * Doubles and floats are sorted by mapping their IEEE-754 bits to keys that
+ * preserve their order, so that the result is the same as the one obtained
+ * with {@link java.util.Arrays#sort(double[])}: negative zero is placed before
+ * positive zero and NaN values are placed at the end.
+ * <p>
+ * Small ranges of integers and longs, as well as arrays of objects, are
+ * sorted using Quicksort.
+ *
+ * @param <T> Type of instances being sorted.
+ */
+@SuppressWarnings("Duplicates")
+public class RadixSorter<T> extends QuicksortSorter<T> {
+
+    /**
+     * Number of bits of each digit.
+     */
+    static final int DIGIT_BITS = 8;
+
+    /**
+     * Number of different values of a digit.
+     */
+    static final int RADIX = 1 << DIGIT_BITS;
+
+    /**
+     * Mask to extract a digit.
+     */
+    static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Number of digits of an integer.
+     */
+    static final int INT_DIGITS = Integer.SIZE / DIGIT_BITS;
+
+    /**
+     * Number of digits of a long.
+     */
+    static final int LONG_DIGITS = Long.SIZE / DIGIT_BITS;
+
+    /**
+     * Ranges of integers or longs having less than this number of elements
+     * are sorted using Quicksort.
+     */
+    static final int MIN_RADIX_LENGTH = 64;
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        radixSort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.RADIX_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * NaN values are moved to the end of the range, keeping their relative
+     * order, and negative zero is sorted before positive zero, as done by
+     * {@link java.util.Arrays#sort(double[])}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and histograms.
+     */
+    void radixSort(final double[] array, final int[] indices, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var scratch = workspace.getDoubles(toIndex - fromIndex);
+        final var scratchIndices = indices != null
+                ? workspace.getInts(SortingWorkspace.INDICES, toIndex - fromIndex) : null;
+
+        // move NaN values to the end of the range, keeping their order
+        var end = fromIndex;
+        var nanCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final var value = array[i];
+            if (Double.isNaN(value)) {
+                scratch[nanCount] = value;
+                if (indices != null) {
+                    scratchIndices[nanCount] = indices[i];
+                }
+                nanCount++;
+            } else {
+                if (indices != null) {
+                    indices[end] = indices[i];
+                }
+                array[end++] = value;
+            }
+        }
+        if (nanCount > 0) {
+            System.arraycopy(scratch, 0, array, end, nanCount);
+            if (indices != null) {
+                System.arraycopy(scratchIndices, 0, indices, end, nanCount);
+            }
+        }
+
+        final var n = end - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        // compute histograms of all digits in a single pass
+        final var counts = workspace.getInts(SortingWorkspace.COUNTS, LONG_DIGITS * RADIX);
+        Arrays.fill(counts, 0, LONG_DIGITS * RADIX, 0);
+        for (int i = fromIndex; i < end; i++) {
+            final var value = array[i];
+            for (int d = 0; d < LONG_DIGITS; d++) {
+                counts[d * RADIX + doubleDigit(value, d)]++;
+            }
+        }
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        final var offsets = workspace.getInts(SortingWorkspace.OFFSETS, RADIX);
+        for (int d = 0; d < LONG_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + doubleDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                offsets[b] = sum;
+                sum += counts[base + b];
+            }
+
+            final var srcEnd = srcOffset + n;
+            if (srcIndices != null) {
+                for (int i = srcOffset; i < srcEnd; i++) {
+                    final var value = src[i];
+                    final var pos = offsets[doubleDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset; i < srcEnd; i++) {
+                    final var value = src[i];
+                    dst[offsets[doubleDigit(value, d)]++] = value;
+                }
+            }
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * NaN values are moved to the end of the range, keeping their relative
+     * order, and negative zero is sorted before positive zero, as done by
+     * {@link java.util.Arrays#sort(float[])}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and histograms.
+     */
+    void radixSort(final float[] array, final int[] indices, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final var scratch = workspace.getFloats(toIndex - fromIndex);
+        final var scratchIndices = indices != null
+                ? workspace.getInts(SortingWorkspace.INDICES, toIndex - fromIndex) : null;
+
+        // move NaN values to the end of the range, keeping their order
+        var end = fromIndex;
+        var nanCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final var value = array[i];
+            if (Float.isNaN(value)) {
+                scratch[nanCount] = value;
+                if (indices != null) {
+                    scratchIndices[nanCount] = indices[i];
+                }
+                nanCount++;
+            } else {
+                if (indices != null) {
+                    indices[end] = indices[i];
+                }
+                array[end++] = value;
+            }
+        }
+        if (nanCount > 0) {
+            System.arraycopy(scratch, 0, array, end, nanCount);
+            if (indices != null) {
+                System.arraycopy(scratchIndices, 0, indices, end, nanCount);
+            }
+        }
+
+        final var n = end - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        // compute histograms of all digits in a single pass
+        final var counts = workspace.getInts(SortingWorkspace.COUNTS, INT_DIGITS * RADIX);
+        Arrays.fill(counts, 0, INT_DIGITS * RADIX, 0);
+        for (int i = fromIndex; i < end; i++) {
+            final var value = array[i];
+            for (int d = 0; d < INT_DIGITS; d++) {
+                counts[d * RADIX + floatDigit(value, d)]++;
+            }
+        }
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        final var offsets = workspace.getInts(SortingWorkspace.OFFSETS, RADIX);
+        for (int d = 0; d < INT_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + floatDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                offsets[b] = sum;
+                sum += counts[base + b];
+            }
+
+            final var srcEnd = srcOffset + n;
+            if (srcIndices != null) {
+                for (int i = srcOffset; i < srcEnd; i++) {
+                    final var value = src[i];
+                    final var pos = offsets[floatDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset; i < srcEnd; i++) {
+                    final var value = src[i];
+                    dst[offsets[floatDigit(value, d)]++] = value;
+                }
+            }
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and histograms.
+     */
+    void radixSort(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        // compute histograms of all digits in a single pass
+        final var counts = workspace.getInts(SortingWorkspace.COUNTS, INT_DIGITS * RADIX);
+        Arrays.fill(counts, 0, INT_DIGITS * RADIX, 0);
+        for (int i = fromIndex; i < toIndex; i++) {
+            final var value = array[i];
+            for (int d = 0; d < INT_DIGITS; d++) {
+                counts[d * RADIX + intDigit(value, d)]++;
+            }
+        }
+
+        final var scratch = workspace.getInts(SortingWorkspace.INTS, n);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        final var offsets = workspace.getInts(SortingWorkspace.OFFSETS, RADIX);
+        for (int d = 0; d < INT_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + intDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                offsets[b] = sum;
+                sum += counts[base + b];
+            }
+
+            final var end = srcOffset + n;
+            if (srcIndices != null) {
+                for (int i = srcOffset; i < end; i++) {
+                    final var value = src[i];
+                    final var pos = offsets[intDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset; i < end; i++) {
+                    final var value = src[i];
+                    dst[offsets[intDigit(value, d)]++] = value;
+                }
+            }
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order using LSD radix sort, applying the same
+     * reordering to provided indices, if any.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array or null if indices are not needed.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and histograms.
+     */
+    void radixSort(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                   final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        // compute histograms of all digits in a single pass
+        final var counts = workspace.getInts(SortingWorkspace.COUNTS, LONG_DIGITS * RADIX);
+        Arrays.fill(counts, 0, LONG_DIGITS * RADIX, 0);
+        for (int i = fromIndex; i < toIndex; i++) {
+            final var value = array[i];
+            for (int d = 0; d < LONG_DIGITS; d++) {
+                counts[d * RADIX + longDigit(value, d)]++;
+            }
+        }
+
+        final var scratch = workspace.getLongs(n);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = fromIndex;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = 0;
+        final var offsets = workspace.getInts(SortingWorkspace.OFFSETS, RADIX);
+        for (int d = 0; d < LONG_DIGITS; d++) {
+            final var base = d * RADIX;
+            // skip digits shared by all elements
+            if (counts[base + longDigit(src[srcOffset], d)] == n) {
+                continue;
+            }
+
+            var sum = dstOffset;
+            for (int b = 0; b < RADIX; b++) {
+                offsets[b] = sum;
+                sum += counts[base + b];
+            }
+
+            final var end = srcOffset + n;
+            if (srcIndices != null) {
+                for (int i = srcOffset; i < end; i++) {
+                    final var value = src[i];
+                    final var pos = offsets[longDigit(value, d)]++;
+                    dst[pos] = value;
+                    dstIndices[pos] = srcIndices[i];
+                }
+            } else {
+                for (int i = srcOffset; i < end; i++) {
+                    final var value = src[i];
+                    dst[offsets[longDigit(value, d)]++] = value;
+                }
+            }
+
+            // swap buffers
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            // sorted values were left in scratch buffer
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Returns digit of provided value at provided position, where the most
+     * significant digit has its sign bit flipped so that negative values are
+     * sorted before positive ones.
+     *
+     * @param value    value to extract digit from.
+     * @param position position of digit, starting at the least significant
+     *                 one.
+     * @return digit value.
+     */
+    static int intDigit(final int value, final int position) {
+        final var digit = (value >>> (position * DIGIT_BITS)) & DIGIT_MASK;
+        return position == INT_DIGITS - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Returns digit of provided value at provided position, where the most
+     * significant digit has its sign bit flipped so that negative values are
+     * sorted before positive ones.
+     *
+     * @param value    value to extract digit from.
+     * @param position position of digit, starting at the least significant
+     *                 one.
+     * @return digit value.
+     */
+    static int longDigit(final long value, final int position) {
+        final var digit = (int) (value >>> (position * DIGIT_BITS)) & DIGIT_MASK;
+        return position == LONG_DIGITS - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Returns digit of provided value at provided position, so that sorting
+     * values by their digits is consistent with {@link Double#compare(double, double)}
+     * for values that are not NaN.
+     *
+     * @param value    value to extract digit from.
+     * @param position position of digit, starting at the least significant
+     *                 one.
+     * @return digit value.
+     */
+    static int doubleDigit(final double value, final int position) {
+        final var bits = Double.doubleToRawLongBits(value);
+        // flip all bits but the sign one for negative values
+        return longDigit(bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE), position);
+    }
+
+    /**
+     * Returns digit of provided value at provided position, so that sorting
+     * values by their digits is consistent with {@link Float#compare(float, float)}
+     * for values that are not NaN.
+     *
+     * @param value    value to extract digit from.
+     * @param position position of digit, starting at the least significant
+     *                 one.
+     * @return digit value.
+     */
+    static int floatDigit(final float value, final int position) {
+        final var bits = Float.floatToRawIntBits(value);
+        // flip all bits but the sign one for negative values
+        return intDigit(bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE), position);
+    }
+}
@@ -0,0 +1,1665 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts arrays that are already sorted, strictly descending or made of a few
+ * ascending or strictly descending runs in linear time, before any other
+ * sorting algorithm is used.
+ * Arrays are scanned once to find their runs, stopping as soon as too many
+ * runs are found, so that scanning arrays that must be sorted by other means
+ * is cheap. Sorted arrays are left untouched, strictly descending runs are
+ * reversed in place, and runs are merged in pairs using a scratch buffer.
+ * Because only strictly descending runs are reversed and runs are merged
+ * from left to right, sorting is stable.
+ * Double and float values are compared as {@link Double#compare(double, double)}
+ * and {@link Float#compare(float, float)} do, so that -0.0 is placed before
+ * 0.0 as {@link java.util.Arrays#sort(double[])} does, while ranges containing
+ * NaN values are left to other sorting algorithms.
+ */
+@SuppressWarnings("Duplicates")
+final class RunSorter {
+
+    /**
+     * Maximum number of runs that are merged. Ranges containing more runs
+     * must be sorted by other means.
+     */
+    static final int MAX_RUN_COUNT = 16;
+
+    /**
+     * Minimum average number of elements of runs to be merged. Ranges
+     * containing several shorter runs must be sorted by other means.
+     */
+    static final int MIN_AVERAGE_RUN_LENGTH = 32;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private RunSorter() {
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static <T> boolean sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+        return sort(array, fromIndex, toIndex, comparator, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, taking bounds of runs and scratch arrays from provided workspace.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static <T> boolean sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                            final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending, comparator);
+        if (runCount == 0) {
+            return false;
+        }
+
+        sortRuns(array, null, bounds, descending, runCount, comparator, workspace);
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, and returns the original indices where sorted elements were
+     * located.
+     * Provided array is not modified when this method returns null.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range contains too many runs or unordered
+     * values and must be sorted by other means.
+     */
+    static <T> int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                     final Comparator<T> comparator) {
+        final var workspace = new SortingWorkspace();
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending, comparator);
+        if (runCount == 0) {
+            return null;
+        }
+
+        final var indices = new int[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, comparator, workspace);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, storing into provided indices the original positions where sorted
+     * elements were located, and taking bounds of runs and scratch arrays
+     * from provided workspace.
+     * Neither provided array nor indices are modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param indices    Array where original positions of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive) are
+     *                   stored at the same positions.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static <T> boolean sortWithIndices(final T[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                       final Comparator<T> comparator, final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending, comparator);
+        if (runCount == 0) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, comparator, workspace);
+        return true;
+    }
+
+    /**
+     * Finds ascending and strictly descending runs of provided range,
+     * stopping as soon as the range is found to contain too many runs.
+     *
+     * @param array      Array to be scanned.
+     * @param fromIndex  Index were scanning starts (inclusive).
+     * @param toIndex    Index were scanning stops (exclusive).
+     * @param bounds     Array where position where each run starts is stored,
+     *                   followed by the position where last run ends.
+     * @param descending Array indicating whether each run is strictly
+     *                   descending.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Number of runs or zero if provided range contains too many runs
+     * or unordered values.
+     */
+    private static <T> int findRuns(final T[] array, final int fromIndex, final int toIndex, final int[] bounds,
+                                    final boolean[] descending, final Comparator<T> comparator) {
+        bounds[0] = fromIndex;
+        var runCount = 0;
+        var start = fromIndex;
+        while (start < toIndex) {
+            if (runCount == MAX_RUN_COUNT) {
+                return 0;
+            }
+
+            var end = start + 1;
+            if (end < toIndex && comparator.compare(array[start], array[end]) > 0) {
+                descending[runCount] = true;
+                while (end < toIndex && comparator.compare(array[end - 1], array[end]) > 0) {
+                    end++;
+                }
+            } else {
+                descending[runCount] = false;
+                while (end < toIndex && comparator.compare(array[end - 1], array[end]) <= 0) {
+                    end++;
+                }
+            }
+            bounds[++runCount] = end;
+            start = end;
+        }
+
+        if (runCount > 1 && toIndex - fromIndex < runCount * MIN_AVERAGE_RUN_LENGTH) {
+            return 0;
+        }
+        return Math.max(runCount, 1);
+    }
+
+    /**
+     * Sorts provided runs by reversing strictly descending runs in place and
+     * merging runs in pairs from left to right, hence equal elements keep
+     * their relative order.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param bounds     Position where each run starts, followed by the
+     *                   position where last run ends.
+     * @param descending Indicates whether each run is strictly descending.
+     * @param runCount   Number of runs.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing scratch arrays.
+     */
+    private static <T> void sortRuns(final T[] array, final int[] indices, final int[] bounds,
+                                     final boolean[] descending, final int runCount, final Comparator<T> comparator,
+                                     final SortingWorkspace workspace) {
+        for (int r = 0; r < runCount; r++) {
+            if (descending[r]) {
+                reverse(array, indices, bounds[r], bounds[r + 1]);
+            }
+        }
+
+        if (runCount > 1) {
+            final var n = bounds[runCount] - bounds[0];
+            final T[] scratch = workspace.getObjects(n);
+            final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+            mergeRuns(array, indices, bounds, runCount, scratch, scratchIndices, comparator);
+            Arrays.fill(scratch, 0, n, null);
+        }
+    }
+
+    /**
+     * Merges pairs of adjacent runs until a single run remains, alternating
+     * between provided array and scratch arrays.
+     *
+     * @param array          Array containing runs sorted in ascending order.
+     * @param indices        Indices to be reordered along with provided array
+     *                       or null if not needed.
+     * @param bounds         Position where each run starts, followed by the
+     *                       position where last run ends.
+     * @param runCount       Number of runs.
+     * @param scratch        Scratch array having as many elements as the
+     *                       range being sorted.
+     * @param scratchIndices Scratch array for indices or null if not needed.
+     * @param comparator     Determines whether an element is greater or lower
+     *                       than another one.
+     */
+    private static <T> void mergeRuns(final T[] array, final int[] indices, final int[] bounds, final int runCount,
+                                      final T[] scratch, final int[] scratchIndices, final Comparator<T> comparator) {
+        final var fromIndex = bounds[0];
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = 0;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = fromIndex;
+        var count = runCount;
+        while (count > 1) {
+            var newCount = 0;
+            for (int r = 0; r < count; r += 2) {
+                final var lo = bounds[r];
+                final int hi;
+                if (r + 1 < count) {
+                    hi = bounds[r + 2];
+                    merge(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, lo, bounds[r + 1], hi, comparator);
+                } else {
+                    hi = bounds[r + 1];
+                    System.arraycopy(src, lo - srcOffset, dst, lo - dstOffset, hi - lo);
+                    if (srcIndices != null) {
+                        System.arraycopy(srcIndices, lo - srcOffset, dstIndices, lo - dstOffset, hi - lo);
+                    }
+                }
+                bounds[++newCount] = hi;
+            }
+            count = newCount;
+
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            final var n = bounds[1] - fromIndex;
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent runs sorted in ascending order from source into
+     * destination array, taking equal elements from the left run first.
+     * Positions are expressed in the coordinates of the array being sorted,
+     * hence the element at position p is located at p - offset of source or
+     * destination arrays.
+     *
+     * @param src        Source array.
+     * @param srcIndices Source indices or null if not needed.
+     * @param srcOffset  Offset of source array.
+     * @param dst        Destination array.
+     * @param dstIndices Destination indices or null if not needed.
+     * @param dstOffset  Offset of destination array.
+     * @param lo         Position where left run starts (inclusive).
+     * @param mid        Position where right run starts (inclusive).
+     * @param hi         Position where right run ends (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private static <T> void merge(final T[] src, final int[] srcIndices, final int srcOffset, final T[] dst,
+                                  final int[] dstIndices, final int dstOffset, final int lo, final int mid,
+                                  final int hi, final Comparator<T> comparator) {
+        var i = lo - srcOffset;
+        var j = mid - srcOffset;
+        final var iEnd = mid - srcOffset;
+        final var jEnd = hi - srcOffset;
+        var k = lo - dstOffset;
+        while (i < iEnd && j < jEnd) {
+            final int pos;
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                pos = i++;
+            } else {
+                pos = j++;
+            }
+            dst[k] = src[pos];
+            if (srcIndices != null) {
+                dstIndices[k] = srcIndices[pos];
+            }
+            k++;
+        }
+        final var remaining = i < iEnd ? i : j;
+        final var length = i < iEnd ? iEnd - i : jEnd - j;
+        System.arraycopy(src, remaining, dst, k, length);
+        if (srcIndices != null) {
+            System.arraycopy(srcIndices, remaining, dstIndices, k, length);
+        }
+    }
+
+    /**
+     * Reverses provided range of array and indices.
+     *
+     * @param array     Array to be reversed.
+     * @param indices   Indices to be reversed or null if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range stops (exclusive).
+     */
+    private static <T> void reverse(final T[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            final var value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+            if (indices != null) {
+                final var index = indices[i];
+                indices[i] = indices[j];
+                indices[j] = index;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final double[] array, final int fromIndex, final int toIndex) {
+        return sort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, taking bounds of runs and scratch arrays from provided workspace.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final double[] array, final int fromIndex, final int toIndex,
+                        final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        sortRuns(array, null, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, and returns the original indices where sorted elements were
+     * located.
+     * Provided array is not modified when this method returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range contains too many runs or unordered
+     * values and must be sorted by other means.
+     */
+    static int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+        final var workspace = new SortingWorkspace();
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return null;
+        }
+
+        final var indices = new int[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, storing into provided indices the original positions where sorted
+     * elements were located, and taking bounds of runs and scratch arrays
+     * from provided workspace.
+     * Neither provided array nor indices are modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original positions of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive) are
+     *                  stored at the same positions.
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sortWithIndices(final double[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                   final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Finds ascending and strictly descending runs of provided range,
+     * stopping as soon as the range is found to contain too many runs.
+     *
+     * @param array      Array to be scanned.
+     * @param fromIndex  Index were scanning starts (inclusive).
+     * @param toIndex    Index were scanning stops (exclusive).
+     * @param bounds     Array where position where each run starts is stored,
+     *                   followed by the position where last run ends.
+     * @param descending Array indicating whether each run is strictly
+     *                   descending.
+     * @return Number of runs or zero if provided range contains too many runs
+     * or unordered values.
+     */
+    private static int findRuns(final double[] array, final int fromIndex, final int toIndex, final int[] bounds,
+                                final boolean[] descending) {
+        bounds[0] = fromIndex;
+        var runCount = 0;
+        var start = fromIndex;
+        while (start < toIndex) {
+            if (runCount == MAX_RUN_COUNT) {
+                return 0;
+            }
+            if (Double.isNaN(array[start])) {
+                return 0;
+            }
+
+            var end = start + 1;
+            if (end < toIndex && Double.compare(array[start], array[end]) > 0) {
+                descending[runCount] = true;
+                while (end < toIndex && Double.compare(array[end - 1], array[end]) > 0) {
+                    end++;
+                }
+            } else {
+                descending[runCount] = false;
+                while (end < toIndex && Double.compare(array[end - 1], array[end]) <= 0) {
+                    end++;
+                }
+            }
+            bounds[++runCount] = end;
+            start = end;
+        }
+
+        if (runCount > 1 && toIndex - fromIndex < runCount * MIN_AVERAGE_RUN_LENGTH) {
+            return 0;
+        }
+        return Math.max(runCount, 1);
+    }
+
+    /**
+     * Sorts provided runs by reversing strictly descending runs in place and
+     * merging runs in pairs from left to right, hence equal elements keep
+     * their relative order.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param bounds     Position where each run starts, followed by the
+     *                   position where last run ends.
+     * @param descending Indicates whether each run is strictly descending.
+     * @param runCount   Number of runs.
+     * @param workspace  Workspace providing scratch arrays.
+     */
+    private static void sortRuns(final double[] array, final int[] indices, final int[] bounds,
+                                 final boolean[] descending, final int runCount, final SortingWorkspace workspace) {
+        for (int r = 0; r < runCount; r++) {
+            if (descending[r]) {
+                reverse(array, indices, bounds[r], bounds[r + 1]);
+            }
+        }
+
+        if (runCount > 1) {
+            final var n = bounds[runCount] - bounds[0];
+            final var scratch = workspace.getDoubles(n);
+            final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+            mergeRuns(array, indices, bounds, runCount, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Merges pairs of adjacent runs until a single run remains, alternating
+     * between provided array and scratch arrays.
+     *
+     * @param array          Array containing runs sorted in ascending order.
+     * @param indices        Indices to be reordered along with provided array
+     *                       or null if not needed.
+     * @param bounds         Position where each run starts, followed by the
+     *                       position where last run ends.
+     * @param runCount       Number of runs.
+     * @param scratch        Scratch array having as many elements as the
+     *                       range being sorted.
+     * @param scratchIndices Scratch array for indices or null if not needed.
+     */
+    private static void mergeRuns(final double[] array, final int[] indices, final int[] bounds, final int runCount,
+                                  final double[] scratch, final int[] scratchIndices) {
+        final var fromIndex = bounds[0];
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = 0;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = fromIndex;
+        var count = runCount;
+        while (count > 1) {
+            var newCount = 0;
+            for (int r = 0; r < count; r += 2) {
+                final var lo = bounds[r];
+                final int hi;
+                if (r + 1 < count) {
+                    hi = bounds[r + 2];
+                    merge(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, lo, bounds[r + 1], hi);
+                } else {
+                    hi = bounds[r + 1];
+                    System.arraycopy(src, lo - srcOffset, dst, lo - dstOffset, hi - lo);
+                    if (srcIndices != null) {
+                        System.arraycopy(srcIndices, lo - srcOffset, dstIndices, lo - dstOffset, hi - lo);
+                    }
+                }
+                bounds[++newCount] = hi;
+            }
+            count = newCount;
+
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            final var n = bounds[1] - fromIndex;
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent runs sorted in ascending order from source into
+     * destination array, taking equal elements from the left run first.
+     * Positions are expressed in the coordinates of the array being sorted,
+     * hence the element at position p is located at p - offset of source or
+     * destination arrays.
+     *
+     * @param src        Source array.
+     * @param srcIndices Source indices or null if not needed.
+     * @param srcOffset  Offset of source array.
+     * @param dst        Destination array.
+     * @param dstIndices Destination indices or null if not needed.
+     * @param dstOffset  Offset of destination array.
+     * @param lo         Position where left run starts (inclusive).
+     * @param mid        Position where right run starts (inclusive).
+     * @param hi         Position where right run ends (exclusive).
+     */
+    private static void merge(final double[] src, final int[] srcIndices, final int srcOffset, final double[] dst,
+                              final int[] dstIndices, final int dstOffset, final int lo, final int mid, final int hi) {
+        var i = lo - srcOffset;
+        var j = mid - srcOffset;
+        final var iEnd = mid - srcOffset;
+        final var jEnd = hi - srcOffset;
+        var k = lo - dstOffset;
+        while (i < iEnd && j < jEnd) {
+            final int pos;
+            if (Double.compare(src[i], src[j]) <= 0) {
+                pos = i++;
+            } else {
+                pos = j++;
+            }
+            dst[k] = src[pos];
+            if (srcIndices != null) {
+                dstIndices[k] = srcIndices[pos];
+            }
+            k++;
+        }
+        final var remaining = i < iEnd ? i : j;
+        final var length = i < iEnd ? iEnd - i : jEnd - j;
+        System.arraycopy(src, remaining, dst, k, length);
+        if (srcIndices != null) {
+            System.arraycopy(srcIndices, remaining, dstIndices, k, length);
+        }
+    }
+
+    /**
+     * Reverses provided range of array and indices.
+     *
+     * @param array     Array to be reversed.
+     * @param indices   Indices to be reversed or null if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range stops (exclusive).
+     */
+    private static void reverse(final double[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            final var value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+            if (indices != null) {
+                final var index = indices[i];
+                indices[i] = indices[j];
+                indices[j] = index;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final float[] array, final int fromIndex, final int toIndex) {
+        return sort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, taking bounds of runs and scratch arrays from provided workspace.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final float[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        sortRuns(array, null, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, and returns the original indices where sorted elements were
+     * located.
+     * Provided array is not modified when this method returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range contains too many runs or unordered
+     * values and must be sorted by other means.
+     */
+    static int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+        final var workspace = new SortingWorkspace();
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return null;
+        }
+
+        final var indices = new int[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, storing into provided indices the original positions where sorted
+     * elements were located, and taking bounds of runs and scratch arrays
+     * from provided workspace.
+     * Neither provided array nor indices are modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original positions of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive) are
+     *                  stored at the same positions.
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sortWithIndices(final float[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                   final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Finds ascending and strictly descending runs of provided range,
+     * stopping as soon as the range is found to contain too many runs.
+     *
+     * @param array      Array to be scanned.
+     * @param fromIndex  Index were scanning starts (inclusive).
+     * @param toIndex    Index were scanning stops (exclusive).
+     * @param bounds     Array where position where each run starts is stored,
+     *                   followed by the position where last run ends.
+     * @param descending Array indicating whether each run is strictly
+     *                   descending.
+     * @return Number of runs or zero if provided range contains too many runs
+     * or unordered values.
+     */
+    private static int findRuns(final float[] array, final int fromIndex, final int toIndex, final int[] bounds,
+                                final boolean[] descending) {
+        bounds[0] = fromIndex;
+        var runCount = 0;
+        var start = fromIndex;
+        while (start < toIndex) {
+            if (runCount == MAX_RUN_COUNT) {
+                return 0;
+            }
+            if (Float.isNaN(array[start])) {
+                return 0;
+            }
+
+            var end = start + 1;
+            if (end < toIndex && Float.compare(array[start], array[end]) > 0) {
+                descending[runCount] = true;
+                while (end < toIndex && Float.compare(array[end - 1], array[end]) > 0) {
+                    end++;
+                }
+            } else {
+                descending[runCount] = false;
+                while (end < toIndex && Float.compare(array[end - 1], array[end]) <= 0) {
+                    end++;
+                }
+            }
+            bounds[++runCount] = end;
+            start = end;
+        }
+
+        if (runCount > 1 && toIndex - fromIndex < runCount * MIN_AVERAGE_RUN_LENGTH) {
+            return 0;
+        }
+        return Math.max(runCount, 1);
+    }
+
+    /**
+     * Sorts provided runs by reversing strictly descending runs in place and
+     * merging runs in pairs from left to right, hence equal elements keep
+     * their relative order.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param bounds     Position where each run starts, followed by the
+     *                   position where last run ends.
+     * @param descending Indicates whether each run is strictly descending.
+     * @param runCount   Number of runs.
+     * @param workspace  Workspace providing scratch arrays.
+     */
+    private static void sortRuns(final float[] array, final int[] indices, final int[] bounds,
+                                 final boolean[] descending, final int runCount, final SortingWorkspace workspace) {
+        for (int r = 0; r < runCount; r++) {
+            if (descending[r]) {
+                reverse(array, indices, bounds[r], bounds[r + 1]);
+            }
+        }
+
+        if (runCount > 1) {
+            final var n = bounds[runCount] - bounds[0];
+            final var scratch = workspace.getFloats(n);
+            final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+            mergeRuns(array, indices, bounds, runCount, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Merges pairs of adjacent runs until a single run remains, alternating
+     * between provided array and scratch arrays.
+     *
+     * @param array          Array containing runs sorted in ascending order.
+     * @param indices        Indices to be reordered along with provided array
+     *                       or null if not needed.
+     * @param bounds         Position where each run starts, followed by the
+     *                       position where last run ends.
+     * @param runCount       Number of runs.
+     * @param scratch        Scratch array having as many elements as the
+     *                       range being sorted.
+     * @param scratchIndices Scratch array for indices or null if not needed.
+     */
+    private static void mergeRuns(final float[] array, final int[] indices, final int[] bounds, final int runCount,
+                                  final float[] scratch, final int[] scratchIndices) {
+        final var fromIndex = bounds[0];
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = 0;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = fromIndex;
+        var count = runCount;
+        while (count > 1) {
+            var newCount = 0;
+            for (int r = 0; r < count; r += 2) {
+                final var lo = bounds[r];
+                final int hi;
+                if (r + 1 < count) {
+                    hi = bounds[r + 2];
+                    merge(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, lo, bounds[r + 1], hi);
+                } else {
+                    hi = bounds[r + 1];
+                    System.arraycopy(src, lo - srcOffset, dst, lo - dstOffset, hi - lo);
+                    if (srcIndices != null) {
+                        System.arraycopy(srcIndices, lo - srcOffset, dstIndices, lo - dstOffset, hi - lo);
+                    }
+                }
+                bounds[++newCount] = hi;
+            }
+            count = newCount;
+
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            final var n = bounds[1] - fromIndex;
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent runs sorted in ascending order from source into
+     * destination array, taking equal elements from the left run first.
+     * Positions are expressed in the coordinates of the array being sorted,
+     * hence the element at position p is located at p - offset of source or
+     * destination arrays.
+     *
+     * @param src        Source array.
+     * @param srcIndices Source indices or null if not needed.
+     * @param srcOffset  Offset of source array.
+     * @param dst        Destination array.
+     * @param dstIndices Destination indices or null if not needed.
+     * @param dstOffset  Offset of destination array.
+     * @param lo         Position where left run starts (inclusive).
+     * @param mid        Position where right run starts (inclusive).
+     * @param hi         Position where right run ends (exclusive).
+     */
+    private static void merge(final float[] src, final int[] srcIndices, final int srcOffset, final float[] dst,
+                              final int[] dstIndices, final int dstOffset, final int lo, final int mid, final int hi) {
+        var i = lo - srcOffset;
+        var j = mid - srcOffset;
+        final var iEnd = mid - srcOffset;
+        final var jEnd = hi - srcOffset;
+        var k = lo - dstOffset;
+        while (i < iEnd && j < jEnd) {
+            final int pos;
+            if (Float.compare(src[i], src[j]) <= 0) {
+                pos = i++;
+            } else {
+                pos = j++;
+            }
+            dst[k] = src[pos];
+            if (srcIndices != null) {
+                dstIndices[k] = srcIndices[pos];
+            }
+            k++;
+        }
+        final var remaining = i < iEnd ? i : j;
+        final var length = i < iEnd ? iEnd - i : jEnd - j;
+        System.arraycopy(src, remaining, dst, k, length);
+        if (srcIndices != null) {
+            System.arraycopy(srcIndices, remaining, dstIndices, k, length);
+        }
+    }
+
+    /**
+     * Reverses provided range of array and indices.
+     *
+     * @param array     Array to be reversed.
+     * @param indices   Indices to be reversed or null if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range stops (exclusive).
+     */
+    private static void reverse(final float[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            final var value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+            if (indices != null) {
+                final var index = indices[i];
+                indices[i] = indices[j];
+                indices[j] = index;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final int[] array, final int fromIndex, final int toIndex) {
+        return sort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, taking bounds of runs and scratch arrays from provided workspace.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final int[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        sortRuns(array, null, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, and returns the original indices where sorted elements were
+     * located.
+     * Provided array is not modified when this method returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range contains too many runs or unordered
+     * values and must be sorted by other means.
+     */
+    static int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+        final var workspace = new SortingWorkspace();
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return null;
+        }
+
+        final var indices = new int[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, storing into provided indices the original positions where sorted
+     * elements were located, and taking bounds of runs and scratch arrays
+     * from provided workspace.
+     * Neither provided array nor indices are modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original positions of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive) are
+     *                  stored at the same positions.
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sortWithIndices(final int[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                   final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Finds ascending and strictly descending runs of provided range,
+     * stopping as soon as the range is found to contain too many runs.
+     *
+     * @param array      Array to be scanned.
+     * @param fromIndex  Index were scanning starts (inclusive).
+     * @param toIndex    Index were scanning stops (exclusive).
+     * @param bounds     Array where position where each run starts is stored,
+     *                   followed by the position where last run ends.
+     * @param descending Array indicating whether each run is strictly
+     *                   descending.
+     * @return Number of runs or zero if provided range contains too many runs
+     * or unordered values.
+     */
+    private static int findRuns(final int[] array, final int fromIndex, final int toIndex, final int[] bounds,
+                                final boolean[] descending) {
+        bounds[0] = fromIndex;
+        var runCount = 0;
+        var start = fromIndex;
+        while (start < toIndex) {
+            if (runCount == MAX_RUN_COUNT) {
+                return 0;
+            }
+
+            var end = start + 1;
+            if (end < toIndex && array[start] > array[end]) {
+                descending[runCount] = true;
+                while (end < toIndex && array[end - 1] > array[end]) {
+                    end++;
+                }
+            } else {
+                descending[runCount] = false;
+                while (end < toIndex && array[end - 1] <= array[end]) {
+                    end++;
+                }
+            }
+            bounds[++runCount] = end;
+            start = end;
+        }
+
+        if (runCount > 1 && toIndex - fromIndex < runCount * MIN_AVERAGE_RUN_LENGTH) {
+            return 0;
+        }
+        return Math.max(runCount, 1);
+    }
+
+    /**
+     * Sorts provided runs by reversing strictly descending runs in place and
+     * merging runs in pairs from left to right, hence equal elements keep
+     * their relative order.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param bounds     Position where each run starts, followed by the
+     *                   position where last run ends.
+     * @param descending Indicates whether each run is strictly descending.
+     * @param runCount   Number of runs.
+     * @param workspace  Workspace providing scratch arrays.
+     */
+    private static void sortRuns(final int[] array, final int[] indices, final int[] bounds, final boolean[] descending,
+                                 final int runCount, final SortingWorkspace workspace) {
+        for (int r = 0; r < runCount; r++) {
+            if (descending[r]) {
+                reverse(array, indices, bounds[r], bounds[r + 1]);
+            }
+        }
+
+        if (runCount > 1) {
+            final var n = bounds[runCount] - bounds[0];
+            final var scratch = workspace.getInts(SortingWorkspace.INTS, n);
+            final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+            mergeRuns(array, indices, bounds, runCount, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Merges pairs of adjacent runs until a single run remains, alternating
+     * between provided array and scratch arrays.
+     *
+     * @param array          Array containing runs sorted in ascending order.
+     * @param indices        Indices to be reordered along with provided array
+     *                       or null if not needed.
+     * @param bounds         Position where each run starts, followed by the
+     *                       position where last run ends.
+     * @param runCount       Number of runs.
+     * @param scratch        Scratch array having as many elements as the
+     *                       range being sorted.
+     * @param scratchIndices Scratch array for indices or null if not needed.
+     */
+    private static void mergeRuns(final int[] array, final int[] indices, final int[] bounds, final int runCount,
+                                  final int[] scratch, final int[] scratchIndices) {
+        final var fromIndex = bounds[0];
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = 0;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = fromIndex;
+        var count = runCount;
+        while (count > 1) {
+            var newCount = 0;
+            for (int r = 0; r < count; r += 2) {
+                final var lo = bounds[r];
+                final int hi;
+                if (r + 1 < count) {
+                    hi = bounds[r + 2];
+                    merge(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, lo, bounds[r + 1], hi);
+                } else {
+                    hi = bounds[r + 1];
+                    System.arraycopy(src, lo - srcOffset, dst, lo - dstOffset, hi - lo);
+                    if (srcIndices != null) {
+                        System.arraycopy(srcIndices, lo - srcOffset, dstIndices, lo - dstOffset, hi - lo);
+                    }
+                }
+                bounds[++newCount] = hi;
+            }
+            count = newCount;
+
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            final var n = bounds[1] - fromIndex;
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent runs sorted in ascending order from source into
+     * destination array, taking equal elements from the left run first.
+     * Positions are expressed in the coordinates of the array being sorted,
+     * hence the element at position p is located at p - offset of source or
+     * destination arrays.
+     *
+     * @param src        Source array.
+     * @param srcIndices Source indices or null if not needed.
+     * @param srcOffset  Offset of source array.
+     * @param dst        Destination array.
+     * @param dstIndices Destination indices or null if not needed.
+     * @param dstOffset  Offset of destination array.
+     * @param lo         Position where left run starts (inclusive).
+     * @param mid        Position where right run starts (inclusive).
+     * @param hi         Position where right run ends (exclusive).
+     */
+    private static void merge(final int[] src, final int[] srcIndices, final int srcOffset, final int[] dst,
+                              final int[] dstIndices, final int dstOffset, final int lo, final int mid, final int hi) {
+        var i = lo - srcOffset;
+        var j = mid - srcOffset;
+        final var iEnd = mid - srcOffset;
+        final var jEnd = hi - srcOffset;
+        var k = lo - dstOffset;
+        while (i < iEnd && j < jEnd) {
+            final int pos;
+            if (src[i] <= src[j]) {
+                pos = i++;
+            } else {
+                pos = j++;
+            }
+            dst[k] = src[pos];
+            if (srcIndices != null) {
+                dstIndices[k] = srcIndices[pos];
+            }
+            k++;
+        }
+        final var remaining = i < iEnd ? i : j;
+        final var length = i < iEnd ? iEnd - i : jEnd - j;
+        System.arraycopy(src, remaining, dst, k, length);
+        if (srcIndices != null) {
+            System.arraycopy(srcIndices, remaining, dstIndices, k, length);
+        }
+    }
+
+    /**
+     * Reverses provided range of array and indices.
+     *
+     * @param array     Array to be reversed.
+     * @param indices   Indices to be reversed or null if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range stops (exclusive).
+     */
+    private static void reverse(final int[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            final var value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+            if (indices != null) {
+                final var index = indices[i];
+                indices[i] = indices[j];
+                indices[j] = index;
+            }
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final long[] array, final int fromIndex, final int toIndex) {
+        return sort(array, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, taking bounds of runs and scratch arrays from provided workspace.
+     * Provided array is not modified when this method returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sort(final long[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        sortRuns(array, null, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, and returns the original indices where sorted elements were
+     * located.
+     * Provided array is not modified when this method returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range contains too many runs or unordered
+     * values and must be sorted by other means.
+     */
+    static int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+        final var workspace = new SortingWorkspace();
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return null;
+        }
+
+        final var indices = new int[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) when it is made of a few ascending or strictly descending
+     * runs, storing into provided indices the original positions where sorted
+     * elements were located, and taking bounds of runs and scratch arrays
+     * from provided workspace.
+     * Neither provided array nor indices are modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original positions of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive) are
+     *                  stored at the same positions.
+     * @param workspace Workspace providing bounds of runs and scratch arrays.
+     * @return true if provided range has been sorted, false if it contains
+     * too many runs or unordered values and must be sorted by other means.
+     */
+    static boolean sortWithIndices(final long[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                   final SortingWorkspace workspace) {
+        final var bounds = workspace.getInts(SortingWorkspace.RUN_BOUNDS, MAX_RUN_COUNT + 1);
+        final var descending = workspace.getRunDirections(MAX_RUN_COUNT);
+        final var runCount = findRuns(array, fromIndex, toIndex, bounds, descending);
+        if (runCount == 0) {
+            return false;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRuns(array, indices, bounds, descending, runCount, workspace);
+        return true;
+    }
+
+    /**
+     * Finds ascending and strictly descending runs of provided range,
+     * stopping as soon as the range is found to contain too many runs.
+     *
+     * @param array      Array to be scanned.
+     * @param fromIndex  Index were scanning starts (inclusive).
+     * @param toIndex    Index were scanning stops (exclusive).
+     * @param bounds     Array where position where each run starts is stored,
+     *                   followed by the position where last run ends.
+     * @param descending Array indicating whether each run is strictly
+     *                   descending.
+     * @return Number of runs or zero if provided range contains too many runs
+     * or unordered values.
+     */
+    private static int findRuns(final long[] array, final int fromIndex, final int toIndex, final int[] bounds,
+                                final boolean[] descending) {
+        bounds[0] = fromIndex;
+        var runCount = 0;
+        var start = fromIndex;
+        while (start < toIndex) {
+            if (runCount == MAX_RUN_COUNT) {
+                return 0;
+            }
+
+            var end = start + 1;
+            if (end < toIndex && array[start] > array[end]) {
+                descending[runCount] = true;
+                while (end < toIndex && array[end - 1] > array[end]) {
+                    end++;
+                }
+            } else {
+                descending[runCount] = false;
+                while (end < toIndex && array[end - 1] <= array[end]) {
+                    end++;
+                }
+            }
+            bounds[++runCount] = end;
+            start = end;
+        }
+
+        if (runCount > 1 && toIndex - fromIndex < runCount * MIN_AVERAGE_RUN_LENGTH) {
+            return 0;
+        }
+        return Math.max(runCount, 1);
+    }
+
+    /**
+     * Sorts provided runs by reversing strictly descending runs in place and
+     * merging runs in pairs from left to right, hence equal elements keep
+     * their relative order.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Indices to be reordered along with provided array or
+     *                   null if not needed.
+     * @param bounds     Position where each run starts, followed by the
+     *                   position where last run ends.
+     * @param descending Indicates whether each run is strictly descending.
+     * @param runCount   Number of runs.
+     * @param workspace  Workspace providing scratch arrays.
+     */
+    private static void sortRuns(final long[] array, final int[] indices, final int[] bounds,
+                                 final boolean[] descending, final int runCount, final SortingWorkspace workspace) {
+        for (int r = 0; r < runCount; r++) {
+            if (descending[r]) {
+                reverse(array, indices, bounds[r], bounds[r + 1]);
+            }
+        }
+
+        if (runCount > 1) {
+            final var n = bounds[runCount] - bounds[0];
+            final var scratch = workspace.getLongs(n);
+            final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n) : null;
+            mergeRuns(array, indices, bounds, runCount, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Merges pairs of adjacent runs until a single run remains, alternating
+     * between provided array and scratch arrays.
+     *
+     * @param array          Array containing runs sorted in ascending order.
+     * @param indices        Indices to be reordered along with provided array
+     *                       or null if not needed.
+     * @param bounds         Position where each run starts, followed by the
+     *                       position where last run ends.
+     * @param runCount       Number of runs.
+     * @param scratch        Scratch array having as many elements as the
+     *                       range being sorted.
+     * @param scratchIndices Scratch array for indices or null if not needed.
+     */
+    private static void mergeRuns(final long[] array, final int[] indices, final int[] bounds, final int runCount,
+                                  final long[] scratch, final int[] scratchIndices) {
+        final var fromIndex = bounds[0];
+        var src = array;
+        var srcIndices = indices;
+        var srcOffset = 0;
+        var dst = scratch;
+        var dstIndices = scratchIndices;
+        var dstOffset = fromIndex;
+        var count = runCount;
+        while (count > 1) {
+            var newCount = 0;
+            for (int r = 0; r < count; r += 2) {
+                final var lo = bounds[r];
+                final int hi;
+                if (r + 1 < count) {
+                    hi = bounds[r + 2];
+                    merge(src, srcIndices, srcOffset, dst, dstIndices, dstOffset, lo, bounds[r + 1], hi);
+                } else {
+                    hi = bounds[r + 1];
+                    System.arraycopy(src, lo - srcOffset, dst, lo - dstOffset, hi - lo);
+                    if (srcIndices != null) {
+                        System.arraycopy(srcIndices, lo - srcOffset, dstIndices, lo - dstOffset, hi - lo);
+                    }
+                }
+                bounds[++newCount] = hi;
+            }
+            count = newCount;
+
+            final var tmp = src;
+            src = dst;
+            dst = tmp;
+            final var tmpIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = tmpIndices;
+            final var tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != array) {
+            final var n = bounds[1] - fromIndex;
+            System.arraycopy(src, 0, array, fromIndex, n);
+            if (indices != null) {
+                System.arraycopy(srcIndices, 0, indices, fromIndex, n);
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent runs sorted in ascending order from source into
+     * destination array, taking equal elements from the left run first.
+     * Positions are expressed in the coordinates of the array being sorted,
+     * hence the element at position p is located at p - offset of source or
+     * destination arrays.
+     *
+     * @param src        Source array.
+     * @param srcIndices Source indices or null if not needed.
+     * @param srcOffset  Offset of source array.
+     * @param dst        Destination array.
+     * @param dstIndices Destination indices or null if not needed.
+     * @param dstOffset  Offset of destination array.
+     * @param lo         Position where left run starts (inclusive).
+     * @param mid        Position where right run starts (inclusive).
+     * @param hi         Position where right run ends (exclusive).
+     */
+    private static void merge(final long[] src, final int[] srcIndices, final int srcOffset, final long[] dst,
+                              final int[] dstIndices, final int dstOffset, final int lo, final int mid, final int hi) {
+        var i = lo - srcOffset;
+        var j = mid - srcOffset;
+        final var iEnd = mid - srcOffset;
+        final var jEnd = hi - srcOffset;
+        var k = lo - dstOffset;
+        while (i < iEnd && j < jEnd) {
+            final int pos;
+            if (src[i] <= src[j]) {
+                pos = i++;
+            } else {
+                pos = j++;
+            }
+            dst[k] = src[pos];
+            if (srcIndices != null) {
+                dstIndices[k] = srcIndices[pos];
+            }
+            k++;
+        }
+        final var remaining = i < iEnd ? i : j;
+        final var length = i < iEnd ? iEnd - i : jEnd - j;
+        System.arraycopy(src, remaining, dst, k, length);
+        if (srcIndices != null) {
+            System.arraycopy(srcIndices, remaining, dstIndices, k, length);
+        }
+    }
+
+    /**
+     * Reverses provided range of array and indices.
+     *
+     * @param array     Array to be reversed.
+     * @param indices   Indices to be reversed or null if not needed.
+     * @param fromIndex Index were range starts (inclusive).
+     * @param toIndex   Index were range stops (exclusive).
+     */
+    private static void reverse(final long[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            final var value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+            if (indices != null) {
+                final var index = indices[i];
+                indices[i] = indices[j];
+                indices[j] = index;
+            }
+        }
+    }
+}
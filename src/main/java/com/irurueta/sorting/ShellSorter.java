@@ -69,6 +69,581 @@ public class ShellSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
+            return;
+        }
+
+        shell(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        shellWithIndices(array, indices, fromIndex, toIndex, comparator);
+        return indices;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.SHELL_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        shellWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        shellWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        shellWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (sortRuns(array, fromIndex, toIndex)) {
+            return;
+        }
+
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final int[] indices = getInitialIndicesVector(array.length);
+        shellWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        shell(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        shellWithIndices(array, indices, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        shellWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        shellWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        shellWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        shell(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Shell sort sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        shellWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    void shell(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
         if (fromIndex == toIndex) {
             return;
         }
@@ -106,43 +681,23 @@ public class ShellSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array      Array to be sorted. After execution of this method
-     *                   elements in array between fromIndex (inclusive) and toIndex
-     *                   (exclusive) are modified so that they are on ascending order.
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
      * @param fromIndex  Index were sorting starts (inclusive).
      * @param toIndex    Index were sorting stops (exclusive).
      * @param comparator Determines whether an element is greater or lower
      *                   than another one.
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
-                                 final Comparator<T> comparator) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void shellWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                          final Comparator<T> comparator) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         int j;
@@ -179,44 +734,18 @@ public class ShellSorter<T> extends Sorter<T> {
                 indices[j + fromIndex] = b;
             }
         } while (inc > MIN_INCREMENT);
-
-        return indices;
-    }
-
-    /**
-     * Returns sorting method of this class.
-     *
-     * @return Sorting method.
-     */
-    @Override
-    public SortingMethod getMethod() {
-        return SortingMethod.SHELL_SORTING_METHOD;
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public void sort(final double[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
+    void shell(final double[] array, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
             return;
         }
@@ -254,40 +783,20 @@ public class ShellSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void shellWithIndices(final double[] array, final int[] indices, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         int j;
@@ -324,34 +833,18 @@ public class ShellSorter<T> extends Sorter<T> {
                 indices[j + fromIndex] = b;
             }
         } while (inc > MIN_INCREMENT);
-
-        return indices;
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public void sort(final float[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
+    void shell(final float[] array, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
             return;
         }
@@ -389,40 +882,20 @@ public class ShellSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final var indices = getInitialIndicesVector(array.length);
+    void shellWithIndices(final float[] array, final int[] indices, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         int j;
@@ -459,34 +932,18 @@ public class ShellSorter<T> extends Sorter<T> {
                 indices[j + fromIndex] = b;
             }
         } while (inc > MIN_INCREMENT);
-
-        return indices;
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public void sort(final int[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
+    void shell(final int[] array, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
             return;
         }
@@ -524,40 +981,20 @@ public class ShellSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void shellWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         int j;
@@ -594,34 +1031,18 @@ public class ShellSorter<T> extends Sorter<T> {
                 indices[j + fromIndex] = b;
             }
         } while (inc > MIN_INCREMENT);
-
-        return indices;
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public void sort(final long[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
+    void shell(final long[] array, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
             return;
         }
@@ -659,40 +1080,20 @@ public class ShellSorter<T> extends Sorter<T> {
     }
 
     /**
-     * Sorts provided array in ascending order so that {@code
-     * array[i - 1] < array[i]} for any valid i.
-     * This method modifies provided array so that
-     * after execution of this method array elements are ordered.
-     * An array containing the original indices where elements were
-     * located is returned so that other arrays or collections can be kept
-     * in the same order.
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
      *
-     * @param array     Array to be sorted. After execution of this method
-     *                  elements in array between fromIndex (inclusive) and toIndex
-     *                  (exclusive) are modified so that they are on ascending order.
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
      * @param fromIndex Index were sorting starts (inclusive).
      * @param toIndex   Index were sorting stops (exclusive).
-     * @return Array containing original location of elements that have been
-     * sorted. Only elements between fromIndex (inclusive) and toIndex
-     * (exclusive) are modified, the remaining ones are kept in natural
-     * order.
-     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
-     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
-     *                                        {@code toIndex > array.length}.
      */
-    @Override
-    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
-
-        if (fromIndex > toIndex) {
-            throw new IllegalArgumentException();
-        }
-        if (fromIndex < 0 || toIndex > array.length) {
-            throw new ArrayIndexOutOfBoundsException();
-        }
-
-        final int[] indices = getInitialIndicesVector(array.length);
+    void shellWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex) {
         if (fromIndex == toIndex) {
-            return indices;
+            return;
         }
 
         int j;
@@ -729,7 +1130,5 @@ public class ShellSorter<T> extends Sorter<T> {
                 indices[j + fromIndex] = b;
             }
         } while (inc > MIN_INCREMENT);
-
-        return indices;
     }
 }
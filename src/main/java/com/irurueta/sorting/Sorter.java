@@ -15,6 +15,12 @@
  */
 package com.irurueta.sorting;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
 import java.util.Comparator;
 
 /**
@@ -543,6 +549,402 @@ public abstract class Sorter<T> {
         return sortWithIndices(array, 0, array.length);
     }
 
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, taking internal stacks and
+     * scratch arrays from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                     final SortingWorkspace workspace) throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, comparator, workspace)) {
+            return;
+        }
+        sortRange(array, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, storing the original
+     * indices where elements were located into provided indices instead of
+     * returning a new array, and taking internal stacks and scratch arrays
+     * from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param indices    Array where original location of sorted elements is
+     *                   stored. Only elements between fromIndex (inclusive) and
+     *                   toIndex (exclusive) are modified, so that indices[i]
+     *                   contains the original location of array[i].
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex} or
+     *                                        {@code indices.length < toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sortWithIndices(final T[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                final Comparator<T> comparator, final SortingWorkspace workspace)
+            throws SortingException {
+
+        if (fromIndex > toIndex || indices.length < toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanWithIndicesEnabled()
+                && RunSorter.sortWithIndices(array, fromIndex, toIndex, indices, comparator, workspace)) {
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRangeWithIndices(array, indices, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, taking internal stacks and
+     * scratch arrays from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sort(final double[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+            throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, workspace)) {
+            return;
+        }
+        sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, storing the original
+     * indices where elements were located into provided indices instead of
+     * returning a new array, and taking internal stacks and scratch arrays
+     * from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original location of sorted elements is
+     *                  stored. Only elements between fromIndex (inclusive) and
+     *                  toIndex (exclusive) are modified, so that indices[i]
+     *                  contains the original location of array[i].
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex} or
+     *                                        {@code indices.length < toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sortWithIndices(final double[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                final SortingWorkspace workspace) throws SortingException {
+
+        if (fromIndex > toIndex || indices.length < toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanWithIndicesEnabled() && RunSorter.sortWithIndices(array, fromIndex, toIndex, indices, workspace)) {
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, taking internal stacks and
+     * scratch arrays from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sort(final float[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+            throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, workspace)) {
+            return;
+        }
+        sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, storing the original
+     * indices where elements were located into provided indices instead of
+     * returning a new array, and taking internal stacks and scratch arrays
+     * from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original location of sorted elements is
+     *                  stored. Only elements between fromIndex (inclusive) and
+     *                  toIndex (exclusive) are modified, so that indices[i]
+     *                  contains the original location of array[i].
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex} or
+     *                                        {@code indices.length < toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sortWithIndices(final float[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                final SortingWorkspace workspace) throws SortingException {
+
+        if (fromIndex > toIndex || indices.length < toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanWithIndicesEnabled() && RunSorter.sortWithIndices(array, fromIndex, toIndex, indices, workspace)) {
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, taking internal stacks and
+     * scratch arrays from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sort(final int[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+            throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, workspace)) {
+            return;
+        }
+        sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, storing the original
+     * indices where elements were located into provided indices instead of
+     * returning a new array, and taking internal stacks and scratch arrays
+     * from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original location of sorted elements is
+     *                  stored. Only elements between fromIndex (inclusive) and
+     *                  toIndex (exclusive) are modified, so that indices[i]
+     *                  contains the original location of array[i].
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex} or
+     *                                        {@code indices.length < toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sortWithIndices(final int[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                final SortingWorkspace workspace) throws SortingException {
+
+        if (fromIndex > toIndex || indices.length < toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanWithIndicesEnabled() && RunSorter.sortWithIndices(array, fromIndex, toIndex, indices, workspace)) {
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, taking internal stacks and
+     * scratch arrays from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sort(final long[] array, final int fromIndex, final int toIndex, final SortingWorkspace workspace)
+            throws SortingException {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, workspace)) {
+            return;
+        }
+        sortRange(array, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i, storing the original
+     * indices where elements were located into provided indices instead of
+     * returning a new array, and taking internal stacks and scratch arrays
+     * from provided workspace instead of allocating them.
+     * Once the workspace has grown to the size of the largest range being
+     * sorted, sorting does not allocate memory.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param indices   Array where original location of sorted elements is
+     *                  stored. Only elements between fromIndex (inclusive) and
+     *                  toIndex (exclusive) are modified, so that indices[i]
+     *                  contains the original location of array[i].
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex} or
+     *                                        {@code indices.length < toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void sortWithIndices(final long[] array, final int fromIndex, final int toIndex, final int[] indices,
+                                final SortingWorkspace workspace) throws SortingException {
+
+        if (fromIndex > toIndex || indices.length < toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        if (isRunScanWithIndicesEnabled() && RunSorter.sortWithIndices(array, fromIndex, toIndex, indices, workspace)) {
+            return;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            indices[i] = i;
+        }
+        sortRangeWithIndices(array, indices, fromIndex, toIndex, workspace);
+    }
+
     /**
      * Returns the k-th sorted element in provided array of {@link Comparable}.
      * Selecting an element is usually faster than sorting the whole
@@ -1249,19 +1651,406 @@ public abstract class Sorter<T> {
     }
 
     /**
-     * Computes median of provided array
-     * Median is computed by selecting the length / 2 element, hence
-     * provided array is modified upon execution of this method containing
-     * sorted element at location length / 2, smaller unsorted elements at
-     * array[0] ... array[length / 2 - 1], and greater unsorted elements at
-     * array[length / 2 + 1] ... array[length - 1].
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
      *
-     * @param array Array to be used for computation of median. This array
-     *              is modified after execution of this method.
-     * @return Median of provided array.
+     * @param ks        Positions of sorted elements to be retrieved. Positions
+     *                  can be repeated and be in any order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
      */
-    public T median(final Comparable<T>[] array) {
-        return median(array, 0, array.length);
+    public T[] select(final int[] ks, final Comparable<T>[] array) {
+        return select(ks, array, 0, array.length);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] select(final int[] ks, final Comparable<T>[] array, final int fromIndex, final int toIndex) {
+        return select(ks, (T[]) array, fromIndex, toIndex, (t1, t2) -> {
+            final var t1b = (Comparable<T>) t1;
+            return t1b.compareTo(t2);
+        });
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks         Positions of sorted elements to be retrieved. Positions
+     *                   can be repeated and be in any order.
+     * @param array      Array to be used for retrieving sorted elements.
+     *                   Provided array is passed by reference and modified upon
+     *                   execution of this method.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
+     */
+    public T[] select(final int[] ks, final T[] array, final Comparator<T> comparator) {
+        return select(ks, array, 0, array.length, comparator);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved. Positions
+     *                  can be repeated and be in any order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
+     */
+    public double[] select(final int[] ks, final double[] array) {
+        return select(ks, array, 0, array.length);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved. Positions
+     *                  can be repeated and be in any order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
+     */
+    public float[] select(final int[] ks, final float[] array) {
+        return select(ks, array, 0, array.length);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved. Positions
+     *                  can be repeated and be in any order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
+     */
+    public int[] select(final int[] ks, final int[] array) {
+        return select(ks, array, 0, array.length);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved. Positions
+     *                  can be repeated and be in any order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException if any position is negative or not
+     *                                  lower than array length.
+     */
+    public long[] select(final int[] ks, final long[] array) {
+        return select(ks, array, 0, array.length);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks         Positions of sorted elements to be retrieved, relative
+     *                   to fromIndex. Positions can be repeated and be in any
+     *                   order.
+     * @param array      Array to be used for retrieving sorted elements.
+     *                   Provided array is passed by reference and modified upon
+     *                   execution of this method.
+     * @param fromIndex  Index were selection starts (inclusive).
+     * @param toIndex    Index were selection stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public T[] select(final int[] ks, final T[] array, final int fromIndex, final int toIndex,
+                      final Comparator<T> comparator) {
+        return QuantileSelector.select(ks, array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double[] select(final int[] ks, final double[] array, final int fromIndex, final int toIndex) {
+        return QuantileSelector.select(ks, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public float[] select(final int[] ks, final float[] array, final int fromIndex, final int toIndex) {
+        return QuantileSelector.select(ks, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] select(final int[] ks, final int[] array, final int fromIndex, final int toIndex) {
+        return QuantileSelector.select(ks, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the sorted elements at provided positions of provided array
+     * starting at fromIndex and finishing at toIndex, elements outside this
+     * range are ignored.
+     * Selecting several elements at once partitions the array only once
+     * for all of them, descending only into the parts containing requested
+     * positions, which takes O(n log m) time for m positions instead of the
+     * O(n m) time required to select them one by one.
+     * Because array is passed by reference, after executing this method
+     * array is modified so that each requested position contains the element
+     * that it would contain if the array was sorted, and elements between
+     * two consecutive requested positions are greater or equal than the
+     * element at the first one and lower or equal than the element at the
+     * second one.
+     *
+     * @param ks        Positions of sorted elements to be retrieved, relative
+     *                  to fromIndex. Positions can be repeated and be in any
+     *                  order.
+     * @param array     Array to be used for retrieving sorted elements.
+     *                  Provided array is passed by reference and modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return Sorted elements at provided positions, in the same order as
+     * positions were provided.
+     * @throws IllegalArgumentException       if any position is negative or
+     *                                        not lower than
+     *                                        {@code toIndex - fromIndex}, or if
+     *                                        {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public long[] select(final int[] ks, final long[] array, final int fromIndex, final int toIndex) {
+        return QuantileSelector.select(ks, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided array
+     * Median is computed by selecting the length / 2 element, hence
+     * provided array is modified upon execution of this method containing
+     * sorted element at location length / 2, smaller unsorted elements at
+     * array[0] ... array[length / 2 - 1], and greater unsorted elements at
+     * array[length / 2 + 1] ... array[length - 1].
+     *
+     * @param array Array to be used for computation of median. This array
+     *              is modified after execution of this method.
+     * @return Median of provided array.
+     */
+    public T median(final Comparable<T>[] array) {
+        return median(array, 0, array.length);
     }
 
     /**
@@ -1289,44 +2078,7 @@ public abstract class Sorter<T> {
     @SuppressWarnings("unchecked")
     public T median(final Comparable<T>[] array, final int fromIndex, final int toIndex) {
 
-        return median((T[]) array, fromIndex, toIndex, new ComparatorAndAverager<>() {
-            @Override
-            public int compare(final T t1, final T t2) {
-                final var t1b = (Comparable<T>) t1;
-                return t1b.compareTo(t2);
-            }
-
-            @Override
-            public T average(final T t1, final T t2) {
-                if (t1 instanceof ComparableAndAverageable && t2 instanceof ComparableAndAverageable) {
-                    return ((ComparableAndAverageable<T>) t1).averageWith(t2);
-                }
-                if (t1 instanceof Byte b1 && t2 instanceof Byte b2) {
-                    return (T) Byte.valueOf((byte) ((b1 + b2) / 2));
-                }
-                if (t1 instanceof Character c1 && t2 instanceof Character c2) {
-                    return (T) Character.valueOf((char) ((c1 + c2) / 2));
-                }
-                if (t1 instanceof Short c1 && t2 instanceof Short c2) {
-                    return (T) Short.valueOf((short) ((c1 + c2) / 2));
-                }
-                if (t1 instanceof Integer i1 && t2 instanceof Integer i2) {
-                    return (T) Integer.valueOf((i1 + i2) / 2);
-                }
-                if (t1 instanceof Long l1 && t2 instanceof Long l2) {
-                    return (T) Long.valueOf((l1 + l2) / 2);
-                }
-                if (t1 instanceof Float f1 && t2 instanceof Float f2) {
-                    return (T) Float.valueOf((f1 + f2) / 2.0f);
-                }
-                if (t1 instanceof Double d1 && t2 instanceof Double d2) {
-                    return (T) Double.valueOf((d1 + d2) / 2.0);
-                }
-
-                // for other case, average returns 1st parameter
-                return t1;
-            }
-        });
+        return median((T[]) array, fromIndex, toIndex, getComparableAverager());
     }
 
     /**
@@ -1708,52 +2460,3173 @@ public abstract class Sorter<T> {
     }
 
     /**
-     * Returns sorting method of an implementation of this class.
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
      *
-     * @return Sorting method.
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
      */
-    public abstract SortingMethod getMethod();
+    public T quantile(final double p, final Comparable<T>[] array) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
 
     /**
-     * Creates a Sorter instance using DEFAULT_SORTING_METHOD.
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
      *
-     * @return A sorter instance.
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
      */
-    public static <T> Sorter<T> create() {
-        return create(DEFAULT_SORTING_METHOD);
+    public T quantile(final double p, final Comparable<T>[] array, final QuantileMethod method) {
+        return quantile(p, array, 0, array.length, method);
     }
 
     /**
-     * Creates a Sorter instance using provided sorting method.
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
      *
-     * @param method Method to be used for sorting.
-     * @return A sorter instance.
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
      */
-    public static <T> Sorter<T> create(final SortingMethod method) {
-        return switch (method) {
-            case STRAIGHT_INSERTION_SORTING_METHOD -> new StraightInsertionSorter<>();
-            case SHELL_SORTING_METHOD -> new ShellSorter<>();
-            case HEAPSORT_SORTING_METHOD -> new HeapsortSorter<>();
-            case QUICKSORT_SORTING_METHOD -> new QuicksortSorter<>();
-            default -> new SystemSorter<>();
-        };
+    public T quantile(final double p, final Comparable<T>[] array, final int fromIndex, final int toIndex,
+                      final QuantileMethod method) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method)[0];
     }
 
     /**
-     * Returns a new array containing original indices ordered from 0
-     * to length-1.
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
      *
-     * @param length length of returned array.
-     * @return Array with indices in natural order.
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
      */
-    protected int[] getInitialIndicesVector(final int length) {
-        final var out = new int[length];
+    public T[] quantiles(final double[] ps, final Comparable<T>[] array) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
 
-        for (int i = 0; i < length; i++) {
-            out[i] = i;
-        }
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public T[] quantiles(final double[] ps, final Comparable<T>[] array, final QuantileMethod method) {
+        return quantiles(ps, array, 0, array.length, method);
+    }
 
-        return out;
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Boxed numbers are interpolated linearly and instances implementing
+     * {@link ComparableAndAverageable} are interpolated using
+     * {@link ComparableAndAverageable#interpolateWith(Object, double)}, while
+     * other instances are not interpolated and the lowest one is returned.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] quantiles(final double[] ps, final Comparable<T>[] array, final int fromIndex, final int toIndex,
+                         final QuantileMethod method) {
+        return quantiles(ps, (T[]) array, fromIndex, toIndex, method, getComparableAverager());
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param p          Probability of quantile to be computed, between 0 and
+     *                   1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public T quantile(final double p, final T[] array, final ComparatorAndAverager<T> comparator) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD, comparator);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param p          Probability of quantile to be computed, between 0 and
+     *                   1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param method     Method to estimate quantiles.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public T quantile(final double p, final T[] array, final QuantileMethod method,
+                      final ComparatorAndAverager<T> comparator) {
+        return quantile(p, array, 0, array.length, method, comparator);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param p          Probability of quantile to be computed, between 0 and
+     *                   1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param fromIndex  Index were computation starts (inclusive).
+     * @param toIndex    Index were computation stops (exclusive).
+     * @param method     Method to estimate quantiles.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public T quantile(final double p, final T[] array, final int fromIndex, final int toIndex,
+                      final QuantileMethod method, final ComparatorAndAverager<T> comparator) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method, comparator)[0];
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param ps         Probabilities of quantiles to be computed, between 0
+     *                   and 1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public T[] quantiles(final double[] ps, final T[] array, final ComparatorAndAverager<T> comparator) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD, comparator);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param ps         Probabilities of quantiles to be computed, between 0
+     *                   and 1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param method     Method to estimate quantiles.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public T[] quantiles(final double[] ps, final T[] array, final QuantileMethod method,
+                         final ComparatorAndAverager<T> comparator) {
+        return quantiles(ps, array, 0, array.length, method, comparator);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Methods of types 4 to 9 interpolate elements using
+     * {@link ComparatorAndAverager#interpolate(Object, Object, double)},
+     * which must be implemented by provided comparator.
+     *
+     * @param ps         Probabilities of quantiles to be computed, between 0
+     *                   and 1.
+     * @param array      Array to be used for computation of quantiles. This
+     *                   array is modified after execution of this method.
+     * @param fromIndex  Index were computation starts (inclusive).
+     * @param toIndex    Index were computation stops (exclusive).
+     * @param method     Method to estimate quantiles.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one and also is capable of
+     *                   interpolating between two T instances.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public T[] quantiles(final double[] ps, final T[] array, final int fromIndex, final int toIndex,
+                         final QuantileMethod method, final ComparatorAndAverager<T> comparator) {
+        return QuantileSelector.quantiles(ps, array, fromIndex, toIndex, method, comparator);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double quantile(final double p, final double[] array) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double quantile(final double p, final double[] array, final QuantileMethod method) {
+        return quantile(p, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double quantile(final double p, final double[] array, final int fromIndex, final int toIndex,
+                           final QuantileMethod method) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method)[0];
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double[] quantiles(final double[] ps, final double[] array) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double[] quantiles(final double[] ps, final double[] array, final QuantileMethod method) {
+        return quantiles(ps, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double[] quantiles(final double[] ps, final double[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+        return QuantileSelector.quantiles(ps, array, fromIndex, toIndex, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double quantile(final double p, final float[] array) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double quantile(final double p, final float[] array, final QuantileMethod method) {
+        return quantile(p, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double quantile(final double p, final float[] array, final int fromIndex, final int toIndex,
+                           final QuantileMethod method) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method)[0];
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double[] quantiles(final double[] ps, final float[] array) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double[] quantiles(final double[] ps, final float[] array, final QuantileMethod method) {
+        return quantiles(ps, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double[] quantiles(final double[] ps, final float[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+        return QuantileSelector.quantiles(ps, array, fromIndex, toIndex, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double quantile(final double p, final int[] array) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double quantile(final double p, final int[] array, final QuantileMethod method) {
+        return quantile(p, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double quantile(final double p, final int[] array, final int fromIndex, final int toIndex,
+                           final QuantileMethod method) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method)[0];
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double[] quantiles(final double[] ps, final int[] array) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double[] quantiles(final double[] ps, final int[] array, final QuantileMethod method) {
+        return quantiles(ps, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double[] quantiles(final double[] ps, final int[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+        return QuantileSelector.quantiles(ps, array, fromIndex, toIndex, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double quantile(final double p, final long[] array) {
+        return quantile(p, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException if probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double quantile(final double p, final long[] array, final QuantileMethod method) {
+        return quantile(p, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantile of provided probability of provided array between
+     * fromIndex (inclusive) and toIndex (exclusive) using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. Elements are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param p         Probability of quantile to be computed, between 0 and
+     *                  1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantile of provided probability.
+     * @throws IllegalArgumentException       if probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double quantile(final double p, final long[] array, final int fromIndex, final int toIndex,
+                           final QuantileMethod method) {
+        return quantiles(new double[]{p}, array, fromIndex, toIndex, method)[0];
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using linear interpolation between closest ranks (R type 7).
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1 or if array is empty.
+     */
+    public double[] quantiles(final double[] ps, final long[] array) {
+        return quantiles(ps, array, QuantileMethod.LINEAR_QUANTILE_METHOD);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * using provided method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException if any probability is not between 0
+     *                                  and 1, if method is null or if array
+     *                                  is empty.
+     */
+    public double[] quantiles(final double[] ps, final long[] array, final QuantileMethod method) {
+        return quantiles(ps, array, 0, array.length, method);
+    }
+
+    /**
+     * Computes the quantiles of provided probabilities of provided array
+     * between fromIndex (inclusive) and toIndex (exclusive) using provided
+     * method.
+     * Quantiles are computed by selecting the elements surrounding the
+     * position of each quantile, hence provided array is modified upon
+     * execution of this method, leaving those elements at their sorted
+     * positions. All quantiles are selected in a single pass.
+     * Interpolated values are returned as doubles.
+     *
+     * @param ps        Probabilities of quantiles to be computed, between 0
+     *                  and 1.
+     * @param array     Array to be used for computation of quantiles. This
+     *                  array is modified after execution of this method.
+     * @param fromIndex Index were computation starts (inclusive).
+     * @param toIndex   Index were computation stops (exclusive).
+     * @param method    Method to estimate quantiles.
+     * @return Quantiles of provided probabilities, in the same order as
+     * probabilities were provided.
+     * @throws IllegalArgumentException       if any probability is not
+     *                                        between 0 and 1, if method is
+     *                                        null or if
+     *                                        {@code fromIndex >= toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public double[] quantiles(final double[] ps, final long[] array, final int fromIndex, final int toIndex,
+                              final QuantileMethod method) {
+        return QuantileSelector.quantiles(ps, array, fromIndex, toIndex, method);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @SuppressWarnings("unchecked")
+    public void partialSort(final Comparable<T>[] array, final int fromIndex, final int toIndex, final int k) {
+        partialSort((T[]) array, fromIndex, toIndex, k, (t1, t2) -> {
+            final var t1b = (Comparable<T>) t1;
+            return t1b.compareTo(t2);
+        });
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @SuppressWarnings("unchecked")
+    public int[] partialSortWithIndices(final Comparable<T>[] array, final int fromIndex, final int toIndex,
+                                        final int k) {
+        return partialSortWithIndices((T[]) array, fromIndex, toIndex, k, (t1, t2) -> {
+            final var t1b = (Comparable<T>) t1;
+            return t1b.compareTo(t2);
+        });
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array      Array to be partially sorted. After execution of this
+     *                   method the k smallest elements between fromIndex
+     *                   (inclusive) and toIndex (exclusive) are located on
+     *                   positions fromIndex to fromIndex + k - 1 in ascending
+     *                   order, and the remaining elements of the range are
+     *                   left unsorted after them.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param k          Number of smallest elements to be sorted.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void partialSort(final T[] array, final int fromIndex, final int toIndex, final int k,
+                            final Comparator<T> comparator) {
+        PartialSorter.partialSort(this, array, fromIndex, toIndex, k, comparator);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be partially sorted. After execution of this
+     *                   method the k smallest elements between fromIndex
+     *                   (inclusive) and toIndex (exclusive) are located on
+     *                   positions fromIndex to fromIndex + k - 1 in ascending
+     *                   order, and the remaining elements of the range are
+     *                   left unsorted after them.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param k          Number of smallest elements to be sorted.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] partialSortWithIndices(final T[] array, final int fromIndex, final int toIndex, final int k,
+                                        final Comparator<T> comparator) {
+        return PartialSorter.partialSortWithIndices(this, array, fromIndex, toIndex, k, comparator);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void partialSort(final double[] array, final int fromIndex, final int toIndex, final int k) {
+        PartialSorter.partialSort(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] partialSortWithIndices(final double[] array, final int fromIndex, final int toIndex,
+                                        final int k) {
+        return PartialSorter.partialSortWithIndices(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void partialSort(final float[] array, final int fromIndex, final int toIndex, final int k) {
+        PartialSorter.partialSort(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] partialSortWithIndices(final float[] array, final int fromIndex, final int toIndex,
+                                        final int k) {
+        return PartialSorter.partialSortWithIndices(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void partialSort(final int[] array, final int fromIndex, final int toIndex, final int k) {
+        PartialSorter.partialSort(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] partialSortWithIndices(final int[] array, final int fromIndex, final int toIndex,
+                                        final int k) {
+        return PartialSorter.partialSortWithIndices(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public void partialSort(final long[] array, final int fromIndex, final int toIndex, final int k) {
+        PartialSorter.partialSort(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts the k smallest elements of provided array between fromIndex
+     * (inclusive) and toIndex (exclusive) in ascending order, moving them to the
+     * beginning of the range.
+     * Elements are first partitioned around the k-th smallest one as done by
+     * select, and the k smallest ones are then sorted using Heapsort, hence
+     * this method takes O(n + k log k) time, which is much faster than
+     * sorting the whole range when k is small.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be partially sorted. After execution of this
+     *                  method the k smallest elements between fromIndex
+     *                  (inclusive) and toIndex (exclusive) are located on
+     *                  positions fromIndex to fromIndex + k - 1 in ascending
+     *                  order, and the remaining elements of the range are
+     *                  left unsorted after them.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param k         Number of smallest elements to be sorted.
+     * @return Array containing original location of elements that have been
+     * moved. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex},
+     *                                        {@code k < 0} or
+     *                                        {@code k > toIndex - fromIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    public int[] partialSortWithIndices(final long[] array, final int fromIndex, final int toIndex,
+                                        final int k) {
+        return PartialSorter.partialSortWithIndices(this, array, fromIndex, toIndex, k);
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between its current position
+     * (inclusive) and its limit (exclusive), so that resulting buffer
+     * satisfies buffer.get(i) &lt;= buffer.get(i + 1).
+     * Buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer Buffer to be sorted. Provided buffer is modified upon
+     *               execution of this method.
+     * @throws SortingException        If for some reason sorting fails.
+     * @throws ReadOnlyBufferException if provided buffer is read-only.
+     */
+    public void sort(final DoubleBuffer buffer) throws SortingException {
+        sort(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between fromIndex (inclusive)
+     * and toIndex (exclusive), so that resulting buffer satisfies
+     * buffer.get(i) &lt;= buffer.get(i + 1) for fromIndex &lt;= i &lt; toIndex - 1.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer    Buffer to be sorted. Provided buffer is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public void sort(final DoubleBuffer buffer, final int fromIndex, final int toIndex) throws SortingException {
+        BufferSorter.sort(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between its current
+     * position (inclusive) and its limit (exclusive).
+     * After executing this method buffer is modified so that location
+     * position + k contains the k-th sorted element, previous locations
+     * contain unsorted elements smaller than it and following locations up to
+     * the limit contain unsorted elements greater than it.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param k      Position of sorted element to be retrieved, relative to
+     *               buffer position.
+     * @param buffer Buffer to be used for retrieving k-th sorted element.
+     *               Provided buffer is modified upon execution of this method.
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException if k is negative or not lower than the
+     *                                  number of remaining elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public double select(final int k, final DoubleBuffer buffer) {
+        return select(k, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), elements outside this range are
+     * ignored.
+     * After executing this method buffer is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     *                  Provided buffer is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public double select(final int k, final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.select(this, k, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided buffer between its current position
+     * (inclusive) and its limit (exclusive).
+     * Median is computed by selecting the element at half of the remaining
+     * elements, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, DoubleBuffer)}.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param buffer Buffer to be used for computation of median. This buffer
+     *               is modified after execution of this method.
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException if provided buffer has no remaining
+     *                                  elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public double median(final DoubleBuffer buffer) {
+        return median(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, DoubleBuffer, int, int)}.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param buffer    Buffer to be used for computation of median. This
+     *                  buffer is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public double median(final DoubleBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.median(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between its current position
+     * (inclusive) and its limit (exclusive), so that resulting buffer
+     * satisfies buffer.get(i) &lt;= buffer.get(i + 1).
+     * Buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer Buffer to be sorted. Provided buffer is modified upon
+     *               execution of this method.
+     * @throws SortingException        If for some reason sorting fails.
+     * @throws ReadOnlyBufferException if provided buffer is read-only.
+     */
+    public void sort(final FloatBuffer buffer) throws SortingException {
+        sort(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between fromIndex (inclusive)
+     * and toIndex (exclusive), so that resulting buffer satisfies
+     * buffer.get(i) &lt;= buffer.get(i + 1) for fromIndex &lt;= i &lt; toIndex - 1.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer    Buffer to be sorted. Provided buffer is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public void sort(final FloatBuffer buffer, final int fromIndex, final int toIndex) throws SortingException {
+        BufferSorter.sort(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between its current
+     * position (inclusive) and its limit (exclusive).
+     * After executing this method buffer is modified so that location
+     * position + k contains the k-th sorted element, previous locations
+     * contain unsorted elements smaller than it and following locations up to
+     * the limit contain unsorted elements greater than it.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param k      Position of sorted element to be retrieved, relative to
+     *               buffer position.
+     * @param buffer Buffer to be used for retrieving k-th sorted element.
+     *               Provided buffer is modified upon execution of this method.
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException if k is negative or not lower than the
+     *                                  number of remaining elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public float select(final int k, final FloatBuffer buffer) {
+        return select(k, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), elements outside this range are
+     * ignored.
+     * After executing this method buffer is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     *                  Provided buffer is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public float select(final int k, final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.select(this, k, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided buffer between its current position
+     * (inclusive) and its limit (exclusive).
+     * Median is computed by selecting the element at half of the remaining
+     * elements, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, FloatBuffer)}.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param buffer Buffer to be used for computation of median. This buffer
+     *               is modified after execution of this method.
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException if provided buffer has no remaining
+     *                                  elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public float median(final FloatBuffer buffer) {
+        return median(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, FloatBuffer, int, int)}.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param buffer    Buffer to be used for computation of median. This
+     *                  buffer is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public float median(final FloatBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.median(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between its current position
+     * (inclusive) and its limit (exclusive), so that resulting buffer
+     * satisfies buffer.get(i) &lt;= buffer.get(i + 1).
+     * Buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer Buffer to be sorted. Provided buffer is modified upon
+     *               execution of this method.
+     * @throws SortingException        If for some reason sorting fails.
+     * @throws ReadOnlyBufferException if provided buffer is read-only.
+     */
+    public void sort(final IntBuffer buffer) throws SortingException {
+        sort(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between fromIndex (inclusive)
+     * and toIndex (exclusive), so that resulting buffer satisfies
+     * buffer.get(i) &lt;= buffer.get(i + 1) for fromIndex &lt;= i &lt; toIndex - 1.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer    Buffer to be sorted. Provided buffer is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public void sort(final IntBuffer buffer, final int fromIndex, final int toIndex) throws SortingException {
+        BufferSorter.sort(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between its current
+     * position (inclusive) and its limit (exclusive).
+     * After executing this method buffer is modified so that location
+     * position + k contains the k-th sorted element, previous locations
+     * contain unsorted elements smaller than it and following locations up to
+     * the limit contain unsorted elements greater than it.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param k      Position of sorted element to be retrieved, relative to
+     *               buffer position.
+     * @param buffer Buffer to be used for retrieving k-th sorted element.
+     *               Provided buffer is modified upon execution of this method.
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException if k is negative or not lower than the
+     *                                  number of remaining elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public int select(final int k, final IntBuffer buffer) {
+        return select(k, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), elements outside this range are
+     * ignored.
+     * After executing this method buffer is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     *                  Provided buffer is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public int select(final int k, final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.select(this, k, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided buffer between its current position
+     * (inclusive) and its limit (exclusive).
+     * Median is computed by selecting the element at half of the remaining
+     * elements, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, IntBuffer)}.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param buffer Buffer to be used for computation of median. This buffer
+     *               is modified after execution of this method.
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException if provided buffer has no remaining
+     *                                  elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public int median(final IntBuffer buffer) {
+        return median(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, IntBuffer, int, int)}.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param buffer    Buffer to be used for computation of median. This
+     *                  buffer is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public int median(final IntBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.median(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between its current position
+     * (inclusive) and its limit (exclusive), so that resulting buffer
+     * satisfies buffer.get(i) &lt;= buffer.get(i + 1).
+     * Buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer Buffer to be sorted. Provided buffer is modified upon
+     *               execution of this method.
+     * @throws SortingException        If for some reason sorting fails.
+     * @throws ReadOnlyBufferException if provided buffer is read-only.
+     */
+    public void sort(final LongBuffer buffer) throws SortingException {
+        sort(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Sorts provided buffer in ascending order between fromIndex (inclusive)
+     * and toIndex (exclusive), so that resulting buffer satisfies
+     * buffer.get(i) &lt;= buffer.get(i + 1) for fromIndex &lt;= i &lt; toIndex - 1.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Buffers backed by an accessible array are sorted using the method of
+     * this sorter on their backing array. Any other buffer, such as a direct
+     * buffer obtained from a memory-mapped file, is sorted in place using
+     * Introsort without copying its contents into a heap array.
+     *
+     * @param buffer    Buffer to be sorted. Provided buffer is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException          If for some reason sorting fails.
+     * @throws IllegalArgumentException  If fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public void sort(final LongBuffer buffer, final int fromIndex, final int toIndex) throws SortingException {
+        BufferSorter.sort(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between its current
+     * position (inclusive) and its limit (exclusive).
+     * After executing this method buffer is modified so that location
+     * position + k contains the k-th sorted element, previous locations
+     * contain unsorted elements smaller than it and following locations up to
+     * the limit contain unsorted elements greater than it.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param k      Position of sorted element to be retrieved, relative to
+     *               buffer position.
+     * @param buffer Buffer to be used for retrieving k-th sorted element.
+     *               Provided buffer is modified upon execution of this method.
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException if k is negative or not lower than the
+     *                                  number of remaining elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public long select(final int k, final LongBuffer buffer) {
+        return select(k, buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided buffer between fromIndex
+     * (inclusive) and toIndex (exclusive), elements outside this range are
+     * ignored.
+     * After executing this method buffer is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param buffer    Buffer to be used for retrieving k-th sorted element.
+     *                  Provided buffer is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided buffer.
+     * @throws IllegalArgumentException  if k is negative or not lower than
+     *                                   (toIndex - fromIndex), or if
+     *                                   fromIndex &gt; toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public long select(final int k, final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.select(this, k, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided buffer between its current position
+     * (inclusive) and its limit (exclusive).
+     * Median is computed by selecting the element at half of the remaining
+     * elements, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, LongBuffer)}.
+     * Buffer position and limit are not modified, and direct buffers, such as
+     * those obtained from memory-mapped files, are not copied into heap
+     * arrays.
+     *
+     * @param buffer Buffer to be used for computation of median. This buffer
+     *               is modified after execution of this method.
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException if provided buffer has no remaining
+     *                                  elements.
+     * @throws ReadOnlyBufferException  if provided buffer is read-only.
+     */
+    public long median(final LongBuffer buffer) {
+        return median(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Computes median of provided buffer between fromIndex (inclusive) and
+     * toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided buffer is modified upon execution of this
+     * method as described in {@link #select(int, LongBuffer, int, int)}.
+     * Indices are absolute and buffer position and limit are not modified.
+     * Direct buffers, such as those obtained from memory-mapped files, are
+     * not copied into heap arrays.
+     *
+     * @param buffer    Buffer to be used for computation of median. This
+     *                  buffer is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided buffer.
+     * @throws IllegalArgumentException  if fromIndex &gt;= toIndex.
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are outside
+     *                                   buffer limit.
+     * @throws ReadOnlyBufferException   if provided buffer is read-only.
+     */
+    public long median(final LongBuffer buffer, final int fromIndex, final int toIndex) {
+        return BufferSorter.median(this, buffer, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order, so
+     * that array.get(i - 1) &lt;= array.get(i) for any valid i.
+     * Partitions of the array contained within a single segment are sorted
+     * using the method of this sorter, and the remaining ones using an
+     * Introsort over long indices, so that arrays larger than
+     * {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array Array to be sorted. Provided array is modified upon
+     *              execution of this method.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    public void sort(final BigDoubleArray array) throws SortingException {
+        sort(array, 0, array.getLength());
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     * Partitions of the array contained within a single segment are sorted
+     * using the method of this sorter, and the remaining ones using an
+     * Introsort over long indices, so that arrays larger than
+     * {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array     Array to be sorted. Provided array is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public void sort(final BigDoubleArray array, final long fromIndex, final long toIndex) throws SortingException {
+        BigArraySorter.sort(this, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order and
+     * returns the original indices where sorted elements were located, so
+     * that other arrays or collections can be kept in the same order.
+     * Sorting uses an Introsort over long indices, so that arrays larger
+     * than {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array Array to be sorted. Provided array is modified upon
+     *              execution of this method.
+     * @return Array containing original location of elements that have been
+     * sorted, using the same segment size as provided array.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    public BigLongArray sortWithIndices(final BigDoubleArray array) throws SortingException {
+        return sortWithIndices(array, 0, array.getLength());
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order
+     * between fromIndex (inclusive) and toIndex (exclusive) and returns the
+     * original indices where sorted elements were located, so that other
+     * arrays or collections can be kept in the same order.
+     * Sorting uses an Introsort over long indices, so that arrays larger
+     * than {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array     Array to be sorted. Provided array is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, using the same segment size as provided array. Only elements
+     * between fromIndex (inclusive) and toIndex (exclusive) are modified, the
+     * remaining ones are kept in natural order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public BigLongArray sortWithIndices(final BigDoubleArray array, final long fromIndex, final long toIndex)
+            throws SortingException {
+        return BigArraySorter.sortWithIndices(this, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array addressed by long
+     * indices.
+     * After executing this method array is modified so that location k
+     * contains the k-th sorted element, previous locations contain unsorted
+     * elements smaller than it and following locations contain unsorted
+     * elements greater than it.
+     *
+     * @param k     Position of sorted element to be retrieved.
+     * @param array Array to be used for retrieving k-th sorted element.
+     *              Provided array is modified upon execution of this method.
+     * @return The k-th sorted element in provided array.
+     * @throws IllegalArgumentException if k is negative or not lower than
+     *                                  array length.
+     */
+    public double select(final long k, final BigDoubleArray array) {
+        return select(k, array, 0, array.getLength());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array addressed by long
+     * indices between fromIndex (inclusive) and toIndex (exclusive),
+     * elements outside this range are ignored.
+     * After executing this method array is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param array     Array to be used for retrieving k-th sorted element.
+     *                  Provided array is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided array.
+     * @throws IllegalArgumentException       if k is negative or not lower
+     *                                        than (toIndex - fromIndex), or if
+     *                                        fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public double select(final long k, final BigDoubleArray array, final long fromIndex, final long toIndex) {
+        return BigArraySorter.select(k, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided array addressed by long indices.
+     * Median is computed by selecting the length / 2 element, hence provided
+     * array is modified upon execution of this method as described in
+     * {@link #select(long, BigDoubleArray)}.
+     *
+     * @param array Array to be used for computation of median. This array is
+     *              modified after execution of this method.
+     * @return Median of provided array.
+     * @throws IllegalArgumentException if provided array is empty.
+     */
+    public double median(final BigDoubleArray array) {
+        return median(array, 0, array.getLength());
+    }
+
+    /**
+     * Computes median of provided array addressed by long indices between
+     * fromIndex (inclusive) and toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided array is modified upon execution of this
+     * method as described in {@link #select(long, BigDoubleArray, long, long)}.
+     *
+     * @param array     Array to be used for computation of median. This array
+     *                  is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided array.
+     * @throws IllegalArgumentException       if fromIndex &gt;= toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public double median(final BigDoubleArray array, final long fromIndex, final long toIndex) {
+        return BigArraySorter.median(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order, so
+     * that array.get(i - 1) &lt;= array.get(i) for any valid i.
+     * Partitions of the array contained within a single segment are sorted
+     * using the method of this sorter, and the remaining ones using an
+     * Introsort over long indices, so that arrays larger than
+     * {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array Array to be sorted. Provided array is modified upon
+     *              execution of this method.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    public void sort(final BigLongArray array) throws SortingException {
+        sort(array, 0, array.getLength());
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order
+     * between fromIndex (inclusive) and toIndex (exclusive).
+     * Partitions of the array contained within a single segment are sorted
+     * using the method of this sorter, and the remaining ones using an
+     * Introsort over long indices, so that arrays larger than
+     * {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array     Array to be sorted. Provided array is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public void sort(final BigLongArray array, final long fromIndex, final long toIndex) throws SortingException {
+        BigArraySorter.sort(this, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order and
+     * returns the original indices where sorted elements were located, so
+     * that other arrays or collections can be kept in the same order.
+     * Sorting uses an Introsort over long indices, so that arrays larger
+     * than {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array Array to be sorted. Provided array is modified upon
+     *              execution of this method.
+     * @return Array containing original location of elements that have been
+     * sorted, using the same segment size as provided array.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    public BigLongArray sortWithIndices(final BigLongArray array) throws SortingException {
+        return sortWithIndices(array, 0, array.getLength());
+    }
+
+    /**
+     * Sorts provided array addressed by long indices in ascending order
+     * between fromIndex (inclusive) and toIndex (exclusive) and returns the
+     * original indices where sorted elements were located, so that other
+     * arrays or collections can be kept in the same order.
+     * Sorting uses an Introsort over long indices, so that arrays larger
+     * than {@link Integer#MAX_VALUE} elements can be sorted in one call.
+     *
+     * @param array     Array to be sorted. Provided array is modified upon
+     *                  execution of this method.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, using the same segment size as provided array. Only elements
+     * between fromIndex (inclusive) and toIndex (exclusive) are modified, the
+     * remaining ones are kept in natural order.
+     * @throws SortingException               If for some reason sorting fails.
+     * @throws IllegalArgumentException       If fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public BigLongArray sortWithIndices(final BigLongArray array, final long fromIndex, final long toIndex)
+            throws SortingException {
+        return BigArraySorter.sortWithIndices(this, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array addressed by long
+     * indices.
+     * After executing this method array is modified so that location k
+     * contains the k-th sorted element, previous locations contain unsorted
+     * elements smaller than it and following locations contain unsorted
+     * elements greater than it.
+     *
+     * @param k     Position of sorted element to be retrieved.
+     * @param array Array to be used for retrieving k-th sorted element.
+     *              Provided array is modified upon execution of this method.
+     * @return The k-th sorted element in provided array.
+     * @throws IllegalArgumentException if k is negative or not lower than
+     *                                  array length.
+     */
+    public long select(final long k, final BigLongArray array) {
+        return select(k, array, 0, array.getLength());
+    }
+
+    /**
+     * Returns the k-th sorted element in provided array addressed by long
+     * indices between fromIndex (inclusive) and toIndex (exclusive),
+     * elements outside this range are ignored.
+     * After executing this method array is modified so that location
+     * fromIndex + k contains the k-th sorted element, locations
+     * fromIndex ... fromIndex + k - 1 contain unsorted elements smaller than
+     * it and locations fromIndex + k + 1 ... toIndex - 1 contain unsorted
+     * elements greater than it.
+     *
+     * @param k         Position of sorted element to be retrieved, relative to
+     *                  fromIndex.
+     * @param array     Array to be used for retrieving k-th sorted element.
+     *                  Provided array is modified upon execution of this
+     *                  method.
+     * @param fromIndex Index were selection starts (inclusive).
+     * @param toIndex   Index were selection stops (exclusive).
+     * @return The k-th sorted element in provided array.
+     * @throws IllegalArgumentException       if k is negative or not lower
+     *                                        than (toIndex - fromIndex), or if
+     *                                        fromIndex &gt; toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public long select(final long k, final BigLongArray array, final long fromIndex, final long toIndex) {
+        return BigArraySorter.select(k, array, fromIndex, toIndex);
+    }
+
+    /**
+     * Computes median of provided array addressed by long indices.
+     * Median is computed by selecting the length / 2 element, hence provided
+     * array is modified upon execution of this method as described in
+     * {@link #select(long, BigLongArray)}.
+     *
+     * @param array Array to be used for computation of median. This array is
+     *              modified after execution of this method.
+     * @return Median of provided array.
+     * @throws IllegalArgumentException if provided array is empty.
+     */
+    public long median(final BigLongArray array) {
+        return median(array, 0, array.getLength());
+    }
+
+    /**
+     * Computes median of provided array addressed by long indices between
+     * fromIndex (inclusive) and toIndex (exclusive).
+     * Median is computed by selecting the (toIndex - fromIndex) / 2 element
+     * of the range, hence provided array is modified upon execution of this
+     * method as described in {@link #select(long, BigLongArray, long, long)}.
+     *
+     * @param array     Array to be used for computation of median. This array
+     *                  is modified after execution of this method.
+     * @param fromIndex Index were median computation starts (inclusive).
+     * @param toIndex   Index were median computation stops (exclusive).
+     * @return Median of provided array.
+     * @throws IllegalArgumentException       if fromIndex &gt;= toIndex.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or
+     *                                        toIndex &gt; array length.
+     */
+    public long median(final BigLongArray array, final long fromIndex, final long toIndex) {
+        return BigArraySorter.median(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Merges provided runs of {@link Comparable}, each of them sorted in
+     * ascending order, into a new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided, hence merging is stable.
+     *
+     * @param runs Runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] merge(final Comparable<T>[][] runs) {
+        return merge((T[][]) runs, (t1, t2) -> {
+            final var t1b = (Comparable<T>) t1;
+            return t1b.compareTo(t2);
+        });
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided, hence merging is stable.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    public T[] merge(final T[][] runs, final Comparator<T> comparator) {
+        return LoserTreeMerger.merge(runs, comparator);
+    }
+
+    /**
+     * Merges provided runs of {@link Comparable}, each of them sorted in
+     * ascending order, into a new array sorted in ascending order, indicating
+     * the run and position within its run where each merged element was
+     * located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided, hence merging is stable.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] mergeWithIndices(final Comparable<T>[][] runs, final int[] runIndices, final int[] runOffsets) {
+        return mergeWithIndices((T[][]) runs, runIndices, runOffsets, (t1, t2) -> {
+            final var t1b = (Comparable<T>) t1;
+            return t1b.compareTo(t2);
+        });
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order, indicating the run and position
+     * within its run where each merged element was located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided, hence merging is stable.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    public T[] mergeWithIndices(final T[][] runs, final int[] runIndices, final int[] runOffsets,
+                                final Comparator<T> comparator) {
+        return LoserTreeMerger.mergeWithIndices(runs, runIndices, runOffsets, comparator);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     *
+     * @param runs Runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    public double[] merge(final double[][] runs) {
+        return LoserTreeMerger.merge(runs);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order, indicating the run and position
+     * within its run where each merged element was located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    public double[] mergeWithIndices(final double[][] runs, final int[] runIndices, final int[] runOffsets) {
+        return LoserTreeMerger.mergeWithIndices(runs, runIndices, runOffsets);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     *
+     * @param runs Runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    public float[] merge(final float[][] runs) {
+        return LoserTreeMerger.merge(runs);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order, indicating the run and position
+     * within its run where each merged element was located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    public float[] mergeWithIndices(final float[][] runs, final int[] runIndices, final int[] runOffsets) {
+        return LoserTreeMerger.mergeWithIndices(runs, runIndices, runOffsets);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     *
+     * @param runs Runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    public int[] merge(final int[][] runs) {
+        return LoserTreeMerger.merge(runs);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order, indicating the run and position
+     * within its run where each merged element was located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    public int[] mergeWithIndices(final int[][] runs, final int[] runIndices, final int[] runOffsets) {
+        return LoserTreeMerger.mergeWithIndices(runs, runIndices, runOffsets);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     *
+     * @param runs Runs to be merged. Each run must be sorted in ascending
+     *             order.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     */
+    public long[] merge(final long[][] runs) {
+        return LoserTreeMerger.merge(runs);
+    }
+
+    /**
+     * Merges provided runs, each of them sorted in ascending order, into a
+     * new array sorted in ascending order, indicating the run and position
+     * within its run where each merged element was located.
+     * Runs are merged using a loser tree in O(n log k) time, where n is the
+     * total number of elements and k is the number of runs, which is faster
+     * than concatenating runs and sorting them again.
+     * Equal elements are taken from runs in the same order as runs are
+     * provided.
+     *
+     * @param runs       Runs to be merged. Each run must be sorted in
+     *                   ascending order.
+     * @param runIndices Array where index of the run containing each merged
+     *                   element is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @param runOffsets Array where position of each merged element within
+     *                   its run is stored. Must have at least as many
+     *                   positions as merged elements.
+     * @return New array containing all elements of provided runs sorted in
+     * ascending order.
+     * @throws IllegalArgumentException if runIndices or runOffsets are
+     *                                  shorter than the number of merged
+     *                                  elements.
+     */
+    public long[] mergeWithIndices(final long[][] runs, final int[] runIndices, final int[] runOffsets) {
+        return LoserTreeMerger.mergeWithIndices(runs, runIndices, runOffsets);
+    }
+
+    /**
+     * Returns sorting method of an implementation of this class.
+     *
+     * @return Sorting method.
+     */
+    public abstract SortingMethod getMethod();
+
+    /**
+     * Creates a Sorter instance using DEFAULT_SORTING_METHOD.
+     *
+     * @return A sorter instance.
+     */
+    public static <T> Sorter<T> create() {
+        return create(DEFAULT_SORTING_METHOD);
+    }
+
+    /**
+     * Creates a Sorter instance using provided sorting method.
+     *
+     * @param method Method to be used for sorting.
+     * @return A sorter instance.
+     */
+    public static <T> Sorter<T> create(final SortingMethod method) {
+        return switch (method) {
+            case STRAIGHT_INSERTION_SORTING_METHOD -> new StraightInsertionSorter<>();
+            case SHELL_SORTING_METHOD -> new ShellSorter<>();
+            case HEAPSORT_SORTING_METHOD -> new HeapsortSorter<>();
+            case QUICKSORT_SORTING_METHOD -> new QuicksortSorter<>();
+            case PARALLEL_QUICKSORT_SORTING_METHOD -> new ParallelQuicksortSorter<>();
+            case RADIX_SORTING_METHOD -> new RadixSorter<>();
+            case INTROSORT_SORTING_METHOD -> new IntrosortSorter<>();
+            case PDQSORT_SORTING_METHOD -> new PdqSorter<>();
+            case TIMSORT_SORTING_METHOD -> new TimsortSorter<>();
+            case PARALLEL_MERGE_SORTING_METHOD -> new ParallelMergeSorter<>();
+            case PARALLEL_RADIX_SORTING_METHOD -> new ParallelRadixSorter<>();
+            case AUTO_SORTING_METHOD -> new AutoSorter<>();
+            default -> new SystemSorter<>();
+        };
+    }
+
+    /**
+     * Returns a new array containing original indices ordered from 0
+     * to length-1.
+     *
+     * @param length length of returned array.
+     * @return Array with indices in natural order.
+     */
+    protected int[] getInitialIndicesVector(final int length) {
+        final var out = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            out[i] = i;
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns a new array addressed by long indices containing original
+     * indices ordered from 0 to length-1.
+     *
+     * @param length      length of returned array.
+     * @param segmentSize number of elements of each segment of returned
+     *                    array.
+     * @return Array with indices in natural order.
+     */
+    protected BigLongArray getInitialIndicesVector(final long length, final int segmentSize) {
+        final var out = new BigLongArray(length, segmentSize);
+
+        var index = 0L;
+        for (final var segment : out.getSegments()) {
+            for (int i = 0; i < segment.length; i++) {
+                segment[i] = index++;
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted, so
+     * that ranges that are already sorted, strictly descending or made of a
+     * few ascending or strictly descending runs are sorted in linear time.
+     * Sorters whose algorithm already detects runs return false, so that
+     * ranges are not scanned twice.
+     *
+     * @return true if ranges are scanned for runs before being sorted, false
+     * otherwise.
+     */
+    protected boolean isRunScanEnabled() {
+        return true;
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted with
+     * indices, so that ranges that are already sorted, strictly descending or
+     * made of a few ascending or strictly descending runs are sorted in
+     * linear time.
+     * Sorters whose algorithm already detects runs return false, so that
+     * ranges are not scanned twice.
+     *
+     * @return true if ranges are scanned for runs before being sorted with
+     * indices, false otherwise.
+     */
+    protected boolean isRunScanWithIndicesEnabled() {
+        return true;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs.
+     * Implementations call this method before sorting, so that their own
+     * algorithm is only used when this method returns false. Nothing is
+     * scanned when {@link #isRunScanEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return true if provided range has been sorted, false if it must be
+     * sorted by other means.
+     */
+    protected boolean sortRuns(final T[] array, final int fromIndex, final int toIndex,
+                               final Comparator<T> comparator) {
+        return isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs, and
+     * returns the original indices where sorted elements were located.
+     * Implementations call this method before sorting with indices, so that
+     * their own algorithm is only used when this method returns null. Nothing
+     * is scanned when {@link #isRunScanWithIndicesEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns null.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range must be sorted by other means.
+     */
+    protected int[] sortRunsWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator) {
+        return isRunScanWithIndicesEnabled() ? RunSorter.sortWithIndices(array, fromIndex, toIndex, comparator) : null;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs.
+     * Implementations call this method before sorting, so that their own
+     * algorithm is only used when this method returns false. Nothing is
+     * scanned when {@link #isRunScanEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it must be
+     * sorted by other means.
+     */
+    protected boolean sortRuns(final double[] array, final int fromIndex, final int toIndex) {
+        return isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs, and
+     * returns the original indices where sorted elements were located.
+     * Implementations call this method before sorting with indices, so that
+     * their own algorithm is only used when this method returns null. Nothing
+     * is scanned when {@link #isRunScanWithIndicesEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range must be sorted by other means.
+     */
+    protected int[] sortRunsWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+        return isRunScanWithIndicesEnabled() ? RunSorter.sortWithIndices(array, fromIndex, toIndex) : null;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs.
+     * Implementations call this method before sorting, so that their own
+     * algorithm is only used when this method returns false. Nothing is
+     * scanned when {@link #isRunScanEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it must be
+     * sorted by other means.
+     */
+    protected boolean sortRuns(final float[] array, final int fromIndex, final int toIndex) {
+        return isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs, and
+     * returns the original indices where sorted elements were located.
+     * Implementations call this method before sorting with indices, so that
+     * their own algorithm is only used when this method returns null. Nothing
+     * is scanned when {@link #isRunScanWithIndicesEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range must be sorted by other means.
+     */
+    protected int[] sortRunsWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+        return isRunScanWithIndicesEnabled() ? RunSorter.sortWithIndices(array, fromIndex, toIndex) : null;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs.
+     * Implementations call this method before sorting, so that their own
+     * algorithm is only used when this method returns false. Nothing is
+     * scanned when {@link #isRunScanEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it must be
+     * sorted by other means.
+     */
+    protected boolean sortRuns(final int[] array, final int fromIndex, final int toIndex) {
+        return isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs, and
+     * returns the original indices where sorted elements were located.
+     * Implementations call this method before sorting with indices, so that
+     * their own algorithm is only used when this method returns null. Nothing
+     * is scanned when {@link #isRunScanWithIndicesEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range must be sorted by other means.
+     */
+    protected int[] sortRunsWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+        return isRunScanWithIndicesEnabled() ? RunSorter.sortWithIndices(array, fromIndex, toIndex) : null;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs.
+     * Implementations call this method before sorting, so that their own
+     * algorithm is only used when this method returns false. Nothing is
+     * scanned when {@link #isRunScanEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns false.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return true if provided range has been sorted, false if it must be
+     * sorted by other means.
+     */
+    protected boolean sortRuns(final long[] array, final int fromIndex, final int toIndex) {
+        return isRunScanEnabled() && RunSorter.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in linear time when it is already sorted, strictly
+     * descending or made of a few ascending or strictly descending runs, and
+     * returns the original indices where sorted elements were located.
+     * Implementations call this method before sorting with indices, so that
+     * their own algorithm is only used when this method returns null. Nothing
+     * is scanned when {@link #isRunScanWithIndicesEnabled()} returns false.
+     * Sorting is stable, and provided array is not modified when this method
+     * returns null.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted, or null if provided range must be sorted by other means.
+     */
+    protected int[] sortRunsWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+        return isRunScanWithIndicesEnabled() ? RunSorter.sortWithIndices(array, fromIndex, toIndex) : null;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sort(Object[], int, int, Comparator)}.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) throws SortingException {
+        sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sortWithIndices(Object[], int, int, Comparator)} and resulting indices are
+     * copied into provided indices.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace)
+            throws SortingException {
+        final var sortedIndices = sortWithIndices(array, fromIndex, toIndex, comparator);
+        System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sort(double[], int, int)}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sortWithIndices(double[], int, int)} and resulting indices are
+     * copied into provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+        System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sort(float[], int, int)}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sortWithIndices(float[], int, int)} and resulting indices are
+     * copied into provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) throws SortingException {
+        final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+        System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sort(int[], int, int)}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sortWithIndices(int[], int, int)} and resulting indices are
+     * copied into provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+        System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sort(long[], int, int)}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) throws SortingException {
+        sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Implementations override this method so that sorting does not allocate
+     * memory. By default, the range is sorted by
+     * {@link #sortWithIndices(long[], int, int)} and resulting indices are
+     * copied into provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     * @throws SortingException If for some reason sorting fails.
+     */
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) throws SortingException {
+        final var sortedIndices = sortWithIndices(array, fromIndex, toIndex);
+        System.arraycopy(sortedIndices, fromIndex, indices, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Creates a comparator and averager of {@link Comparable} instances.
+     * Instances implementing {@link ComparableAndAverageable} are averaged
+     * and interpolated using their own methods, and boxed numbers are
+     * averaged and interpolated arithmetically. Any other instances are
+     * neither averaged nor interpolated, returning the first one.
+     *
+     * @return comparator and averager of {@link Comparable} instances.
+     */
+    @SuppressWarnings("unchecked")
+    private ComparatorAndAverager<T> getComparableAverager() {
+        return new ComparatorAndAverager<>() {
+            @Override
+            public int compare(final T t1, final T t2) {
+                final var t1b = (Comparable<T>) t1;
+                return t1b.compareTo(t2);
+            }
+
+            @Override
+            public T average(final T t1, final T t2) {
+                if (t1 instanceof ComparableAndAverageable && t2 instanceof ComparableAndAverageable) {
+                    return ((ComparableAndAverageable<T>) t1).averageWith(t2);
+                }
+                if (t1 instanceof Byte b1 && t2 instanceof Byte b2) {
+                    return (T) Byte.valueOf((byte) ((b1 + b2) / 2));
+                }
+                if (t1 instanceof Character c1 && t2 instanceof Character c2) {
+                    return (T) Character.valueOf((char) ((c1 + c2) / 2));
+                }
+                if (t1 instanceof Short c1 && t2 instanceof Short c2) {
+                    return (T) Short.valueOf((short) ((c1 + c2) / 2));
+                }
+                if (t1 instanceof Integer i1 && t2 instanceof Integer i2) {
+                    return (T) Integer.valueOf((i1 + i2) / 2);
+                }
+                if (t1 instanceof Long l1 && t2 instanceof Long l2) {
+                    return (T) Long.valueOf((l1 + l2) / 2);
+                }
+                if (t1 instanceof Float f1 && t2 instanceof Float f2) {
+                    return (T) Float.valueOf((f1 + f2) / 2.0f);
+                }
+                if (t1 instanceof Double d1 && t2 instanceof Double d2) {
+                    return (T) Double.valueOf((d1 + d2) / 2.0);
+                }
+
+                // for other case, average returns 1st parameter
+                return t1;
+            }
+
+            @Override
+            public T interpolate(final T t1, final T t2, final double weight) {
+                if (t1 instanceof ComparableAndAverageable && t2 instanceof ComparableAndAverageable) {
+                    return ((ComparableAndAverageable<T>) t1).interpolateWith(t2, weight);
+                }
+                if (t1 instanceof Byte b1 && t2 instanceof Byte b2) {
+                    return (T) Byte.valueOf((byte) (b1 + weight * (b2 - b1)));
+                }
+                if (t1 instanceof Character c1 && t2 instanceof Character c2) {
+                    return (T) Character.valueOf((char) (c1 + weight * (c2 - c1)));
+                }
+                if (t1 instanceof Short s1 && t2 instanceof Short s2) {
+                    return (T) Short.valueOf((short) (s1 + weight * (s2 - s1)));
+                }
+                if (t1 instanceof Integer i1 && t2 instanceof Integer i2) {
+                    return (T) Integer.valueOf((int) (i1 + weight * ((double) i2 - i1)));
+                }
+                if (t1 instanceof Long l1 && t2 instanceof Long l2) {
+                    return (T) Long.valueOf((long) (l1 + weight * ((double) l2 - l1)));
+                }
+                if (t1 instanceof Float f1 && t2 instanceof Float f2) {
+                    return (T) Float.valueOf((float) (f1 + weight * (f2 - f1)));
+                }
+                if (t1 instanceof Double d1 && t2 instanceof Double d2) {
+                    return (T) Double.valueOf(d1 + weight * (d2 - d1));
+                }
+
+                // for other case, interpolation returns 1st parameter
+                return t1;
+            }
+        };
     }
 
     /**
@@ -0,0 +1,490 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Crossover sizes between sorting methods for each primitive type, as used by
+ * {@link AutoSorter}.
+ * Crossover sizes depend on the CPU, so they can be measured on the machine
+ * where sorting takes place by microbenchmarking the available sorters on
+ * random data (see {@link #calibrate()}).
+ * Since measuring takes a while, calibrations can be stored into a properties
+ * file and loaded on later executions (see {@link #loadOrCalibrate(Path)}).
+ */
+public class SortingCalibration {
+
+    /**
+     * Default file where calibrations are stored.
+     */
+    public static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"),
+            ".irurueta-sorting-calibration.properties");
+
+    /**
+     * Default largest length of arrays sorted while calibrating.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 1 << 20;
+
+    /**
+     * Default number of times that each measurement is repeated. The fastest
+     * repetition is kept.
+     */
+    public static final int DEFAULT_REPETITIONS = 3;
+
+    /**
+     * Minimum largest length of arrays sorted while calibrating.
+     */
+    public static final int MIN_MAX_LENGTH = 16;
+
+    /**
+     * Property containing the number of processors available when
+     * calibrating.
+     */
+    static final String PROCESSORS_PROPERTY = "processors";
+
+    /**
+     * Suffix of properties containing insertion thresholds.
+     */
+    static final String INSERTION_THRESHOLD_PROPERTY = ".insertionThreshold";
+
+    /**
+     * Suffix of properties containing parallel thresholds.
+     */
+    static final String PARALLEL_THRESHOLD_PROPERTY = ".parallelThreshold";
+
+    /**
+     * Calibrated primitive types.
+     */
+    private static final Class<?>[] TYPES = {double.class, float.class, int.class, long.class};
+
+    /**
+     * Lengths at which straight insertion is compared against the JDK sort.
+     */
+    private static final int[] INSERTION_LENGTHS = {4, 8, 12, 16, 24, 32, 48, 64, 96, 128};
+
+    /**
+     * Smallest length at which parallel sorting is compared against
+     * sequential sorting. Lengths are doubled until the largest length is
+     * reached.
+     */
+    private static final int MIN_PARALLEL_LENGTH = 1 << 12;
+
+    /**
+     * Minimum number of elements sorted on each repetition of a measurement,
+     * so that short arrays are sorted several times.
+     */
+    private static final int BATCH_ELEMENTS = 1 << 14;
+
+    /**
+     * Seed of random data, so that every calibration sorts the same values.
+     */
+    private static final long SEED = 0x5eed;
+
+    /**
+     * Insertion threshold of each type.
+     */
+    private final int[] insertionThresholds = new int[TYPES.length];
+
+    /**
+     * Parallel threshold of each type.
+     */
+    private final int[] parallelThresholds = new int[TYPES.length];
+
+    /**
+     * Number of processors available when calibrating.
+     */
+    private int processors;
+
+    /**
+     * Constructor using default thresholds of {@link AutoSorter} for every
+     * type and current number of processors.
+     */
+    public SortingCalibration() {
+        Arrays.fill(insertionThresholds, AutoSorter.DEFAULT_INSERTION_THRESHOLD);
+        Arrays.fill(parallelThresholds, AutoSorter.DEFAULT_PARALLEL_THRESHOLD);
+        processors = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Gets size of ranges of provided type below or equal which straight
+     * insertion is faster than the JDK sort.
+     *
+     * @param type either double.class, float.class, int.class or long.class.
+     * @return insertion threshold.
+     * @throws IllegalArgumentException if type is not supported.
+     */
+    public int getInsertionThreshold(final Class<?> type) {
+        return insertionThresholds[getTypeIndex(type)];
+    }
+
+    /**
+     * Gets size of ranges of provided type above which parallel sorting is
+     * faster than sequential sorting.
+     *
+     * @param type either double.class, float.class, int.class or long.class.
+     * @return parallel threshold, or {@link Integer#MAX_VALUE} if parallel
+     * sorting is never faster.
+     * @throws IllegalArgumentException if type is not supported.
+     */
+    public int getParallelThreshold(final Class<?> type) {
+        return parallelThresholds[getTypeIndex(type)];
+    }
+
+    /**
+     * Sets thresholds of provided type.
+     *
+     * @param type               either double.class, float.class, int.class
+     *                           or long.class.
+     * @param insertionThreshold size of ranges below or equal which straight
+     *                           insertion is used.
+     * @param parallelThreshold  size of ranges above which parallel sorting
+     *                           methods are used.
+     * @throws IllegalArgumentException if type is not supported, if insertion
+     *                                  threshold is negative or if parallel
+     *                                  threshold is lower than insertion
+     *                                  threshold.
+     */
+    public void setThresholds(final Class<?> type, final int insertionThreshold, final int parallelThreshold) {
+        final var index = getTypeIndex(type);
+        if (insertionThreshold < 0 || parallelThreshold < insertionThreshold) {
+            throw new IllegalArgumentException();
+        }
+        insertionThresholds[index] = insertionThreshold;
+        parallelThresholds[index] = parallelThreshold;
+    }
+
+    /**
+     * Gets number of processors available when calibrating.
+     * Calibrations measured with a different number of processors are
+     * discarded by {@link #loadOrCalibrate(Path)}.
+     *
+     * @return number of processors.
+     */
+    public int getProcessors() {
+        return processors;
+    }
+
+    /**
+     * Stores this calibration into provided properties file. Parent
+     * directories are created if needed.
+     *
+     * @param file file where calibration is stored.
+     * @throws IOException if file cannot be written.
+     */
+    public void store(final Path file) throws IOException {
+        final var properties = new Properties();
+        properties.setProperty(PROCESSORS_PROPERTY, String.valueOf(processors));
+        for (int i = 0; i < TYPES.length; i++) {
+            final var name = TYPES[i].getName();
+            properties.setProperty(name + INSERTION_THRESHOLD_PROPERTY, String.valueOf(insertionThresholds[i]));
+            properties.setProperty(name + PARALLEL_THRESHOLD_PROPERTY, String.valueOf(parallelThresholds[i]));
+        }
+
+        final var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (final var writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "irurueta-sorting calibration");
+        }
+    }
+
+    /**
+     * Loads a calibration from provided properties file.
+     *
+     * @param file file where calibration was stored.
+     * @return loaded calibration.
+     * @throws IOException if file cannot be read, or if any threshold is
+     *                     missing or invalid.
+     */
+    public static SortingCalibration load(final Path file) throws IOException {
+        final var properties = new Properties();
+        try (final var reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+
+        final var result = new SortingCalibration();
+        result.processors = getProperty(properties, PROCESSORS_PROPERTY, file);
+        for (final var type : TYPES) {
+            final var name = type.getName();
+            final var insertionThreshold = getProperty(properties, name + INSERTION_THRESHOLD_PROPERTY, file);
+            final var parallelThreshold = getProperty(properties, name + PARALLEL_THRESHOLD_PROPERTY, file);
+            try {
+                result.setThresholds(type, insertionThreshold, parallelThreshold);
+            } catch (final IllegalArgumentException e) {
+                throw new IOException("Invalid thresholds of " + name + " in " + file, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads calibration from default file, or calibrates and stores it into
+     * default file if it does not exist yet, it is not valid, or it was
+     * measured with a different number of processors.
+     *
+     * @return loaded or measured calibration.
+     * @throws IOException      if calibration cannot be stored.
+     * @throws SortingException if for some reason sorting fails.
+     */
+    public static SortingCalibration loadOrCalibrate() throws IOException, SortingException {
+        return loadOrCalibrate(DEFAULT_FILE);
+    }
+
+    /**
+     * Loads calibration from provided file, or calibrates and stores it into
+     * provided file if it does not exist yet, it is not valid, or it was
+     * measured with a different number of processors.
+     *
+     * @param file file where calibration is stored.
+     * @return loaded or measured calibration.
+     * @throws IOException      if calibration cannot be stored.
+     * @throws SortingException if for some reason sorting fails.
+     */
+    public static SortingCalibration loadOrCalibrate(final Path file) throws IOException, SortingException {
+        return loadOrCalibrate(file, DEFAULT_MAX_LENGTH, DEFAULT_REPETITIONS);
+    }
+
+    /**
+     * Loads calibration from provided file, or calibrates and stores it into
+     * provided file if it does not exist yet, it is not valid, or it was
+     * measured with a different number of processors.
+     *
+     * @param file        file where calibration is stored.
+     * @param maxLength   largest length of arrays sorted while calibrating.
+     * @param repetitions number of times that each measurement is repeated.
+     * @return loaded or measured calibration.
+     * @throws IllegalArgumentException if largest length is less than
+     *                                  {@link #MIN_MAX_LENGTH} or number of
+     *                                  repetitions is less than 1.
+     * @throws IOException              if calibration cannot be stored.
+     * @throws SortingException         if for some reason sorting fails.
+     */
+    public static SortingCalibration loadOrCalibrate(final Path file, final int maxLength, final int repetitions)
+            throws IOException, SortingException {
+        if (maxLength < MIN_MAX_LENGTH || repetitions < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (Files.isRegularFile(file)) {
+            try {
+                final var result = load(file);
+                if (result.processors == Runtime.getRuntime().availableProcessors()) {
+                    return result;
+                }
+            } catch (final IOException ignore) {
+                // invalid calibrations are measured again
+            }
+        }
+
+        final var result = calibrate(maxLength, repetitions);
+        result.store(file);
+        return result;
+    }
+
+    /**
+     * Measures thresholds of every primitive type using default largest
+     * length and number of repetitions.
+     *
+     * @return measured calibration.
+     * @throws SortingException if for some reason sorting fails.
+     */
+    public static SortingCalibration calibrate() throws SortingException {
+        return calibrate(DEFAULT_MAX_LENGTH, DEFAULT_REPETITIONS);
+    }
+
+    /**
+     * Measures thresholds of every primitive type.
+     * Insertion thresholds are the largest lengths up to 128 at which
+     * straight insertion is not slower than the JDK sort.
+     * Parallel thresholds are the largest lengths at which sequential sorting
+     * is still faster than parallel sorting, doubling lengths up to provided
+     * largest length. When parallel sorting is not faster at any measured
+     * length, or only one processor is available, parallel thresholds are
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param maxLength   largest length of arrays sorted while calibrating.
+     * @param repetitions number of times that each measurement is repeated.
+     * @return measured calibration.
+     * @throws IllegalArgumentException if largest length is less than
+     *                                  {@link #MIN_MAX_LENGTH} or number of
+     *                                  repetitions is less than 1.
+     * @throws SortingException         if for some reason sorting fails.
+     */
+    public static SortingCalibration calibrate(final int maxLength, final int repetitions) throws SortingException {
+        if (maxLength < MIN_MAX_LENGTH || repetitions < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        final var insertionSorter = Sorter.create(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD);
+        final var systemSorter = Sorter.create(SortingMethod.SYSTEM_SORTING_METHOD);
+        final var parallel = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+        final var result = new SortingCalibration();
+        final var random = new Random(SEED);
+        for (final var type : TYPES) {
+            final var source = createArray(type, maxLength, random);
+            final var work = createArray(type, maxLength, null);
+
+            var insertionThreshold = 0;
+            for (final var length : INSERTION_LENGTHS) {
+                if (length > maxLength || measure(insertionSorter, source, work, length, repetitions)
+                        > measure(systemSorter, source, work, length, repetitions)) {
+                    break;
+                }
+                insertionThreshold = length;
+            }
+
+            var parallelThreshold = Integer.MAX_VALUE;
+            if (parallel) {
+                final var parallelSorter = Sorter.create(type == int.class || type == long.class
+                        ? SortingMethod.PARALLEL_RADIX_SORTING_METHOD
+                        : SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD);
+                for (var length = MIN_PARALLEL_LENGTH; length <= maxLength && length > 0; length <<= 1) {
+                    if (measure(parallelSorter, source, work, length, repetitions)
+                            < measure(systemSorter, source, work, length, repetitions)) {
+                        parallelThreshold = Math.max(length / 2, insertionThreshold);
+                        break;
+                    }
+                }
+            }
+
+            result.setThresholds(type, insertionThreshold, parallelThreshold);
+        }
+        return result;
+    }
+
+    /**
+     * Gets position of provided type within calibrated types.
+     *
+     * @param type either double.class, float.class, int.class or long.class.
+     * @return position of type.
+     * @throws IllegalArgumentException if type is not supported.
+     */
+    private static int getTypeIndex(final Class<?> type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i] == type) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Gets an integer property.
+     *
+     * @param properties properties loaded from file.
+     * @param key        key of property.
+     * @param file       file where properties were loaded from.
+     * @return value of property.
+     * @throws IOException if property is missing or is not an integer.
+     */
+    private static int getProperty(final Properties properties, final String key, final Path file)
+            throws IOException {
+        final var value = properties.getProperty(key);
+        if (value == null) {
+            throw new IOException("Missing " + key + " in " + file);
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IOException("Invalid " + key + " in " + file, e);
+        }
+    }
+
+    /**
+     * Creates an array of provided primitive type.
+     *
+     * @param type   either double.class, float.class, int.class or long.class.
+     * @param length length of array.
+     * @param random generator of array values, or null to leave the array
+     *               filled with zeros.
+     * @return created array.
+     */
+    private static Object createArray(final Class<?> type, final int length, final Random random) {
+        if (type == double.class) {
+            final var result = new double[length];
+            for (int i = 0; random != null && i < length; i++) {
+                result[i] = random.nextDouble();
+            }
+            return result;
+        } else if (type == float.class) {
+            final var result = new float[length];
+            for (int i = 0; random != null && i < length; i++) {
+                result[i] = random.nextFloat();
+            }
+            return result;
+        } else if (type == int.class) {
+            final var result = new int[length];
+            for (int i = 0; random != null && i < length; i++) {
+                result[i] = random.nextInt();
+            }
+            return result;
+        } else {
+            final var result = new long[length];
+            for (int i = 0; random != null && i < length; i++) {
+                result[i] = random.nextLong();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Measures the time that provided sorter takes to sort random arrays of
+     * provided length. Arrays shorter than {@link #BATCH_ELEMENTS} are sorted
+     * several times on each repetition, and a first repetition warms up the
+     * sorter without being measured.
+     *
+     * @param sorter      sorter to be measured.
+     * @param source      array containing random values.
+     * @param work        array where values are copied and sorted.
+     * @param length      number of values to be sorted.
+     * @param repetitions number of times that measurement is repeated.
+     * @return nanoseconds of the fastest repetition.
+     * @throws SortingException if for some reason sorting fails.
+     */
+    private static long measure(final Sorter<?> sorter, final Object source, final Object work, final int length,
+                                final int repetitions) throws SortingException {
+        final var batch = Math.max(1, BATCH_ELEMENTS / length);
+        var result = Long.MAX_VALUE;
+        for (int r = 0; r <= repetitions; r++) {
+            final var start = System.nanoTime();
+            for (int b = 0; b < batch; b++) {
+                System.arraycopy(source, 0, work, 0, length);
+                if (work instanceof double[] w) {
+                    sorter.sort(w, 0, length);
+                } else if (work instanceof float[] w) {
+                    sorter.sort(w, 0, length);
+                } else if (work instanceof int[] w) {
+                    sorter.sort(w, 0, length);
+                } else {
+                    sorter.sort((long[]) work, 0, length);
+                }
+            }
+            final var elapsed = System.nanoTime() - start;
+            if (r > 0) {
+                result = Math.min(result, elapsed);
+            }
+        }
+        return result;
+    }
+}
@@ -47,8 +47,76 @@ public enum SortingMethod {
 
     /**
      * Uses Java SDK sorting algorithm. Performance depends on SDK
-     * implementation and functionality is limited to sorting only (indices
-     * cannot be retrieved).
+     * implementation. Because the SDK cannot retrieve indices, arrays of
+     * floats and integers are sorted along with their indices by packing them
+     * into longs, and arrays of doubles and longs by using a radix sort.
      */
-    SYSTEM_SORTING_METHOD
+    SYSTEM_SORTING_METHOD,
+
+    /**
+     * Sorts data using a parallel version of Quicksort algorithm, where
+     * partitions larger than a given threshold are sorted concurrently
+     * using a fork/join pool. Large arrays of primitive values are sample
+     * sorted instead, so that no sequential partitioning step is needed.
+     * This algorithm is faster than Quicksort for large arrays on multicore
+     * machines.
+     */
+    PARALLEL_QUICKSORT_SORTING_METHOD,
+
+    /**
+     * Sorts data using a least significant digit radix sort. This algorithm
+     * does not compare elements and sorts arrays of doubles, floats, integers
+     * and longs in linear time. Arrays of objects are sorted using Quicksort.
+     */
+    RADIX_SORTING_METHOD,
+
+    /**
+     * Sorts data using Introsort algorithm. This algorithm is a Quicksort that
+     * switches to Heapsort when partitioning elements are poor, so that its
+     * worst case performance is O(n log n) even on adversarial inputs.
+     */
+    INTROSORT_SORTING_METHOD,
+
+    /**
+     * Sorts data using pattern-defeating Quicksort (pdqsort). This algorithm
+     * is an Introsort that sorts already sorted arrays and arrays having long
+     * runs of equal elements in linear time, and partitions arrays of
+     * primitives without branch mispredictions.
+     */
+    PDQSORT_SORTING_METHOD,
+
+    /**
+     * Sorts data using TimSort algorithm. This algorithm is a stable merge
+     * sort that takes advantage of runs already present in data. Because it
+     * is stable, indices of equal elements returned when sorting with indices
+     * keep their original relative order.
+     */
+    TIMSORT_SORTING_METHOD,
+
+    /**
+     * Sorts data using a parallel stable merge sort, where arrays of objects
+     * larger than a given threshold are split and merged concurrently using a
+     * fork/join pool. Because it is stable, indices of equal elements returned
+     * when sorting with indices keep their original relative order.
+     */
+    PARALLEL_MERGE_SORTING_METHOD,
+
+    /**
+     * Sorts data using a parallel least significant digit radix sort, where
+     * digit histograms and scattering of arrays of integers and longs larger
+     * than a given threshold are computed concurrently using a fork/join
+     * pool. Arrays of doubles and floats are radix sorted sequentially and
+     * arrays of objects are sorted using Quicksort.
+     */
+    PARALLEL_RADIX_SORTING_METHOD,
+
+    /**
+     * Chooses a sorting method on each call depending on the length of the
+     * range being sorted, the type of its elements, whether indices are
+     * requested and the available memory. Straight insertion is used for tiny
+     * ranges, the JDK sort or TimSort for medium ones, parallel methods for
+     * huge ones and Heapsort when other methods would need more scratch memory
+     * than available.
+     */
+    AUTO_SORTING_METHOD
 }
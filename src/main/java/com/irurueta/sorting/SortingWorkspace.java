@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Reusable stacks and scratch arrays used by sorters.
+ * Sorting methods taking a workspace obtain their internal stacks and scratch
+ * arrays from it instead of allocating them. Arrays are grown when a larger
+ * one is needed and are kept afterward, hence once a workspace has been used
+ * to sort the largest expected input, later sorts no longer allocate memory.
+ * A workspace is not thread-safe: each thread must use its own workspace, or
+ * borrow one from a {@link SortingWorkspacePool} for the duration of each
+ * sort.
+ */
+public class SortingWorkspace {
+
+    /**
+     * Slot of the stack of pending partitions used by Quicksort and
+     * Introsort.
+     */
+    static final int STACK = 0;
+
+    /**
+     * Slot of the bounds of runs found before sorting.
+     */
+    static final int RUN_BOUNDS = 1;
+
+    /**
+     * Slot of scratch indices reordered along with scratch values.
+     */
+    static final int INDICES = 2;
+
+    /**
+     * Slot of scratch int values.
+     */
+    static final int INTS = 3;
+
+    /**
+     * Slot of histograms of radix sort digits.
+     */
+    static final int COUNTS = 4;
+
+    /**
+     * Slot of positions where radix sort scatters each digit.
+     */
+    static final int OFFSETS = 5;
+
+    /**
+     * Slot of offsets of elements on the left of a block partition.
+     */
+    static final int LEFT_OFFSETS = 6;
+
+    /**
+     * Slot of offsets of elements on the right of a block partition.
+     */
+    static final int RIGHT_OFFSETS = 7;
+
+    /**
+     * Slot of positions where pending TimSort runs start.
+     */
+    static final int RUN_BASES = 8;
+
+    /**
+     * Slot of lengths of pending TimSort runs.
+     */
+    static final int RUN_LENGTHS = 9;
+
+    /**
+     * Number of slots of int arrays.
+     */
+    private static final int INT_SLOTS = 10;
+
+    /**
+     * Empty array of integers.
+     */
+    private static final int[] EMPTY_INTS = new int[0];
+
+    /**
+     * Int arrays of each slot.
+     */
+    private final int[][] ints = new int[INT_SLOTS][];
+
+    /**
+     * Scratch double values.
+     */
+    private double[] doubles = new double[0];
+
+    /**
+     * Scratch float values.
+     */
+    private float[] floats = new float[0];
+
+    /**
+     * Scratch long values.
+     */
+    private long[] longs = new long[0];
+
+    /**
+     * Scratch objects.
+     */
+    private Object[] objects = new Object[0];
+
+    /**
+     * Directions of runs found before sorting.
+     */
+    private boolean[] runDirections = new boolean[0];
+
+    /**
+     * Constructor.
+     */
+    public SortingWorkspace() {
+        Arrays.fill(ints, EMPTY_INTS);
+    }
+
+    /**
+     * Releases arrays longer than provided length, so that the memory kept by
+     * this workspace is bounded. Released arrays are allocated again when
+     * sorting needs them.
+     *
+     * @param maxLength maximum length of arrays to be kept.
+     * @throws IllegalArgumentException if maximum length is negative.
+     */
+    public void trim(final int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        for (int slot = 0; slot < INT_SLOTS; slot++) {
+            if (ints[slot].length > maxLength) {
+                ints[slot] = EMPTY_INTS;
+            }
+        }
+        if (doubles.length > maxLength) {
+            doubles = new double[0];
+        }
+        if (floats.length > maxLength) {
+            floats = new float[0];
+        }
+        if (longs.length > maxLength) {
+            longs = new long[0];
+        }
+        if (objects.length > maxLength) {
+            objects = new Object[0];
+        }
+        if (runDirections.length > maxLength) {
+            runDirections = new boolean[0];
+        }
+    }
+
+    /**
+     * Gets int array of provided slot having at least provided length.
+     *
+     * @param slot   slot of array.
+     * @param length minimum length of array.
+     * @return int array of provided slot.
+     */
+    int[] getInts(final int slot, final int length) {
+        if (ints[slot].length < length) {
+            ints[slot] = new int[length];
+        }
+        return ints[slot];
+    }
+
+    /**
+     * Gets scratch double array having at least provided length.
+     *
+     * @param length minimum length of array.
+     * @return scratch double array.
+     */
+    double[] getDoubles(final int length) {
+        if (doubles.length < length) {
+            doubles = new double[length];
+        }
+        return doubles;
+    }
+
+    /**
+     * Gets scratch float array having at least provided length.
+     *
+     * @param length minimum length of array.
+     * @return scratch float array.
+     */
+    float[] getFloats(final int length) {
+        if (floats.length < length) {
+            floats = new float[length];
+        }
+        return floats;
+    }
+
+    /**
+     * Gets scratch long array having at least provided length.
+     *
+     * @param length minimum length of array.
+     * @return scratch long array.
+     */
+    long[] getLongs(final int length) {
+        if (longs.length < length) {
+            longs = new long[length];
+        }
+        return longs;
+    }
+
+    /**
+     * Gets scratch object array having at least provided length.
+     * Callers must clear the positions they used once done, so that the
+     * workspace does not keep sorted objects reachable.
+     *
+     * @param length minimum length of array.
+     * @param <T>    type of objects.
+     * @return scratch object array.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T[] getObjects(final int length) {
+        if (objects.length < length) {
+            objects = new Object[length];
+        }
+        return (T[]) objects;
+    }
+
+    /**
+     * Gets array of run directions having at least provided length.
+     *
+     * @param length minimum length of array.
+     * @return array of run directions.
+     */
+    boolean[] getRunDirections(final int length) {
+        if (runDirections.length < length) {
+            runDirections = new boolean[length];
+        }
+        return runDirections;
+    }
+}
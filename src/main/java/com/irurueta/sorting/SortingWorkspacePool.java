@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe pool of sorting workspaces shared by many threads.
+ * Threads borrow a workspace before sorting and return it afterward, so that
+ * stacks and scratch arrays grown by previous sorts are reused instead of
+ * being allocated on every call. Unlike thread-local storage, the number of
+ * workspaces depends on the number of concurrent sorts rather than on the
+ * number of threads, which makes this pool suitable for virtual threads.
+ * <p>
+ * Retention is bounded: at most a given number of idle workspaces is kept,
+ * arrays longer than a given length are released when a workspace is
+ * returned, and workspaces that remain idle longer than a keep-alive time are
+ * discarded.
+ * <p>
+ * The pool does not run any background thread: expired workspaces are only
+ * discarded when a workspace is borrowed or returned, or when
+ * {@link #evictExpired()} is called. Applications that stop sorting for long
+ * periods and need memory back can call {@link #evictExpired()} periodically
+ * or {@link #clear()} the pool.
+ */
+public class SortingWorkspacePool {
+
+    /**
+     * Default maximum number of idle workspaces kept by the pool.
+     */
+    public static final int DEFAULT_MAX_IDLE_WORKSPACES = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Default maximum length of arrays kept by idle workspaces.
+     */
+    public static final int DEFAULT_MAX_RETAINED_LENGTH = 1 << 20;
+
+    /**
+     * Default time in milliseconds that a workspace can remain idle before
+     * being discarded.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 60000L;
+
+    /**
+     * Maximum number of idle workspaces kept by the pool.
+     */
+    private final int maxIdleWorkspaces;
+
+    /**
+     * Maximum length of arrays kept by idle workspaces.
+     */
+    private final int maxRetainedLength;
+
+    /**
+     * Time in milliseconds that a workspace can remain idle before being
+     * discarded.
+     */
+    private final long keepAliveMillis;
+
+    /**
+     * Idle workspaces, the most recently returned one first.
+     */
+    private final ConcurrentLinkedDeque<IdleWorkspace> idleWorkspaces = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Number of idle workspaces.
+     */
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Constructor using default limits.
+     */
+    public SortingWorkspacePool() {
+        this(DEFAULT_MAX_IDLE_WORKSPACES, DEFAULT_MAX_RETAINED_LENGTH, DEFAULT_KEEP_ALIVE_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxIdleWorkspaces maximum number of idle workspaces kept by the
+     *                          pool.
+     * @param maxRetainedLength maximum length of arrays kept by idle
+     *                          workspaces.
+     * @param keepAliveMillis   time in milliseconds that a workspace can remain
+     *                          idle before being discarded.
+     * @throws IllegalArgumentException if any value is negative.
+     */
+    public SortingWorkspacePool(final int maxIdleWorkspaces, final int maxRetainedLength,
+                                final long keepAliveMillis) {
+        if (maxIdleWorkspaces < 0 || maxRetainedLength < 0 || keepAliveMillis < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxIdleWorkspaces = maxIdleWorkspaces;
+        this.maxRetainedLength = maxRetainedLength;
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    /**
+     * Gets maximum number of idle workspaces kept by the pool.
+     *
+     * @return maximum number of idle workspaces.
+     */
+    public int getMaxIdleWorkspaces() {
+        return maxIdleWorkspaces;
+    }
+
+    /**
+     * Gets maximum length of arrays kept by idle workspaces.
+     *
+     * @return maximum length of arrays kept by idle workspaces.
+     */
+    public int getMaxRetainedLength() {
+        return maxRetainedLength;
+    }
+
+    /**
+     * Gets time in milliseconds that a workspace can remain idle before being
+     * discarded.
+     *
+     * @return keep-alive time in milliseconds.
+     */
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    /**
+     * Gets number of idle workspaces currently kept by the pool.
+     *
+     * @return number of idle workspaces.
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Borrows a workspace from the pool. Workspaces idle for longer than the
+     * keep-alive time are discarded first, then the most recently returned
+     * workspace is reused if any, otherwise a new one is created.
+     * Borrowed workspaces must be returned by calling
+     * {@link #release(SortingWorkspace)} once sorting finishes, and must not
+     * be used afterward.
+     *
+     * @return borrowed workspace.
+     */
+    public SortingWorkspace acquire() {
+        evictExpired(System.nanoTime());
+
+        final var idle = idleWorkspaces.pollFirst();
+        if (idle == null) {
+            return new SortingWorkspace();
+        }
+        idleCount.decrementAndGet();
+        return idle.workspace;
+    }
+
+    /**
+     * Returns a borrowed workspace to the pool.
+     * Arrays longer than the maximum retained length are released, and the
+     * workspace is discarded if the pool already keeps its maximum number of
+     * idle workspaces. Workspaces idle for longer than the keep-alive time are
+     * discarded as well.
+     *
+     * @param workspace workspace to be returned.
+     * @throws IllegalArgumentException if workspace is null.
+     */
+    public void release(final SortingWorkspace workspace) {
+        if (workspace == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var now = System.nanoTime();
+        evictExpired(now);
+
+        if (idleCount.incrementAndGet() > maxIdleWorkspaces) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        workspace.trim(maxRetainedLength);
+        idleWorkspaces.offerFirst(new IdleWorkspace(workspace, now));
+    }
+
+    /**
+     * Discards workspaces that have been idle for longer than the keep-alive
+     * time. This is done every time a workspace is borrowed or returned, and
+     * can also be called periodically so that memory is released when the
+     * pool is not used.
+     */
+    public void evictExpired() {
+        evictExpired(System.nanoTime());
+    }
+
+    /**
+     * Discards all idle workspaces.
+     */
+    public void clear() {
+        while (idleWorkspaces.pollLast() != null) {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Discards workspaces that have been idle for longer than the keep-alive
+     * time.
+     *
+     * @param now current time in nanoseconds.
+     */
+    private void evictExpired(final long now) {
+        final var keepAliveNanos = TimeUnit.MILLISECONDS.toNanos(keepAliveMillis);
+        IdleWorkspace oldest;
+        while ((oldest = idleWorkspaces.peekLast()) != null && now - oldest.releaseTime > keepAliveNanos) {
+            if (idleWorkspaces.removeLastOccurrence(oldest)) {
+                idleCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Idle workspace along with the time when it was returned to the pool.
+     */
+    private static final class IdleWorkspace {
+
+        /**
+         * Idle workspace.
+         */
+        private final SortingWorkspace workspace;
+
+        /**
+         * Time in nanoseconds when workspace was returned to the pool.
+         */
+        private final long releaseTime;
+
+        /**
+         * Constructor.
+         *
+         * @param workspace   idle workspace.
+         * @param releaseTime time in nanoseconds when workspace was returned
+         *                    to the pool.
+         */
+        private IdleWorkspace(final SortingWorkspace workspace, final long releaseTime) {
+            this.workspace = workspace;
+            this.releaseTime = releaseTime;
+        }
+    }
+}
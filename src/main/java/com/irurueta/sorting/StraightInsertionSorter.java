@@ -58,28 +58,12 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex, comparator)) {
             return;
         }
 
-        T a;
-        int i;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && comparator.compare(array[i - 1], a) > 0) {
-                array[i] = array[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-        }
+        straightInsertion(array, fromIndex, toIndex, comparator);
     }
 
     /**
@@ -117,34 +101,13 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final int[] indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        int b;
-        T a;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-            b = indices[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && comparator.compare(array[i - 1], a) > 0) {
-                array[i] = array[i - 1];
-                indices[i] = indices[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-            indices[i] = b;
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex, comparator);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final int[] indices = getInitialIndicesVector(array.length);
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex, comparator);
         return indices;
     }
 
@@ -182,28 +145,12 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        double a;
-        int i;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-        }
+        straightInsertion(array, fromIndex, toIndex);
     }
 
     /**
@@ -238,34 +185,13 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final int[] indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        int b;
-        double a;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-            b = indices[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                indices[i] = indices[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-            indices[i] = b;
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final int[] indices = getInitialIndicesVector(array.length);
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -293,28 +219,12 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        float a;
-        int i;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-        }
+        straightInsertion(array, fromIndex, toIndex);
     }
 
     /**
@@ -349,34 +259,13 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final int[] indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        int b;
-        float a;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-            b = indices[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                indices[i] = indices[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-            indices[i] = b;
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final int[] indices = getInitialIndicesVector(array.length);
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -404,28 +293,12 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        int a;
-        int i;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-        }
+        straightInsertion(array, fromIndex, toIndex);
     }
 
     /**
@@ -460,34 +333,13 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final var indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
-        }
-
-        int i;
-        int b;
-        int a;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-            b = indices[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                indices[i] = indices[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-            indices[i] = b;
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
+        final var indices = getInitialIndicesVector(array.length);
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
         return indices;
     }
 
@@ -515,28 +367,12 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
         if (fromIndex < 0 || toIndex > array.length) {
             throw new ArrayIndexOutOfBoundsException();
         }
-        if (fromIndex == toIndex) {
+
+        if (sortRuns(array, fromIndex, toIndex)) {
             return;
         }
 
-        long a;
-        int i;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-
-            i = j;
-
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                i--;
-            }
-
-            // Insert it
-            array[i] = a;
-        }
+        straightInsertion(array, fromIndex, toIndex);
     }
 
     /**
@@ -571,34 +407,599 @@ public class StraightInsertionSorter<T> extends Sorter<T> {
             throw new ArrayIndexOutOfBoundsException();
         }
 
-        final var indices = getInitialIndicesVector(array.length);
-        if (fromIndex == toIndex) {
-            return indices;
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
         }
 
-        int i;
-        int b;
-        long a;
-
-        for (int j = fromIndex + 1; j < toIndex; j++) {
-            // Pick out each element in turn
-            a = array[j];
-            b = indices[j];
+        final var indices = getInitialIndicesVector(array.length);
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
+        return indices;
+    }
 
-            i = j;
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        straightInsertion(array, fromIndex, toIndex, comparator);
+    }
 
-            // look for the place to insert it
-            while (i > fromIndex && array[i - 1] > a) {
-                array[i] = array[i - 1];
-                indices[i] = indices[i - 1];
-                i--;
-            }
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex, comparator);
+    }
 
-            // Insert it
-            array[i] = a;
-            indices[i] = b;
-        }
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        straightInsertion(array, fromIndex, toIndex);
+    }
 
-        return indices;
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        straightInsertion(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        straightInsertion(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        straightInsertion(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * Straight insertion sorts in place, hence provided workspace is not used.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        straightInsertionWithIndices(array, indices, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    void straightInsertion(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        T a;
+        int i;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && comparator.compare(array[i - 1], a) > 0) {
+                array[i] = array[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    void straightInsertionWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                      final Comparator<T> comparator) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        int b;
+        T a;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+            b = indices[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && comparator.compare(array[i - 1], a) > 0) {
+                array[i] = array[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+            indices[i] = b;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertion(final double[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        double a;
+        int i;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertionWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                      final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        int b;
+        double a;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+            b = indices[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+            indices[i] = b;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertion(final float[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        float a;
+        int i;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertionWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                      final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        int b;
+        float a;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+            b = indices[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+            indices[i] = b;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertion(final int[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int a;
+        int i;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertionWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        int b;
+        int a;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+            b = indices[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+            indices[i] = b;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertion(final long[] array, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        long a;
+        int i;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     */
+    void straightInsertionWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        int i;
+        int b;
+        long a;
+
+        for (int j = fromIndex + 1; j < toIndex; j++) {
+            // Pick out each element in turn
+            a = array[j];
+            b = indices[j];
+
+            i = j;
+
+            // look for the place to insert it
+            while (i > fromIndex && array[i - 1] > a) {
+                array[i] = array[i - 1];
+                indices[i] = indices[i - 1];
+                i--;
+            }
+
+            // Insert it
+            array[i] = a;
+            indices[i] = b;
+        }
     }
 }
@@ -25,7 +25,10 @@ import java.util.Comparator;
  *            <p>
  *            Where available, sort is based on Java SDK implementation, which also
  *            uses Quicksort, however Java SDK implementation does not offer the
- *            ability to retrieve indices when sorting
+ *            ability to retrieve indices when sorting, hence arrays of floats and
+ *            integers are sorted along with their indices by packing both into
+ *            longs, and arrays of doubles and longs are sorted along with their
+ *            indices using a stable radix sort
  *            <p>
  *            This class is based on algorithm found at
  *            Numerical Recipes. 3rd Edition. Cambridge Press. Chapter 8. p. 424
@@ -34,6 +37,12 @@ import java.util.Comparator;
  */
 public class SystemSorter<T> extends QuicksortSorter<T> {
 
+    /**
+     * Sorter used to sort arrays of doubles and longs along with their
+     * indices.
+     */
+    private final RadixSorter<T> radixSorter = new RadixSorter<>();
+
     /**
      * Sorts provided array in ascending order so that {@code
      * array[i - 1] < array[i]} for any valid i.
@@ -76,6 +85,51 @@ public class SystemSorter<T> extends QuicksortSorter<T> {
         Arrays.sort(array, fromIndex, toIndex);
     }
 
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     * Because the Java SDK cannot sort two arrays at once, values and indices
+     * are sorted using a stable radix sort that orders values in the same way
+     * as {@link Arrays#sort(double[])}.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSorter.radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
     /**
      * Sorts provided array in ascending order so that {@code
      * array[i - 1] < array[i]} for any valid i.
@@ -96,6 +150,51 @@ public class SystemSorter<T> extends QuicksortSorter<T> {
         Arrays.sort(array, fromIndex, toIndex);
     }
 
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     * Each value is packed along with its index into a long so that values
+     * can be sorted using {@link Arrays#sort(long[])}, keeping the same order
+     * as {@link Arrays#sort(float[])}.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        sortPacked(array, indices, fromIndex, toIndex, new long[toIndex - fromIndex]);
+        return indices;
+    }
+
     /**
      * Sorts provided array in ascending order so that {@code
      * array[i - 1] < array[i]} for any valid i.
@@ -116,6 +215,50 @@ public class SystemSorter<T> extends QuicksortSorter<T> {
         Arrays.sort(array, fromIndex, toIndex);
     }
 
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     * Each value is packed along with its index into a long so that values
+     * can be sorted using {@link Arrays#sort(long[])}.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        sortPacked(array, indices, fromIndex, toIndex, new long[toIndex - fromIndex]);
+        return indices;
+    }
+
     /**
      * Sorts provided array in ascending order so that {@code
      * array[i - 1] < array[i]} for any valid i.
@@ -136,6 +279,242 @@ public class SystemSorter<T> extends QuicksortSorter<T> {
         Arrays.sort(array, fromIndex, toIndex);
     }
 
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     * Because the Java SDK cannot sort two arrays at once, values and indices
+     * are sorted using a stable radix sort.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var sortedIndices = sortRunsWithIndices(array, fromIndex, toIndex);
+        if (sortedIndices != null) {
+            return sortedIndices;
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        radixSorter.radixSort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Values are sorted using the Java SDK, which might allocate memory
+     * internally.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        Arrays.sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Values are sorted using the Java SDK, which might allocate memory
+     * internally.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        Arrays.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        radixSorter.radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Values are sorted using the Java SDK, which might allocate memory
+     * internally.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        Arrays.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        sortPacked(array, indices, fromIndex, toIndex, workspace.getLongs(toIndex - fromIndex));
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Values are sorted using the Java SDK, which might allocate memory
+     * internally.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        Arrays.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        sortPacked(array, indices, fromIndex, toIndex, workspace.getLongs(toIndex - fromIndex));
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * Values are sorted using the Java SDK, which might allocate memory
+     * internally.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        Arrays.sort(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        radixSorter.radixSort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted.
+     * Ranges are sorted by the Java SDK, which already detects runs.
+     *
+     * @return always false.
+     */
+    @Override
+    protected boolean isRunScanEnabled() {
+        return false;
+    }
+
     /**
      * Returns sorting method of this class.
      *
@@ -145,4 +524,99 @@ public class SystemSorter<T> extends QuicksortSorter<T> {
     public SortingMethod getMethod() {
         return SortingMethod.SYSTEM_SORTING_METHOD;
     }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * Values are packed along with their indices into longs sorted using
+     * {@link Arrays#sort(long[])}, keeping the same order as
+     * {@link Arrays#sort(float[])}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param keys      Array where values and indices are packed. Must have at
+     *                  least toIndex - fromIndex elements.
+     */
+    private static void sortPacked(final float[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                   final long[] keys) {
+        final var n = toIndex - fromIndex;
+
+        // NaN values are placed at the end, keeping their order
+        var nanCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (Float.isNaN(array[i])) {
+                nanCount++;
+            }
+        }
+
+        final var end = n - nanCount;
+        var pos = 0;
+        var nanPos = end;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final var value = array[i];
+            final var bits = Float.floatToRawIntBits(value);
+            if (Float.isNaN(value)) {
+                keys[nanPos++] = ((long) bits << Integer.SIZE) | i;
+            } else {
+                keys[pos++] = ((long) sortableBits(bits) << Integer.SIZE) | i;
+            }
+        }
+
+        Arrays.sort(keys, 0, end);
+
+        for (int i = 0; i < n; i++) {
+            final var key = keys[i];
+            final var bits = (int) (key >> Integer.SIZE);
+            array[fromIndex + i] = Float.intBitsToFloat(i < end ? sortableBits(bits) : bits);
+            indices[fromIndex + i] = (int) key;
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices.
+     * Values are packed along with their indices into longs sorted using
+     * {@link Arrays#sort(long[])}.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param keys      Array where values and indices are packed. Must have at
+     *                  least toIndex - fromIndex elements.
+     */
+    private static void sortPacked(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                   final long[] keys) {
+        final var n = toIndex - fromIndex;
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) array[fromIndex + i] << Integer.SIZE) | (fromIndex + i);
+        }
+
+        Arrays.sort(keys, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            final var key = keys[i];
+            array[fromIndex + i] = (int) (key >> Integer.SIZE);
+            indices[fromIndex + i] = (int) key;
+        }
+    }
+
+    /**
+     * Converts the bits of a float into a value that preserves the order of
+     * floats when compared as integers, or vice versa.
+     *
+     * @param bits bits to be converted.
+     * @return converted bits.
+     */
+    private static int sortableBits(final int bits) {
+        return bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE);
+    }
 }
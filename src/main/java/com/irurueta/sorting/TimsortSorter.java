@@ -0,0 +1,2643 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts instances of type T in provided arrays using TimSort method.
+ * TimSort is a stable merge sort: equal elements keep their original relative
+ * order, and consequently indices returned by sortWithIndices are in
+ * ascending order for any run of equal elements, so that no additional
+ * tie-breaking pass is required.
+ * Ascending and strictly descending runs already present in data are
+ * detected and used as they are (descending runs are reversed), and short
+ * runs are extended using binary insertion. Pending runs are kept on a stack
+ * and merged so that merged runs have similar lengths, using a single scratch
+ * buffer as large as half the sorted range which is reused by every merge.
+ * Already sorted ranges are sorted in linear time without allocating any
+ * scratch buffer. Worst case performance is O(n log n) and no
+ * {@link SortingException} is ever thrown.
+ *
+ * @param <T> Type of instances being sorted.
+ *            <p>
+ *            This class is based on algorithm found at
+ *            Peters, T. 2002. "listsort.txt", CPython source distribution.
+ *            Auger, N., Juge, V., Nicaud, C., Pivoteau, C. 2018. "On the
+ *            Worst-Case Complexity of TimSort", ESA 2018.
+ */
+@SuppressWarnings("Duplicates")
+public class TimsortSorter<T> extends Sorter<T> {
+
+    /**
+     * Constant defining size of ranges below which binary insertion is used
+     * instead of merging runs.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Maximum number of pending runs. Because of the invariants kept on the
+     * stack of pending runs, their lengths grow at least as fast as Fibonacci
+     * numbers, hence this is enough for any range addressable by an int.
+     */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        timsort(array, null, fromIndex, toIndex, comparator, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array      Array to be sorted. After execution of this method
+     *                   elements in array between fromIndex (inclusive) and toIndex
+     *                   (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final T[] array, final int fromIndex, final int toIndex,
+                                 final Comparator<T> comparator) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        timsort(array, indices, fromIndex, toIndex, comparator, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted.
+     * TimSort already detects runs while sorting.
+     *
+     * @return always false.
+     */
+    @Override
+    protected boolean isRunScanEnabled() {
+        return false;
+    }
+
+    /**
+     * Indicates whether ranges are scanned for runs before being sorted with
+     * indices.
+     * TimSort already detects runs while sorting.
+     *
+     * @return always false.
+     */
+    @Override
+    protected boolean isRunScanWithIndicesEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns sorting method of this class.
+     *
+     * @return Sorting method.
+     */
+    @Override
+    public SortingMethod getMethod() {
+        return SortingMethod.TIMSORT_SORTING_METHOD;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        timsort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final double[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        timsort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        timsort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final float[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        timsort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        timsort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final int[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        timsort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public void sort(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        timsort(array, null, fromIndex, toIndex, new SortingWorkspace());
+    }
+
+    /**
+     * Sorts provided array in ascending order so that {@code
+     * array[i - 1] < array[i]} for any valid i.
+     * This method modifies provided array so that
+     * after execution of this method array elements are ordered.
+     * An array containing the original indices where elements were
+     * located is returned so that other arrays or collections can be kept
+     * in the same order.
+     *
+     * @param array     Array to be sorted. After execution of this method
+     *                  elements in array between fromIndex (inclusive) and toIndex
+     *                  (exclusive) are modified so that they are on ascending order.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @return Array containing original location of elements that have been
+     * sorted. Only elements between fromIndex (inclusive) and toIndex
+     * (exclusive) are modified, the remaining ones are kept in natural
+     * order.
+     * @throws IllegalArgumentException       If {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > array.length}.
+     */
+    @Override
+    public int[] sortWithIndices(final long[] array, final int fromIndex, final int toIndex) {
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        final var indices = getInitialIndicesVector(array.length);
+        timsort(array, indices, fromIndex, toIndex, new SortingWorkspace());
+        return indices;
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final T[] array, final int fromIndex, final int toIndex, final Comparator<T> comparator,
+                             final SortingWorkspace workspace) {
+        timsort(array, null, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing original location of elements between
+     *                   fromIndex (inclusive) and toIndex (exclusive), to be
+     *                   reordered along with provided array.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final Comparator<T> comparator, final SortingWorkspace workspace) {
+        timsort(array, indices, fromIndex, toIndex, comparator, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final double[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        timsort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final double[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        timsort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final float[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        timsort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final float[] array, final int[] indices, final int fromIndex,
+                                        final int toIndex, final SortingWorkspace workspace) {
+        timsort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final int[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        timsort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        timsort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, taking internal stacks and scratch
+     * arrays from provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRange(final long[] array, final int fromIndex, final int toIndex,
+                             final SortingWorkspace workspace) {
+        timsort(array, null, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices and taking internal stacks and scratch arrays from
+     * provided workspace.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing original location of elements between
+     *                  fromIndex (inclusive) and toIndex (exclusive), to be
+     *                  reordered along with provided array.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing internal stacks and scratch arrays.
+     */
+    @Override
+    protected void sortRangeWithIndices(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                                        final SortingWorkspace workspace) {
+        timsort(array, indices, fromIndex, toIndex, workspace);
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices, if any. Equal elements keep their relative order.
+     * This method does not check provided range.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array, or null if no indices are required.
+     * @param fromIndex  Index were sorting starts (inclusive).
+     * @param toIndex    Index were sorting stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @param workspace  Workspace providing scratch arrays and pending run stack.
+     */
+    void timsort(final T[] array, final int[] indices, final int fromIndex, final int toIndex,
+                 final Comparator<T> comparator, final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        var runLength = countRunAndMakeAscending(array, indices, fromIndex, toIndex, comparator);
+        if (runLength == n) {
+            // range was already sorted (or reversed)
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(array, indices, fromIndex, toIndex, fromIndex + runLength, comparator);
+            return;
+        }
+
+        // merged runs never require more scratch space than half the range
+        final T[] scratch = workspace.getObjects(n >>> 1);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n >>> 1) : null;
+
+        final var runBase = workspace.getInts(SortingWorkspace.RUN_BASES, MAX_RUNS);
+        final var runLen = workspace.getInts(SortingWorkspace.RUN_LENGTHS, MAX_RUNS);
+        var stackSize = 0;
+
+        final var minRun = getMinRunLength(n);
+        var lo = fromIndex;
+        var remaining = n;
+        for (; ; ) {
+            // extend short runs to minRun elements
+            if (runLength < minRun) {
+                final var force = Math.min(remaining, minRun);
+                binaryInsertionSort(array, indices, lo, lo + force, lo + runLength, comparator);
+                runLength = force;
+            }
+
+            // push run onto pending run stack and merge while stack invariants
+            // are not satisfied
+            runBase[stackSize] = lo;
+            runLen[stackSize] = runLength;
+            stackSize++;
+            while (stackSize > 1) {
+                var i = stackSize - 2;
+                if (i > 0 && runLen[i - 1] <= runLen[i] + runLen[i + 1]
+                        || i > 1 && runLen[i - 2] <= runLen[i - 1] + runLen[i]) {
+                    if (runLen[i - 1] < runLen[i + 1]) {
+                        i--;
+                    }
+                } else if (runLen[i] > runLen[i + 1]) {
+                    break;
+                }
+                mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices, comparator);
+                stackSize--;
+            }
+
+            lo += runLength;
+            remaining -= runLength;
+            if (remaining == 0) {
+                break;
+            }
+            runLength = countRunAndMakeAscending(array, indices, lo, toIndex, comparator);
+        }
+
+        // merge all remaining runs
+        while (stackSize > 1) {
+            var i = stackSize - 2;
+            if (i > 0 && runLen[i - 1] < runLen[i + 1]) {
+                i--;
+            }
+            mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices, comparator);
+            stackSize--;
+        }
+
+        // do not keep references to sorted objects in reused scratch array
+        Arrays.fill(scratch, 0, n >>> 1, null);
+    }
+
+    /**
+     * Returns length of the run starting at lo. If run is strictly
+     * descending, it is reversed so that it becomes ascending. Runs that are
+     * not strictly descending are never reversed to preserve stability.
+     *
+     * @param array      Array containing the run.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array, or null if no indices are required.
+     * @param lo         Index were run starts (inclusive).
+     * @param hi         Index were range containing the run stops (exclusive).
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Length of the run.
+     */
+    private int countRunAndMakeAscending(final T[] array, final int[] indices, final int lo, final int hi,
+                                         final Comparator<T> comparator) {
+        var runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (comparator.compare(array[runHi++], array[lo]) < 0) {
+            // strictly descending
+            while (runHi < hi && comparator.compare(array[runHi], array[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(array, indices, lo, runHi);
+        } else {
+            // ascending
+            while (runHi < hi && comparator.compare(array[runHi], array[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses provided range.
+     *
+     * @param array   Array containing the range.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were range starts (inclusive).
+     * @param hi      Index were range stops (exclusive).
+     */
+    private void reverseRange(final T[] array, final int[] indices, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            final var value = array[lo];
+            array[lo] = array[hi];
+            array[hi] = value;
+            if (indices != null) {
+                final var index = indices[lo];
+                indices[lo] = indices[hi];
+                indices[hi] = index;
+            }
+            lo++;
+            hi--;
+        }
+    }
+
+    /**
+     * Sorts provided range using binary insertion, assuming that elements
+     * between lo (inclusive) and start (exclusive) are already sorted.
+     * Each element is inserted after any equal element, so that sorting is
+     * stable.
+     *
+     * @param array      Array to be sorted.
+     * @param indices    Array containing indices to be reordered along with
+     *                   provided array, or null if no indices are required.
+     * @param lo         Index were sorting starts (inclusive).
+     * @param hi         Index were sorting stops (exclusive).
+     * @param start      Index of first element not known to be sorted.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     */
+    private void binaryInsertionSort(final T[] array, final int[] indices, final int lo, final int hi, int start,
+                                     final Comparator<T> comparator) {
+        for (; start < hi; start++) {
+            final var pivot = array[start];
+            final var pivotIndex = indices != null ? indices[start] : 0;
+
+            var left = lo;
+            var right = start;
+            while (left < right) {
+                final var mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            final var n = start - left;
+            System.arraycopy(array, left, array, left + 1, n);
+            array[left] = pivot;
+            if (indices != null) {
+                System.arraycopy(indices, left, indices, left + 1, n);
+                indices[left] = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Merges the two consecutive runs at positions i and i + 1 of the
+     * pending run stack.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param runBase        Start positions of pending runs.
+     * @param runLen         Lengths of pending runs.
+     * @param stackSize      Number of pending runs.
+     * @param i              Position in stack of first run to be merged.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     * @param comparator     Determines whether an element is greater or lower
+     *                       than another one.
+     */
+    private void mergeAt(final T[] array, final int[] indices, final int[] runBase, final int[] runLen,
+                         final int stackSize, final int i, final T[] scratch, final int[] scratchIndices,
+                         final Comparator<T> comparator) {
+        var base1 = runBase[i];
+        var len1 = runLen[i];
+        final var base2 = runBase[i + 1];
+        var len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+
+        // elements of first run lower or equal than the first element of
+        // second run are already in place
+        final var k = gallopRight(array[base2], array, base1, len1, comparator);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // elements of second run greater or equal than the last element of
+        // first run are already in place
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2, comparator);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(array, indices, base1, len1, base2, len2, scratch, scratchIndices, comparator);
+        } else {
+            mergeHi(array, indices, base1, len1, base2, len2, scratch, scratchIndices, comparator);
+        }
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are lower
+     * or equal than provided key. The range is searched from its start using
+     * exponentially growing steps followed by a binary search.
+     *
+     * @param key        Value to search for.
+     * @param array      Array containing the sorted range.
+     * @param base       Index were range starts (inclusive).
+     * @param len        Length of range.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Number of elements lower or equal than key.
+     */
+    private int gallopRight(final T key, final T[] array, final int base, final int len,
+                            final Comparator<T> comparator) {
+        var lo = 0;
+        var ofs = 0;
+        while (ofs < len && comparator.compare(array[base + ofs], key) <= 0) {
+            lo = ofs + 1;
+            ofs = ofs >= len >>> 1 ? len : (ofs << 1) + 1;
+        }
+
+        var hi = Math.min(ofs, len);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (comparator.compare(array[base + mid], key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are
+     * strictly lower than provided key. The range is searched from its end
+     * using exponentially growing steps followed by a binary search.
+     *
+     * @param key        Value to search for.
+     * @param array      Array containing the sorted range.
+     * @param base       Index were range starts (inclusive).
+     * @param len        Length of range.
+     * @param comparator Determines whether an element is greater or lower
+     *                   than another one.
+     * @return Number of elements strictly lower than key.
+     */
+    private int gallopLeft(final T key, final T[] array, final int base, final int len,
+                           final Comparator<T> comparator) {
+        var hi = len;
+        var ofs = len - 1;
+        var step = 1;
+        while (ofs >= 0 && comparator.compare(array[base + ofs], key) >= 0) {
+            hi = ofs;
+            ofs -= step;
+            step <<= 1;
+        }
+
+        var lo = Math.max(ofs + 1, 0);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (comparator.compare(array[base + mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Merges two consecutive runs, where the first one is the shortest, by
+     * copying it into the scratch buffer and merging from the start.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     * @param comparator     Determines whether an element is greater or lower
+     *                       than another one.
+     */
+    private void mergeLo(final T[] array, final int[] indices, final int base1, final int len1, final int base2,
+                         final int len2, final T[] scratch, final int[] scratchIndices,
+                         final Comparator<T> comparator) {
+        System.arraycopy(array, base1, scratch, 0, len1);
+        if (indices != null) {
+            System.arraycopy(indices, base1, scratchIndices, 0, len1);
+        }
+
+        var i = 0;
+        var j = base2;
+        var k = base1;
+        final var end2 = base2 + len2;
+        while (i < len1 && j < end2) {
+            // on ties elements of first run are taken first to keep stability
+            if (comparator.compare(array[j], scratch[i]) < 0) {
+                if (indices != null) {
+                    indices[k] = indices[j];
+                }
+                array[k++] = array[j++];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[i];
+                }
+                array[k++] = scratch[i++];
+            }
+        }
+
+        // remaining elements of second run are already in place
+        System.arraycopy(scratch, i, array, k, len1 - i);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, i, indices, k, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two consecutive runs, where the second one is the shortest, by
+     * copying it into the scratch buffer and merging from the end.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     * @param comparator     Determines whether an element is greater or lower
+     *                       than another one.
+     */
+    private void mergeHi(final T[] array, final int[] indices, final int base1, final int len1, final int base2,
+                         final int len2, final T[] scratch, final int[] scratchIndices,
+                         final Comparator<T> comparator) {
+        System.arraycopy(array, base2, scratch, 0, len2);
+        if (indices != null) {
+            System.arraycopy(indices, base2, scratchIndices, 0, len2);
+        }
+
+        var i = base1 + len1 - 1;
+        var j = len2 - 1;
+        var k = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            // on ties elements of second run are taken first (from the end) to
+            // keep stability
+            if (comparator.compare(scratch[j], array[i]) < 0) {
+                if (indices != null) {
+                    indices[k] = indices[i];
+                }
+                array[k--] = array[i--];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[j];
+                }
+                array[k--] = scratch[j--];
+            }
+        }
+
+        // remaining elements of first run are already in place
+        System.arraycopy(scratch, 0, array, k - j, j + 1);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, 0, indices, k - j, j + 1);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices, if any. Equal elements keep their relative order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array, or null if no indices are required.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and pending run stack.
+     */
+    void timsort(final double[] array, final int[] indices, final int fromIndex, final int toIndex,
+                 final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        var runLength = countRunAndMakeAscending(array, indices, fromIndex, toIndex);
+        if (runLength == n) {
+            // range was already sorted (or reversed)
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(array, indices, fromIndex, toIndex, fromIndex + runLength);
+            return;
+        }
+
+        // merged runs never require more scratch space than half the range
+        final var scratch = workspace.getDoubles(n >>> 1);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n >>> 1) : null;
+
+        final var runBase = workspace.getInts(SortingWorkspace.RUN_BASES, MAX_RUNS);
+        final var runLen = workspace.getInts(SortingWorkspace.RUN_LENGTHS, MAX_RUNS);
+        var stackSize = 0;
+
+        final var minRun = getMinRunLength(n);
+        var lo = fromIndex;
+        var remaining = n;
+        for (; ; ) {
+            // extend short runs to minRun elements
+            if (runLength < minRun) {
+                final var force = Math.min(remaining, minRun);
+                binaryInsertionSort(array, indices, lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+
+            // push run onto pending run stack and merge while stack invariants
+            // are not satisfied
+            runBase[stackSize] = lo;
+            runLen[stackSize] = runLength;
+            stackSize++;
+            while (stackSize > 1) {
+                var i = stackSize - 2;
+                if (i > 0 && runLen[i - 1] <= runLen[i] + runLen[i + 1]
+                        || i > 1 && runLen[i - 2] <= runLen[i - 1] + runLen[i]) {
+                    if (runLen[i - 1] < runLen[i + 1]) {
+                        i--;
+                    }
+                } else if (runLen[i] > runLen[i + 1]) {
+                    break;
+                }
+                mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+                stackSize--;
+            }
+
+            lo += runLength;
+            remaining -= runLength;
+            if (remaining == 0) {
+                break;
+            }
+            runLength = countRunAndMakeAscending(array, indices, lo, toIndex);
+        }
+
+        // merge all remaining runs
+        while (stackSize > 1) {
+            var i = stackSize - 2;
+            if (i > 0 && runLen[i - 1] < runLen[i + 1]) {
+                i--;
+            }
+            mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+            stackSize--;
+        }
+    }
+
+    /**
+     * Returns length of the run starting at lo. If run is strictly
+     * descending, it is reversed so that it becomes ascending. Runs that are
+     * not strictly descending are never reversed to preserve stability.
+     *
+     * @param array   Array containing the run.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were run starts (inclusive).
+     * @param hi      Index were range containing the run stops (exclusive).
+     * @return Length of the run.
+     */
+    private static int countRunAndMakeAscending(final double[] array, final int[] indices, final int lo, final int hi) {
+        var runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (array[runHi++] < array[lo]) {
+            // strictly descending
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(array, indices, lo, runHi);
+        } else {
+            // ascending
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses provided range.
+     *
+     * @param array   Array containing the range.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were range starts (inclusive).
+     * @param hi      Index were range stops (exclusive).
+     */
+    private static void reverseRange(final double[] array, final int[] indices, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            final var value = array[lo];
+            array[lo] = array[hi];
+            array[hi] = value;
+            if (indices != null) {
+                final var index = indices[lo];
+                indices[lo] = indices[hi];
+                indices[hi] = index;
+            }
+            lo++;
+            hi--;
+        }
+    }
+
+    /**
+     * Sorts provided range using binary insertion, assuming that elements
+     * between lo (inclusive) and start (exclusive) are already sorted.
+     * Each element is inserted after any equal element, so that sorting is
+     * stable.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were sorting starts (inclusive).
+     * @param hi      Index were sorting stops (exclusive).
+     * @param start   Index of first element not known to be sorted.
+     */
+    private static void binaryInsertionSort(final double[] array, final int[] indices, final int lo, final int hi,
+                                            int start) {
+        for (; start < hi; start++) {
+            final var pivot = array[start];
+            final var pivotIndex = indices != null ? indices[start] : 0;
+
+            var left = lo;
+            var right = start;
+            while (left < right) {
+                final var mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            final var n = start - left;
+            System.arraycopy(array, left, array, left + 1, n);
+            array[left] = pivot;
+            if (indices != null) {
+                System.arraycopy(indices, left, indices, left + 1, n);
+                indices[left] = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Merges the two consecutive runs at positions i and i + 1 of the
+     * pending run stack.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param runBase        Start positions of pending runs.
+     * @param runLen         Lengths of pending runs.
+     * @param stackSize      Number of pending runs.
+     * @param i              Position in stack of first run to be merged.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeAt(final double[] array, final int[] indices, final int[] runBase, final int[] runLen,
+                                final int stackSize, final int i, final double[] scratch, final int[] scratchIndices) {
+        var base1 = runBase[i];
+        var len1 = runLen[i];
+        final var base2 = runBase[i + 1];
+        var len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+
+        // elements of first run lower or equal than the first element of
+        // second run are already in place
+        final var k = gallopRight(array[base2], array, base1, len1);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // elements of second run greater or equal than the last element of
+        // first run are already in place
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        } else {
+            mergeHi(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are lower
+     * or equal than provided key. The range is searched from its start using
+     * exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements lower or equal than key.
+     */
+    private static int gallopRight(final double key, final double[] array, final int base, final int len) {
+        var lo = 0;
+        var ofs = 0;
+        while (ofs < len && array[base + ofs] <= key) {
+            lo = ofs + 1;
+            ofs = ofs >= len >>> 1 ? len : (ofs << 1) + 1;
+        }
+
+        var hi = Math.min(ofs, len);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are
+     * strictly lower than provided key. The range is searched from its end
+     * using exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements strictly lower than key.
+     */
+    private static int gallopLeft(final double key, final double[] array, final int base, final int len) {
+        var hi = len;
+        var ofs = len - 1;
+        var step = 1;
+        while (ofs >= 0 && array[base + ofs] >= key) {
+            hi = ofs;
+            ofs -= step;
+            step <<= 1;
+        }
+
+        var lo = Math.max(ofs + 1, 0);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Merges two consecutive runs, where the first one is the shortest, by
+     * copying it into the scratch buffer and merging from the start.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeLo(final double[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final double[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base1, scratch, 0, len1);
+        if (indices != null) {
+            System.arraycopy(indices, base1, scratchIndices, 0, len1);
+        }
+
+        var i = 0;
+        var j = base2;
+        var k = base1;
+        final var end2 = base2 + len2;
+        while (i < len1 && j < end2) {
+            // on ties elements of first run are taken first to keep stability
+            if (array[j] < scratch[i]) {
+                if (indices != null) {
+                    indices[k] = indices[j];
+                }
+                array[k++] = array[j++];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[i];
+                }
+                array[k++] = scratch[i++];
+            }
+        }
+
+        // remaining elements of second run are already in place
+        System.arraycopy(scratch, i, array, k, len1 - i);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, i, indices, k, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two consecutive runs, where the second one is the shortest, by
+     * copying it into the scratch buffer and merging from the end.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeHi(final double[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final double[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base2, scratch, 0, len2);
+        if (indices != null) {
+            System.arraycopy(indices, base2, scratchIndices, 0, len2);
+        }
+
+        var i = base1 + len1 - 1;
+        var j = len2 - 1;
+        var k = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            // on ties elements of second run are taken first (from the end) to
+            // keep stability
+            if (scratch[j] < array[i]) {
+                if (indices != null) {
+                    indices[k] = indices[i];
+                }
+                array[k--] = array[i--];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[j];
+                }
+                array[k--] = scratch[j--];
+            }
+        }
+
+        // remaining elements of first run are already in place
+        System.arraycopy(scratch, 0, array, k - j, j + 1);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, 0, indices, k - j, j + 1);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices, if any. Equal elements keep their relative order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array, or null if no indices are required.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and pending run stack.
+     */
+    void timsort(final float[] array, final int[] indices, final int fromIndex, final int toIndex,
+                 final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        var runLength = countRunAndMakeAscending(array, indices, fromIndex, toIndex);
+        if (runLength == n) {
+            // range was already sorted (or reversed)
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(array, indices, fromIndex, toIndex, fromIndex + runLength);
+            return;
+        }
+
+        // merged runs never require more scratch space than half the range
+        final var scratch = workspace.getFloats(n >>> 1);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n >>> 1) : null;
+
+        final var runBase = workspace.getInts(SortingWorkspace.RUN_BASES, MAX_RUNS);
+        final var runLen = workspace.getInts(SortingWorkspace.RUN_LENGTHS, MAX_RUNS);
+        var stackSize = 0;
+
+        final var minRun = getMinRunLength(n);
+        var lo = fromIndex;
+        var remaining = n;
+        for (; ; ) {
+            // extend short runs to minRun elements
+            if (runLength < minRun) {
+                final var force = Math.min(remaining, minRun);
+                binaryInsertionSort(array, indices, lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+
+            // push run onto pending run stack and merge while stack invariants
+            // are not satisfied
+            runBase[stackSize] = lo;
+            runLen[stackSize] = runLength;
+            stackSize++;
+            while (stackSize > 1) {
+                var i = stackSize - 2;
+                if (i > 0 && runLen[i - 1] <= runLen[i] + runLen[i + 1]
+                        || i > 1 && runLen[i - 2] <= runLen[i - 1] + runLen[i]) {
+                    if (runLen[i - 1] < runLen[i + 1]) {
+                        i--;
+                    }
+                } else if (runLen[i] > runLen[i + 1]) {
+                    break;
+                }
+                mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+                stackSize--;
+            }
+
+            lo += runLength;
+            remaining -= runLength;
+            if (remaining == 0) {
+                break;
+            }
+            runLength = countRunAndMakeAscending(array, indices, lo, toIndex);
+        }
+
+        // merge all remaining runs
+        while (stackSize > 1) {
+            var i = stackSize - 2;
+            if (i > 0 && runLen[i - 1] < runLen[i + 1]) {
+                i--;
+            }
+            mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+            stackSize--;
+        }
+    }
+
+    /**
+     * Returns length of the run starting at lo. If run is strictly
+     * descending, it is reversed so that it becomes ascending. Runs that are
+     * not strictly descending are never reversed to preserve stability.
+     *
+     * @param array   Array containing the run.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were run starts (inclusive).
+     * @param hi      Index were range containing the run stops (exclusive).
+     * @return Length of the run.
+     */
+    private static int countRunAndMakeAscending(final float[] array, final int[] indices, final int lo, final int hi) {
+        var runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (array[runHi++] < array[lo]) {
+            // strictly descending
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(array, indices, lo, runHi);
+        } else {
+            // ascending
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses provided range.
+     *
+     * @param array   Array containing the range.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were range starts (inclusive).
+     * @param hi      Index were range stops (exclusive).
+     */
+    private static void reverseRange(final float[] array, final int[] indices, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            final var value = array[lo];
+            array[lo] = array[hi];
+            array[hi] = value;
+            if (indices != null) {
+                final var index = indices[lo];
+                indices[lo] = indices[hi];
+                indices[hi] = index;
+            }
+            lo++;
+            hi--;
+        }
+    }
+
+    /**
+     * Sorts provided range using binary insertion, assuming that elements
+     * between lo (inclusive) and start (exclusive) are already sorted.
+     * Each element is inserted after any equal element, so that sorting is
+     * stable.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were sorting starts (inclusive).
+     * @param hi      Index were sorting stops (exclusive).
+     * @param start   Index of first element not known to be sorted.
+     */
+    private static void binaryInsertionSort(final float[] array, final int[] indices, final int lo, final int hi,
+                                            int start) {
+        for (; start < hi; start++) {
+            final var pivot = array[start];
+            final var pivotIndex = indices != null ? indices[start] : 0;
+
+            var left = lo;
+            var right = start;
+            while (left < right) {
+                final var mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            final var n = start - left;
+            System.arraycopy(array, left, array, left + 1, n);
+            array[left] = pivot;
+            if (indices != null) {
+                System.arraycopy(indices, left, indices, left + 1, n);
+                indices[left] = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Merges the two consecutive runs at positions i and i + 1 of the
+     * pending run stack.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param runBase        Start positions of pending runs.
+     * @param runLen         Lengths of pending runs.
+     * @param stackSize      Number of pending runs.
+     * @param i              Position in stack of first run to be merged.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeAt(final float[] array, final int[] indices, final int[] runBase, final int[] runLen,
+                                final int stackSize, final int i, final float[] scratch, final int[] scratchIndices) {
+        var base1 = runBase[i];
+        var len1 = runLen[i];
+        final var base2 = runBase[i + 1];
+        var len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+
+        // elements of first run lower or equal than the first element of
+        // second run are already in place
+        final var k = gallopRight(array[base2], array, base1, len1);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // elements of second run greater or equal than the last element of
+        // first run are already in place
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        } else {
+            mergeHi(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are lower
+     * or equal than provided key. The range is searched from its start using
+     * exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements lower or equal than key.
+     */
+    private static int gallopRight(final float key, final float[] array, final int base, final int len) {
+        var lo = 0;
+        var ofs = 0;
+        while (ofs < len && array[base + ofs] <= key) {
+            lo = ofs + 1;
+            ofs = ofs >= len >>> 1 ? len : (ofs << 1) + 1;
+        }
+
+        var hi = Math.min(ofs, len);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are
+     * strictly lower than provided key. The range is searched from its end
+     * using exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements strictly lower than key.
+     */
+    private static int gallopLeft(final float key, final float[] array, final int base, final int len) {
+        var hi = len;
+        var ofs = len - 1;
+        var step = 1;
+        while (ofs >= 0 && array[base + ofs] >= key) {
+            hi = ofs;
+            ofs -= step;
+            step <<= 1;
+        }
+
+        var lo = Math.max(ofs + 1, 0);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Merges two consecutive runs, where the first one is the shortest, by
+     * copying it into the scratch buffer and merging from the start.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeLo(final float[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final float[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base1, scratch, 0, len1);
+        if (indices != null) {
+            System.arraycopy(indices, base1, scratchIndices, 0, len1);
+        }
+
+        var i = 0;
+        var j = base2;
+        var k = base1;
+        final var end2 = base2 + len2;
+        while (i < len1 && j < end2) {
+            // on ties elements of first run are taken first to keep stability
+            if (array[j] < scratch[i]) {
+                if (indices != null) {
+                    indices[k] = indices[j];
+                }
+                array[k++] = array[j++];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[i];
+                }
+                array[k++] = scratch[i++];
+            }
+        }
+
+        // remaining elements of second run are already in place
+        System.arraycopy(scratch, i, array, k, len1 - i);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, i, indices, k, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two consecutive runs, where the second one is the shortest, by
+     * copying it into the scratch buffer and merging from the end.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeHi(final float[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final float[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base2, scratch, 0, len2);
+        if (indices != null) {
+            System.arraycopy(indices, base2, scratchIndices, 0, len2);
+        }
+
+        var i = base1 + len1 - 1;
+        var j = len2 - 1;
+        var k = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            // on ties elements of second run are taken first (from the end) to
+            // keep stability
+            if (scratch[j] < array[i]) {
+                if (indices != null) {
+                    indices[k] = indices[i];
+                }
+                array[k--] = array[i--];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[j];
+                }
+                array[k--] = scratch[j--];
+            }
+        }
+
+        // remaining elements of first run are already in place
+        System.arraycopy(scratch, 0, array, k - j, j + 1);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, 0, indices, k - j, j + 1);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices, if any. Equal elements keep their relative order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array, or null if no indices are required.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and pending run stack.
+     */
+    void timsort(final int[] array, final int[] indices, final int fromIndex, final int toIndex,
+                 final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        var runLength = countRunAndMakeAscending(array, indices, fromIndex, toIndex);
+        if (runLength == n) {
+            // range was already sorted (or reversed)
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(array, indices, fromIndex, toIndex, fromIndex + runLength);
+            return;
+        }
+
+        // merged runs never require more scratch space than half the range
+        final var scratch = workspace.getInts(SortingWorkspace.INTS, n >>> 1);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n >>> 1) : null;
+
+        final var runBase = workspace.getInts(SortingWorkspace.RUN_BASES, MAX_RUNS);
+        final var runLen = workspace.getInts(SortingWorkspace.RUN_LENGTHS, MAX_RUNS);
+        var stackSize = 0;
+
+        final var minRun = getMinRunLength(n);
+        var lo = fromIndex;
+        var remaining = n;
+        for (; ; ) {
+            // extend short runs to minRun elements
+            if (runLength < minRun) {
+                final var force = Math.min(remaining, minRun);
+                binaryInsertionSort(array, indices, lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+
+            // push run onto pending run stack and merge while stack invariants
+            // are not satisfied
+            runBase[stackSize] = lo;
+            runLen[stackSize] = runLength;
+            stackSize++;
+            while (stackSize > 1) {
+                var i = stackSize - 2;
+                if (i > 0 && runLen[i - 1] <= runLen[i] + runLen[i + 1]
+                        || i > 1 && runLen[i - 2] <= runLen[i - 1] + runLen[i]) {
+                    if (runLen[i - 1] < runLen[i + 1]) {
+                        i--;
+                    }
+                } else if (runLen[i] > runLen[i + 1]) {
+                    break;
+                }
+                mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+                stackSize--;
+            }
+
+            lo += runLength;
+            remaining -= runLength;
+            if (remaining == 0) {
+                break;
+            }
+            runLength = countRunAndMakeAscending(array, indices, lo, toIndex);
+        }
+
+        // merge all remaining runs
+        while (stackSize > 1) {
+            var i = stackSize - 2;
+            if (i > 0 && runLen[i - 1] < runLen[i + 1]) {
+                i--;
+            }
+            mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+            stackSize--;
+        }
+    }
+
+    /**
+     * Returns length of the run starting at lo. If run is strictly
+     * descending, it is reversed so that it becomes ascending. Runs that are
+     * not strictly descending are never reversed to preserve stability.
+     *
+     * @param array   Array containing the run.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were run starts (inclusive).
+     * @param hi      Index were range containing the run stops (exclusive).
+     * @return Length of the run.
+     */
+    private static int countRunAndMakeAscending(final int[] array, final int[] indices, final int lo, final int hi) {
+        var runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (array[runHi++] < array[lo]) {
+            // strictly descending
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(array, indices, lo, runHi);
+        } else {
+            // ascending
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses provided range.
+     *
+     * @param array   Array containing the range.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were range starts (inclusive).
+     * @param hi      Index were range stops (exclusive).
+     */
+    private static void reverseRange(final int[] array, final int[] indices, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            final var value = array[lo];
+            array[lo] = array[hi];
+            array[hi] = value;
+            if (indices != null) {
+                final var index = indices[lo];
+                indices[lo] = indices[hi];
+                indices[hi] = index;
+            }
+            lo++;
+            hi--;
+        }
+    }
+
+    /**
+     * Sorts provided range using binary insertion, assuming that elements
+     * between lo (inclusive) and start (exclusive) are already sorted.
+     * Each element is inserted after any equal element, so that sorting is
+     * stable.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were sorting starts (inclusive).
+     * @param hi      Index were sorting stops (exclusive).
+     * @param start   Index of first element not known to be sorted.
+     */
+    private static void binaryInsertionSort(final int[] array, final int[] indices, final int lo, final int hi,
+                                            int start) {
+        for (; start < hi; start++) {
+            final var pivot = array[start];
+            final var pivotIndex = indices != null ? indices[start] : 0;
+
+            var left = lo;
+            var right = start;
+            while (left < right) {
+                final var mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            final var n = start - left;
+            System.arraycopy(array, left, array, left + 1, n);
+            array[left] = pivot;
+            if (indices != null) {
+                System.arraycopy(indices, left, indices, left + 1, n);
+                indices[left] = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Merges the two consecutive runs at positions i and i + 1 of the
+     * pending run stack.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param runBase        Start positions of pending runs.
+     * @param runLen         Lengths of pending runs.
+     * @param stackSize      Number of pending runs.
+     * @param i              Position in stack of first run to be merged.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeAt(final int[] array, final int[] indices, final int[] runBase, final int[] runLen,
+                                final int stackSize, final int i, final int[] scratch, final int[] scratchIndices) {
+        var base1 = runBase[i];
+        var len1 = runLen[i];
+        final var base2 = runBase[i + 1];
+        var len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+
+        // elements of first run lower or equal than the first element of
+        // second run are already in place
+        final var k = gallopRight(array[base2], array, base1, len1);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // elements of second run greater or equal than the last element of
+        // first run are already in place
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        } else {
+            mergeHi(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are lower
+     * or equal than provided key. The range is searched from its start using
+     * exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements lower or equal than key.
+     */
+    private static int gallopRight(final int key, final int[] array, final int base, final int len) {
+        var lo = 0;
+        var ofs = 0;
+        while (ofs < len && array[base + ofs] <= key) {
+            lo = ofs + 1;
+            ofs = ofs >= len >>> 1 ? len : (ofs << 1) + 1;
+        }
+
+        var hi = Math.min(ofs, len);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are
+     * strictly lower than provided key. The range is searched from its end
+     * using exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements strictly lower than key.
+     */
+    private static int gallopLeft(final int key, final int[] array, final int base, final int len) {
+        var hi = len;
+        var ofs = len - 1;
+        var step = 1;
+        while (ofs >= 0 && array[base + ofs] >= key) {
+            hi = ofs;
+            ofs -= step;
+            step <<= 1;
+        }
+
+        var lo = Math.max(ofs + 1, 0);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Merges two consecutive runs, where the first one is the shortest, by
+     * copying it into the scratch buffer and merging from the start.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeLo(final int[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final int[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base1, scratch, 0, len1);
+        if (indices != null) {
+            System.arraycopy(indices, base1, scratchIndices, 0, len1);
+        }
+
+        var i = 0;
+        var j = base2;
+        var k = base1;
+        final var end2 = base2 + len2;
+        while (i < len1 && j < end2) {
+            // on ties elements of first run are taken first to keep stability
+            if (array[j] < scratch[i]) {
+                if (indices != null) {
+                    indices[k] = indices[j];
+                }
+                array[k++] = array[j++];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[i];
+                }
+                array[k++] = scratch[i++];
+            }
+        }
+
+        // remaining elements of second run are already in place
+        System.arraycopy(scratch, i, array, k, len1 - i);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, i, indices, k, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two consecutive runs, where the second one is the shortest, by
+     * copying it into the scratch buffer and merging from the end.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeHi(final int[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final int[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base2, scratch, 0, len2);
+        if (indices != null) {
+            System.arraycopy(indices, base2, scratchIndices, 0, len2);
+        }
+
+        var i = base1 + len1 - 1;
+        var j = len2 - 1;
+        var k = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            // on ties elements of second run are taken first (from the end) to
+            // keep stability
+            if (scratch[j] < array[i]) {
+                if (indices != null) {
+                    indices[k] = indices[i];
+                }
+                array[k--] = array[i--];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[j];
+                }
+                array[k--] = scratch[j--];
+            }
+        }
+
+        // remaining elements of first run are already in place
+        System.arraycopy(scratch, 0, array, k - j, j + 1);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, 0, indices, k - j, j + 1);
+        }
+    }
+
+    /**
+     * Sorts provided array between fromIndex (inclusive) and toIndex
+     * (exclusive) in ascending order, applying the same reordering to
+     * provided indices, if any. Equal elements keep their relative order.
+     * This method does not check provided range.
+     *
+     * @param array     Array to be sorted.
+     * @param indices   Array containing indices to be reordered along with
+     *                  provided array, or null if no indices are required.
+     * @param fromIndex Index were sorting starts (inclusive).
+     * @param toIndex   Index were sorting stops (exclusive).
+     * @param workspace Workspace providing scratch arrays and pending run stack.
+     */
+    void timsort(final long[] array, final int[] indices, final int fromIndex, final int toIndex,
+                 final SortingWorkspace workspace) {
+        final var n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+
+        var runLength = countRunAndMakeAscending(array, indices, fromIndex, toIndex);
+        if (runLength == n) {
+            // range was already sorted (or reversed)
+            return;
+        }
+        if (n < MIN_MERGE) {
+            binaryInsertionSort(array, indices, fromIndex, toIndex, fromIndex + runLength);
+            return;
+        }
+
+        // merged runs never require more scratch space than half the range
+        final var scratch = workspace.getLongs(n >>> 1);
+        final var scratchIndices = indices != null ? workspace.getInts(SortingWorkspace.INDICES, n >>> 1) : null;
+
+        final var runBase = workspace.getInts(SortingWorkspace.RUN_BASES, MAX_RUNS);
+        final var runLen = workspace.getInts(SortingWorkspace.RUN_LENGTHS, MAX_RUNS);
+        var stackSize = 0;
+
+        final var minRun = getMinRunLength(n);
+        var lo = fromIndex;
+        var remaining = n;
+        for (; ; ) {
+            // extend short runs to minRun elements
+            if (runLength < minRun) {
+                final var force = Math.min(remaining, minRun);
+                binaryInsertionSort(array, indices, lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+
+            // push run onto pending run stack and merge while stack invariants
+            // are not satisfied
+            runBase[stackSize] = lo;
+            runLen[stackSize] = runLength;
+            stackSize++;
+            while (stackSize > 1) {
+                var i = stackSize - 2;
+                if (i > 0 && runLen[i - 1] <= runLen[i] + runLen[i + 1]
+                        || i > 1 && runLen[i - 2] <= runLen[i - 1] + runLen[i]) {
+                    if (runLen[i - 1] < runLen[i + 1]) {
+                        i--;
+                    }
+                } else if (runLen[i] > runLen[i + 1]) {
+                    break;
+                }
+                mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+                stackSize--;
+            }
+
+            lo += runLength;
+            remaining -= runLength;
+            if (remaining == 0) {
+                break;
+            }
+            runLength = countRunAndMakeAscending(array, indices, lo, toIndex);
+        }
+
+        // merge all remaining runs
+        while (stackSize > 1) {
+            var i = stackSize - 2;
+            if (i > 0 && runLen[i - 1] < runLen[i + 1]) {
+                i--;
+            }
+            mergeAt(array, indices, runBase, runLen, stackSize, i, scratch, scratchIndices);
+            stackSize--;
+        }
+    }
+
+    /**
+     * Returns length of the run starting at lo. If run is strictly
+     * descending, it is reversed so that it becomes ascending. Runs that are
+     * not strictly descending are never reversed to preserve stability.
+     *
+     * @param array   Array containing the run.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were run starts (inclusive).
+     * @param hi      Index were range containing the run stops (exclusive).
+     * @return Length of the run.
+     */
+    private static int countRunAndMakeAscending(final long[] array, final int[] indices, final int lo, final int hi) {
+        var runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (array[runHi++] < array[lo]) {
+            // strictly descending
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(array, indices, lo, runHi);
+        } else {
+            // ascending
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses provided range.
+     *
+     * @param array   Array containing the range.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were range starts (inclusive).
+     * @param hi      Index were range stops (exclusive).
+     */
+    private static void reverseRange(final long[] array, final int[] indices, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            final var value = array[lo];
+            array[lo] = array[hi];
+            array[hi] = value;
+            if (indices != null) {
+                final var index = indices[lo];
+                indices[lo] = indices[hi];
+                indices[hi] = index;
+            }
+            lo++;
+            hi--;
+        }
+    }
+
+    /**
+     * Sorts provided range using binary insertion, assuming that elements
+     * between lo (inclusive) and start (exclusive) are already sorted.
+     * Each element is inserted after any equal element, so that sorting is
+     * stable.
+     *
+     * @param array   Array to be sorted.
+     * @param indices Array containing indices to be reordered along with
+     *                provided array, or null if no indices are required.
+     * @param lo      Index were sorting starts (inclusive).
+     * @param hi      Index were sorting stops (exclusive).
+     * @param start   Index of first element not known to be sorted.
+     */
+    private static void binaryInsertionSort(final long[] array, final int[] indices, final int lo, final int hi,
+                                            int start) {
+        for (; start < hi; start++) {
+            final var pivot = array[start];
+            final var pivotIndex = indices != null ? indices[start] : 0;
+
+            var left = lo;
+            var right = start;
+            while (left < right) {
+                final var mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            final var n = start - left;
+            System.arraycopy(array, left, array, left + 1, n);
+            array[left] = pivot;
+            if (indices != null) {
+                System.arraycopy(indices, left, indices, left + 1, n);
+                indices[left] = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Merges the two consecutive runs at positions i and i + 1 of the
+     * pending run stack.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param runBase        Start positions of pending runs.
+     * @param runLen         Lengths of pending runs.
+     * @param stackSize      Number of pending runs.
+     * @param i              Position in stack of first run to be merged.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeAt(final long[] array, final int[] indices, final int[] runBase, final int[] runLen,
+                                final int stackSize, final int i, final long[] scratch, final int[] scratchIndices) {
+        var base1 = runBase[i];
+        var len1 = runLen[i];
+        final var base2 = runBase[i + 1];
+        var len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+
+        // elements of first run lower or equal than the first element of
+        // second run are already in place
+        final var k = gallopRight(array[base2], array, base1, len1);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // elements of second run greater or equal than the last element of
+        // first run are already in place
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2);
+        if (len2 == 0) {
+            return;
+        }
+
+        if (len1 <= len2) {
+            mergeLo(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        } else {
+            mergeHi(array, indices, base1, len1, base2, len2, scratch, scratchIndices);
+        }
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are lower
+     * or equal than provided key. The range is searched from its start using
+     * exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements lower or equal than key.
+     */
+    private static int gallopRight(final long key, final long[] array, final int base, final int len) {
+        var lo = 0;
+        var ofs = 0;
+        while (ofs < len && array[base + ofs] <= key) {
+            lo = ofs + 1;
+            ofs = ofs >= len >>> 1 ? len : (ofs << 1) + 1;
+        }
+
+        var hi = Math.min(ofs, len);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the number of elements in provided sorted range that are
+     * strictly lower than provided key. The range is searched from its end
+     * using exponentially growing steps followed by a binary search.
+     *
+     * @param key   Value to search for.
+     * @param array Array containing the sorted range.
+     * @param base  Index were range starts (inclusive).
+     * @param len   Length of range.
+     * @return Number of elements strictly lower than key.
+     */
+    private static int gallopLeft(final long key, final long[] array, final int base, final int len) {
+        var hi = len;
+        var ofs = len - 1;
+        var step = 1;
+        while (ofs >= 0 && array[base + ofs] >= key) {
+            hi = ofs;
+            ofs -= step;
+            step <<= 1;
+        }
+
+        var lo = Math.max(ofs + 1, 0);
+        while (lo < hi) {
+            final var mid = (lo + hi) >>> 1;
+            if (array[base + mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Merges two consecutive runs, where the first one is the shortest, by
+     * copying it into the scratch buffer and merging from the start.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeLo(final long[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final long[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base1, scratch, 0, len1);
+        if (indices != null) {
+            System.arraycopy(indices, base1, scratchIndices, 0, len1);
+        }
+
+        var i = 0;
+        var j = base2;
+        var k = base1;
+        final var end2 = base2 + len2;
+        while (i < len1 && j < end2) {
+            // on ties elements of first run are taken first to keep stability
+            if (array[j] < scratch[i]) {
+                if (indices != null) {
+                    indices[k] = indices[j];
+                }
+                array[k++] = array[j++];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[i];
+                }
+                array[k++] = scratch[i++];
+            }
+        }
+
+        // remaining elements of second run are already in place
+        System.arraycopy(scratch, i, array, k, len1 - i);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, i, indices, k, len1 - i);
+        }
+    }
+
+    /**
+     * Merges two consecutive runs, where the second one is the shortest, by
+     * copying it into the scratch buffer and merging from the end.
+     *
+     * @param array          Array being sorted.
+     * @param indices        Array containing indices to be reordered along with
+     *                       provided array, or null if no indices are required.
+     * @param base1          Start of first run.
+     * @param len1           Length of first run.
+     * @param base2          Start of second run.
+     * @param len2           Length of second run.
+     * @param scratch        Scratch buffer for values.
+     * @param scratchIndices Scratch buffer for indices, or null if no indices
+     *                       are required.
+     */
+    private static void mergeHi(final long[] array, final int[] indices, final int base1, final int len1,
+                                final int base2, final int len2, final long[] scratch, final int[] scratchIndices) {
+        System.arraycopy(array, base2, scratch, 0, len2);
+        if (indices != null) {
+            System.arraycopy(indices, base2, scratchIndices, 0, len2);
+        }
+
+        var i = base1 + len1 - 1;
+        var j = len2 - 1;
+        var k = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            // on ties elements of second run are taken first (from the end) to
+            // keep stability
+            if (scratch[j] < array[i]) {
+                if (indices != null) {
+                    indices[k] = indices[i];
+                }
+                array[k--] = array[i--];
+            } else {
+                if (indices != null) {
+                    indices[k] = scratchIndices[j];
+                }
+                array[k--] = scratch[j--];
+            }
+        }
+
+        // remaining elements of first run are already in place
+        System.arraycopy(scratch, 0, array, k - j, j + 1);
+        if (indices != null) {
+            System.arraycopy(scratchIndices, 0, indices, k - j, j + 1);
+        }
+    }
+
+    /**
+     * Returns minimum length of runs for a range of provided length. Runs
+     * shorter than this are extended using binary insertion, so that the
+     * number of runs is equal to, or slightly less than, a power of two, and
+     * merges are balanced.
+     *
+     * @param n number of elements to be sorted.
+     * @return minimum length of runs.
+     */
+    private static int getMinRunLength(int n) {
+        var r = 0;
+        while (n >= MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Keeps the k smallest instances of type T, according to a comparator, among
+ * all instances added to it, using O(k) memory regardless of how many
+ * instances are added. The k largest instances are kept by providing a
+ * reversed comparator.
+ * Instances are kept in a bounded binary heap whose root is the worst kept
+ * instance, so that each added instance is either discarded after a single
+ * comparison or replaces the root and is sifted down, taking O(n log k) time
+ * for n added instances. This is much cheaper than buffering all instances
+ * and sorting them when n is large or unbounded, such as for event streams.
+ * Instances of this class are not thread-safe. Elements can be accumulated
+ * concurrently by using one instance per thread and merging them afterward.
+ *
+ * @param <T> Type of instances being kept.
+ */
+public class TopK<T> {
+
+    /**
+     * Number of instances to be kept.
+     */
+    private final int k;
+
+    /**
+     * Determines whether an instance is greater or lower than another one.
+     */
+    private final Comparator<T> comparator;
+
+    /**
+     * Heap of kept instances. Positions are arranged as a heap, whose root is
+     * the greatest kept instance, once k instances are kept.
+     */
+    private final T[] heap;
+
+    /**
+     * Number of kept instances.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param k          number of instances to be kept.
+     * @param comparator determines whether an instance is greater or lower
+     *                   than another one.
+     * @throws IllegalArgumentException if k is not positive or comparator is
+     *                                  null.
+     */
+    @SuppressWarnings("unchecked")
+    public TopK(final int k, final Comparator<T> comparator) {
+        if (k <= 0 || comparator == null) {
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.comparator = comparator;
+        heap = (T[]) new Object[k];
+    }
+
+    /**
+     * Gets number of instances to be kept.
+     *
+     * @return number of instances to be kept.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Gets comparator determining whether an instance is greater or lower
+     * than another one.
+     *
+     * @return comparator.
+     */
+    public Comparator<T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Gets number of instances currently kept, which is the minimum between k
+     * and the number of instances added so far.
+     *
+     * @return number of instances currently kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an instance.
+     *
+     * @param value instance to be added.
+     */
+    public void add(final T value) {
+        if (size < k) {
+            heap[size++] = value;
+            if (size == k) {
+                heapify(heap, k);
+            }
+        } else if (comparator.compare(value, heap[0]) < 0) {
+            heap[0] = value;
+            HeapsortSorter.siftDown(heap, 0, k - 1, comparator, 0);
+        }
+    }
+
+    /**
+     * Adds all instances of provided array.
+     *
+     * @param values instances to be added.
+     */
+    public void addAll(final T[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Adds instances of provided array between fromIndex (inclusive) and
+     * toIndex (exclusive).
+     *
+     * @param values    instances to be added.
+     * @param fromIndex index were instances start (inclusive).
+     * @param toIndex   index were instances stop (exclusive).
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}.
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                        {@code toIndex > values.length}.
+     */
+    public void addAll(final T[] values, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex < 0 || toIndex > values.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds all remaining instances of provided iterator, consuming it.
+     *
+     * @param values iterator of instances to be added.
+     */
+    public void addAll(final Iterator<? extends T> values) {
+        while (values.hasNext()) {
+            add(values.next());
+        }
+    }
+
+    /**
+     * Adds instances kept by another instance, so that this instance keeps
+     * the best k instances among the ones added to both.
+     *
+     * @param other instance whose kept instances are added. It is not
+     *              modified.
+     * @throws IllegalArgumentException if other instance is null.
+     */
+    public void merge(final TopK<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var otherSize = other.size;
+        final var otherHeap = other == this ? Arrays.copyOf(heap, size) : other.heap;
+        for (int i = 0; i < otherSize; i++) {
+            add(otherHeap[i]);
+        }
+    }
+
+    /**
+     * Removes all kept instances.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns kept instances sorted in ascending order according to the
+     * comparator, hence from best to worst.
+     *
+     * @return new list containing kept instances.
+     */
+    public List<T> toSortedList() {
+        final var sorted = Arrays.copyOf(heap, size);
+        if (size < k) {
+            heapify(sorted, size);
+        }
+
+        // extract the root of the heap until it is sorted in ascending order
+        for (int i = size - 1; i > 0; i--) {
+            final var root = sorted[0];
+            sorted[0] = sorted[i];
+            sorted[i] = root;
+            HeapsortSorter.siftDown(sorted, 0, i - 1, comparator, 0);
+        }
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    /**
+     * Arranges the first n positions of provided array as a heap whose root
+     * is its greatest instance.
+     *
+     * @param array array to be arranged.
+     * @param n     number of positions to be arranged.
+     */
+    private void heapify(final T[] array, final int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            HeapsortSorter.siftDown(array, i, n - 1, comparator, 0);
+        }
+    }
+}
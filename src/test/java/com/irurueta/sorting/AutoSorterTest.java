@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoSorterTest {
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int INSERTION_THRESHOLD = 8;
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private static final int[] LENGTHS = {0, 1, 5, INSERTION_THRESHOLD, 40, PARALLEL_THRESHOLD, 1000};
+
+    private static final boolean PARALLEL = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    @Test
+    void testConstructor() {
+        var sorter = new AutoSorter<Double>();
+        assertEquals(AutoSorter.DEFAULT_INSERTION_THRESHOLD, sorter.getInsertionThreshold());
+        assertEquals(AutoSorter.DEFAULT_PARALLEL_THRESHOLD, sorter.getParallelThreshold());
+        assertEquals(AutoSorter.AVAILABLE_MEMORY_BUDGET, sorter.getMemoryBudget());
+        assertNull(sorter.getLastChosenMethod());
+        assertEquals(SortingMethod.AUTO_SORTING_METHOD, sorter.getMethod());
+
+        sorter = new AutoSorter<>(1024L);
+        assertEquals(AutoSorter.DEFAULT_INSERTION_THRESHOLD, sorter.getInsertionThreshold());
+        assertEquals(AutoSorter.DEFAULT_PARALLEL_THRESHOLD, sorter.getParallelThreshold());
+        assertEquals(1024L, sorter.getMemoryBudget());
+
+        sorter = new AutoSorter<>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, 0L);
+        assertEquals(INSERTION_THRESHOLD, sorter.getInsertionThreshold());
+        assertEquals(PARALLEL_THRESHOLD, sorter.getParallelThreshold());
+        assertEquals(0L, sorter.getMemoryBudget());
+
+        assertNull(sorter.getCalibration());
+
+        final var calibration = new SortingCalibration();
+        sorter = new AutoSorter<>(calibration, 1024L);
+        assertEquals(AutoSorter.DEFAULT_INSERTION_THRESHOLD, sorter.getInsertionThreshold());
+        assertEquals(AutoSorter.DEFAULT_PARALLEL_THRESHOLD, sorter.getParallelThreshold());
+        assertEquals(1024L, sorter.getMemoryBudget());
+        assertSame(calibration, sorter.getCalibration());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new AutoSorter<>(-2L));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSorter<>(null, 1024L));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSorter<>(calibration, -2L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AutoSorter<>(-1, PARALLEL_THRESHOLD, AutoSorter.AVAILABLE_MEMORY_BUDGET));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AutoSorter<>(INSERTION_THRESHOLD, INSERTION_THRESHOLD - 1,
+                        AutoSorter.AVAILABLE_MEMORY_BUDGET));
+    }
+
+    @Test
+    void testChooseMethod() {
+        final var sorter = new AutoSorter<>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, Long.MAX_VALUE);
+
+        // tiny ranges
+        for (final var type : new Class<?>[]{double.class, float.class, int.class, long.class, Date.class}) {
+            assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD,
+                    sorter.chooseMethod(type, INSERTION_THRESHOLD, false));
+            assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD,
+                    sorter.chooseMethod(type, INSERTION_THRESHOLD, true));
+        }
+
+        // medium ranges
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.chooseMethod(double.class, PARALLEL_THRESHOLD, false));
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.chooseMethod(int.class, PARALLEL_THRESHOLD, true));
+        assertEquals(SortingMethod.TIMSORT_SORTING_METHOD, sorter.chooseMethod(Date.class, PARALLEL_THRESHOLD, true));
+
+        // huge ranges
+        final var length = PARALLEL_THRESHOLD + 1;
+        assertEquals(PARALLEL ? SortingMethod.PARALLEL_RADIX_SORTING_METHOD : SortingMethod.RADIX_SORTING_METHOD,
+                sorter.chooseMethod(long.class, length, false));
+        assertEquals(PARALLEL ? SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD : SortingMethod.SYSTEM_SORTING_METHOD,
+                sorter.chooseMethod(float.class, length, true));
+        assertEquals(PARALLEL ? SortingMethod.PARALLEL_MERGE_SORTING_METHOD : SortingMethod.TIMSORT_SORTING_METHOD,
+                sorter.chooseMethod(Date.class, length, false));
+
+        // no scratch memory
+        final var sorter2 = new AutoSorter<>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, 0L);
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD,
+                sorter2.chooseMethod(double.class, PARALLEL_THRESHOLD, false));
+        assertEquals(SortingMethod.HEAPSORT_SORTING_METHOD,
+                sorter2.chooseMethod(double.class, PARALLEL_THRESHOLD, true));
+        assertEquals(SortingMethod.HEAPSORT_SORTING_METHOD, sorter2.chooseMethod(int.class, length, false));
+        assertEquals(SortingMethod.HEAPSORT_SORTING_METHOD, sorter2.chooseMethod(Date.class, PARALLEL_THRESHOLD, false));
+
+        // choosing a method does not change last chosen method
+        assertNull(sorter.getLastChosenMethod());
+        assertNull(sorter2.getLastChosenMethod());
+
+        // available memory
+        final var sorter3 = new AutoSorter<>();
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter3.chooseMethod(double.class, 1000, true));
+        assertEquals(SortingMethod.HEAPSORT_SORTING_METHOD,
+                sorter3.chooseMethod(double.class, Integer.MAX_VALUE - 8, true));
+    }
+
+    @Test
+    void testChooseMethodWithCalibration() {
+        final var calibration = new SortingCalibration();
+        calibration.setThresholds(double.class, 4, 16);
+        calibration.setThresholds(int.class, 0, Integer.MAX_VALUE);
+        final var sorter = new AutoSorter<>(calibration, Long.MAX_VALUE);
+
+        assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD, sorter.chooseMethod(double.class, 4, false));
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.chooseMethod(double.class, 5, false));
+        assertEquals(PARALLEL ? SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD : SortingMethod.SYSTEM_SORTING_METHOD,
+                sorter.chooseMethod(double.class, 17, false));
+
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.chooseMethod(int.class, 1, false));
+        assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.chooseMethod(int.class, Integer.MAX_VALUE, false));
+
+        // objects use default thresholds
+        assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD,
+                sorter.chooseMethod(Date.class, AutoSorter.DEFAULT_INSERTION_THRESHOLD, false));
+        assertEquals(SortingMethod.TIMSORT_SORTING_METHOD,
+                sorter.chooseMethod(Date.class, AutoSorter.DEFAULT_INSERTION_THRESHOLD + 1, false));
+
+        // changes in calibration are used by the sorter
+        calibration.setThresholds(int.class, 100, 100);
+        assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD, sorter.chooseMethod(int.class, 100, false));
+    }
+
+    @Test
+    void testSortWithComparator() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter = new AutoSorter<Date>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new Date[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 0, length, Date::compareTo);
+                assertArrayEquals(expected, array2);
+                assertEquals(sorter.chooseMethod(Date.class, length, false), sorter.getLastChosenMethod());
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 0, length, Date::compareTo);
+                assertArrayEquals(expected, array3);
+                assertEquals(sorter.chooseMethod(Date.class, length, true), sorter.getLastChosenMethod());
+                for (int i = 0; i < length; i++) {
+                    assertSame(array[indices[i]], array3[i]);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new Date[1], 1, 0, Date::compareTo));
+        }
+    }
+
+    @Test
+    void testSortDoubles() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter = new AutoSorter<Double>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new double[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2, 0.0);
+                assertEquals(sorter.chooseMethod(double.class, length, false), sorter.getLastChosenMethod());
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3, 0.0);
+                assertEquals(sorter.chooseMethod(double.class, length, true), sorter.getLastChosenMethod());
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new double[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new double[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new double[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortFloats() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter = new AutoSorter<Float>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new float[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2, 0.0f);
+                assertEquals(sorter.chooseMethod(float.class, length, false), sorter.getLastChosenMethod());
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3, 0.0f);
+                assertEquals(sorter.chooseMethod(float.class, length, true), sorter.getLastChosenMethod());
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0f);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new float[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new float[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new float[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortDoublesWithNaNAndSignedZeros() throws SortingException {
+        // tiny range sorted by straight insertion
+        final var sorter = new AutoSorter<Double>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, Long.MAX_VALUE);
+        final var small = new double[]{3.0, Double.NaN, 0.0, -1.0, -0.0, Double.NaN, -0.0, 2.0};
+        assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD,
+                sorter.chooseMethod(double.class, small.length, false));
+        assertSortedLikeJdk(sorter, small);
+
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter2 = new AutoSorter<Double>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new double[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = switch (randomizer.nextInt(0, 4)) {
+                        case 0 -> Double.NaN;
+                        case 1 -> -0.0;
+                        case 2 -> 0.0;
+                        default -> randomizer.nextDouble(-MAX_VALUE, MAX_VALUE);
+                    };
+                }
+                assertSortedLikeJdk(sorter2, array);
+            }
+        }
+    }
+
+    @Test
+    void testSortFloatsWithNaNAndSignedZeros() throws SortingException {
+        // tiny range sorted by straight insertion
+        final var sorter = new AutoSorter<Float>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, Long.MAX_VALUE);
+        final var small = new float[]{3.0f, Float.NaN, 0.0f, -1.0f, -0.0f, Float.NaN, -0.0f, 2.0f};
+        assertEquals(SortingMethod.STRAIGHT_INSERTION_SORTING_METHOD,
+                sorter.chooseMethod(float.class, small.length, false));
+        assertSortedLikeJdk(sorter, small);
+
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter2 = new AutoSorter<Float>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new float[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = switch (randomizer.nextInt(0, 4)) {
+                        case 0 -> Float.NaN;
+                        case 1 -> -0.0f;
+                        case 2 -> 0.0f;
+                        default -> randomizer.nextFloat(-MAX_VALUE, MAX_VALUE);
+                    };
+                }
+                assertSortedLikeJdk(sorter2, array);
+            }
+        }
+    }
+
+    @Test
+    void testSortInts() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter = new AutoSorter<Integer>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new int[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2);
+                assertEquals(sorter.chooseMethod(int.class, length, false), sorter.getLastChosenMethod());
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3);
+                assertEquals(sorter.chooseMethod(int.class, length, true), sorter.getLastChosenMethod());
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new int[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new int[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortLongs() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var budget : new long[]{0L, AutoSorter.AVAILABLE_MEMORY_BUDGET}) {
+            final var sorter = new AutoSorter<Long>(INSERTION_THRESHOLD, PARALLEL_THRESHOLD, budget);
+            for (final var length : LENGTHS) {
+                final var array = new long[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2);
+                assertEquals(sorter.chooseMethod(long.class, length, false), sorter.getLastChosenMethod());
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3);
+                assertEquals(sorter.chooseMethod(long.class, length, true), sorter.getLastChosenMethod());
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                }
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new long[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new long[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new long[1], 0, 2));
+        }
+    }
+
+    private static void assertSortedLikeJdk(final AutoSorter<Double> sorter, final double[] array)
+            throws SortingException {
+        final var length = array.length;
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected);
+
+        // Arrays.equals distinguishes -0.0 from 0.0 and considers NaN values equal
+        final var array2 = Arrays.copyOf(array, length);
+        sorter.sort(array2);
+        assertTrue(Arrays.equals(expected, array2));
+
+        final var array3 = Arrays.copyOf(array, length);
+        final var indices = sorter.sortWithIndices(array3);
+        assertTrue(Arrays.equals(expected, array3));
+        for (int i = 0; i < length; i++) {
+            assertEquals(Double.doubleToLongBits(array[indices[i]]),
+                    Double.doubleToLongBits(array3[i]));
+        }
+
+        // caller-supplied indices are only written within the sorted range
+        final var array4 = new double[length + 2];
+        System.arraycopy(array, 0, array4, 1, length);
+        final var array5 = Arrays.copyOf(array4, length + 2);
+        final var indices4 = new int[length + 2];
+        Arrays.fill(indices4, -1);
+        sorter.sortWithIndices(array4, 1, length + 1, indices4, new SortingWorkspace());
+        assertTrue(Arrays.equals(expected, Arrays.copyOfRange(array4, 1, length + 1)));
+        assertEquals(-1, indices4[0]);
+        assertEquals(-1, indices4[length + 1]);
+        for (int i = 1; i <= length; i++) {
+            assertEquals(Double.doubleToLongBits(array5[indices4[i]]),
+                    Double.doubleToLongBits(array4[i]));
+        }
+    }
+
+    private static void assertSortedLikeJdk(final AutoSorter<Float> sorter, final float[] array)
+            throws SortingException {
+        final var length = array.length;
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected);
+
+        // Arrays.equals distinguishes -0.0 from 0.0 and considers NaN values equal
+        final var array2 = Arrays.copyOf(array, length);
+        sorter.sort(array2);
+        assertTrue(Arrays.equals(expected, array2));
+
+        final var array3 = Arrays.copyOf(array, length);
+        final var indices = sorter.sortWithIndices(array3);
+        assertTrue(Arrays.equals(expected, array3));
+        for (int i = 0; i < length; i++) {
+            assertEquals(Float.floatToIntBits(array[indices[i]]),
+                    Float.floatToIntBits(array3[i]));
+        }
+
+        // caller-supplied indices are only written within the sorted range
+        final var array4 = new float[length + 2];
+        System.arraycopy(array, 0, array4, 1, length);
+        final var array5 = Arrays.copyOf(array4, length + 2);
+        final var indices4 = new int[length + 2];
+        Arrays.fill(indices4, -1);
+        sorter.sortWithIndices(array4, 1, length + 1, indices4, new SortingWorkspace());
+        assertTrue(Arrays.equals(expected, Arrays.copyOfRange(array4, 1, length + 1)));
+        assertEquals(-1, indices4[0]);
+        assertEquals(-1, indices4[length + 1]);
+        for (int i = 1; i <= length; i++) {
+            assertEquals(Float.floatToIntBits(array5[indices4[i]]),
+                    Float.floatToIntBits(array4[i]));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigDoubleArrayTest {
+
+    @Test
+    void testConstructor() {
+        var array = new BigDoubleArray(10);
+        assertEquals(10, array.getLength());
+        assertEquals(BigDoubleArray.DEFAULT_SEGMENT_SIZE, array.getSegmentSize());
+        assertEquals(1, array.getSegments().length);
+        assertEquals(10, array.getSegments()[0].length);
+
+        array = new BigDoubleArray(10, 4);
+        assertEquals(10, array.getLength());
+        assertEquals(4, array.getSegmentSize());
+        assertEquals(3, array.getSegments().length);
+        assertEquals(4, array.getSegments()[0].length);
+        assertEquals(4, array.getSegments()[1].length);
+        assertEquals(2, array.getSegments()[2].length);
+
+        array = new BigDoubleArray(8, 4);
+        assertEquals(2, array.getSegments().length);
+
+        array = new BigDoubleArray(0, 4);
+        assertEquals(0, array.getLength());
+        assertEquals(0, array.getSegments().length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new BigDoubleArray(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BigDoubleArray(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BigDoubleArray(10, 3));
+        assertThrows(IllegalArgumentException.class, () -> new BigDoubleArray(10, -4));
+        assertThrows(IllegalArgumentException.class, () -> new BigDoubleArray(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void testGetAndSet() {
+        final var array = new BigDoubleArray(10, 4);
+        for (int i = 0; i < 10; i++) {
+            array.set(i, 2.0 * i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(2.0 * i, array.get(i), 0.0);
+            assertEquals(2.0 * i, array.getSegments()[i / 4][i % 4], 0.0);
+        }
+
+        assertEquals(2, array.getSegmentIndex(9));
+        assertEquals(1, array.getSegmentOffset(9));
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(10));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(12));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.set(10, 0.0));
+    }
+}
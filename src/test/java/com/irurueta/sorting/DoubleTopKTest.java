@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleTopKTest {
+
+    private static final int MIN_VALUE = -1000;
+    private static final int MAX_VALUE = 1000;
+
+    private static final int K = 10;
+
+    private static final int[] LENGTHS = {0, 1, 5, K, 11, 1000};
+
+    @Test
+    void testConstructor() {
+        var top = new DoubleTopK(K);
+        assertEquals(K, top.getK());
+        assertFalse(top.isLargest());
+        assertEquals(0, top.size());
+
+        top = new DoubleTopK(K, true);
+        assertEquals(K, top.getK());
+        assertTrue(top.isLargest());
+        assertEquals(0, top.size());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new DoubleTopK(0));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleTopK(-1, true));
+    }
+
+    @Test
+    void testAddSmallest() {
+        final var randomizer = new UniformRandomizer();
+        for (final var length : LENGTHS) {
+            final var values = new double[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var top = new DoubleTopK(K);
+            for (final var value : values) {
+                top.add(value);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected);
+            final var n = Math.min(K, length);
+            assertEquals(n, top.size());
+            assertArrayEquals(Arrays.copyOf(expected, n), top.toSortedArray(), 0.0);
+        }
+    }
+
+    @Test
+    void testAddLargest() {
+        final var randomizer = new UniformRandomizer();
+        for (final var length : LENGTHS) {
+            final var values = new double[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var top = new DoubleTopK(K, true);
+            top.addAll(values);
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected);
+            final var n = Math.min(K, length);
+            final var largest = new double[n];
+            for (int i = 0; i < n; i++) {
+                largest[i] = expected[length - 1 - i];
+            }
+            assertEquals(n, top.size());
+            assertArrayEquals(largest, top.toSortedArray(), 0.0);
+        }
+    }
+
+    @Test
+    void testExtremeValues() {
+        final var values = new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0, -1.0};
+
+        final var smallest = new DoubleTopK(2);
+        smallest.addAll(values);
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -1.0}, smallest.toSortedArray(), 0.0);
+
+        final var largest = new DoubleTopK(2, true);
+        largest.addAll(values);
+        assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, 0.0}, largest.toSortedArray(), 0.0);
+    }
+
+    @Test
+    void testNaNIsIgnored() {
+        final var top = new DoubleTopK(K);
+        top.add(Double.NaN);
+        top.add(1.0);
+        assertEquals(1, top.size());
+        assertArrayEquals(new double[]{1.0}, top.toSortedArray(), 0.0);
+    }
+
+    @Test
+    void testAddAllWithinRange() {
+        final var values = new double[]{5, 4, 3, 2, 1};
+
+        final var top = new DoubleTopK(2);
+        top.addAll(values, 1, 4);
+        assertArrayEquals(new double[]{2, 3}, top.toSortedArray(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top.addAll(values, 2, 1));
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, -1, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, 0, values.length + 1));
+    }
+
+    @Test
+    void testAddAllStream() {
+        final var top = new DoubleTopK(3, true);
+        top.addAll(DoubleStream.of(4, 8, 1, 9, 3, 7));
+        assertArrayEquals(new double[]{9, 8, 7}, top.toSortedArray(), 0.0);
+
+        // parallel streams are collected into one instance per thread
+        final var expected = new double[K];
+        for (int i = 0; i < K; i++) {
+            expected[i] = i;
+        }
+        final var collected = IntStream.range(0, 100000).parallel().asDoubleStream()
+                .collect(() -> new DoubleTopK(K), DoubleTopK::add, DoubleTopK::merge);
+        assertArrayEquals(expected, collected.toSortedArray(), 0.0);
+    }
+
+    @Test
+    void testMerge() {
+        final var randomizer = new UniformRandomizer();
+        final var values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        }
+
+        final var top1 = new DoubleTopK(K, true);
+        top1.addAll(values, 0, 500);
+        final var top2 = new DoubleTopK(K, true);
+        top2.addAll(values, 500, values.length);
+        top1.merge(top2);
+
+        final var all = new DoubleTopK(K, true);
+        all.addAll(values);
+        assertArrayEquals(all.toSortedArray(), top1.toSortedArray(), 0.0);
+        assertEquals(K, top2.size());
+
+        // merging an instance into itself keeps the same best values
+        final var partial = new DoubleTopK(K);
+        partial.addAll(new double[]{3, 1, 2});
+        partial.merge(partial);
+        assertArrayEquals(new double[]{1, 1, 2, 2, 3, 3}, partial.toSortedArray(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top1.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> top1.merge(new DoubleTopK(K)));
+    }
+
+    @Test
+    void testClear() {
+        final var top = new DoubleTopK(K);
+        top.addAll(new double[]{3, 1, 2});
+        assertEquals(3, top.size());
+
+        top.clear();
+        assertEquals(0, top.size());
+        assertEquals(0, top.toSortedArray().length);
+    }
+}
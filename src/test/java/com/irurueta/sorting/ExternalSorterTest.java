@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalSorterTest {
+
+    private static final int MIN_VALUE = -1000;
+    private static final int MAX_VALUE = 1000;
+
+    private static final int LENGTH = 10000;
+
+    private static final int TIMES = 5;
+
+    @Test
+    void testConstructor() {
+        var sorter = new ExternalSorter();
+        assertEquals(Sorter.DEFAULT_SORTING_METHOD, sorter.getMethod());
+        assertEquals(ExternalSorter.DEFAULT_MEMORY_BUDGET, sorter.getMemoryBudget());
+        assertEquals(ExternalSorter.DEFAULT_FAN_IN, sorter.getFanIn());
+        assertNull(sorter.getTempDirectory());
+
+        sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD);
+        assertEquals(SortingMethod.QUICKSORT_SORTING_METHOD, sorter.getMethod());
+        assertEquals(ExternalSorter.DEFAULT_MEMORY_BUDGET, sorter.getMemoryBudget());
+        assertEquals(ExternalSorter.DEFAULT_FAN_IN, sorter.getFanIn());
+        assertNull(sorter.getTempDirectory());
+
+        sorter = new ExternalSorter(SortingMethod.RADIX_SORTING_METHOD, ExternalSorter.MIN_MEMORY_BUDGET,
+                ExternalSorter.MIN_FAN_IN);
+        assertEquals(SortingMethod.RADIX_SORTING_METHOD, sorter.getMethod());
+        assertEquals(ExternalSorter.MIN_MEMORY_BUDGET, sorter.getMemoryBudget());
+        assertEquals(ExternalSorter.MIN_FAN_IN, sorter.getFanIn());
+        assertNull(sorter.getTempDirectory());
+
+        final var directory = Path.of("tmp");
+        sorter = new ExternalSorter(SortingMethod.RADIX_SORTING_METHOD, ExternalSorter.MIN_MEMORY_BUDGET,
+                ExternalSorter.MIN_FAN_IN, directory);
+        assertSame(directory, sorter.getTempDirectory());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSorter(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET - 1, ExternalSorter.MIN_FAN_IN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN - 1));
+    }
+
+    @Test
+    void testSortDoubles() throws IOException, SortingException {
+        final var directory = Files.createTempDirectory("external-sorter");
+        try {
+            for (int t = 0; t < TIMES; t++) {
+                final var randomizer = new UniformRandomizer();
+
+                final var length = randomizer.nextInt(LENGTH / 2, LENGTH);
+                final var values = new double[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                }
+                final var input = directory.resolve("input");
+                final var output = directory.resolve("output");
+                writeDoubles(input, values);
+
+                final var expected = Arrays.copyOf(values, length);
+                Arrays.sort(expected);
+
+                // small memory budget and fan-in require several merge passes
+                var sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN, directory);
+                sorter.sortDoubles(input, output);
+                assertArrayEquals(expected, readDoubles(output), 0.0);
+                assertArrayEquals(values, readDoubles(input), 0.0);
+
+                // a single merge pass
+                sorter = new ExternalSorter(SortingMethod.RADIX_SORTING_METHOD, 4 * ExternalSorter.MIN_MEMORY_BUDGET,
+                        ExternalSorter.DEFAULT_FAN_IN, directory);
+                sorter.sortDoubles(input, output);
+                assertArrayEquals(expected, readDoubles(output), 0.0);
+
+                // input fits in memory
+                sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD);
+                sorter.sortDoubles(input, output);
+                assertArrayEquals(expected, readDoubles(output), 0.0);
+
+                // input is replaced by sorted values
+                sorter = new ExternalSorter(SortingMethod.HEAPSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN, directory);
+                sorter.sortDoubles(input, input);
+                assertArrayEquals(expected, readDoubles(input), 0.0);
+
+                // temporary files are deleted
+                assertEquals(2, countFiles(directory));
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void testSortLongs() throws IOException, SortingException {
+        final var directory = Files.createTempDirectory("external-sorter");
+        try {
+            for (int t = 0; t < TIMES; t++) {
+                final var randomizer = new UniformRandomizer();
+
+                final var length = randomizer.nextInt(LENGTH / 2, LENGTH);
+                final var values = new long[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                }
+                values[0] = Long.MIN_VALUE;
+                values[length - 1] = Long.MAX_VALUE;
+                final var input = directory.resolve("input");
+                final var output = directory.resolve("output");
+                writeLongs(input, values);
+
+                final var expected = Arrays.copyOf(values, length);
+                Arrays.sort(expected);
+
+                // small memory budget and fan-in require several merge passes
+                var sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN, directory);
+                sorter.sortLongs(input, output);
+                assertArrayEquals(expected, readLongs(output));
+                assertArrayEquals(values, readLongs(input));
+
+                // a single merge pass
+                sorter = new ExternalSorter(SortingMethod.RADIX_SORTING_METHOD, 4 * ExternalSorter.MIN_MEMORY_BUDGET,
+                        ExternalSorter.DEFAULT_FAN_IN, directory);
+                sorter.sortLongs(input, output);
+                assertArrayEquals(expected, readLongs(output));
+
+                // input fits in memory
+                sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD);
+                sorter.sortLongs(input, output);
+                assertArrayEquals(expected, readLongs(output));
+
+                // input is replaced by sorted values
+                sorter = new ExternalSorter(SortingMethod.HEAPSORT_SORTING_METHOD,
+                        ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN, directory);
+                sorter.sortLongs(input, input);
+                assertArrayEquals(expected, readLongs(input));
+
+                // temporary files are deleted
+                assertEquals(2, countFiles(directory));
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void testSortEmptyFile() throws IOException, SortingException {
+        final var directory = Files.createTempDirectory("external-sorter");
+        try {
+            final var input = directory.resolve("input");
+            final var output = directory.resolve("output");
+            Files.createFile(input);
+            Files.write(output, new byte[Long.BYTES]);
+
+            final var sorter = new ExternalSorter(SortingMethod.QUICKSORT_SORTING_METHOD,
+                    ExternalSorter.MIN_MEMORY_BUDGET, ExternalSorter.MIN_FAN_IN, directory);
+            sorter.sortDoubles(input, output);
+            assertEquals(0, Files.size(output));
+
+            Files.write(output, new byte[Long.BYTES]);
+            sorter.sortLongs(input, output);
+            assertEquals(0, Files.size(output));
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    void testSortInvalidFile() throws IOException {
+        final var directory = Files.createTempDirectory("external-sorter");
+        try {
+            final var input = directory.resolve("input");
+            final var output = directory.resolve("output");
+            Files.write(input, new byte[Long.BYTES + 1]);
+
+            final var sorter = new ExternalSorter();
+
+            // Force IOException
+            assertThrows(IOException.class, () -> sorter.sortDoubles(input, output));
+            assertThrows(IOException.class, () -> sorter.sortLongs(input, output));
+            assertThrows(IOException.class, () -> sorter.sortLongs(directory.resolve("missing"), output));
+            assertFalse(Files.exists(output));
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    private static void writeDoubles(final Path path, final double[] values) throws IOException {
+        try (final var stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            for (final var value : values) {
+                stream.writeDouble(value);
+            }
+        }
+    }
+
+    private static void writeLongs(final Path path, final long[] values) throws IOException {
+        try (final var stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            for (final var value : values) {
+                stream.writeLong(value);
+            }
+        }
+    }
+
+    private static double[] readDoubles(final Path path) throws IOException {
+        final var values = new double[(int) (Files.size(path) / Double.BYTES)];
+        try (final var stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = stream.readDouble();
+            }
+        }
+        return values;
+    }
+
+    private static long[] readLongs(final Path path) throws IOException {
+        final var values = new long[(int) (Files.size(path) / Long.BYTES)];
+        try (final var stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = stream.readLong();
+            }
+        }
+        return values;
+    }
+
+    private static long countFiles(final Path directory) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) throws IOException {
+        try (final var files = Files.walk(directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
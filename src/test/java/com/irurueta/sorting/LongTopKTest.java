@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongTopKTest {
+
+    private static final int MIN_VALUE = -1000;
+    private static final int MAX_VALUE = 1000;
+
+    private static final int K = 10;
+
+    private static final int[] LENGTHS = {0, 1, 5, K, 11, 1000};
+
+    @Test
+    void testConstructor() {
+        var top = new LongTopK(K);
+        assertEquals(K, top.getK());
+        assertFalse(top.isLargest());
+        assertEquals(0, top.size());
+
+        top = new LongTopK(K, true);
+        assertEquals(K, top.getK());
+        assertTrue(top.isLargest());
+        assertEquals(0, top.size());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new LongTopK(0));
+        assertThrows(IllegalArgumentException.class, () -> new LongTopK(-1, true));
+    }
+
+    @Test
+    void testAddSmallest() {
+        final var randomizer = new UniformRandomizer();
+        for (final var length : LENGTHS) {
+            final var values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var top = new LongTopK(K);
+            for (final var value : values) {
+                top.add(value);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected);
+            final var n = Math.min(K, length);
+            assertEquals(n, top.size());
+            assertArrayEquals(Arrays.copyOf(expected, n), top.toSortedArray());
+        }
+    }
+
+    @Test
+    void testAddLargest() {
+        final var randomizer = new UniformRandomizer();
+        for (final var length : LENGTHS) {
+            final var values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var top = new LongTopK(K, true);
+            top.addAll(values);
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected);
+            final var n = Math.min(K, length);
+            final var largest = new long[n];
+            for (int i = 0; i < n; i++) {
+                largest[i] = expected[length - 1 - i];
+            }
+            assertEquals(n, top.size());
+            assertArrayEquals(largest, top.toSortedArray());
+        }
+    }
+
+    @Test
+    void testExtremeValues() {
+        final var values = new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L};
+
+        final var smallest = new LongTopK(2);
+        smallest.addAll(values);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L}, smallest.toSortedArray());
+
+        final var largest = new LongTopK(2, true);
+        largest.addAll(values);
+        assertArrayEquals(new long[]{Long.MAX_VALUE, 0L}, largest.toSortedArray());
+    }
+
+    @Test
+    void testAddAllWithinRange() {
+        final var values = new long[]{5, 4, 3, 2, 1};
+
+        final var top = new LongTopK(2);
+        top.addAll(values, 1, 4);
+        assertArrayEquals(new long[]{2, 3}, top.toSortedArray());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top.addAll(values, 2, 1));
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, -1, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, 0, values.length + 1));
+    }
+
+    @Test
+    void testAddAllStream() {
+        final var top = new LongTopK(3, true);
+        top.addAll(LongStream.of(4, 8, 1, 9, 3, 7));
+        assertArrayEquals(new long[]{9, 8, 7}, top.toSortedArray());
+
+        // parallel streams are collected into one instance per thread
+        final var expected = new long[K];
+        for (int i = 0; i < K; i++) {
+            expected[i] = i;
+        }
+        final var collected = LongStream.range(0, 100000).parallel()
+                .collect(() -> new LongTopK(K), LongTopK::add, LongTopK::merge);
+        assertArrayEquals(expected, collected.toSortedArray());
+    }
+
+    @Test
+    void testMerge() {
+        final var randomizer = new UniformRandomizer();
+        final var values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+        }
+
+        final var top1 = new LongTopK(K, true);
+        top1.addAll(values, 0, 500);
+        final var top2 = new LongTopK(K, true);
+        top2.addAll(values, 500, values.length);
+        top1.merge(top2);
+
+        final var all = new LongTopK(K, true);
+        all.addAll(values);
+        assertArrayEquals(all.toSortedArray(), top1.toSortedArray());
+        assertEquals(K, top2.size());
+
+        // merging an instance into itself keeps the same best values
+        final var partial = new LongTopK(K);
+        partial.addAll(new long[]{3, 1, 2});
+        partial.merge(partial);
+        assertArrayEquals(new long[]{1, 1, 2, 2, 3, 3}, partial.toSortedArray());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top1.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> top1.merge(new LongTopK(K)));
+    }
+
+    @Test
+    void testClear() {
+        final var top = new LongTopK(K);
+        top.addAll(new long[]{3, 1, 2});
+        assertEquals(3, top.size());
+
+        top.clear();
+        assertEquals(0, top.size());
+        assertEquals(0, top.toSortedArray().length);
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSorterTest {
+
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 100;
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int TIMES = 50;
+
+    private static final int LARGE_LENGTH = 100000;
+
+    @Test
+    void testSortWithComparator() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var sorter = new ParallelMergeSorter<Date>(ParallelMergeSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex, Date::compareTo);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesAndComparator() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelMergeSorter<Date>(ParallelMergeSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex, Comparator.naturalOrder());
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortDoubles() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelMergeSorter<Double>(ParallelMergeSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesDoubles() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelMergeSorter<Double>(ParallelMergeSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortFloats() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var sorter = new ParallelMergeSorter<Float>(ParallelMergeSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesFloats() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelMergeSorter<Float>(ParallelMergeSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelMergeSorter<Integer>(ParallelMergeSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelMergeSorter<Integer>(ParallelMergeSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelMergeSorter<Long>(ParallelMergeSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelMergeSorter<Long>(ParallelMergeSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testConstructor() {
+        var sorter = new ParallelMergeSorter<>();
+        assertEquals(ParallelMergeSorter.DEFAULT_THRESHOLD, sorter.getThreshold());
+        assertSame(ForkJoinPool.commonPool(), sorter.getPool());
+
+        sorter = new ParallelMergeSorter<>(ParallelMergeSorter.MIN_THRESHOLD);
+        assertEquals(ParallelMergeSorter.MIN_THRESHOLD, sorter.getThreshold());
+        assertSame(ForkJoinPool.commonPool(), sorter.getPool());
+
+        final var pool = new ForkJoinPool(2);
+        try {
+            sorter = new ParallelMergeSorter<>(ParallelMergeSorter.MIN_THRESHOLD, pool);
+            assertEquals(ParallelMergeSorter.MIN_THRESHOLD, sorter.getThreshold());
+            assertSame(pool, sorter.getPool());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelMergeSorter<>(ParallelMergeSorter.MIN_THRESHOLD - 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelMergeSorter<>(ParallelMergeSorter.MIN_THRESHOLD, null));
+    }
+
+    @Test
+    void testSortLargeArrays() {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        final var dates = new Date[length];
+        for (int i = 0; i < length; i++) {
+            dates[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+        }
+        final var dates2 = Arrays.copyOf(dates, length);
+        final var expected = Arrays.copyOf(dates, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+
+        final var sorter = new ParallelMergeSorter<Date>(ParallelMergeSorter.MIN_THRESHOLD);
+        sorter.sort(dates, fromIndex, toIndex, Date::compareTo);
+
+        // both sorts are stable, hence the same instances are expected at
+        // each position
+        for (int i = 0; i < length; i++) {
+            assertSame(expected[i], dates[i]);
+        }
+
+        final var dateIndices = sorter.sortWithIndices(dates2, fromIndex, toIndex, Date::compareTo);
+        for (int i = 0; i < length; i++) {
+            assertSame(expected[i], dates2[i]);
+            assertSame(dates[i], dates2[i]);
+            if (i > fromIndex && i < toIndex && dates2[i - 1].equals(dates2[i])) {
+                assertTrue(dateIndices[i - 1] < dateIndices[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortWithIndicesIsStable() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var array = new Date[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        // comparator only takes into account value modulo 10, so that many
+        // elements are considered equal although their values differ
+        final Comparator<Date> comparator = Comparator.comparingLong(d -> d.getTime() % 10);
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var sorter = new ParallelMergeSorter<Date>(ParallelMergeSorter.MIN_THRESHOLD, pool);
+            final var indices = sorter.sortWithIndices(array, comparator);
+            for (int i = 0; i < length; i++) {
+                assertSame(array2[indices[i]], array[i]);
+                if (i > 0) {
+                    final var cmp = comparator.compare(array[i - 1], array[i]);
+                    assertTrue(cmp <= 0);
+                    if (cmp == 0) {
+                        assertTrue(indices[i - 1] < indices[i]);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testGetMethod() {
+        final var sorter = new ParallelMergeSorter<>();
+        assertEquals(SortingMethod.PARALLEL_MERGE_SORTING_METHOD, sorter.getMethod());
+    }
+}
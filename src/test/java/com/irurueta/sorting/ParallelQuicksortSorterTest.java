@@ -0,0 +1,569 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelQuicksortSorterTest {
+
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 100;
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int TIMES = 50;
+
+    private static final int LARGE_LENGTH = 100000;
+
+    @Test
+    void testSortWithComparator() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var sorter = new ParallelQuicksortSorter<Date>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex, Date::compareTo);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesAndComparator() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelQuicksortSorter<Date>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex, Comparator.naturalOrder());
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortDoubles() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelQuicksortSorter<Double>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesDoubles() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelQuicksortSorter<Double>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortFloats() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var sorter = new ParallelQuicksortSorter<Float>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesFloats() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelQuicksortSorter<Float>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortInts() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelQuicksortSorter<Integer>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesInts() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelQuicksortSorter<Integer>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortLongs() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new ParallelQuicksortSorter<Long>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLongs() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new ParallelQuicksortSorter<Long>(ParallelQuicksortSorter.MIN_THRESHOLD);
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testConstructor() {
+        var sorter = new ParallelQuicksortSorter<>();
+        assertEquals(ParallelQuicksortSorter.DEFAULT_THRESHOLD, sorter.getThreshold());
+        assertSame(ForkJoinPool.commonPool(), sorter.getPool());
+
+        sorter = new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD);
+        assertEquals(ParallelQuicksortSorter.MIN_THRESHOLD, sorter.getThreshold());
+        assertSame(ForkJoinPool.commonPool(), sorter.getPool());
+
+        final var pool = new ForkJoinPool(2);
+        try {
+            sorter = new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD, pool);
+            assertEquals(ParallelQuicksortSorter.MIN_THRESHOLD, sorter.getThreshold());
+            assertSame(pool, sorter.getPool());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD - 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD, null));
+    }
+
+    @Test
+    void testSortLargeArrays() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        final var array = new double[length];
+        final var intArray = new int[length];
+        final var dates = new Date[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            intArray[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            dates[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+        }
+        final var array2 = Arrays.copyOf(array, length);
+        final var intArray2 = Arrays.copyOf(intArray, length);
+        final var dates2 = Arrays.copyOf(dates, length);
+
+        final var sorter = new ParallelQuicksortSorter<Date>(ParallelQuicksortSorter.MIN_THRESHOLD);
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array, 0.0);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0);
+        }
+
+        final var expectedInts = Arrays.copyOf(intArray, length);
+        Arrays.sort(expectedInts, fromIndex, toIndex);
+        sorter.sort(intArray, fromIndex, toIndex);
+        assertArrayEquals(expectedInts, intArray);
+        sorter.sort(intArray2);
+        Arrays.sort(expectedInts);
+        assertArrayEquals(expectedInts, intArray2);
+
+        final var floatArray = new float[length];
+        final var longArray = new long[length];
+        for (int i = 0; i < length; i++) {
+            floatArray[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+            longArray[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            intArray2[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+        }
+        final var floatArray2 = Arrays.copyOf(floatArray, length);
+        final var longArray2 = Arrays.copyOf(longArray, length);
+        final var intArray3 = Arrays.copyOf(intArray2, length);
+        final var floatIndices = sorter.sortWithIndices(floatArray, fromIndex, toIndex);
+        final var intIndices = sorter.sortWithIndices(intArray2, fromIndex, toIndex);
+        final var longIndices = sorter.sortWithIndices(longArray, fromIndex, toIndex);
+        for (int i = 0; i < length; i++) {
+            assertEquals(floatArray2[floatIndices[i]], floatArray[i], 0.0f);
+            assertEquals(intArray3[intIndices[i]], intArray2[i]);
+            assertEquals(longArray2[longIndices[i]], longArray[i]);
+            if (i > fromIndex && i < toIndex) {
+                assertTrue(floatArray[i - 1] <= floatArray[i]);
+                assertTrue(intArray2[i - 1] <= intArray2[i]);
+                assertTrue(longArray[i - 1] <= longArray[i]);
+            }
+        }
+
+        final var dateIndices = sorter.sortWithIndices(dates, fromIndex, toIndex, Date::compareTo);
+        for (int i = 0; i < length; i++) {
+            assertSame(dates2[dateIndices[i]], dates[i]);
+            if (i > fromIndex && i < toIndex) {
+                assertTrue(dates[i - 1].compareTo(dates[i]) <= 0);
+            }
+        }
+    }
+
+    @Test
+    void testSortLargeArraysWithFewDistinctValues() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var sorter = new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD, pool);
+
+            // a single distinct value, two distinct values and a few distinct
+            // values
+            for (final var maxValue : new int[]{0, 1, 10}) {
+                final var array = new double[length];
+                final var floatArray = new float[length];
+                final var intArray = new int[length];
+                final var longArray = new long[length];
+                for (int i = 0; i < length; i++) {
+                    final var value = randomizer.nextInt(0, maxValue + 1);
+                    array[i] = value;
+                    floatArray[i] = value;
+                    intArray[i] = value;
+                    longArray[i] = value;
+                }
+                final var expected = Arrays.copyOf(array, length);
+                final var expectedFloats = Arrays.copyOf(floatArray, length);
+                final var expectedInts = Arrays.copyOf(intArray, length);
+                final var expectedLongs = Arrays.copyOf(longArray, length);
+                Arrays.sort(expected);
+                Arrays.sort(expectedFloats);
+                Arrays.sort(expectedInts);
+                Arrays.sort(expectedLongs);
+
+                sorter.sort(array);
+                sorter.sort(floatArray);
+                sorter.sort(intArray);
+                sorter.sort(longArray);
+
+                assertArrayEquals(expected, array, 0.0);
+                assertArrayEquals(expectedFloats, floatArray, 0.0f);
+                assertArrayEquals(expectedInts, intArray);
+                assertArrayEquals(expectedLongs, longArray);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testGetMethod() {
+        final var sorter = new ParallelQuicksortSorter<>();
+        assertEquals(SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD, sorter.getMethod());
+    }
+}
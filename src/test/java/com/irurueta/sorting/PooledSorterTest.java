@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledSorterTest {
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int[] LENGTHS = {0, 1, 5, 40, 1000};
+
+    private static final SortingMethod[] METHODS = {
+            SortingMethod.QUICKSORT_SORTING_METHOD,
+            SortingMethod.HEAPSORT_SORTING_METHOD,
+            SortingMethod.RADIX_SORTING_METHOD,
+            SortingMethod.TIMSORT_SORTING_METHOD,
+            SortingMethod.AUTO_SORTING_METHOD
+    };
+
+    @Test
+    void testConstructor() {
+        final Sorter<Double> inner = Sorter.create(SortingMethod.HEAPSORT_SORTING_METHOD);
+        var sorter = new PooledSorter<>(inner);
+        assertSame(inner, sorter.getSorter());
+        assertNotNull(sorter.getPool());
+        assertEquals(SortingMethod.HEAPSORT_SORTING_METHOD, sorter.getMethod());
+
+        final var pool = new SortingWorkspacePool();
+        sorter = new PooledSorter<>(inner, pool);
+        assertSame(inner, sorter.getSorter());
+        assertSame(pool, sorter.getPool());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new PooledSorter<Double>(null));
+        assertThrows(IllegalArgumentException.class, () -> new PooledSorter<>(null, pool));
+        assertThrows(IllegalArgumentException.class, () -> new PooledSorter<>(inner, null));
+    }
+
+    @Test
+    void testRunScanEnabled() {
+        for (final var method : SortingMethod.values()) {
+            final Sorter<Double> inner = Sorter.create(method);
+            final var sorter = new PooledSorter<>(inner);
+            assertEquals(inner.isRunScanEnabled(), sorter.isRunScanEnabled());
+            assertEquals(inner.isRunScanWithIndicesEnabled(), sorter.isRunScanWithIndicesEnabled());
+        }
+    }
+
+    @Test
+    void testSortWithComparator() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var method : METHODS) {
+            final var pool = new SortingWorkspacePool();
+            final var sorter = new PooledSorter<>(Sorter.<Date>create(method), pool);
+            for (final var length : LENGTHS) {
+                final var array = new Date[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 0, length, Date::compareTo);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 0, length, Date::compareTo);
+                assertArrayEquals(expected, array3);
+                for (int i = 0; i < length; i++) {
+                    assertSame(array[indices[i]], array3[i]);
+                }
+
+                // borrowed workspace is returned to the pool
+                assertEquals(1, pool.getIdleCount());
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new Date[1], 1, 0, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(new Date[1], 1, 0, Date::compareTo));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(new Date[1], 0, 2, Date::compareTo));
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test
+    void testSortDoubles() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var method : METHODS) {
+            final var pool = new SortingWorkspacePool();
+            final var sorter = new PooledSorter<>(Sorter.<Double>create(method), pool);
+            for (final var length : LENGTHS) {
+                final var array = new double[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2, 0.0);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3, 0.0);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0);
+                }
+
+                assertEquals(1, pool.getIdleCount());
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new double[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new double[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new double[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortFloats() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var method : METHODS) {
+            final var pool = new SortingWorkspacePool();
+            final var sorter = new PooledSorter<>(Sorter.<Float>create(method), pool);
+            for (final var length : LENGTHS) {
+                final var array = new float[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2, 0.0f);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3, 0.0f);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0f);
+                }
+
+                assertEquals(1, pool.getIdleCount());
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new float[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new float[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new float[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortInts() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var method : METHODS) {
+            final var pool = new SortingWorkspacePool();
+            final var sorter = new PooledSorter<>(Sorter.<Integer>create(method), pool);
+            for (final var length : LENGTHS) {
+                final var array = new int[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                }
+
+                assertEquals(1, pool.getIdleCount());
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new int[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new int[1], 0, 2));
+        }
+    }
+
+    @Test
+    void testSortLongs() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+        for (final var method : METHODS) {
+            final var pool = new SortingWorkspacePool();
+            final var sorter = new PooledSorter<>(Sorter.<Long>create(method), pool);
+            for (final var length : LENGTHS) {
+                final var array = new long[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3);
+                assertArrayEquals(expected, array3);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                }
+
+                assertEquals(1, pool.getIdleCount());
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(new long[1], 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(new long[1], 1, 0));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(new long[1], 0, 2));
+        }
+    }
+}
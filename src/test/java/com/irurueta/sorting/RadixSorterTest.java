@@ -0,0 +1,602 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSorterTest {
+
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 100;
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int TIMES = 50;
+
+    private static final int LARGE_LENGTH = 100000;
+
+    @Test
+    void testSortWithComparator() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var sorter = new RadixSorter<Date>();
+            sorter.sort(array, fromIndex, toIndex, Date::compareTo);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesAndComparator() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new RadixSorter<Date>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex, Comparator.naturalOrder());
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortDoubles() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new RadixSorter<Double>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesDoubles() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new RadixSorter<Double>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortFloats() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var sorter = new RadixSorter<Float>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesFloats() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new RadixSorter<Float>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortInts() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new RadixSorter<Integer>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesInts() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new RadixSorter<Integer>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortLongs() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new RadixSorter<Long>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLongs() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new RadixSorter<Long>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortLargeDoubles() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, zeros of both signs, infinities and NaN
+        final var array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextDouble(-MAX_VALUE, MAX_VALUE);
+        }
+        for (int i = fromIndex; i + 6 < toIndex; i += 100) {
+            array[i] = -0.0;
+            array[i + 1] = 0.0;
+            array[i + 2] = Double.NaN;
+            array[i + 3] = Double.NEGATIVE_INFINITY;
+            array[i + 4] = Double.POSITIVE_INFINITY;
+            array[i + 5] = -Double.MIN_VALUE;
+            array[i + 6] = Double.MAX_VALUE;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new RadixSorter<Double>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array, 0.0);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0);
+            if (i > fromIndex && i < toIndex && Double.compare(array[i - 1], array[i]) == 0) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+
+        sorter.sort(array2);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, array2, 0.0);
+    }
+
+    @Test
+    void testSortLargeFloats() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, zeros of both signs, infinities and NaN
+        final var array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextFloat(-MAX_VALUE, MAX_VALUE);
+        }
+        for (int i = fromIndex; i + 6 < toIndex; i += 100) {
+            array[i] = -0.0f;
+            array[i + 1] = 0.0f;
+            array[i + 2] = Float.NaN;
+            array[i + 3] = Float.NEGATIVE_INFINITY;
+            array[i + 4] = Float.POSITIVE_INFINITY;
+            array[i + 5] = -Float.MIN_VALUE;
+            array[i + 6] = Float.MAX_VALUE;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new RadixSorter<Float>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array, 0.0f);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0f);
+            if (i > fromIndex && i < toIndex && Float.compare(array[i - 1], array[i]) == 0) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+
+        sorter.sort(array2);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, array2, 0.0f);
+    }
+
+    @Test
+    void testSortLargeInts() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // values cover the whole range, including negative ones
+        final var array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextInt(Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2);
+        }
+        array[fromIndex] = Integer.MIN_VALUE;
+        array[toIndex - 1] = Integer.MAX_VALUE;
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new RadixSorter<Integer>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i]);
+        }
+
+        sorter.sort(array2);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, array2);
+
+        // small values share their most significant digits and have many
+        // repetitions, so that stability can be checked
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextInt(-MAX_VALUE, MAX_VALUE);
+        }
+        final var array3 = Arrays.copyOf(array, length);
+        final var indices2 = sorter.sortWithIndices(array, fromIndex, toIndex);
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            assertEquals(array3[indices2[i]], array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices2[i - 1] < indices2[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortLargeLongs() throws SortingException {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // values cover the whole range, including negative ones
+        final var array = new long[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextLong(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2);
+        }
+        array[fromIndex] = Long.MIN_VALUE;
+        array[toIndex - 1] = Long.MAX_VALUE;
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new RadixSorter<Long>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i]);
+        }
+
+        sorter.sort(array2);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, array2);
+
+        // small values share their most significant digits and have many
+        // repetitions, so that stability can be checked
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextLong(-MAX_VALUE, MAX_VALUE);
+        }
+        final var array3 = Arrays.copyOf(array, length);
+        final var indices2 = sorter.sortWithIndices(array, fromIndex, toIndex);
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            assertEquals(array3[indices2[i]], array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices2[i - 1] < indices2[i]);
+            }
+        }
+    }
+
+    @Test
+    void testGetMethod() {
+        final var sorter = new RadixSorter<>();
+        assertEquals(SortingMethod.RADIX_SORTING_METHOD, sorter.getMethod());
+    }
+}
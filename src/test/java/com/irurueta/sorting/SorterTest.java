@@ -18,8 +18,20 @@ package com.irurueta.sorting;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,12 +40,23 @@ class SorterTest {
 
     private static final int MIN_LENGTH = 10;
     private static final int MAX_LENGTH = 100;
+    private static final int MAX_BUFFER_LENGTH = 1000;
+    private static final int BIG_SEGMENT_SIZE = 64;
 
     private static final int MIN_VALUE = 0;
     private static final int MAX_VALUE = 100;
 
     private static final int TIMES = 50;
 
+    private static final int[] WORKSPACE_LENGTHS = {2, 10, 100, 1000, 3000};
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    // quantiles of values 1 ... 10 for each method, as computed by R
+    private static final int QUANTILE_SAMPLE_LENGTH = 10;
+    private static final double[] QUANTILES_25 = {3.0, 3.0, 2.0, 2.5, 3.0, 2.75, 3.25, 35.0 / 12.0, 2.9375};
+    private static final double[] QUANTILES_50 = {5.0, 5.5, 5.0, 5.0, 5.5, 5.5, 5.5, 5.5, 5.5};
+
     @Test
     void testCreate() {
 
@@ -66,6 +89,46 @@ class SorterTest {
         sorter = Sorter.create(SortingMethod.SYSTEM_SORTING_METHOD);
         assertNotNull(sorter);
         assertEquals(SortingMethod.SYSTEM_SORTING_METHOD, sorter.getMethod());
+
+        sorter = Sorter.create(SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.PARALLEL_QUICKSORT_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(ParallelQuicksortSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.RADIX_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.RADIX_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(RadixSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.INTROSORT_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.INTROSORT_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(IntrosortSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.PDQSORT_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.PDQSORT_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(PdqSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.TIMSORT_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.TIMSORT_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(TimsortSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.PARALLEL_MERGE_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.PARALLEL_MERGE_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(ParallelMergeSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.PARALLEL_RADIX_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.PARALLEL_RADIX_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(ParallelRadixSorter.class, sorter);
+
+        sorter = Sorter.create(SortingMethod.AUTO_SORTING_METHOD);
+        assertNotNull(sorter);
+        assertEquals(SortingMethod.AUTO_SORTING_METHOD, sorter.getMethod());
+        assertInstanceOf(AutoSorter.class, sorter);
     }
 
     @Test
@@ -1469,296 +1532,327 @@ class SorterTest {
     }
 
     @Test
-    void testMedianComparablesOddLength() throws SortingException {
+    void testPartialSortWithComparator() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
             final var array = new Date[length];
-
-            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
                 array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
             final var sorter = Sorter.<Date>create();
 
-            // sort original array
-            sorter.sort(array);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
-
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
+            final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort(array2, fromIndex, toIndex, k, Date::compareTo);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k));
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices(array3, fromIndex, toIndex, k, Date::compareTo);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k));
+            for (int i = 0; i < length; i++) {
+                assertSame(array[indices[i]], array3[i]);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
-            }
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, toIndex - fromIndex + 1, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, -1, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex + 1, fromIndex, 0, Date::compareTo));
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSort(array, -1, toIndex, 0, Date::compareTo));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex, length + 1, 0, Date::compareTo));
         }
     }
 
     @Test
-    void testMedianComparablesEvenLength() throws SortingException {
+    @SuppressWarnings("unchecked")
+    void testPartialSortComparables() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
             final var array = new Date[length];
-
-            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
                 array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
             final var sorter = Sorter.<Date>create();
+            final var comparables = (Comparable<Date>[]) array;
 
-            // sort original array
-            sorter.sort(array);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
-
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
+            final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort((Comparable<Date>[]) array2, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k));
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices((Comparable<Date>[]) array3, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k));
+            for (int i = 0; i < length; i++) {
+                assertSame(array[indices[i]], array3[i]);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
-            }
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(comparables, fromIndex, toIndex, toIndex - fromIndex + 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(comparables, fromIndex, toIndex, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(comparables, fromIndex + 1, fromIndex, 0));
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSort(comparables, -1, toIndex, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(comparables, fromIndex, length + 1, 0));
         }
     }
 
     @Test
-    void testMedianComparablesWithinRange() throws SortingException {
+    void testPartialSortDoubles() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
             final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
             final var fromIndex = randomizer.nextInt(0, length - 2);
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
-            final var n = toIndex - fromIndex;
-
-            final var array = new Date[length];
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
-            // set random values into array of comparables
+            final var array = new double[length];
             for (int i = 0; i < length; i++) {
-                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
-
-            final var sorter = Sorter.<Date>create();
-
-            // sort original array
-            sorter.sort(array, fromIndex, toIndex);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 + fromIndex and elements greater than
-            // element at length / 2 + fromIndex because selection is done at
-            // length / 2 + fromIndex
-            sorter.median(array2, fromIndex, toIndex);
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex]);
-
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) <= 0);
-            }
+            final var sorter = Sorter.<Double>create();
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) >= 0);
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
+            final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort(array2, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k), 0.0);
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2, 0.0);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices(array3, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k), 0.0);
+            for (int i = 0; i < length; i++) {
+                assertEquals(array[indices[i]], array3[i], 0.0);
             }
 
             // Force IllegalArgumentException
-            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, toIndex - fromIndex + 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex + 1, fromIndex, 0));
 
             // Force ArrayIndexOutOfBoundsException
-            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
             assertThrows(ArrayIndexOutOfBoundsException.class,
-                    () -> sorter.median(array, fromIndex, length + 1));
+                    () -> sorter.partialSort(array, -1, toIndex, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex, length + 1, 0));
         }
     }
 
     @Test
-    void testMedianWithComparatorOddLength() throws SortingException {
+    void testPartialSortFloats() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
-            }
-
-            final var array = new Date[length];
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
-            // set random values into array of comparables
+            final var array = new float[length];
             for (int i = 0; i < length; i++) {
-                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Float>create();
+
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
             final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort(array2, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k), 0.0f);
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2, 0.0f);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices(array3, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k), 0.0f);
+            for (int i = 0; i < length; i++) {
+                assertEquals(array[indices[i]], array3[i], 0.0f);
+            }
 
-            final var sorter = Sorter.<Date>create();
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, toIndex - fromIndex + 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex + 1, fromIndex, 0));
 
-            // sort original array
-            sorter.sort(array);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSort(array, -1, toIndex, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex, length + 1, 0));
+        }
+    }
 
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2,
-                    new ComparatorAndAverager<>() {
+    @Test
+    void testPartialSortInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
 
-                        @Override
-                        public int compare(final Date obj1, final Date obj2) {
-                            return obj1.compareTo(obj2);
-                        }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
-                        @Override
-                        public Date average(final Date obj1, final Date obj2) {
-                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
-                        }
+            final var array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
 
-                    });
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            final var sorter = Sorter.<Integer>create();
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
+            final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort(array2, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k));
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices(array3, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k));
+            for (int i = 0; i < length; i++) {
+                assertEquals(array[indices[i]], array3[i]);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
-            }
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, toIndex - fromIndex + 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex + 1, fromIndex, 0));
 
-            // Check median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSort(array, -1, toIndex, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex, length + 1, 0));
         }
     }
 
     @Test
-    void testMedianWithComparatorEvenLength() throws SortingException {
+    void testPartialSortLongs() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
-
-            final var array = new Date[length];
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var k = randomizer.nextInt(0, toIndex - fromIndex + 1);
 
-            // set random values into array of comparables
+            final var array = new long[length];
             for (int i = 0; i < length; i++) {
-                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            final var sorter = Sorter.<Date>create();
+            final var sorter = Sorter.<Long>create();
 
-            // sort original array
-            sorter.sort(array);
+            // k smallest elements are sorted at the beginning of the range, and
+            // the remaining ones are kept within the range
+            final var array2 = Arrays.copyOf(array, length);
+            sorter.partialSort(array2, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array2, fromIndex, fromIndex + k));
+            Arrays.sort(array2, fromIndex + k, toIndex);
+            assertArrayEquals(expected, array2);
+
+            final var array3 = Arrays.copyOf(array, length);
+            final var indices = sorter.partialSortWithIndices(array3, fromIndex, toIndex, k);
+            assertArrayEquals(Arrays.copyOfRange(expected, fromIndex, fromIndex + k),
+                    Arrays.copyOfRange(array3, fromIndex, fromIndex + k));
+            for (int i = 0; i < length; i++) {
+                assertEquals(array[indices[i]], array3[i]);
+            }
 
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2,
-                    new ComparatorAndAverager<>() {
-
-                        @Override
-                        public int compare(final Date obj1, final Date obj2) {
-                            return obj1.compareTo(obj2);
-                        }
-
-                        @Override
-                        public Date average(final Date obj1, final Date obj2) {
-                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
-                        }
-
-                    });
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
-
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
-            }
-
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
-            }
-
-            // Check median value for even length
-            final Date otherMedian = new Date((long) (0.5 * (array[(length / 2) - 1].getTime()
-                    + array[length / 2].getTime())));
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, toIndex - fromIndex + 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSort(array, fromIndex, toIndex, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex + 1, fromIndex, 0));
 
-            assertEquals(otherMedian, median);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSort(array, -1, toIndex, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.partialSortWithIndices(array, fromIndex, length + 1, 0));
         }
     }
 
     @Test
-    void testMedianWithComparatorWithinRange() throws SortingException {
+    void testSelectMultipleWithComparator() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -1767,183 +1861,327 @@ class SorterTest {
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
             final var n = toIndex - fromIndex;
 
-            final var array = new Date[length];
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
+            }
 
-            // set random values into array of comparables
+            final var array = new Date[length];
             for (int i = 0; i < length; i++) {
                 array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
             final var sorter = Sorter.<Date>create();
 
-            // sort original array
-            sorter.sort(array, fromIndex, toIndex);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 + fromIndex and elements greater than
-            // element at length / 2 + fromIndex because selection is done at
-            // length / 2 + fromIndex
-            final var median = sorter.median(array2, fromIndex, toIndex,
-                    new ComparatorAndAverager<>() {
-
-                        @Override
-                        public int compare(final Date obj1, final Date obj2) {
-                            return obj1.compareTo(obj2);
-                        }
-
-                        @Override
-                        public Date average(final Date obj1, final Date obj2) {
-                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
-                        }
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, array2, fromIndex, toIndex, Date::compareTo);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q]);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex]);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i].compareTo(array2[positions[q - 1] + fromIndex]) >= 0);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i].compareTo(array2[positions[q] + fromIndex]) <= 0);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, array3, Date::compareTo);
+            assertEquals(expected3[length - 1], selected3[0]);
+            assertEquals(expected3[0], selected3[1]);
 
-                    });
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, array, fromIndex, toIndex, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, array, fromIndex, toIndex, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], array, fromIndex + 1, fromIndex, Date::compareTo));
 
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, -1, toIndex, Date::compareTo));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, fromIndex, length + 1, Date::compareTo));
+        }
+    }
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex]);
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSelectMultipleComparables() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
 
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) <= 0);
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) >= 0);
+            final var array = new Date[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
-            // Check median value
-            final Date otherMedian;
-            if ((n % 2) == 0) {
-                // even length
-                otherMedian = new Date((long) (0.5 * (array[(n / 2 + fromIndex) - 1].getTime()
-                        + array[n / 2 + fromIndex].getTime())));
-            } else {
-                otherMedian = array[n / 2 + fromIndex];
-            }
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            assertEquals(otherMedian, median);
+            final var sorter = Sorter.<Date>create();
+
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, (Comparable<Date>[]) array2, fromIndex, toIndex);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q]);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex]);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i].compareTo(array2[positions[q - 1] + fromIndex]) >= 0);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i].compareTo(array2[positions[q] + fromIndex]) <= 0);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, (Comparable<Date>[]) array3);
+            assertEquals(expected3[length - 1], selected3[0]);
+            assertEquals(expected3[0], selected3[1]);
 
             // Force IllegalArgumentException
-            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, (Comparable<Date>[]) array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, (Comparable<Date>[]) array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], (Comparable<Date>[]) array, fromIndex + 1, fromIndex));
 
             // Force ArrayIndexOutOfBoundsException
-            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
             assertThrows(ArrayIndexOutOfBoundsException.class,
-                    () -> sorter.median(array, fromIndex, length + 1));
+                    () -> sorter.select(new int[0], (Comparable<Date>[]) array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], (Comparable<Date>[]) array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianDoublesOddLength() throws SortingException {
+    void testSelectMultipleDoubles() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
+
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
             }
 
             final var array = new double[length];
-
-            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
                 array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
             final var sorter = Sorter.<Double>create();
 
-            // sort original array
-            sorter.sort(array);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
-
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
-            }
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, array2, fromIndex, toIndex);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q], 0.0);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex], 0.0);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i] >= array2[positions[q - 1] + fromIndex]);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i] <= array2[positions[q] + fromIndex]);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i], 0.0);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i], 0.0);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, array3);
+            assertEquals(expected3[length - 1], selected3[0], 0.0);
+            assertEquals(expected3[0], selected3[1], 0.0);
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
-            }
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], array, fromIndex + 1, fromIndex));
 
-            // Check median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median, 0.0);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianDoublesEvenLength() throws SortingException {
+    void testSelectMultipleFloats() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            final var array = new double[length];
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
+            }
 
-            // set random values into array of comparables
+            final var array = new float[length];
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
-
-            final var sorter = Sorter.<Double>create();
-
-            // sort original array
-            sorter.sort(array);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            final var sorter = Sorter.<Float>create();
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
-            }
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, array2, fromIndex, toIndex);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q], 0.0f);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex], 0.0f);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i] >= array2[positions[q - 1] + fromIndex]);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i] <= array2[positions[q] + fromIndex]);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i], 0.0f);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i], 0.0f);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, array3);
+            assertEquals(expected3[length - 1], selected3[0], 0.0f);
+            assertEquals(expected3[0], selected3[1], 0.0f);
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
-            }
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], array, fromIndex + 1, fromIndex));
 
-            // Check median value even length
-            final var otherMedian = 0.5 * (array[(length / 2) - 1] + array[length / 2]);
-            assertEquals(otherMedian, median, 0.0);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianDoublesWithinRange() throws SortingException {
+    void testSelectMultipleInts() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -1952,170 +2190,325 @@ class SorterTest {
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
             final var n = toIndex - fromIndex;
 
-            final var array = new double[length];
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
+            }
 
-            // set random values into array of comparables
+            final var array = new int[length];
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            final var sorter = Sorter.<Double>create();
+            final var sorter = Sorter.<Integer>create();
 
-            // sort original array
-            sorter.sort(array, fromIndex, toIndex);
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, array2, fromIndex, toIndex);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q]);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex]);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i] >= array2[positions[q - 1] + fromIndex]);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i] <= array2[positions[q] + fromIndex]);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, array3);
+            assertEquals(expected3[length - 1], selected3[0]);
+            assertEquals(expected3[0], selected3[1]);
 
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 + fromIndex and elements greater than
-            // element at length / 2 + fromIndex because selection is done at
-            // length / 2 + fromIndex
-            final var median = sorter.median(array2, fromIndex, toIndex);
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], array, fromIndex + 1, fromIndex));
 
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, fromIndex, length + 1));
+        }
+    }
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+    @Test
+    void testSelectMultipleLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
 
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
+            // random positions, possibly repeated and unsorted
+            final var ks = new int[randomizer.nextInt(0, 6)];
+            for (int q = 0; q < ks.length; q++) {
+                ks[q] = randomizer.nextInt(0, n);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
-            // Check median value
-            final double otherMedian;
-            if ((n % 2) == 0) {
-                // even length
-                otherMedian = 0.5 * (array[(n / 2 + fromIndex) - 1] +
-                        array[n / 2 + fromIndex]);
-            } else {
-                otherMedian = array[n / 2 + fromIndex];
-            }
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
 
-            assertEquals(otherMedian, median, 0.0);
+            final var sorter = Sorter.<Long>create();
+
+            final var array2 = Arrays.copyOf(array, length);
+            final var selected = sorter.select(ks, array2, fromIndex, toIndex);
+            assertEquals(ks.length, selected.length);
+            for (int q = 0; q < ks.length; q++) {
+                assertEquals(expected[ks[q] + fromIndex], selected[q]);
+                assertEquals(expected[ks[q] + fromIndex], array2[ks[q] + fromIndex]);
+            }
+
+            // elements between consecutive positions are within their values
+            final var positions = Arrays.copyOf(ks, ks.length);
+            Arrays.sort(positions);
+            for (int q = 0; q <= positions.length; q++) {
+                final var start = q == 0 ? fromIndex : positions[q - 1] + fromIndex;
+                final var end = q == positions.length ? toIndex : positions[q] + fromIndex;
+                for (int i = start; i < end; i++) {
+                    if (q > 0) {
+                        assertTrue(array2[i] >= array2[positions[q - 1] + fromIndex]);
+                    }
+                    if (q < positions.length) {
+                        assertTrue(array2[i] <= array2[positions[q] + fromIndex]);
+                    }
+                }
+            }
+
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+
+            // whole array
+            final var array3 = Arrays.copyOf(array, length);
+            final var expected3 = Arrays.copyOf(array, length);
+            Arrays.sort(expected3);
+            final var selected3 = sorter.select(new int[]{length - 1, 0}, array3);
+            assertEquals(expected3[length - 1], selected3[0]);
+            assertEquals(expected3[0], selected3[1]);
 
             // Force IllegalArgumentException
-            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{n}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[]{-1}, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(new int[0], array, fromIndex + 1, fromIndex));
 
             // Force ArrayIndexOutOfBoundsException
-            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
             assertThrows(ArrayIndexOutOfBoundsException.class,
-                    () -> sorter.median(array, fromIndex, length + 1));
+                    () -> sorter.select(new int[0], array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(new int[0], array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianFloatsOddLength() throws SortingException {
+    void testQuantileMethods() {
+        final var sorter = Sorter.<Double>create();
+        final var methods = QuantileMethod.values();
+        for (int m = 0; m < methods.length; m++) {
+            final var method = methods[m];
+
+            // values 1 ... 10 stored in reverse order
+            final var array = new double[QUANTILE_SAMPLE_LENGTH];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = array.length - i;
+            }
+
+            final var quantiles = sorter.quantiles(new double[]{0.0, 0.25, 0.5, 1.0}, array, method);
+            assertEquals(1.0, quantiles[0], ABSOLUTE_ERROR);
+            assertEquals(QUANTILES_25[m], quantiles[1], ABSOLUTE_ERROR);
+            assertEquals(QUANTILES_50[m], quantiles[2], ABSOLUTE_ERROR);
+            assertEquals(10.0, quantiles[3], ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testQuantileDoubles() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
-            }
-
-            final var array = new float[length];
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            // set random values into array of comparables
+            final var array = new double[length];
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
-
-            final var sorter = Sorter.<Float>create();
-
-            // sort original array
-            sorter.sort(array);
+            final var sorted = Arrays.copyOfRange(array, fromIndex, toIndex);
+            Arrays.sort(sorted);
 
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            final var sorter = Sorter.<Double>create();
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            // linear interpolation between closest ranks
+            final var ps = new double[]{randomizer.nextDouble(0.0, 1.0), 0.0, 1.0, 0.5, 0.9};
+            final var array2 = Arrays.copyOf(array, length);
+            final var quantiles = sorter.quantiles(ps, array2, fromIndex, toIndex,
+                    QuantileMethod.LINEAR_QUANTILE_METHOD);
+            assertEquals(ps.length, quantiles.length);
+            for (int q = 0; q < ps.length; q++) {
+                final var h = (n - 1) * ps[q];
+                final var lower = (int) Math.floor(h);
+                final var expected = lower + 1 < n
+                        ? sorted[lower] + (h - lower) * ((double) sorted[lower + 1] - sorted[lower])
+                        : sorted[lower];
+                assertEquals(expected, quantiles[q], ABSOLUTE_ERROR);
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                final var array3 = Arrays.copyOf(array, length);
+                assertEquals(quantiles[q], sorter.quantile(ps[q], array3, fromIndex, toIndex,
+                        QuantileMethod.LINEAR_QUANTILE_METHOD), ABSOLUTE_ERROR);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
             }
 
-            // Check median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median, 0.0);
+            // whole array using default method
+            final var whole = Arrays.copyOf(array, length);
+            final var sortedWhole = Arrays.copyOf(array, length);
+            Arrays.sort(sortedWhole);
+            assertEquals(sortedWhole[0], sorter.quantile(0.0, whole), ABSOLUTE_ERROR);
+            assertEquals(sortedWhole[length - 1], sorter.quantiles(new double[]{1.0}, whole)[0], ABSOLUTE_ERROR);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(-0.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(1.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantiles(new double[]{Double.NaN}, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, array, null));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, new double[0]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.quantiles(ps, array, fromIndex, fromIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantiles(ps, array, -1, toIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantile(0.5, array, fromIndex, length + 1, QuantileMethod.LINEAR_QUANTILE_METHOD));
         }
     }
 
     @Test
-    void testMedianFloatsEvenLength() throws SortingException {
+    void testQuantileFloats() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
             final var array = new float[length];
-
-            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
                 array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
-            final var array2 = Arrays.copyOf(array, length);
+            final var sorted = Arrays.copyOfRange(array, fromIndex, toIndex);
+            Arrays.sort(sorted);
 
             final var sorter = Sorter.<Float>create();
 
-            // sort original array
-            sorter.sort(array);
-
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
-
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            // linear interpolation between closest ranks
+            final var ps = new double[]{randomizer.nextDouble(0.0, 1.0), 0.0, 1.0, 0.5, 0.9};
+            final var array2 = Arrays.copyOf(array, length);
+            final var quantiles = sorter.quantiles(ps, array2, fromIndex, toIndex,
+                    QuantileMethod.LINEAR_QUANTILE_METHOD);
+            assertEquals(ps.length, quantiles.length);
+            for (int q = 0; q < ps.length; q++) {
+                final var h = (n - 1) * ps[q];
+                final var lower = (int) Math.floor(h);
+                final var expected = lower + 1 < n
+                        ? sorted[lower] + (h - lower) * ((double) sorted[lower + 1] - sorted[lower])
+                        : sorted[lower];
+                assertEquals(expected, quantiles[q], ABSOLUTE_ERROR);
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                final var array3 = Arrays.copyOf(array, length);
+                assertEquals(quantiles[q], sorter.quantile(ps[q], array3, fromIndex, toIndex,
+                        QuantileMethod.LINEAR_QUANTILE_METHOD), ABSOLUTE_ERROR);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
             }
 
-            // Check median value even length
-            final var otherMedian = 0.5f * (array[(length / 2) - 1] + array[length / 2]);
-            assertEquals(otherMedian, median, 0.0);
+            // whole array using default method
+            final var whole = Arrays.copyOf(array, length);
+            final var sortedWhole = Arrays.copyOf(array, length);
+            Arrays.sort(sortedWhole);
+            assertEquals(sortedWhole[0], sorter.quantile(0.0, whole), ABSOLUTE_ERROR);
+            assertEquals(sortedWhole[length - 1], sorter.quantiles(new double[]{1.0}, whole)[0], ABSOLUTE_ERROR);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(-0.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(1.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantiles(new double[]{Double.NaN}, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, array, null));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, new float[0]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.quantiles(ps, array, fromIndex, fromIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantiles(ps, array, -1, toIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantile(0.5, array, fromIndex, length + 1, QuantileMethod.LINEAR_QUANTILE_METHOD));
         }
     }
 
     @Test
-    void testMedianFloatsWithinRange() throws SortingException {
+    void testQuantileInts() {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2124,67 +2517,254 @@ class SorterTest {
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
             final var n = toIndex - fromIndex;
 
-            final var array = new float[length];
-
-            // set random values into array of comparables
+            final var array = new int[length];
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
             }
 
+            final var sorted = Arrays.copyOfRange(array, fromIndex, toIndex);
+            Arrays.sort(sorted);
+
+            final var sorter = Sorter.<Integer>create();
+
+            // linear interpolation between closest ranks
+            final var ps = new double[]{randomizer.nextDouble(0.0, 1.0), 0.0, 1.0, 0.5, 0.9};
             final var array2 = Arrays.copyOf(array, length);
+            final var quantiles = sorter.quantiles(ps, array2, fromIndex, toIndex,
+                    QuantileMethod.LINEAR_QUANTILE_METHOD);
+            assertEquals(ps.length, quantiles.length);
+            for (int q = 0; q < ps.length; q++) {
+                final var h = (n - 1) * ps[q];
+                final var lower = (int) Math.floor(h);
+                final var expected = lower + 1 < n
+                        ? sorted[lower] + (h - lower) * ((double) sorted[lower + 1] - sorted[lower])
+                        : sorted[lower];
+                assertEquals(expected, quantiles[q], ABSOLUTE_ERROR);
 
-            final var sorter = Sorter.<Float>create();
+                final var array3 = Arrays.copyOf(array, length);
+                assertEquals(quantiles[q], sorter.quantile(ps[q], array3, fromIndex, toIndex,
+                        QuantileMethod.LINEAR_QUANTILE_METHOD), ABSOLUTE_ERROR);
+            }
 
-            // sort original array
-            sorter.sort(array, fromIndex, toIndex);
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
+            }
 
-            // after median computation array2 will contain elements smaller than
-            // element at length / 2 + fromIndex and elements greater than
-            // element at length / 2 + fromIndex because selection is done at
-            // length / 2 + fromIndex
-            final var median = sorter.median(array2, fromIndex, toIndex);
+            // whole array using default method
+            final var whole = Arrays.copyOf(array, length);
+            final var sortedWhole = Arrays.copyOf(array, length);
+            Arrays.sort(sortedWhole);
+            assertEquals(sortedWhole[0], sorter.quantile(0.0, whole), ABSOLUTE_ERROR);
+            assertEquals(sortedWhole[length - 1], sorter.quantiles(new double[]{1.0}, whole)[0], ABSOLUTE_ERROR);
 
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(-0.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(1.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantiles(new double[]{Double.NaN}, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, array, null));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, new int[0]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.quantiles(ps, array, fromIndex, fromIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
 
-            // for that reason element at length / 2 is the same on sorted and
-            // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantiles(ps, array, -1, toIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantile(0.5, array, fromIndex, length + 1, QuantileMethod.LINEAR_QUANTILE_METHOD));
+        }
+    }
 
+    @Test
+    void testQuantileLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
 
-            // check that elements in array2[0] ... array2[pos - 1] are lower
-            // than selected value
-            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
+
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
-            // check that elements int array2[pos + 1] ... array2[length - 1] are
-            // greater than selected value
-            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
+            final var sorted = Arrays.copyOfRange(array, fromIndex, toIndex);
+            Arrays.sort(sorted);
+
+            final var sorter = Sorter.<Long>create();
+
+            // linear interpolation between closest ranks
+            final var ps = new double[]{randomizer.nextDouble(0.0, 1.0), 0.0, 1.0, 0.5, 0.9};
+            final var array2 = Arrays.copyOf(array, length);
+            final var quantiles = sorter.quantiles(ps, array2, fromIndex, toIndex,
+                    QuantileMethod.LINEAR_QUANTILE_METHOD);
+            assertEquals(ps.length, quantiles.length);
+            for (int q = 0; q < ps.length; q++) {
+                final var h = (n - 1) * ps[q];
+                final var lower = (int) Math.floor(h);
+                final var expected = lower + 1 < n
+                        ? sorted[lower] + (h - lower) * ((double) sorted[lower + 1] - sorted[lower])
+                        : sorted[lower];
+                assertEquals(expected, quantiles[q], ABSOLUTE_ERROR);
+
+                final var array3 = Arrays.copyOf(array, length);
+                assertEquals(quantiles[q], sorter.quantile(ps[q], array3, fromIndex, toIndex,
+                        QuantileMethod.LINEAR_QUANTILE_METHOD), ABSOLUTE_ERROR);
             }
 
-            // Check median value
-            final float otherMedian;
-            if ((n % 2) == 0) {
-                // even length
-                otherMedian = 0.5f * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]);
-            } else {
-                otherMedian = array[n / 2 + fromIndex];
+            // elements outside range are not modified
+            for (int i = 0; i < fromIndex; i++) {
+                assertEquals(array[i], array2[i]);
+            }
+            for (int i = toIndex; i < length; i++) {
+                assertEquals(array[i], array2[i]);
             }
 
-            assertEquals(otherMedian, median, 0.0);
+            // whole array using default method
+            final var whole = Arrays.copyOf(array, length);
+            final var sortedWhole = Arrays.copyOf(array, length);
+            Arrays.sort(sortedWhole);
+            assertEquals(sortedWhole[0], sorter.quantile(0.0, whole), ABSOLUTE_ERROR);
+            assertEquals(sortedWhole[length - 1], sorter.quantiles(new double[]{1.0}, whole)[0], ABSOLUTE_ERROR);
 
             // Force IllegalArgumentException
-            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(-0.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(1.1, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantiles(new double[]{Double.NaN}, array));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, array, null));
+            assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, new long[0]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.quantiles(ps, array, fromIndex, fromIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
 
             // Force ArrayIndexOutOfBoundsException
-            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
             assertThrows(ArrayIndexOutOfBoundsException.class,
-                    () -> sorter.median(array, fromIndex, length + 1));
+                    () -> sorter.quantiles(ps, array, -1, toIndex, QuantileMethod.LINEAR_QUANTILE_METHOD));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.quantile(0.5, array, fromIndex, length + 1, QuantileMethod.LINEAR_QUANTILE_METHOD));
         }
     }
 
     @Test
-    void testMedianIntsOddLength() throws SortingException {
+    void testQuantileWithComparator() {
+        final var sorter = Sorter.<Double>create();
+        final var methods = QuantileMethod.values();
+
+        // comparator overriding interpolation
+        final var exact = new ComparatorAndAverager<Double>() {
+            @Override
+            public int compare(final Double t1, final Double t2) {
+                return Double.compare(t1, t2);
+            }
+
+            @Override
+            public Double average(final Double t1, final Double t2) {
+                return 0.5 * (t1 + t2);
+            }
+
+            @Override
+            public Double interpolate(final Double t1, final Double t2, final double weight) {
+                return (1.0 - weight) * t1 + weight * t2;
+            }
+        };
+
+        // comparator not implementing interpolation, only valid for discontinuous methods
+        final ComparatorAndAverager<Double> averaging = new ComparatorAndAverager<>() {
+            @Override
+            public int compare(final Double t1, final Double t2) {
+                return Double.compare(t1, t2);
+            }
+
+            @Override
+            public Double average(final Double t1, final Double t2) {
+                return 0.5 * (t1 + t2);
+            }
+        };
+
+        for (int m = 0; m < methods.length; m++) {
+            final var comparators = m < 3 ? List.of(exact, averaging) : List.of(exact);
+            for (final var comparator : comparators) {
+                final var array = new Double[QUANTILE_SAMPLE_LENGTH + 2];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = (double) (array.length - i);
+                }
+
+                // values 1 ... 10 are within positions 1 and 11
+                final var array2 = Arrays.copyOf(array, array.length);
+                final var quantiles = sorter.quantiles(new double[]{0.5, 0.25}, array2, 1,
+                        QUANTILE_SAMPLE_LENGTH + 1, methods[m], comparator);
+                assertEquals(QUANTILES_50[m] + 1.0, quantiles[0], ABSOLUTE_ERROR);
+                assertEquals(QUANTILES_25[m] + 1.0, quantiles[1], ABSOLUTE_ERROR);
+                assertEquals(array[0], array2[0]);
+                assertEquals(array[array.length - 1], array2[array.length - 1]);
+
+                final var array3 = Arrays.copyOf(array, array.length);
+                assertEquals(QUANTILES_25[m] + 1.0, sorter.quantile(0.25, array3, 1,
+                        QUANTILE_SAMPLE_LENGTH + 1, methods[m], comparator), ABSOLUTE_ERROR);
+            }
+        }
+
+        final var array = new Double[]{4.0, 1.0, 3.0, 2.0};
+        assertEquals(1.75, sorter.quantile(0.25, array, exact), 0.0);
+        assertEquals(2.5, sorter.quantile(0.5, array, QuantileMethod.AVERAGED_INVERTED_CDF_QUANTILE_METHOD,
+                averaging), 0.0);
+
+        // Force UnsupportedOperationException
+        assertThrows(UnsupportedOperationException.class, () -> sorter.quantile(0.25, array, averaging));
+        assertThrows(UnsupportedOperationException.class,
+                () -> sorter.quantiles(new double[]{1.0}, array, averaging));
+        assertThrows(UnsupportedOperationException.class,
+                () -> sorter.quantile(0.0, array, QuantileMethod.HAZEN_QUANTILE_METHOD, averaging));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> sorter.quantile(2.0, array, averaging));
+        assertThrows(IllegalArgumentException.class, () -> sorter.quantile(0.5, new Double[0], averaging));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testQuantileComparables() {
+        final var sorter = Sorter.<Double>create();
+        final var methods = QuantileMethod.values();
+        for (int m = 0; m < methods.length; m++) {
+            final var array = new Double[QUANTILE_SAMPLE_LENGTH];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (double) (array.length - i);
+            }
+
+            final var comparables = (Comparable<Double>[]) array;
+            final var quantiles = sorter.quantiles(new double[]{0.25, 0.5}, comparables, methods[m]);
+            assertEquals(QUANTILES_25[m], quantiles[0], ABSOLUTE_ERROR);
+            assertEquals(QUANTILES_50[m], quantiles[1], ABSOLUTE_ERROR);
+            assertEquals(QUANTILES_50[m], sorter.quantile(0.5, comparables, methods[m]), ABSOLUTE_ERROR);
+        }
+
+        // boxed integers are interpolated linearly and truncated
+        final var integers = new Integer[]{10, 20, 30, 40};
+        final var comparables = (Comparable<Integer>[]) integers;
+        final var integerSorter = Sorter.<Integer>create();
+        assertEquals(20, integerSorter.quantile(1.0 / 3.0, comparables));
+        assertEquals(25, integerSorter.quantiles(new double[]{0.5}, comparables)[0]);
+        assertEquals(40, integerSorter.quantile(1.0, comparables, 0, 4, QuantileMethod.LINEAR_QUANTILE_METHOD));
+        assertEquals(10, integerSorter.quantiles(new double[]{0.0}, comparables, 0, 4,
+                QuantileMethod.LINEAR_QUANTILE_METHOD)[0]);
+
+        // averageable instances not implementing interpolation only support discontinuous methods
+        final var dates = new AverageableDate[]{new AverageableDate(new Date(3000L)),
+                new AverageableDate(new Date(1000L))};
+        final var dateComparables = (Comparable<AverageableDate>[]) dates;
+        final var dateSorter = Sorter.<AverageableDate>create();
+        assertEquals(new AverageableDate(new Date(2000L)), dateSorter.quantile(0.5, dateComparables,
+                QuantileMethod.AVERAGED_INVERTED_CDF_QUANTILE_METHOD));
+        assertThrows(UnsupportedOperationException.class, () -> dateSorter.quantile(0.5, dateComparables));
+    }
+
+    @Test
+    void testMedianComparablesOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2193,16 +2773,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new int[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Integer>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array);
@@ -2214,18 +2794,18 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            assertEquals(array[length / 2], array2[length / 2]);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
             }
 
             // Check that median value
@@ -2235,7 +2815,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianIntsEvenLength() throws SortingException {
+    void testMedianComparablesEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2244,16 +2824,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new int[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Integer>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array);
@@ -2265,29 +2845,28 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            assertEquals(array[length / 2], array2[length / 2]);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
             }
 
-            // Check median value even length
-            final int otherMedian = (int) (0.5 * (array[(length / 2) - 1] + array[length / 2]));
-
+            // Check that median value
+            final var otherMedian = array[length / 2];
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianIntsWithinRange() throws SortingException {
+    void testMedianComparablesWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2296,16 +2875,16 @@ class SorterTest {
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
             final var n = toIndex - fromIndex;
 
-            final var array = new int[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Integer>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array, fromIndex, toIndex);
@@ -2314,37 +2893,25 @@ class SorterTest {
             // element at length / 2 + fromIndex and elements greater than
             // element at length / 2 + fromIndex because selection is done at
             // length / 2 + fromIndex
-            final var median = sorter.median(array2, fromIndex, toIndex);
-
+            sorter.median(array2, fromIndex, toIndex);
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex]);
 
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
+                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
-            }
-
-            // Check median value
-            final int otherMedian;
-            if ((n % 2) == 0) {
-                // even length
-                otherMedian = (int) (0.5 * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]));
-            } else {
-                otherMedian = array[n / 2 + fromIndex];
+                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) >= 0);
             }
 
-            assertEquals(otherMedian, median);
-
             // Force IllegalArgumentException
             assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
 
@@ -2356,7 +2923,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianLongsOddLength() throws SortingException {
+    void testMedianWithComparatorOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2365,16 +2932,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new long[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Long>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array);
@@ -2382,32 +2949,45 @@ class SorterTest {
             // after median computation array2 will contain elements smaller than
             // element at length / 2 and elements greater than element at
             // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            final var median = sorter.median(array2,
+                    new ComparatorAndAverager<>() {
+
+                        @Override
+                        public int compare(final Date obj1, final Date obj2) {
+                            return obj1.compareTo(obj2);
+                        }
+
+                        @Override
+                        public Date average(final Date obj1, final Date obj2) {
+                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
+                        }
+
+                    });
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            assertEquals(array[length / 2], array2[length / 2]);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
             }
 
-            // Check that median value
+            // Check median value
             final var otherMedian = array[length / 2];
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianLongsEvenLength() throws SortingException {
+    void testMedianWithComparatorEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2416,16 +2996,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new long[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Long>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array);
@@ -2433,33 +3013,47 @@ class SorterTest {
             // after median computation array2 will contain elements smaller than
             // element at length / 2 and elements greater than element at
             // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            final var median = sorter.median(array2,
+                    new ComparatorAndAverager<>() {
+
+                        @Override
+                        public int compare(final Date obj1, final Date obj2) {
+                            return obj1.compareTo(obj2);
+                        }
+
+                        @Override
+                        public Date average(final Date obj1, final Date obj2) {
+                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
+                        }
+
+                    });
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2], 0.0);
+            assertEquals(array[length / 2], array2[length / 2]);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i] <= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i] >= array[length / 2]);
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
             }
 
-            // Check median value even length
-            final var otherMedian = (long) (0.5 * (array[(length / 2) - 1] + array[length / 2]));
+            // Check median value for even length
+            final Date otherMedian = new Date((long) (0.5 * (array[(length / 2) - 1].getTime()
+                    + array[length / 2].getTime())));
 
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianLongsWithinRange() throws SortingException {
+    void testMedianWithComparatorWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2468,16 +3062,16 @@ class SorterTest {
             final var toIndex = randomizer.nextInt(fromIndex + 1, length);
             final var n = toIndex - fromIndex;
 
-            final var array = new long[length];
+            final var array = new Date[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Long>create();
+            final var sorter = Sorter.<Date>create();
 
             // sort original array
             sorter.sort(array, fromIndex, toIndex);
@@ -2486,31 +3080,45 @@ class SorterTest {
             // element at length / 2 + fromIndex and elements greater than
             // element at length / 2 + fromIndex because selection is done at
             // length / 2 + fromIndex
-            final var median = sorter.median(array2, fromIndex, toIndex);
+            final var median = sorter.median(array2, fromIndex, toIndex,
+                    new ComparatorAndAverager<>() {
+
+                        @Override
+                        public int compare(final Date obj1, final Date obj2) {
+                            return obj1.compareTo(obj2);
+                        }
+
+                        @Override
+                        public Date average(final Date obj1, final Date obj2) {
+                            return new Date((long) (0.5 * (obj1.getTime() + obj2.getTime())));
+                        }
+
+                    });
 
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex]);
 
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
-                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
+                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) <= 0);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
-                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
+                assertTrue(array2[i].compareTo(array[n / 2 + fromIndex]) >= 0);
             }
 
             // Check median value
-            final long otherMedian;
+            final Date otherMedian;
             if ((n % 2) == 0) {
                 // even length
-                otherMedian = (long) (0.5 * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]));
+                otherMedian = new Date((long) (0.5 * (array[(n / 2 + fromIndex) - 1].getTime()
+                        + array[n / 2 + fromIndex].getTime())));
             } else {
                 otherMedian = array[n / 2 + fromIndex];
             }
@@ -2528,7 +3136,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianComparableAndAverageablesOddLength() throws SortingException {
+    void testMedianDoublesOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2537,16 +3145,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new AverageableDate[length];
+            final var array = new double[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = new AverageableDate(new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE)));
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<AverageableDate>create();
+            final var sorter = Sorter.<Double>create();
 
             // sort original array
             sorter.sort(array);
@@ -2558,28 +3166,28 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check that median value
+            // Check median value
             final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            assertEquals(otherMedian, median, 0.0);
         }
     }
 
     @Test
-    void testMedianComparableAndAverageablesEvenLength() throws SortingException {
+    void testMedianDoublesEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2588,16 +3196,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new AverageableDate[length];
+            final var array = new double[length];
 
             // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = new AverageableDate(new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE)));
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<AverageableDate>create();
+            final var sorter = Sorter.<Double>create();
 
             // sort original array
             sorter.sort(array);
@@ -2609,97 +3217,116 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check median value
-            final var otherMedian = array[length / 2 - 1].averageWith(array[length / 2]);
-            assertEquals(otherMedian, median);
+            // Check median value even length
+            final var otherMedian = 0.5 * (array[(length / 2) - 1] + array[length / 2]);
+            assertEquals(otherMedian, median, 0.0);
         }
     }
 
     @Test
-    void testMedianBytesOddLength() throws SortingException {
+    void testMedianDoublesWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            final var array = new Byte[length];
+            final var array = new double[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (byte) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Byte>create();
+            final var sorter = Sorter.<Double>create();
 
             // sort original array
-            sorter.sort(array);
+            sorter.sort(array, fromIndex, toIndex);
 
             // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            // element at length / 2 + fromIndex and elements greater than
+            // element at length / 2 + fromIndex because selection is done at
+            // length / 2 + fromIndex
+            final var median = sorter.median(array2, fromIndex, toIndex);
+
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
+                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
             }
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            // Check median value
+            final double otherMedian;
+            if ((n % 2) == 0) {
+                // even length
+                otherMedian = 0.5 * (array[(n / 2 + fromIndex) - 1] +
+                        array[n / 2 + fromIndex]);
+            } else {
+                otherMedian = array[n / 2 + fromIndex];
+            }
+
+            assertEquals(otherMedian, median, 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.median(array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianBytesEvenLength() throws SortingException {
+    void testMedianFloatsOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
             var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
+            if (length % 2 == 0) {
                 length++;
             }
 
-            final var array = new Byte[length];
+            final var array = new float[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (byte) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
+                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Byte>create();
+            final var sorter = Sorter.<Float>create();
 
             // sort original array
             sorter.sort(array);
@@ -2711,46 +3338,46 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
             // Check median value
-            final var otherMedian = (byte) ((array[length / 2 - 1] + array[length / 2]) / 2);
-            assertEquals(otherMedian, median);
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median, 0.0);
         }
     }
 
     @Test
-    void testMedianCharactersOddLength() throws SortingException {
+    void testMedianFloatsEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
             var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
+            if (length % 2 != 0) {
                 length++;
             }
 
-            final var array = new Character[length];
+            final var array = new float[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (char) randomizer.nextInt(Character.MIN_VALUE, Character.MAX_VALUE);
+                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Character>create();
+            final var sorter = Sorter.<Float>create();
 
             // sort original array
             sorter.sort(array);
@@ -2762,79 +3389,97 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
-            assertEquals(otherMedian, median);
+            // Check median value even length
+            final var otherMedian = 0.5f * (array[(length / 2) - 1] + array[length / 2]);
+            assertEquals(otherMedian, median, 0.0);
         }
     }
 
     @Test
-    void testMedianCharactersEvenLength() throws SortingException {
+    void testMedianFloatsWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            final var array = new Character[length];
+            final var array = new float[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (char) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
+                array[i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Character>create();
+            final var sorter = Sorter.<Float>create();
 
             // sort original array
-            sorter.sort(array);
+            sorter.sort(array, fromIndex, toIndex);
 
             // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            // element at length / 2 + fromIndex and elements greater than
+            // element at length / 2 + fromIndex because selection is done at
+            // length / 2 + fromIndex
+            final var median = sorter.median(array2, fromIndex, toIndex);
+
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
+                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
             }
 
             // Check median value
-            final var otherMedian = (char) ((array[length / 2 - 1] + array[length / 2]) / 2);
-            assertEquals(otherMedian, median);
+            final float otherMedian;
+            if ((n % 2) == 0) {
+                // even length
+                otherMedian = 0.5f * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]);
+            } else {
+                otherMedian = array[n / 2 + fromIndex];
+            }
+
+            assertEquals(otherMedian, median, 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.median(array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianShortsOddLength() throws SortingException {
+    void testMedianIntsOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2843,16 +3488,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Short[length];
+            final var array = new int[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (short) randomizer.nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Short>create();
+            final var sorter = Sorter.<Integer>create();
 
             // sort original array
             sorter.sort(array);
@@ -2864,18 +3509,18 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
             // Check that median value
@@ -2885,7 +3530,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianShortsEvenLength() throws SortingException {
+    void testMedianIntsEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -2894,16 +3539,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Short[length];
+            final var array = new int[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (short) randomizer.nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Short>create();
+            final var sorter = Sorter.<Integer>create();
 
             // sort original array
             sorter.sort(array);
@@ -2915,39 +3560,40 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check median value
-            final var otherMedian = (short) ((array[length / 2 - 1] + array[length / 2]) / 2);
+            // Check median value even length
+            final int otherMedian = (int) (0.5 * (array[(length / 2) - 1] + array[length / 2]));
+
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianIntegersOddLength() throws SortingException {
+    void testMedianIntsWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            final var array = new Integer[length];
+            final var array = new int[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
                 array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
             }
@@ -2957,55 +3603,73 @@ class SorterTest {
             final var sorter = Sorter.<Integer>create();
 
             // sort original array
-            sorter.sort(array);
+            sorter.sort(array, fromIndex, toIndex);
 
             // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            // element at length / 2 + fromIndex and elements greater than
+            // element at length / 2 + fromIndex because selection is done at
+            // length / 2 + fromIndex
+            final var median = sorter.median(array2, fromIndex, toIndex);
+
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
+                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
+            }
+
+            // Check median value
+            final int otherMedian;
+            if ((n % 2) == 0) {
+                // even length
+                otherMedian = (int) (0.5 * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]));
+            } else {
+                otherMedian = array[n / 2 + fromIndex];
             }
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
             assertEquals(otherMedian, median);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.median(array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianIntegersEvenLength() throws SortingException {
+    void testMedianLongsOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
             var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
+            if (length % 2 == 0) {
                 length++;
             }
 
-            final var array = new Integer[length];
+            final var array = new long[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Integer>create();
+            final var sorter = Sorter.<Long>create();
 
             // sort original array
             sorter.sort(array);
@@ -3017,41 +3681,41 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check median value
-            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            // Check that median value
+            final var otherMedian = array[length / 2];
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianLongsOddLength2() throws SortingException {
+    void testMedianLongsEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
             var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 == 0) {
+            if (length % 2 != 0) {
                 length++;
             }
 
-            final var array = new Long[length];
+            final var array = new long[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (long) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
@@ -3068,41 +3732,42 @@ class SorterTest {
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[length / 2], array2[length / 2], 0.0);
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
             for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+                assertTrue(array2[i] <= array[length / 2]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
             for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+                assertTrue(array2[i] >= array[length / 2]);
             }
 
-            // Check that median value
-            final var otherMedian = array[length / 2];
+            // Check median value even length
+            final var otherMedian = (long) (0.5 * (array[(length / 2) - 1] + array[length / 2]));
+
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianLongsEvenLength2() throws SortingException {
+    void testMedianLongsWithinRange() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
-            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
-            if (length % 2 != 0) {
-                length++;
-            }
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var n = toIndex - fromIndex;
 
-            final var array = new Long[length];
+            final var array = new long[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (long) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
@@ -3110,37 +3775,55 @@ class SorterTest {
             final var sorter = Sorter.<Long>create();
 
             // sort original array
-            sorter.sort(array);
+            sorter.sort(array, fromIndex, toIndex);
 
             // after median computation array2 will contain elements smaller than
-            // element at length / 2 and elements greater than element at
-            // length / 2 because selection is done at length / 2
-            final var median = sorter.median(array2);
+            // element at length / 2 + fromIndex and elements greater than
+            // element at length / 2 + fromIndex because selection is done at
+            // length / 2 + fromIndex
+            final var median = sorter.median(array2, fromIndex, toIndex);
+
 
             // for that reason element at length / 2 is the same on sorted and
             // selected arrays
-            assertEquals(array[length / 2], array2[length / 2]);
+            assertEquals(array[n / 2 + fromIndex], array2[n / 2 + fromIndex], 0.0);
+
 
             // check that elements in array2[0] ... array2[pos - 1] are lower
             // than selected value
-            for (int i = 0; i < length / 2; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            for (int i = fromIndex; i < n / 2 + fromIndex; i++) {
+                assertTrue(array2[i] <= array[n / 2 + fromIndex]);
             }
 
             // check that elements int array2[pos + 1] ... array2[length - 1] are
             // greater than selected value
-            for (int i = length / 2 + 1; i < length; i++) {
-                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            for (int i = n / 2 + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array2[i] >= array[n / 2 + fromIndex]);
             }
 
             // Check median value
-            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            final long otherMedian;
+            if ((n % 2) == 0) {
+                // even length
+                otherMedian = (long) (0.5 * (array[(n / 2 + fromIndex) - 1] + array[n / 2 + fromIndex]));
+            } else {
+                otherMedian = array[n / 2 + fromIndex];
+            }
+
             assertEquals(otherMedian, median);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.median(array, fromIndex, length + 1));
         }
     }
 
     @Test
-    void testMedianFloatsOddLength2() throws SortingException {
+    void testMedianComparableAndAverageablesOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -3149,16 +3832,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Float[length];
+            final var array = new AverageableDate[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (float) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = new AverageableDate(new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE)));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Float>create();
+            final var sorter = Sorter.<AverageableDate>create();
 
             // sort original array
             sorter.sort(array);
@@ -3191,7 +3874,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianFloatsEvenLength2() throws SortingException {
+    void testMedianComparableAndAverageablesEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -3200,16 +3883,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Float[length];
+            final var array = new AverageableDate[length];
 
-            // set random values into array of bytes
+            // set random values into array of comparables
             for (int i = 0; i < length; i++) {
-                array[i] = (float) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = new AverageableDate(new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE)));
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Float>create();
+            final var sorter = Sorter.<AverageableDate>create();
 
             // sort original array
             sorter.sort(array);
@@ -3236,13 +3919,13 @@ class SorterTest {
             }
 
             // Check median value
-            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            final var otherMedian = array[length / 2 - 1].averageWith(array[length / 2]);
             assertEquals(otherMedian, median);
         }
     }
 
     @Test
-    void testMedianDoublesOddLength2() throws SortingException {
+    void testMedianBytesOddLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -3251,16 +3934,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Double[length];
+            final var array = new Byte[length];
 
             // set random values into array of bytes
             for (int i = 0; i < length; i++) {
-                array[i] = (double) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = (byte) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Double>create();
+            final var sorter = Sorter.<Byte>create();
 
             // sort original array
             sorter.sort(array);
@@ -3293,7 +3976,7 @@ class SorterTest {
     }
 
     @Test
-    void testMedianDoublesEvenLength2() throws SortingException {
+    void testMedianBytesEvenLength() throws SortingException {
         for (int t = 0; t < TIMES; t++) {
             final var randomizer = new UniformRandomizer();
 
@@ -3302,16 +3985,16 @@ class SorterTest {
                 length++;
             }
 
-            final var array = new Double[length];
+            final var array = new Byte[length];
 
             // set random values into array of bytes
             for (int i = 0; i < length; i++) {
-                array[i] = (double) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                array[i] = (byte) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
             }
 
             final var array2 = Arrays.copyOf(array, length);
 
-            final var sorter = Sorter.<Double>create();
+            final var sorter = Sorter.<Byte>create();
 
             // sort original array
             sorter.sort(array);
@@ -3338,45 +4021,2617 @@ class SorterTest {
             }
 
             // Check median value
-            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            final var otherMedian = (byte) ((array[length / 2 - 1] + array[length / 2]) / 2);
             assertEquals(otherMedian, median);
         }
     }
 
-    private static class AverageableDate implements ComparableAndAverageable<AverageableDate> {
+    @Test
+    void testMedianCharactersOddLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
 
-        private final Date date;
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
 
-        public AverageableDate(final Date date) {
-            this.date = date;
+            final var array = new Character[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (char) randomizer.nextInt(Character.MIN_VALUE, Character.MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Character>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
         }
+    }
 
-        @Override
-        public AverageableDate averageWith(AverageableDate other) {
-            return new AverageableDate(new Date((date.getTime() + other.date.getTime()) / 2));
+    @Test
+    void testMedianCharactersEvenLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
+            }
+
+            final var array = new Character[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (char) randomizer.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Character>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = (char) ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
         }
+    }
 
-        @Override
-        public int compareTo(AverageableDate o) {
-            return date.compareTo(o.date);
+    @Test
+    void testMedianShortsOddLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
+
+            final var array = new Short[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (short) randomizer.nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Short>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
         }
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+    @Test
+    void testMedianShortsEvenLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+
+            final var array = new Short[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (short) randomizer.nextInt(Short.MIN_VALUE, Short.MAX_VALUE);
             }
 
-            AverageableDate that = (AverageableDate) o;
-            return date.equals(that.date);
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Short>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = (short) ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(date);
+    @Test
+    void testMedianIntegersOddLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
+
+            final var array = new Integer[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Integer>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianIntegersEvenLength() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
+            }
+
+            final var array = new Integer[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Integer>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianLongsOddLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
+
+            final var array = new Long[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (long) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Long>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianLongsEvenLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
+            }
+
+            final var array = new Long[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (long) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Long>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianFloatsOddLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
+
+            final var array = new Float[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (float) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Float>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianFloatsEvenLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
+            }
+
+            final var array = new Float[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (float) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Float>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianDoublesOddLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 == 0) {
+                length++;
+            }
+
+            final var array = new Double[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (double) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Double>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check that median value
+            final var otherMedian = array[length / 2];
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    @Test
+    void testMedianDoublesEvenLength2() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            if (length % 2 != 0) {
+                length++;
+            }
+
+            final var array = new Double[length];
+
+            // set random values into array of bytes
+            for (int i = 0; i < length; i++) {
+                array[i] = (double) randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = Sorter.<Double>create();
+
+            // sort original array
+            sorter.sort(array);
+
+            // after median computation array2 will contain elements smaller than
+            // element at length / 2 and elements greater than element at
+            // length / 2 because selection is done at length / 2
+            final var median = sorter.median(array2);
+
+            // for that reason element at length / 2 is the same on sorted and
+            // selected arrays
+            assertEquals(array[length / 2], array2[length / 2]);
+
+            // check that elements in array2[0] ... array2[pos - 1] are lower
+            // than selected value
+            for (int i = 0; i < length / 2; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) <= 0);
+            }
+
+            // check that elements int array2[pos + 1] ... array2[length - 1] are
+            // greater than selected value
+            for (int i = length / 2 + 1; i < length; i++) {
+                assertTrue(array2[i].compareTo(array[length / 2]) >= 0);
+            }
+
+            // Check median value
+            final var otherMedian = ((array[length / 2 - 1] + array[length / 2]) / 2);
+            assertEquals(otherMedian, median);
+        }
+    }
+
+    private static class AverageableDate implements ComparableAndAverageable<AverageableDate> {
+
+        private final Date date;
+
+        public AverageableDate(final Date date) {
+            this.date = date;
+        }
+
+        @Override
+        public AverageableDate averageWith(AverageableDate other) {
+            return new AverageableDate(new Date((date.getTime() + other.date.getTime()) / 2));
+        }
+
+        @Override
+        public int compareTo(AverageableDate o) {
+            return date.compareTo(o.date);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            AverageableDate that = (AverageableDate) o;
+            return date.equals(that.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date);
+        }
+    }
+
+    @Test
+    void testMergeWithComparator() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+            final var runs = new Date[numRuns][];
+            var length = 0;
+            for (int r = 0; r < numRuns; r++) {
+                // runs but the first one might be empty
+                runs[r] = new Date[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+                for (int i = 0; i < runs[r].length; i++) {
+                    runs[r][i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+                }
+                Arrays.sort(runs[r]);
+                length += runs[r].length;
+            }
+
+            // concatenate and sort runs using a stable sort to obtain expected
+            // result
+            final var expected = new Date[length];
+            var pos = 0;
+            for (final var run : runs) {
+                System.arraycopy(run, 0, expected, pos, run.length);
+                pos += run.length;
+            }
+            Arrays.sort(expected);
+
+            final var sorter = Sorter.<Date>create();
+            final var result = sorter.merge(runs, Date::compareTo);
+            assertEquals(Date[].class, result.getClass());
+            assertEquals(length, result.length);
+            for (int i = 0; i < length; i++) {
+                assertSame(expected[i], result[i]);
+            }
+
+            final var runIndices = new int[length];
+            final var runOffsets = new int[length];
+            final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets, Date::compareTo);
+            for (int i = 0; i < length; i++) {
+                assertSame(expected[i], result2[i]);
+                assertSame(runs[runIndices[i]][runOffsets[i]], result2[i]);
+            }
+
+            // Force IllegalArgumentException
+            final var shortArray = new int[length - 1];
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, shortArray, runOffsets, Date::compareTo));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, runIndices, shortArray, Date::compareTo));
+        }
+
+        // no runs
+        final var sorter = Sorter.<Date>create();
+        final var result = sorter.merge(new Date[0][], Date::compareTo);
+        assertEquals(Date[].class, result.getClass());
+        assertEquals(0, result.length);
+    }
+
+    @Test
+    void testMergeComparables() {
+        final var randomizer = new UniformRandomizer();
+
+        final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+        final var runs = new Date[numRuns][];
+        var length = 0;
+        for (int r = 0; r < numRuns; r++) {
+            runs[r] = new Date[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+            for (int i = 0; i < runs[r].length; i++) {
+                runs[r][i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+            Arrays.sort(runs[r]);
+            length += runs[r].length;
+        }
+
+        final var sorter = Sorter.<Date>create();
+        final var result = sorter.merge(runs);
+        final var runIndices = new int[length];
+        final var runOffsets = new int[length];
+        final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets);
+        assertEquals(length, result.length);
+        assertEquals(length, result2.length);
+        for (int i = 0; i < length; i++) {
+            assertSame(result[i], result2[i]);
+            assertSame(runs[runIndices[i]][runOffsets[i]], result2[i]);
+            if (i > 0) {
+                assertTrue(result[i - 1].compareTo(result[i]) <= 0);
+            }
+        }
+    }
+
+    @Test
+    void testMergeDoubles() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+            final var runs = new double[numRuns][];
+            var length = 0;
+            for (int r = 0; r < numRuns; r++) {
+                // runs but the first one might be empty
+                runs[r] = new double[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+                for (int i = 0; i < runs[r].length; i++) {
+                    runs[r][i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                }
+                Arrays.sort(runs[r]);
+                length += runs[r].length;
+            }
+
+            // concatenate and sort runs to obtain expected result
+            final var expected = new double[length];
+            var pos = 0;
+            for (final var run : runs) {
+                System.arraycopy(run, 0, expected, pos, run.length);
+                pos += run.length;
+            }
+            Arrays.sort(expected);
+
+            final var sorter = Sorter.<Double>create();
+            final var result = sorter.merge(runs);
+            assertArrayEquals(expected, result, 0.0);
+
+            final var runIndices = new int[length];
+            final var runOffsets = new int[length];
+            final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets);
+            assertArrayEquals(expected, result2, 0.0);
+            for (int i = 0; i < length; i++) {
+                assertEquals(runs[runIndices[i]][runOffsets[i]], result2[i], 0.0);
+                if (i > 0 && result2[i - 1] == result2[i]) {
+                    // equal values are taken from runs in order
+                    assertTrue(runIndices[i - 1] < runIndices[i]
+                            || (runIndices[i - 1] == runIndices[i] && runOffsets[i - 1] < runOffsets[i]));
+                }
+            }
+
+            // Force IllegalArgumentException
+            final var shortArray = new int[length - 1];
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, shortArray, runOffsets));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, runIndices, shortArray));
+        }
+
+        // no runs
+        final var sorter = Sorter.<Double>create();
+        assertEquals(0, sorter.merge(new double[0][]).length);
+    }
+
+    @Test
+    void testMergeFloats() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+            final var runs = new float[numRuns][];
+            var length = 0;
+            for (int r = 0; r < numRuns; r++) {
+                // runs but the first one might be empty
+                runs[r] = new float[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+                for (int i = 0; i < runs[r].length; i++) {
+                    runs[r][i] = randomizer.nextFloat(MIN_VALUE, MAX_VALUE);
+                }
+                Arrays.sort(runs[r]);
+                length += runs[r].length;
+            }
+
+            // concatenate and sort runs to obtain expected result
+            final var expected = new float[length];
+            var pos = 0;
+            for (final var run : runs) {
+                System.arraycopy(run, 0, expected, pos, run.length);
+                pos += run.length;
+            }
+            Arrays.sort(expected);
+
+            final var sorter = Sorter.<Float>create();
+            final var result = sorter.merge(runs);
+            assertArrayEquals(expected, result, 0.0f);
+
+            final var runIndices = new int[length];
+            final var runOffsets = new int[length];
+            final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets);
+            assertArrayEquals(expected, result2, 0.0f);
+            for (int i = 0; i < length; i++) {
+                assertEquals(runs[runIndices[i]][runOffsets[i]], result2[i], 0.0f);
+                if (i > 0 && result2[i - 1] == result2[i]) {
+                    // equal values are taken from runs in order
+                    assertTrue(runIndices[i - 1] < runIndices[i]
+                            || (runIndices[i - 1] == runIndices[i] && runOffsets[i - 1] < runOffsets[i]));
+                }
+            }
+
+            // Force IllegalArgumentException
+            final var shortArray = new int[length - 1];
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, shortArray, runOffsets));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, runIndices, shortArray));
+        }
+
+        // no runs
+        final var sorter = Sorter.<Float>create();
+        assertEquals(0, sorter.merge(new float[0][]).length);
+    }
+
+    @Test
+    void testMergeInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+            final var runs = new int[numRuns][];
+            var length = 0;
+            for (int r = 0; r < numRuns; r++) {
+                // runs but the first one might be empty
+                runs[r] = new int[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+                for (int i = 0; i < runs[r].length; i++) {
+                    runs[r][i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+                }
+                Arrays.sort(runs[r]);
+                length += runs[r].length;
+            }
+
+            // concatenate and sort runs to obtain expected result
+            final var expected = new int[length];
+            var pos = 0;
+            for (final var run : runs) {
+                System.arraycopy(run, 0, expected, pos, run.length);
+                pos += run.length;
+            }
+            Arrays.sort(expected);
+
+            final var sorter = Sorter.<Integer>create();
+            final var result = sorter.merge(runs);
+            assertArrayEquals(expected, result);
+
+            final var runIndices = new int[length];
+            final var runOffsets = new int[length];
+            final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets);
+            assertArrayEquals(expected, result2);
+            for (int i = 0; i < length; i++) {
+                assertEquals(runs[runIndices[i]][runOffsets[i]], result2[i]);
+                if (i > 0 && result2[i - 1] == result2[i]) {
+                    // equal values are taken from runs in order
+                    assertTrue(runIndices[i - 1] < runIndices[i]
+                            || (runIndices[i - 1] == runIndices[i] && runOffsets[i - 1] < runOffsets[i]));
+                }
+            }
+
+            // Force IllegalArgumentException
+            final var shortArray = new int[length - 1];
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, shortArray, runOffsets));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, runIndices, shortArray));
+        }
+
+        // no runs
+        final var sorter = Sorter.<Integer>create();
+        assertEquals(0, sorter.merge(new int[0][]).length);
+    }
+
+    @Test
+    void testMergeLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numRuns = randomizer.nextInt(1, MIN_LENGTH);
+            final var runs = new long[numRuns][];
+            var length = 0;
+            for (int r = 0; r < numRuns; r++) {
+                // runs but the first one might be empty
+                runs[r] = new long[randomizer.nextInt(r == 0 ? 1 : 0, MAX_LENGTH)];
+                for (int i = 0; i < runs[r].length; i++) {
+                    runs[r][i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                }
+                Arrays.sort(runs[r]);
+                length += runs[r].length;
+            }
+
+            // concatenate and sort runs to obtain expected result
+            final var expected = new long[length];
+            var pos = 0;
+            for (final var run : runs) {
+                System.arraycopy(run, 0, expected, pos, run.length);
+                pos += run.length;
+            }
+            Arrays.sort(expected);
+
+            final var sorter = Sorter.<Long>create();
+            final var result = sorter.merge(runs);
+            assertArrayEquals(expected, result);
+
+            final var runIndices = new int[length];
+            final var runOffsets = new int[length];
+            final var result2 = sorter.mergeWithIndices(runs, runIndices, runOffsets);
+            assertArrayEquals(expected, result2);
+            for (int i = 0; i < length; i++) {
+                assertEquals(runs[runIndices[i]][runOffsets[i]], result2[i]);
+                if (i > 0 && result2[i - 1] == result2[i]) {
+                    // equal values are taken from runs in order
+                    assertTrue(runIndices[i - 1] < runIndices[i]
+                            || (runIndices[i - 1] == runIndices[i] && runOffsets[i - 1] < runOffsets[i]));
+                }
+            }
+
+            // Force IllegalArgumentException
+            final var shortArray = new int[length - 1];
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, shortArray, runOffsets));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.mergeWithIndices(runs, runIndices, shortArray));
+        }
+
+        // no runs
+        final var sorter = Sorter.<Long>create();
+        assertEquals(0, sorter.merge(new long[0][]).length);
+    }
+
+    @Test
+    void testSortDoubleBuffer() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Double>create();
+
+            // heap buffer is sorted on its backing array
+            final var heapBuffer = DoubleBuffer.wrap(Arrays.copyOf(array, length));
+            sorter.sort(heapBuffer, fromIndex, toIndex);
+            assertArrayEquals(expected, heapBuffer.array(), 0.0);
+
+            // direct buffer is sorted in place
+            final var directBuffer = ByteBuffer.allocateDirect(length * Double.BYTES).asDoubleBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            sorter.sort(directBuffer);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+            directBuffer.clear();
+            final var result = new double[length];
+            directBuffer.get(result);
+            assertArrayEquals(expected, result, 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, fromIndex, length + 1));
+
+            // Force ReadOnlyBufferException
+            assertThrows(ReadOnlyBufferException.class,
+                    () -> sorter.sort(directBuffer.asReadOnlyBuffer(), fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    void testSortDoubleBufferPatterns() throws SortingException {
+        final var length = 10 * MAX_BUFFER_LENGTH;
+        final var sorter = Sorter.<Double>create();
+        final var buffer = ByteBuffer.allocateDirect(length * Double.BYTES).asDoubleBuffer();
+
+        for (int pattern = 0; pattern < 4; pattern++) {
+            final var array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = switch (pattern) {
+                    case 0 -> (double) i;
+                    case 1 -> (double) (length - i);
+                    case 2 -> (double) (i % 3);
+                    default -> (double) (i % 2 == 0 ? i : length - i);
+                };
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected);
+
+            buffer.clear();
+            buffer.put(array);
+            buffer.clear();
+            sorter.sort(buffer);
+            final var result = new double[length];
+            buffer.get(result);
+            assertArrayEquals(expected, result, 0.0);
+        }
+    }
+
+    @Test
+    void testSelectDoubleBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Double>create();
+
+            // heap buffer
+            final var heapBuffer = DoubleBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected[pos + fromIndex], sorter.select(pos, heapBuffer, fromIndex, toIndex), 0.0);
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Double.BYTES).asDoubleBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            final var selected = sorter.select(pos, directBuffer);
+            assertEquals(expected[pos + fromIndex], selected, 0.0);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(directBuffer.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(directBuffer.get(i) >= selected);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.select(pos, directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, directBuffer, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testMedianDoubleBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = Sorter.<Double>create();
+
+            // median of array is computed on a copy
+            final var expected = sorter.median(Arrays.copyOf(array, length), fromIndex, toIndex);
+
+            // heap buffer
+            final var heapBuffer = DoubleBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected, sorter.median(heapBuffer, fromIndex, toIndex), 0.0);
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Double.BYTES).asDoubleBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            assertEquals(expected, sorter.median(directBuffer), 0.0);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.median(directBuffer, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortFloatBuffer() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Float>create();
+
+            // heap buffer is sorted on its backing array
+            final var heapBuffer = FloatBuffer.wrap(Arrays.copyOf(array, length));
+            sorter.sort(heapBuffer, fromIndex, toIndex);
+            assertArrayEquals(expected, heapBuffer.array(), 0.0f);
+
+            // direct buffer is sorted in place
+            final var directBuffer = ByteBuffer.allocateDirect(length * Float.BYTES).asFloatBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            sorter.sort(directBuffer);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+            directBuffer.clear();
+            final var result = new float[length];
+            directBuffer.get(result);
+            assertArrayEquals(expected, result, 0.0f);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, fromIndex, length + 1));
+
+            // Force ReadOnlyBufferException
+            assertThrows(ReadOnlyBufferException.class,
+                    () -> sorter.sort(directBuffer.asReadOnlyBuffer(), fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    void testSortFloatBufferPatterns() throws SortingException {
+        final var length = 10 * MAX_BUFFER_LENGTH;
+        final var sorter = Sorter.<Float>create();
+        final var buffer = ByteBuffer.allocateDirect(length * Float.BYTES).asFloatBuffer();
+
+        for (int pattern = 0; pattern < 4; pattern++) {
+            final var array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = switch (pattern) {
+                    case 0 -> (float) i;
+                    case 1 -> (float) (length - i);
+                    case 2 -> (float) (i % 3);
+                    default -> (float) (i % 2 == 0 ? i : length - i);
+                };
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected);
+
+            buffer.clear();
+            buffer.put(array);
+            buffer.clear();
+            sorter.sort(buffer);
+            final var result = new float[length];
+            buffer.get(result);
+            assertArrayEquals(expected, result, 0.0f);
+        }
+    }
+
+    @Test
+    void testSelectFloatBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Float>create();
+
+            // heap buffer
+            final var heapBuffer = FloatBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected[pos + fromIndex], sorter.select(pos, heapBuffer, fromIndex, toIndex), 0.0f);
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Float.BYTES).asFloatBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            final var selected = sorter.select(pos, directBuffer);
+            assertEquals(expected[pos + fromIndex], selected, 0.0f);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(directBuffer.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(directBuffer.get(i) >= selected);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.select(pos, directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, directBuffer, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testMedianFloatBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var sorter = Sorter.<Float>create();
+
+            // median of array is computed on a copy
+            final var expected = sorter.median(Arrays.copyOf(array, length), fromIndex, toIndex);
+
+            // heap buffer
+            final var heapBuffer = FloatBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected, sorter.median(heapBuffer, fromIndex, toIndex), 0.0f);
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Float.BYTES).asFloatBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            assertEquals(expected, sorter.median(directBuffer), 0.0f);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.median(directBuffer, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortIntBuffer() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Integer>create();
+
+            // heap buffer is sorted on its backing array
+            final var heapBuffer = IntBuffer.wrap(Arrays.copyOf(array, length));
+            sorter.sort(heapBuffer, fromIndex, toIndex);
+            assertArrayEquals(expected, heapBuffer.array());
+
+            // direct buffer is sorted in place
+            final var directBuffer = ByteBuffer.allocateDirect(length * Integer.BYTES).asIntBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            sorter.sort(directBuffer);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+            directBuffer.clear();
+            final var result = new int[length];
+            directBuffer.get(result);
+            assertArrayEquals(expected, result);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, fromIndex, length + 1));
+
+            // Force ReadOnlyBufferException
+            assertThrows(ReadOnlyBufferException.class,
+                    () -> sorter.sort(directBuffer.asReadOnlyBuffer(), fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    void testSortIntBufferPatterns() throws SortingException {
+        final var length = 10 * MAX_BUFFER_LENGTH;
+        final var sorter = Sorter.<Integer>create();
+        final var buffer = ByteBuffer.allocateDirect(length * Integer.BYTES).asIntBuffer();
+
+        for (int pattern = 0; pattern < 4; pattern++) {
+            final var array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = switch (pattern) {
+                    case 0 -> i;
+                    case 1 -> (int) (length - i);
+                    case 2 -> (int) (i % 3);
+                    default -> (int) (i % 2 == 0 ? i : length - i);
+                };
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected);
+
+            buffer.clear();
+            buffer.put(array);
+            buffer.clear();
+            sorter.sort(buffer);
+            final var result = new int[length];
+            buffer.get(result);
+            assertArrayEquals(expected, result);
+        }
+    }
+
+    @Test
+    void testSelectIntBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Integer>create();
+
+            // heap buffer
+            final var heapBuffer = IntBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected[pos + fromIndex], sorter.select(pos, heapBuffer, fromIndex, toIndex));
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Integer.BYTES).asIntBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            final var selected = sorter.select(pos, directBuffer);
+            assertEquals(expected[pos + fromIndex], selected);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(directBuffer.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(directBuffer.get(i) >= selected);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.select(pos, directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, directBuffer, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testMedianIntBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = Sorter.<Integer>create();
+
+            // median of array is computed on a copy
+            final var expected = sorter.median(Arrays.copyOf(array, length), fromIndex, toIndex);
+
+            // heap buffer
+            final var heapBuffer = IntBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected, sorter.median(heapBuffer, fromIndex, toIndex));
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Integer.BYTES).asIntBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            assertEquals(expected, sorter.median(directBuffer));
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.median(directBuffer, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortLongBuffer() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Long>create();
+
+            // heap buffer is sorted on its backing array
+            final var heapBuffer = LongBuffer.wrap(Arrays.copyOf(array, length));
+            sorter.sort(heapBuffer, fromIndex, toIndex);
+            assertArrayEquals(expected, heapBuffer.array());
+
+            // direct buffer is sorted in place
+            final var directBuffer = ByteBuffer.allocateDirect(length * Long.BYTES).asLongBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            sorter.sort(directBuffer);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+            directBuffer.clear();
+            final var result = new long[length];
+            directBuffer.get(result);
+            assertArrayEquals(expected, result);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(directBuffer, fromIndex, length + 1));
+
+            // Force ReadOnlyBufferException
+            assertThrows(ReadOnlyBufferException.class,
+                    () -> sorter.sort(directBuffer.asReadOnlyBuffer(), fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    void testSortLongBufferPatterns() throws SortingException {
+        final var length = 10 * MAX_BUFFER_LENGTH;
+        final var sorter = Sorter.<Long>create();
+        final var buffer = ByteBuffer.allocateDirect(length * Long.BYTES).asLongBuffer();
+
+        for (int pattern = 0; pattern < 4; pattern++) {
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = switch (pattern) {
+                    case 0 -> (long) i;
+                    case 1 -> (long) (length - i);
+                    case 2 -> (long) (i % 3);
+                    default -> (long) (i % 2 == 0 ? i : length - i);
+                };
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected);
+
+            buffer.clear();
+            buffer.put(array);
+            buffer.clear();
+            sorter.sort(buffer);
+            final var result = new long[length];
+            buffer.get(result);
+            assertArrayEquals(expected, result);
+        }
+    }
+
+    @Test
+    void testSelectLongBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var expected = Arrays.copyOf(array, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Long>create();
+
+            // heap buffer
+            final var heapBuffer = LongBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected[pos + fromIndex], sorter.select(pos, heapBuffer, fromIndex, toIndex));
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Long.BYTES).asLongBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            final var selected = sorter.select(pos, directBuffer);
+            assertEquals(expected[pos + fromIndex], selected);
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(directBuffer.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(directBuffer.get(i) >= selected);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, directBuffer, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.select(pos, directBuffer, -1, toIndex));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, directBuffer, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testMedianLongBuffer() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = Sorter.<Long>create();
+
+            // median of array is computed on a copy
+            final var expected = sorter.median(Arrays.copyOf(array, length), fromIndex, toIndex);
+
+            // heap buffer
+            final var heapBuffer = LongBuffer.wrap(Arrays.copyOf(array, length));
+            assertEquals(expected, sorter.median(heapBuffer, fromIndex, toIndex));
+
+            // direct buffer
+            final var directBuffer = ByteBuffer.allocateDirect(length * Long.BYTES).asLongBuffer();
+            directBuffer.put(array);
+            directBuffer.position(fromIndex).limit(toIndex);
+            assertEquals(expected, sorter.median(directBuffer));
+            assertEquals(fromIndex, directBuffer.position());
+            assertEquals(toIndex, directBuffer.limit());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(directBuffer, toIndex, fromIndex));
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.median(directBuffer, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortAndMedianMappedFile() throws IOException, SortingException {
+        final var randomizer = new UniformRandomizer();
+        final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+        final var array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        }
+
+        final var sorter = Sorter.<Double>create();
+        final var expectedMedian = sorter.median(Arrays.copyOf(array, length));
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected);
+
+        final var file = Files.createTempFile("sorter", ".bin");
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) length * Double.BYTES)
+                    .asDoubleBuffer();
+            buffer.put(array);
+            buffer.clear();
+
+            assertEquals(expectedMedian, sorter.median(buffer), 0.0);
+
+            sorter.sort(buffer);
+            final var result = new double[length];
+            buffer.get(result);
+            assertArrayEquals(expected, result, 0.0);
+
+            // read-only mappings cannot be sorted
+            final var readOnly = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) length * Double.BYTES)
+                    .asDoubleBuffer();
+            assertThrows(ReadOnlyBufferException.class, () -> sorter.sort(readOnly));
+            assertThrows(ReadOnlyBufferException.class, () -> sorter.select(0, readOnly));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testSortBigDoubleArray() throws SortingException {
+        for (final var method : SortingMethod.values()) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new double[length];
+            final var array = new BigDoubleArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Double>create(method);
+            sorter.sort(array, fromIndex, toIndex);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i), 0.0);
+            }
+
+            Arrays.sort(expected);
+            sorter.sort(array);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i), 0.0);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesBigDoubleArray() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new double[length];
+            final var array = new BigDoubleArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Double>create();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+            assertEquals(length, indices.getLength());
+            assertEquals(BIG_SEGMENT_SIZE, indices.getSegmentSize());
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i), 0.0);
+                assertEquals(values[(int) indices.get(i)], array.get(i), 0.0);
+                if (i < fromIndex || i >= toIndex) {
+                    assertEquals(i, indices.get(i));
+                }
+            }
+
+            final var values2 = new double[length];
+            for (int i = 0; i < length; i++) {
+                values2[i] = array.get(i);
+            }
+            Arrays.sort(expected);
+            final var indices2 = sorter.sortWithIndices(array);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i), 0.0);
+                assertEquals(values2[(int) indices2.get(i)], array.get(i), 0.0);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testSelectBigDoubleArray() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var values = new double[length];
+            final var array = new BigDoubleArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Double>create();
+            final var selected = sorter.select(pos, array, fromIndex, toIndex);
+            assertEquals(expected[pos + fromIndex], selected, 0.0);
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(array.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array.get(i) >= selected);
+            }
+
+            Arrays.sort(expected);
+            assertEquals(expected[pos], sorter.select(pos, array), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.select(pos, array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testMedianBigDoubleArray() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new double[length];
+            final var array = new BigDoubleArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var sorter = Sorter.<Double>create();
+            final var expected = sorter.median(Arrays.copyOf(values, length), fromIndex, toIndex);
+            assertEquals(expected, sorter.median(array, fromIndex, toIndex), 0.0);
+
+            final var expected2 = sorter.median(Arrays.copyOf(values, length));
+            assertEquals(expected2, sorter.median(array), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortBigLongArray() throws SortingException {
+        for (final var method : SortingMethod.values()) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new long[length];
+            final var array = new BigLongArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Long>create(method);
+            sorter.sort(array, fromIndex, toIndex);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i));
+            }
+
+            Arrays.sort(expected);
+            sorter.sort(array);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i));
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesBigLongArray() throws SortingException {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new long[length];
+            final var array = new BigLongArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Long>create();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+            assertEquals(length, indices.getLength());
+            assertEquals(BIG_SEGMENT_SIZE, indices.getSegmentSize());
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i));
+                assertEquals(values[(int) indices.get(i)], array.get(i));
+                if (i < fromIndex || i >= toIndex) {
+                    assertEquals(i, indices.get(i));
+                }
+            }
+
+            final var values2 = new long[length];
+            for (int i = 0; i < length; i++) {
+                values2[i] = array.get(i);
+            }
+            Arrays.sort(expected);
+            final var indices2 = sorter.sortWithIndices(array);
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[i], array.get(i));
+                assertEquals(values2[(int) indices2.get(i)], array.get(i));
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testSelectBigLongArray() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+            final var pos = randomizer.nextInt(0, toIndex - fromIndex);
+
+            final var values = new long[length];
+            final var array = new BigLongArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected, fromIndex, toIndex);
+
+            final var sorter = Sorter.<Long>create();
+            final var selected = sorter.select(pos, array, fromIndex, toIndex);
+            assertEquals(expected[pos + fromIndex], selected);
+
+            // check that previous elements are lower and following elements
+            // are greater than selected value
+            for (int i = fromIndex; i < pos + fromIndex; i++) {
+                assertTrue(array.get(i) <= selected);
+            }
+            for (int i = pos + 1 + fromIndex; i < toIndex; i++) {
+                assertTrue(array.get(i) >= selected);
+            }
+
+            Arrays.sort(expected);
+            assertEquals(expected[pos], sorter.select(pos, array));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.select(toIndex - fromIndex, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(-1, array, fromIndex, toIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.select(pos, array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.select(pos, array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.select(pos, array, fromIndex, length + 1L));
+        }
+    }
+
+    @Test
+    void testMedianBigLongArray() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_BUFFER_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var values = new long[length];
+            final var array = new BigLongArray(length, BIG_SEGMENT_SIZE);
+            for (int i = 0; i < length; i++) {
+                values[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+                array.set(i, values[i]);
+            }
+
+            final var sorter = Sorter.<Long>create();
+            final var expected = sorter.median(Arrays.copyOf(values, length), fromIndex, toIndex);
+            assertEquals(expected, sorter.median(array, fromIndex, toIndex));
+
+            final var expected2 = sorter.median(Arrays.copyOf(values, length));
+            assertEquals(expected2, sorter.median(array));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, fromIndex, fromIndex));
+            assertThrows(IllegalArgumentException.class, () -> sorter.median(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.median(array, -1, toIndex));
+        }
+    }
+
+    @Test
+    void testSortRunsDoubles() throws SortingException {
+        final var length = 1000;
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.<Double>create(method);
+            for (int pattern = 0; pattern < 5; pattern++) {
+                final var array = createRunsDoubles(pattern, length);
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected, 1, length - 1);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 1, length - 1);
+                assertArrayEquals(expected, array2, 0.0);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 1, length - 1);
+                assertArrayEquals(expected, array3, 0.0);
+                assertEquals(0, indices[0]);
+                assertEquals(length - 1, indices[length - 1]);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0);
+                    if (pattern < 4 && i > 1 && i < length - 1 && array3[i - 1] == array3[i]) {
+                        // equal elements of runs keep their relative order
+                        assertTrue(indices[i - 1] < indices[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortRunsFloats() throws SortingException {
+        final var length = 1000;
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.<Float>create(method);
+            for (int pattern = 0; pattern < 5; pattern++) {
+                final var array = createRunsFloats(pattern, length);
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected, 1, length - 1);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 1, length - 1);
+                assertArrayEquals(expected, array2, 0.0f);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 1, length - 1);
+                assertArrayEquals(expected, array3, 0.0f);
+                assertEquals(0, indices[0]);
+                assertEquals(length - 1, indices[length - 1]);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i], 0.0f);
+                    if (pattern < 4 && i > 1 && i < length - 1 && array3[i - 1] == array3[i]) {
+                        // equal elements of runs keep their relative order
+                        assertTrue(indices[i - 1] < indices[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortRunsInts() throws SortingException {
+        final var length = 1000;
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.<Integer>create(method);
+            for (int pattern = 0; pattern < 5; pattern++) {
+                final var array = createRunsInts(pattern, length);
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected, 1, length - 1);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 1, length - 1);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 1, length - 1);
+                assertArrayEquals(expected, array3);
+                assertEquals(0, indices[0]);
+                assertEquals(length - 1, indices[length - 1]);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                    if (pattern < 4 && i > 1 && i < length - 1 && array3[i - 1] == array3[i]) {
+                        // equal elements of runs keep their relative order
+                        assertTrue(indices[i - 1] < indices[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortRunsLongs() throws SortingException {
+        final var length = 1000;
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.<Long>create(method);
+            for (int pattern = 0; pattern < 5; pattern++) {
+                final var array = createRunsLongs(pattern, length);
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected, 1, length - 1);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 1, length - 1);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 1, length - 1);
+                assertArrayEquals(expected, array3);
+                assertEquals(0, indices[0]);
+                assertEquals(length - 1, indices[length - 1]);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(array[indices[i]], array3[i]);
+                    if (pattern < 4 && i > 1 && i < length - 1 && array3[i - 1] == array3[i]) {
+                        // equal elements of runs keep their relative order
+                        assertTrue(indices[i - 1] < indices[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortRunsWithComparator() throws SortingException {
+        final var length = 1000;
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.<Integer>create(method);
+            for (int pattern = 0; pattern < 5; pattern++) {
+                final var values = createRunsInts(pattern, length);
+                final var array = new Integer[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = values[i];
+                }
+
+                final var expected = Arrays.copyOf(array, length);
+                Arrays.sort(expected, 1, length - 1);
+
+                final var array2 = Arrays.copyOf(array, length);
+                sorter.sort(array2, 1, length - 1, Integer::compare);
+                assertArrayEquals(expected, array2);
+
+                final var array3 = Arrays.copyOf(array, length);
+                final var indices = sorter.sortWithIndices(array3, 1, length - 1, Integer::compare);
+                assertArrayEquals(expected, array3);
+                for (int i = 0; i < length; i++) {
+                    assertSame(array[indices[i]], array3[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceDoubles() throws SortingException {
+        for (final var sorter : SorterTest.<Double>createWorkspaceSorters()) {
+            final var workspace = new SortingWorkspace();
+            for (final var length : WORKSPACE_LENGTHS) {
+                for (int pattern = 0; pattern < 5; pattern++) {
+                    final var array = createRunsDoubles(pattern, length);
+
+                    final var expected = Arrays.copyOf(array, length);
+                    Arrays.sort(expected, 1, length - 1);
+
+                    final var array2 = Arrays.copyOf(array, length);
+                    sorter.sort(array2, 1, length - 1, workspace);
+                    assertArrayEquals(expected, array2, 0.0);
+
+                    // indices outside sorted range are left untouched
+                    final var array3 = Arrays.copyOf(array, length);
+                    final var indices = new int[length];
+                    Arrays.fill(indices, -1);
+                    sorter.sortWithIndices(array3, 1, length - 1, indices, workspace);
+                    assertArrayEquals(expected, array3, 0.0);
+                    assertEquals(-1, indices[0]);
+                    assertEquals(-1, indices[length - 1]);
+                    for (int i = 1; i < length - 1; i++) {
+                        assertEquals(array[indices[i]], array3[i], 0.0);
+                    }
+                }
+            }
+
+            final var array = new double[MIN_LENGTH];
+            final var indices = new int[MIN_LENGTH];
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 2, 1, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 2, 1, indices, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH, new int[MIN_LENGTH - 1], workspace));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, 0, MIN_LENGTH + 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, 1, indices, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH + 1, new int[MIN_LENGTH + 1], workspace));
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceFloats() throws SortingException {
+        for (final var sorter : SorterTest.<Float>createWorkspaceSorters()) {
+            final var workspace = new SortingWorkspace();
+            for (final var length : WORKSPACE_LENGTHS) {
+                for (int pattern = 0; pattern < 5; pattern++) {
+                    final var array = createRunsFloats(pattern, length);
+
+                    final var expected = Arrays.copyOf(array, length);
+                    Arrays.sort(expected, 1, length - 1);
+
+                    final var array2 = Arrays.copyOf(array, length);
+                    sorter.sort(array2, 1, length - 1, workspace);
+                    assertArrayEquals(expected, array2, 0.0f);
+
+                    // indices outside sorted range are left untouched
+                    final var array3 = Arrays.copyOf(array, length);
+                    final var indices = new int[length];
+                    Arrays.fill(indices, -1);
+                    sorter.sortWithIndices(array3, 1, length - 1, indices, workspace);
+                    assertArrayEquals(expected, array3, 0.0f);
+                    assertEquals(-1, indices[0]);
+                    assertEquals(-1, indices[length - 1]);
+                    for (int i = 1; i < length - 1; i++) {
+                        assertEquals(array[indices[i]], array3[i], 0.0f);
+                    }
+                }
+            }
+
+            final var array = new float[MIN_LENGTH];
+            final var indices = new int[MIN_LENGTH];
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 2, 1, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 2, 1, indices, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH, new int[MIN_LENGTH - 1], workspace));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, 0, MIN_LENGTH + 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, 1, indices, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH + 1, new int[MIN_LENGTH + 1], workspace));
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceInts() throws SortingException {
+        for (final var sorter : SorterTest.<Integer>createWorkspaceSorters()) {
+            final var workspace = new SortingWorkspace();
+            for (final var length : WORKSPACE_LENGTHS) {
+                for (int pattern = 0; pattern < 5; pattern++) {
+                    final var array = createRunsInts(pattern, length);
+
+                    final var expected = Arrays.copyOf(array, length);
+                    Arrays.sort(expected, 1, length - 1);
+
+                    final var array2 = Arrays.copyOf(array, length);
+                    sorter.sort(array2, 1, length - 1, workspace);
+                    assertArrayEquals(expected, array2);
+
+                    // indices outside sorted range are left untouched
+                    final var array3 = Arrays.copyOf(array, length);
+                    final var indices = new int[length];
+                    Arrays.fill(indices, -1);
+                    sorter.sortWithIndices(array3, 1, length - 1, indices, workspace);
+                    assertArrayEquals(expected, array3);
+                    assertEquals(-1, indices[0]);
+                    assertEquals(-1, indices[length - 1]);
+                    for (int i = 1; i < length - 1; i++) {
+                        assertEquals(array[indices[i]], array3[i]);
+                    }
+                }
+            }
+
+            final var array = new int[MIN_LENGTH];
+            final var indices = new int[MIN_LENGTH];
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 2, 1, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 2, 1, indices, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH, new int[MIN_LENGTH - 1], workspace));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, 0, MIN_LENGTH + 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, 1, indices, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH + 1, new int[MIN_LENGTH + 1], workspace));
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceLongs() throws SortingException {
+        for (final var sorter : SorterTest.<Long>createWorkspaceSorters()) {
+            final var workspace = new SortingWorkspace();
+            for (final var length : WORKSPACE_LENGTHS) {
+                for (int pattern = 0; pattern < 5; pattern++) {
+                    final var array = createRunsLongs(pattern, length);
+
+                    final var expected = Arrays.copyOf(array, length);
+                    Arrays.sort(expected, 1, length - 1);
+
+                    final var array2 = Arrays.copyOf(array, length);
+                    sorter.sort(array2, 1, length - 1, workspace);
+                    assertArrayEquals(expected, array2);
+
+                    // indices outside sorted range are left untouched
+                    final var array3 = Arrays.copyOf(array, length);
+                    final var indices = new int[length];
+                    Arrays.fill(indices, -1);
+                    sorter.sortWithIndices(array3, 1, length - 1, indices, workspace);
+                    assertArrayEquals(expected, array3);
+                    assertEquals(-1, indices[0]);
+                    assertEquals(-1, indices[length - 1]);
+                    for (int i = 1; i < length - 1; i++) {
+                        assertEquals(array[indices[i]], array3[i]);
+                    }
+                }
+            }
+
+            final var array = new long[MIN_LENGTH];
+            final var indices = new int[MIN_LENGTH];
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 2, 1, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 2, 1, indices, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH, new int[MIN_LENGTH - 1], workspace));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, 0, MIN_LENGTH + 1, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, 1, indices, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, 0, MIN_LENGTH + 1, new int[MIN_LENGTH + 1], workspace));
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceAndComparator() throws SortingException {
+        for (final var sorter : SorterTest.<Integer>createWorkspaceSorters()) {
+            final var workspace = new SortingWorkspace();
+            for (final var length : WORKSPACE_LENGTHS) {
+                for (int pattern = 0; pattern < 5; pattern++) {
+                    final var values = createRunsInts(pattern, length);
+                    final var array = new Integer[length];
+                    for (int i = 0; i < length; i++) {
+                        array[i] = values[i];
+                    }
+
+                    final var expected = Arrays.copyOf(array, length);
+                    Arrays.sort(expected, 1, length - 1);
+
+                    final var array2 = Arrays.copyOf(array, length);
+                    sorter.sort(array2, 1, length - 1, Integer::compare, workspace);
+                    assertArrayEquals(expected, array2);
+
+                    // indices outside sorted range are left untouched
+                    final var array3 = Arrays.copyOf(array, length);
+                    final var indices = new int[length];
+                    Arrays.fill(indices, -1);
+                    sorter.sortWithIndices(array3, 1, length - 1, indices, Integer::compare, workspace);
+                    assertArrayEquals(expected, array3);
+                    assertEquals(-1, indices[0]);
+                    assertEquals(-1, indices[length - 1]);
+                    for (int i = 1; i < length - 1; i++) {
+                        assertSame(array[indices[i]], array3[i]);
+                    }
+                }
+            }
+
+            final var array = new Integer[MIN_LENGTH];
+            Arrays.fill(array, 0);
+            final var indices = new int[MIN_LENGTH];
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sort(array, 2, 1, Integer::compare, workspace));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sorter.sortWithIndices(array, 2, 1, indices, Integer::compare, workspace));
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, 0, MIN_LENGTH,
+                    new int[MIN_LENGTH - 1], Integer::compare, workspace));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, -1, 1, Integer::compare, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sort(array, 0, MIN_LENGTH + 1, Integer::compare, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, 1, indices, Integer::compare, workspace));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sortWithIndices(array, 0,
+                    MIN_LENGTH + 1, new int[MIN_LENGTH + 1], Integer::compare, workspace));
+        }
+    }
+
+    @Test
+    void testSortWithWorkspaceDoesNotKeepObjects() throws SortingException {
+        final var sorter = Sorter.<Integer>create(SortingMethod.TIMSORT_SORTING_METHOD);
+        final var workspace = new SortingWorkspace();
+        final var length = 1000;
+        final var values = createRunsInts(4, length);
+        final var array = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = values[i];
+        }
+
+        sorter.sort(array, 0, length, Integer::compare, workspace);
+
+        final Object[] scratch = workspace.getObjects(length);
+        for (final var value : scratch) {
+            assertNull(value);
+        }
+    }
+
+    @Test
+    void testSortRunsSkipsUnorderedValues() {
+        final var sorter = Sorter.<Double>create(SortingMethod.QUICKSORT_SORTING_METHOD);
+
+        // NaN values are left to the sorting algorithm
+        final var doubles = new double[]{1.0, Double.NaN, 2.0};
+        assertFalse(sorter.sortRuns(doubles, 0, doubles.length));
+        assertNull(sorter.sortRunsWithIndices(doubles, 0, doubles.length));
+        final var floats = new float[]{Float.NaN, 1.0f};
+        assertFalse(sorter.sortRuns(floats, 0, floats.length));
+        assertNull(sorter.sortRunsWithIndices(floats, 0, floats.length));
+
+        // many short runs are left to the sorting algorithm
+        final var ints = new int[64];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i % 2 == 0 ? i : -i;
+        }
+        final var copy = Arrays.copyOf(ints, ints.length);
+        assertFalse(sorter.sortRuns(ints, 0, ints.length));
+        assertNull(sorter.sortRunsWithIndices(ints, 0, ints.length));
+        assertArrayEquals(copy, ints);
+
+        // sorted, empty and single element ranges are sorted
+        final var longs = new long[]{3L, 1L, 2L};
+        assertTrue(sorter.sortRuns(longs, 1, 3));
+        assertTrue(sorter.sortRuns(longs, 1, 1));
+        assertTrue(sorter.sortRuns(longs, 0, 1));
+        assertArrayEquals(new int[]{0, 1, 2}, sorter.sortRunsWithIndices(longs, 1, 3));
+        assertArrayEquals(new long[]{3L, 1L, 2L}, longs);
+    }
+
+    @Test
+    void testSortRunsOrdersSignedZeros() {
+        final var sorter = Sorter.<Double>create(SortingMethod.QUICKSORT_SORTING_METHOD);
+
+        // zeros of opposite sign are ordered as Arrays.sort does
+        final var doubles = new double[]{1.0, 0.0, -0.0, -1.0};
+        assertArrayEquals(new int[]{3, 2, 1, 0}, sorter.sortRunsWithIndices(doubles, 0, doubles.length));
+        assertArrayEquals(new double[]{-1.0, -0.0, 0.0, 1.0}, doubles, 0.0);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(doubles[1]));
+
+        final var floats = new float[]{0.0f, -0.0f};
+        assertTrue(sorter.sortRuns(floats, 0, floats.length));
+        assertEquals(Float.floatToRawIntBits(-0.0f), Float.floatToRawIntBits(floats[0]));
+        assertEquals(Float.floatToRawIntBits(0.0f), Float.floatToRawIntBits(floats[1]));
+    }
+
+    @Test
+    void testRunScanEnabled() {
+        for (final var method : SortingMethod.values()) {
+            final var sorter = Sorter.create(method);
+            switch (method) {
+                case SYSTEM_SORTING_METHOD -> {
+                    assertFalse(sorter.isRunScanEnabled());
+                    assertTrue(sorter.isRunScanWithIndicesEnabled());
+                }
+                case TIMSORT_SORTING_METHOD -> {
+                    assertFalse(sorter.isRunScanEnabled());
+                    assertFalse(sorter.isRunScanWithIndicesEnabled());
+                }
+                default -> {
+                    assertTrue(sorter.isRunScanEnabled());
+                    assertTrue(sorter.isRunScanWithIndicesEnabled());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortRunsDisabled() {
+        final var sorter = Sorter.<Double>create(SortingMethod.TIMSORT_SORTING_METHOD);
+
+        // sorters detecting runs by themselves do not scan ranges
+        final var values = new double[]{1.0, 2.0, 3.0};
+        assertFalse(sorter.sortRuns(values, 0, values.length));
+        assertNull(sorter.sortRunsWithIndices(values, 0, values.length));
+    }
+
+    private static <T> List<Sorter<T>> createWorkspaceSorters() {
+        final var sorters = new ArrayList<Sorter<T>>();
+        for (final var method : SortingMethod.values()) {
+            sorters.add(Sorter.create(method));
+        }
+        // parallel sorters splitting small ranges into concurrent tasks
+        sorters.add(new ParallelQuicksortSorter<>(ParallelQuicksortSorter.MIN_THRESHOLD));
+        sorters.add(new ParallelMergeSorter<>(ParallelMergeSorter.MIN_THRESHOLD));
+        sorters.add(new ParallelRadixSorter<>(ParallelRadixSorter.MIN_THRESHOLD));
+        return sorters;
+    }
+
+    private static int[] createRunsInts(final int pattern, final int length) {
+        final var randomizer = new UniformRandomizer();
+        final var array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = switch (pattern) {
+                case 0 -> i;
+                case 1 -> length - i;
+                case 2 -> (i / 100) % 2 == 0 ? (i % 100) / 4 : 100 - (i % 100);
+                case 3 -> 7;
+                default -> randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            };
+        }
+        return array;
+    }
+
+    private static long[] createRunsLongs(final int pattern, final int length) {
+        final var values = createRunsInts(pattern, length);
+        final var array = new long[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    private static double[] createRunsDoubles(final int pattern, final int length) {
+        final var values = createRunsInts(pattern, length);
+        final var array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    private static float[] createRunsFloats(final int pattern, final int length) {
+        final var values = createRunsInts(pattern, length);
+        final var array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = values[i];
         }
+        return array;
     }
 }
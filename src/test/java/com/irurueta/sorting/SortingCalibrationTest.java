@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingCalibrationTest {
+
+    private static final Class<?>[] TYPES = {double.class, float.class, int.class, long.class};
+
+    private static final int MAX_LENGTH = 1 << 13;
+
+    private static final int REPETITIONS = 1;
+
+    @Test
+    void testConstructor() {
+        final var calibration = new SortingCalibration();
+
+        for (final var type : TYPES) {
+            assertEquals(AutoSorter.DEFAULT_INSERTION_THRESHOLD, calibration.getInsertionThreshold(type));
+            assertEquals(AutoSorter.DEFAULT_PARALLEL_THRESHOLD, calibration.getParallelThreshold(type));
+        }
+        assertEquals(Runtime.getRuntime().availableProcessors(), calibration.getProcessors());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> calibration.getInsertionThreshold(Date.class));
+        assertThrows(IllegalArgumentException.class, () -> calibration.getParallelThreshold(Double.class));
+    }
+
+    @Test
+    void testSetThresholds() {
+        final var calibration = new SortingCalibration();
+
+        calibration.setThresholds(int.class, 10, 1000);
+        assertEquals(10, calibration.getInsertionThreshold(int.class));
+        assertEquals(1000, calibration.getParallelThreshold(int.class));
+        assertEquals(AutoSorter.DEFAULT_INSERTION_THRESHOLD, calibration.getInsertionThreshold(long.class));
+        assertEquals(AutoSorter.DEFAULT_PARALLEL_THRESHOLD, calibration.getParallelThreshold(long.class));
+
+        calibration.setThresholds(long.class, 0, 0);
+        assertEquals(0, calibration.getInsertionThreshold(long.class));
+        assertEquals(0, calibration.getParallelThreshold(long.class));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> calibration.setThresholds(Object.class, 10, 1000));
+        assertThrows(IllegalArgumentException.class, () -> calibration.setThresholds(int.class, -1, 1000));
+        assertThrows(IllegalArgumentException.class, () -> calibration.setThresholds(int.class, 10, 9));
+    }
+
+    @Test
+    void testCalibrate() throws SortingException {
+        final var calibration = SortingCalibration.calibrate(MAX_LENGTH, REPETITIONS);
+
+        final var parallel = ForkJoinPool.getCommonPoolParallelism() > 1;
+        for (final var type : TYPES) {
+            final var insertionThreshold = calibration.getInsertionThreshold(type);
+            final var parallelThreshold = calibration.getParallelThreshold(type);
+            assertTrue(insertionThreshold >= 0);
+            assertTrue(insertionThreshold <= 128);
+            assertTrue(parallelThreshold >= insertionThreshold);
+            assertTrue(parallelThreshold == Integer.MAX_VALUE || (parallel && parallelThreshold < MAX_LENGTH));
+        }
+        assertEquals(Runtime.getRuntime().availableProcessors(), calibration.getProcessors());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingCalibration.calibrate(SortingCalibration.MIN_MAX_LENGTH - 1, REPETITIONS));
+        assertThrows(IllegalArgumentException.class, () -> SortingCalibration.calibrate(MAX_LENGTH, 0));
+    }
+
+    @Test
+    void testStoreAndLoad() throws IOException {
+        final var directory = Files.createTempDirectory("sorting-calibration");
+        final var file = directory.resolve("calibration").resolve("sorting.properties");
+        try {
+            final var calibration = new SortingCalibration();
+            calibration.setThresholds(double.class, 1, 2);
+            calibration.setThresholds(float.class, 3, 4);
+            calibration.setThresholds(int.class, 5, Integer.MAX_VALUE);
+            calibration.setThresholds(long.class, 7, 8);
+            calibration.store(file);
+
+            final var loaded = SortingCalibration.load(file);
+            for (final var type : TYPES) {
+                assertEquals(calibration.getInsertionThreshold(type), loaded.getInsertionThreshold(type));
+                assertEquals(calibration.getParallelThreshold(type), loaded.getParallelThreshold(type));
+            }
+            assertEquals(calibration.getProcessors(), loaded.getProcessors());
+
+            // Force IOException
+            Files.writeString(file, "processors=1\n");
+            assertThrows(IOException.class, () -> SortingCalibration.load(file));
+
+            Files.writeString(file, "processors=one\n");
+            assertThrows(IOException.class, () -> SortingCalibration.load(file));
+
+            calibration.store(file);
+            Files.writeString(file, "int" + SortingCalibration.PARALLEL_THRESHOLD_PROPERTY + "=1\n",
+                    StandardOpenOption.APPEND);
+            assertThrows(IOException.class, () -> SortingCalibration.load(file));
+
+            assertThrows(IOException.class, () -> SortingCalibration.load(directory.resolve("missing")));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.getParent());
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void testLoadOrCalibrate() throws IOException, SortingException {
+        final var directory = Files.createTempDirectory("sorting-calibration");
+        final var file = directory.resolve("sorting.properties");
+        try {
+            // missing file is calibrated and stored
+            final var calibration = SortingCalibration.loadOrCalibrate(file, MAX_LENGTH, REPETITIONS);
+            assertTrue(Files.exists(file));
+            assertThresholds(calibration, SortingCalibration.load(file));
+
+            // stored calibration is loaded
+            final var stored = new SortingCalibration();
+            stored.setThresholds(double.class, 1, 2);
+            stored.store(file);
+            assertThresholds(stored, SortingCalibration.loadOrCalibrate(file, MAX_LENGTH, REPETITIONS));
+
+            // calibration with a different number of processors is measured again
+            Files.writeString(file, Files.readString(file).replace(
+                    SortingCalibration.PROCESSORS_PROPERTY + "=" + stored.getProcessors(),
+                    SortingCalibration.PROCESSORS_PROPERTY + "=" + (stored.getProcessors() + 1)));
+            final var measured = SortingCalibration.loadOrCalibrate(file, MAX_LENGTH, REPETITIONS);
+            assertEquals(stored.getProcessors(), measured.getProcessors());
+            assertThresholds(measured, SortingCalibration.load(file));
+
+            // invalid calibration is measured again
+            Files.writeString(file, "invalid");
+            SortingCalibration.loadOrCalibrate(file, MAX_LENGTH, REPETITIONS);
+            assertNotNull(SortingCalibration.load(file));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> SortingCalibration.loadOrCalibrate(file,
+                    SortingCalibration.MIN_MAX_LENGTH - 1, REPETITIONS));
+            assertThrows(IllegalArgumentException.class,
+                    () -> SortingCalibration.loadOrCalibrate(file, MAX_LENGTH, 0));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void assertThresholds(final SortingCalibration expected, final SortingCalibration calibration) {
+        for (final var type : TYPES) {
+            assertEquals(expected.getInsertionThreshold(type), calibration.getInsertionThreshold(type));
+            assertEquals(expected.getParallelThreshold(type), calibration.getParallelThreshold(type));
+        }
+    }
+}
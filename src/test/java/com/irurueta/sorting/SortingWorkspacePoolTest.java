@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingWorkspacePoolTest {
+
+    private static final int MAX_IDLE_WORKSPACES = 2;
+    private static final int MAX_RETAINED_LENGTH = 100;
+    private static final long KEEP_ALIVE_MILLIS = 60000L;
+    private static final long SHORT_KEEP_ALIVE_MILLIS = 100L;
+    private static final long EXPIRY_WAIT_MILLIS = 200L;
+
+    private static final int THREADS = 8;
+    private static final int SORTS_PER_THREAD = 50;
+    private static final int LENGTH = 1000;
+
+    @Test
+    void testConstructor() {
+        var pool = new SortingWorkspacePool();
+        assertEquals(SortingWorkspacePool.DEFAULT_MAX_IDLE_WORKSPACES, pool.getMaxIdleWorkspaces());
+        assertEquals(SortingWorkspacePool.DEFAULT_MAX_RETAINED_LENGTH, pool.getMaxRetainedLength());
+        assertEquals(SortingWorkspacePool.DEFAULT_KEEP_ALIVE_MILLIS, pool.getKeepAliveMillis());
+        assertEquals(0, pool.getIdleCount());
+
+        pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH, KEEP_ALIVE_MILLIS);
+        assertEquals(MAX_IDLE_WORKSPACES, pool.getMaxIdleWorkspaces());
+        assertEquals(MAX_RETAINED_LENGTH, pool.getMaxRetainedLength());
+        assertEquals(KEEP_ALIVE_MILLIS, pool.getKeepAliveMillis());
+        assertEquals(0, pool.getIdleCount());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new SortingWorkspacePool(-1, MAX_RETAINED_LENGTH, KEEP_ALIVE_MILLIS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SortingWorkspacePool(MAX_IDLE_WORKSPACES, -1, KEEP_ALIVE_MILLIS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH, -1L));
+    }
+
+    @Test
+    void testAcquireAndRelease() {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH, KEEP_ALIVE_MILLIS);
+
+        final var workspace1 = pool.acquire();
+        final var workspace2 = pool.acquire();
+        final var workspace3 = pool.acquire();
+        assertNotSame(workspace1, workspace2);
+        assertNotSame(workspace2, workspace3);
+        assertEquals(0, pool.getIdleCount());
+
+        pool.release(workspace1);
+        assertEquals(1, pool.getIdleCount());
+        pool.release(workspace2);
+        assertEquals(2, pool.getIdleCount());
+
+        // workspaces exceeding maximum number of idle workspaces are discarded
+        pool.release(workspace3);
+        assertEquals(MAX_IDLE_WORKSPACES, pool.getIdleCount());
+
+        // most recently released workspace is reused first
+        assertSame(workspace2, pool.acquire());
+        assertSame(workspace1, pool.acquire());
+        assertEquals(0, pool.getIdleCount());
+        assertNotSame(workspace3, pool.acquire());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> pool.release(null));
+    }
+
+    @Test
+    void testReleaseTrimsWorkspace() {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH, KEEP_ALIVE_MILLIS);
+
+        final var workspace = pool.acquire();
+        final var small = workspace.getInts(SortingWorkspace.STACK, MAX_RETAINED_LENGTH);
+        final var large = workspace.getDoubles(2 * MAX_RETAINED_LENGTH);
+        pool.release(workspace);
+
+        assertSame(workspace, pool.acquire());
+        assertSame(small, workspace.getInts(SortingWorkspace.STACK, MAX_RETAINED_LENGTH));
+        assertNotSame(large, workspace.getDoubles(MAX_RETAINED_LENGTH));
+    }
+
+    @Test
+    void testEvictExpired() throws InterruptedException {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH,
+                SHORT_KEEP_ALIVE_MILLIS);
+
+        final var workspace = pool.acquire();
+        pool.release(workspace);
+        assertEquals(1, pool.getIdleCount());
+
+        Thread.sleep(EXPIRY_WAIT_MILLIS);
+
+        pool.evictExpired();
+        assertEquals(0, pool.getIdleCount());
+        assertNotSame(workspace, pool.acquire());
+
+        // expired workspaces are also evicted when releasing
+        pool.release(workspace);
+        Thread.sleep(EXPIRY_WAIT_MILLIS);
+        final var workspace2 = new SortingWorkspace();
+        pool.release(workspace2);
+        assertEquals(1, pool.getIdleCount());
+        assertSame(workspace2, pool.acquire());
+    }
+
+    @Test
+    void testAcquireEvictsExpired() throws InterruptedException {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH,
+                SHORT_KEEP_ALIVE_MILLIS);
+
+        final var workspace1 = pool.acquire();
+        final var workspace2 = pool.acquire();
+        pool.release(workspace1);
+        pool.release(workspace2);
+        assertEquals(2, pool.getIdleCount());
+
+        Thread.sleep(EXPIRY_WAIT_MILLIS);
+
+        // idle workspaces are dropped without any further release
+        final var workspace3 = pool.acquire();
+        assertNotSame(workspace1, workspace3);
+        assertNotSame(workspace2, workspace3);
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testClear() {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, MAX_RETAINED_LENGTH, KEEP_ALIVE_MILLIS);
+
+        pool.release(new SortingWorkspace());
+        pool.release(new SortingWorkspace());
+        assertEquals(2, pool.getIdleCount());
+
+        pool.clear();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testConcurrentUse() throws InterruptedException, ExecutionException {
+        final var pool = new SortingWorkspacePool(MAX_IDLE_WORKSPACES, LENGTH, KEEP_ALIVE_MILLIS);
+        final var sorter = new PooledSorter<>(Sorter.<Double>create(SortingMethod.QUICKSORT_SORTING_METHOD), pool);
+
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final var futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                final var seed = t;
+                futures[t] = executor.submit(() -> {
+                    final var array = new double[LENGTH];
+                    for (int s = 0; s < SORTS_PER_THREAD; s++) {
+                        for (int i = 0; i < LENGTH; i++) {
+                            array[i] = (double) ((i * 7919 + s * 31 + seed) % LENGTH);
+                        }
+                        sorter.sort(array);
+                        for (int i = 1; i < LENGTH; i++) {
+                            assertTrue(array[i - 1] <= array[i]);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        assertTrue(pool.getIdleCount() <= MAX_IDLE_WORKSPACES);
+    }
+}
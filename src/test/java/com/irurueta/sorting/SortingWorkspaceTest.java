@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingWorkspaceTest {
+
+    private static final int LENGTH = 100;
+
+    @Test
+    void testGetInts() {
+        final var workspace = new SortingWorkspace();
+
+        final var ints = workspace.getInts(SortingWorkspace.STACK, LENGTH);
+        assertTrue(ints.length >= LENGTH);
+
+        // smaller or equal arrays are reused
+        assertSame(ints, workspace.getInts(SortingWorkspace.STACK, LENGTH));
+        assertSame(ints, workspace.getInts(SortingWorkspace.STACK, LENGTH / 2));
+
+        // each slot has its own array
+        assertNotSame(ints, workspace.getInts(SortingWorkspace.INDICES, LENGTH));
+
+        // larger arrays are grown
+        final var ints2 = workspace.getInts(SortingWorkspace.STACK, 2 * LENGTH);
+        assertTrue(ints2.length >= 2 * LENGTH);
+        assertSame(ints2, workspace.getInts(SortingWorkspace.STACK, LENGTH));
+    }
+
+    @Test
+    void testGetDoubles() {
+        final var workspace = new SortingWorkspace();
+
+        final var doubles = workspace.getDoubles(LENGTH);
+        assertTrue(doubles.length >= LENGTH);
+        assertSame(doubles, workspace.getDoubles(LENGTH / 2));
+
+        final var doubles2 = workspace.getDoubles(2 * LENGTH);
+        assertTrue(doubles2.length >= 2 * LENGTH);
+        assertSame(doubles2, workspace.getDoubles(LENGTH));
+    }
+
+    @Test
+    void testGetFloats() {
+        final var workspace = new SortingWorkspace();
+
+        final var floats = workspace.getFloats(LENGTH);
+        assertTrue(floats.length >= LENGTH);
+        assertSame(floats, workspace.getFloats(LENGTH / 2));
+
+        final var floats2 = workspace.getFloats(2 * LENGTH);
+        assertTrue(floats2.length >= 2 * LENGTH);
+        assertSame(floats2, workspace.getFloats(LENGTH));
+    }
+
+    @Test
+    void testGetLongs() {
+        final var workspace = new SortingWorkspace();
+
+        final var longs = workspace.getLongs(LENGTH);
+        assertTrue(longs.length >= LENGTH);
+        assertSame(longs, workspace.getLongs(LENGTH / 2));
+
+        final var longs2 = workspace.getLongs(2 * LENGTH);
+        assertTrue(longs2.length >= 2 * LENGTH);
+        assertSame(longs2, workspace.getLongs(LENGTH));
+    }
+
+    @Test
+    void testGetObjects() {
+        final var workspace = new SortingWorkspace();
+
+        final Object[] objects = workspace.getObjects(LENGTH);
+        assertTrue(objects.length >= LENGTH);
+        assertSame(objects, workspace.getObjects(LENGTH / 2));
+
+        final Object[] objects2 = workspace.getObjects(2 * LENGTH);
+        assertTrue(objects2.length >= 2 * LENGTH);
+        assertSame(objects2, workspace.getObjects(LENGTH));
+    }
+
+    @Test
+    void testGetRunDirections() {
+        final var workspace = new SortingWorkspace();
+
+        final var directions = workspace.getRunDirections(LENGTH);
+        assertTrue(directions.length >= LENGTH);
+        assertSame(directions, workspace.getRunDirections(LENGTH / 2));
+
+        final var directions2 = workspace.getRunDirections(2 * LENGTH);
+        assertTrue(directions2.length >= 2 * LENGTH);
+        assertSame(directions2, workspace.getRunDirections(LENGTH));
+    }
+
+    @Test
+    void testTrim() {
+        final var workspace = new SortingWorkspace();
+
+        final var ints = workspace.getInts(SortingWorkspace.STACK, LENGTH);
+        final var doubles = workspace.getDoubles(2 * LENGTH);
+        final var floats = workspace.getFloats(LENGTH);
+        final var longs = workspace.getLongs(2 * LENGTH);
+        final Object[] objects = workspace.getObjects(2 * LENGTH);
+        final var directions = workspace.getRunDirections(LENGTH);
+
+        workspace.trim(LENGTH);
+
+        // arrays not longer than provided length are kept
+        assertSame(ints, workspace.getInts(SortingWorkspace.STACK, LENGTH));
+        assertSame(floats, workspace.getFloats(LENGTH));
+        assertSame(directions, workspace.getRunDirections(LENGTH));
+
+        // longer arrays are released
+        assertNotSame(doubles, workspace.getDoubles(LENGTH));
+        assertNotSame(longs, workspace.getLongs(LENGTH));
+        assertNotSame(objects, workspace.getObjects(LENGTH));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> workspace.trim(-1));
+    }
+}
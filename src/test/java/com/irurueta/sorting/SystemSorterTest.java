@@ -33,6 +33,8 @@ class SystemSorterTest {
 
     private static final int TIMES = 50;
 
+    private static final int LARGE_LENGTH = 100000;
+
     @Test
     void testSortWithComparator() {
         for (int t = 0; t < TIMES; t++) {
@@ -411,6 +413,146 @@ class SystemSorterTest {
                 () -> sorter.sortWithIndices(array, fromIndex, length + 1));
     }
 
+    @Test
+    void testSortWithIndicesLargeDoubles() {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, repeated values, zeros of both signs,
+        // infinities and NaN
+        final var array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextInt(-MAX_VALUE, MAX_VALUE) / 4.0;
+        }
+        for (int i = fromIndex; i + 4 < toIndex; i += 100) {
+            array[i] = -0.0;
+            array[i + 1] = 0.0;
+            array[i + 2] = Double.NaN;
+            array[i + 3] = Double.NEGATIVE_INFINITY;
+            array[i + 4] = Double.POSITIVE_INFINITY;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new SystemSorter<Double>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array, 0.0);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0);
+            if (i > fromIndex && i < toIndex && Double.compare(array[i - 1], array[i]) == 0) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLargeFloats() {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, repeated values, zeros of both signs,
+        // infinities and NaN
+        final var array = new float[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextInt(-MAX_VALUE, MAX_VALUE) / 4.0f;
+        }
+        for (int i = fromIndex; i + 4 < toIndex; i += 100) {
+            array[i] = -0.0f;
+            array[i + 1] = 0.0f;
+            array[i + 2] = Float.NaN;
+            array[i + 3] = Float.NEGATIVE_INFINITY;
+            array[i + 4] = Float.POSITIVE_INFINITY;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new SystemSorter<Float>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array, 0.0f);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0f);
+            if (i > fromIndex && i < toIndex && Float.compare(array[i - 1], array[i]) == 0) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLargeInts() {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, repeated values and extreme values
+        final var array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextInt(-MAX_VALUE, MAX_VALUE);
+        }
+        for (int i = fromIndex; i + 1 < toIndex; i += 100) {
+            array[i] = Integer.MIN_VALUE;
+            array[i + 1] = Integer.MAX_VALUE;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new SystemSorter<Integer>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i]);
+            if (i > fromIndex && i < toIndex && array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLargeLongs() {
+        final var randomizer = new UniformRandomizer();
+
+        final var length = LARGE_LENGTH;
+        final var fromIndex = randomizer.nextInt(0, length / 4);
+        final var toIndex = randomizer.nextInt(length - length / 4, length);
+
+        // include negative values, repeated values and extreme values
+        final var array = new long[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = randomizer.nextLong(-MAX_VALUE, MAX_VALUE);
+        }
+        for (int i = fromIndex; i + 1 < toIndex; i += 100) {
+            array[i] = Long.MIN_VALUE;
+            array[i + 1] = Long.MAX_VALUE;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new SystemSorter<Long>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected, fromIndex, toIndex);
+        final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+        assertArrayEquals(expected, array);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i]);
+            if (i > fromIndex && i < toIndex && array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
     @Test
     void testGetMethod() {
         final var sorter = new SystemSorter<>();
@@ -0,0 +1,633 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimsortSorterTest {
+
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 100;
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 100;
+
+    private static final int TIMES = 50;
+
+    private static final int LARGE_LENGTH = 100000;
+
+    private static final int ADVERSARIAL_LENGTH = 5000;
+
+    @Test
+    void testSortWithComparator() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var sorter = new TimsortSorter<Date>();
+            sorter.sort(array, fromIndex, toIndex, Comparator.naturalOrder());
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesAndComparator() {
+        for (int t = 0; t < TIMES; t++) {
+            final UniformRandomizer randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new Date[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new TimsortSorter<Date>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex, Date::compareTo);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue.compareTo(array[i]) <= 0);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortDoubles() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new TimsortSorter<Double>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesDoubles() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new double[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new TimsortSorter<Double>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortFloats() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var sorter = new TimsortSorter<Float>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesFloats() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new float[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextFloat((float) MIN_VALUE, (float) MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new TimsortSorter<Float>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i], 0.0);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new TimsortSorter<Integer>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesInts() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new int[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new TimsortSorter<Integer>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var sorter = new TimsortSorter<Long>();
+            sorter.sort(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> sorter.sort(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortWithIndicesLongs() {
+        for (int t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var length = randomizer.nextInt(MIN_LENGTH, MAX_LENGTH);
+            final var fromIndex = randomizer.nextInt(0, length - 2);
+            final var toIndex = randomizer.nextInt(fromIndex + 1, length);
+
+            final var array = new long[length];
+
+            // set random values into array
+            for (int i = 0; i < length; i++) {
+                array[i] = randomizer.nextLong(MIN_VALUE, MAX_VALUE);
+            }
+
+            final var array2 = Arrays.copyOf(array, length);
+
+            final var sorter = new TimsortSorter<Long>();
+            final var indices = sorter.sortWithIndices(array, fromIndex, toIndex);
+
+            // check that array is now sorted in ascending order and that indices
+            // correspond to sorted vector
+            var prevValue = array[fromIndex];
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                assertTrue(prevValue <= array[i]);
+                assertEquals(array2[indices[i]], array[i]);
+                prevValue = array[i];
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> sorter.sortWithIndices(array, toIndex, fromIndex));
+
+            // Force ArrayIndexOutOfBoundsException
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, -1, toIndex));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> sorter.sortWithIndices(array, fromIndex, length + 1));
+        }
+    }
+
+    @Test
+    void testSortOrganPipe() {
+        final var length = LARGE_LENGTH;
+
+        // values increase up to the middle of the array and then decrease
+        final var array = new double[length];
+        final var intArray = new int[length];
+        for (int i = 0; i < length; i++) {
+            intArray[i] = Math.min(i, length - 1 - i);
+            array[i] = intArray[i];
+        }
+        final var array2 = Arrays.copyOf(array, length);
+        final var intArray2 = Arrays.copyOf(intArray, length);
+
+        final var sorter = new TimsortSorter<Double>();
+
+        final var expected = Arrays.copyOf(array, length);
+        Arrays.sort(expected);
+        sorter.sort(array, 0, length);
+        assertArrayEquals(expected, array, 0.0);
+
+        final var expectedInts = Arrays.copyOf(intArray, length);
+        Arrays.sort(expectedInts);
+        final var indices = sorter.sortWithIndices(intArray, 0, length);
+        assertArrayEquals(expectedInts, intArray);
+        for (int i = 0; i < length; i++) {
+            assertEquals(intArray2[indices[i]], intArray[i]);
+        }
+
+        final var indices2 = sorter.sortWithIndices(array2, 0, length);
+        assertArrayEquals(expected, array2, 0.0);
+        for (int i = 0; i < length; i++) {
+            assertEquals(intArray2[indices2[i]], array2[i], 0.0);
+        }
+    }
+
+    @Test
+    void testSortAdversarialComparator() {
+        final var length = ADVERSARIAL_LENGTH;
+
+        final var array = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = i;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var adversary = new AdversarialComparator(length);
+        final var sorter = new TimsortSorter<Integer>();
+        sorter.sort(array, 0, length, adversary);
+
+        // check that array is sorted and that number of comparisons is
+        // O(n log n) instead of O(n^2)
+        for (int i = 1; i < length; i++) {
+            assertTrue(adversary.compare(array[i - 1], array[i]) <= 0);
+        }
+        final var log = Integer.SIZE - Integer.numberOfLeadingZeros(length);
+        assertTrue(adversary.comparisons < 10L * length * log);
+
+        final var adversary2 = new AdversarialComparator(length);
+        final var indices = sorter.sortWithIndices(array2, 0, length, adversary2);
+        for (int i = 1; i < length; i++) {
+            assertTrue(adversary2.compare(array2[i - 1], array2[i]) <= 0);
+            assertEquals(indices[i], (int) array2[i]);
+        }
+        assertTrue(adversary2.comparisons < 10L * length * log);
+    }
+
+    @Test
+    void testSortWithIndicesIsStable() {
+        final var randomizer = new UniformRandomizer();
+        final var length = LARGE_LENGTH;
+
+        // few distinct values, so that there are many ties
+        final var doubles = new double[length];
+        final var floats = new float[length];
+        final var ints = new int[length];
+        final var longs = new long[length];
+        final var dates = new Date[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = randomizer.nextInt(MIN_VALUE, MIN_VALUE + 10);
+            doubles[i] = ints[i];
+            floats[i] = ints[i];
+            longs[i] = ints[i];
+            dates[i] = new Date(ints[i]);
+        }
+
+        final var sorter = new TimsortSorter<Date>();
+        assertStable(doubles, sorter.sortWithIndices(doubles, 0, length));
+        assertStable(floats, sorter.sortWithIndices(floats, 0, length));
+        assertStable(ints, sorter.sortWithIndices(ints, 0, length));
+        assertStable(longs, sorter.sortWithIndices(longs, 0, length));
+
+        final var indices = sorter.sortWithIndices(dates, 0, length, Comparator.naturalOrder());
+        for (int i = 1; i < length; i++) {
+            final var comparison = dates[i - 1].compareTo(dates[i]);
+            assertTrue(comparison <= 0);
+            if (comparison == 0) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    @Test
+    void testSortWithIndicesRuns() {
+        final var length = LARGE_LENGTH;
+
+        // ascending runs, descending runs and ties between runs
+        final var array = new double[length];
+        for (int i = 0; i < length; i++) {
+            final var run = i / 1000;
+            array[i] = run % 2 == 0 ? i % 1000 : 1000 - i % 1000;
+        }
+        final var array2 = Arrays.copyOf(array, length);
+
+        final var sorter = new TimsortSorter<Double>();
+        final var indices = sorter.sortWithIndices(array, 0, length);
+
+        assertStable(array, indices);
+        for (int i = 0; i < length; i++) {
+            assertEquals(array2[indices[i]], array[i], 0.0);
+        }
+
+        // already sorted array is left untouched
+        final var indices2 = sorter.sortWithIndices(array, 0, length);
+        for (int i = 0; i < length; i++) {
+            assertEquals(i, indices2[i]);
+        }
+    }
+
+    @Test
+    void testGetMethod() {
+        final var sorter = new TimsortSorter<>();
+        assertEquals(SortingMethod.TIMSORT_SORTING_METHOD, sorter.getMethod());
+    }
+
+    private static void assertStable(final double[] array, final int[] indices) {
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    private static void assertStable(final float[] array, final int[] indices) {
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    private static void assertStable(final int[] array, final int[] indices) {
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    private static void assertStable(final long[] array, final int[] indices) {
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1] <= array[i]);
+            if (array[i - 1] == array[i]) {
+                assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    /**
+     * Comparator that lazily assigns values to compared elements so that
+     * chosen partitioning elements are as poor as possible, as described in
+     * McIlroy, M.D. 1999. "A Killer Adversary for Quicksort".
+     */
+    private static final class AdversarialComparator implements Comparator<Integer> {
+
+        private final int[] values;
+
+        private final int gas;
+
+        private int solid;
+
+        private int candidate;
+
+        private long comparisons;
+
+        AdversarialComparator(final int length) {
+            values = new int[length];
+            gas = length;
+            Arrays.fill(values, gas);
+        }
+
+        @Override
+        public int compare(final Integer x, final Integer y) {
+            comparisons++;
+            if (values[x] == gas && values[y] == gas) {
+                if (x == candidate) {
+                    values[x] = solid++;
+                } else {
+                    values[y] = solid++;
+                }
+            }
+            if (values[x] == gas) {
+                candidate = x;
+            } else if (values[y] == gas) {
+                candidate = y;
+            }
+            return Integer.compare(values[x], values[y]);
+        }
+    }
+}
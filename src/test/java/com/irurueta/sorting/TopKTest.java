@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.sorting;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    private static final int MIN_VALUE = 0;
+    private static final int MAX_VALUE = 1000;
+
+    private static final int K = 10;
+
+    private static final int[] LENGTHS = {0, 1, 5, K, 11, 1000};
+
+    @Test
+    void testConstructor() {
+        final Comparator<Date> comparator = Date::compareTo;
+        final var top = new TopK<>(K, comparator);
+        assertEquals(K, top.getK());
+        assertSame(comparator, top.getComparator());
+        assertEquals(0, top.size());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new TopK<>(0, comparator));
+        assertThrows(IllegalArgumentException.class, () -> new TopK<Date>(K, null));
+    }
+
+    @Test
+    void testAdd() {
+        final var randomizer = new UniformRandomizer();
+        for (final var length : LENGTHS) {
+            final var values = new Date[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = new Date(randomizer.nextLong(MIN_VALUE, MAX_VALUE));
+            }
+
+            final var top = new TopK<Date>(K, Date::compareTo);
+            for (final var value : values) {
+                top.add(value);
+            }
+
+            final var expected = Arrays.copyOf(values, length);
+            Arrays.sort(expected);
+            final var n = Math.min(K, length);
+            assertEquals(n, top.size());
+            assertEquals(Arrays.asList(expected).subList(0, n), top.toSortedList());
+        }
+    }
+
+    @Test
+    void testAddAllWithReversedComparator() {
+        final var randomizer = new UniformRandomizer();
+        final var values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+        }
+
+        final var top = new TopK<Integer>(K, Comparator.reverseOrder());
+        top.addAll(values);
+
+        final var expected = Arrays.copyOf(values, values.length);
+        Arrays.sort(expected, Comparator.reverseOrder());
+        assertEquals(Arrays.asList(expected).subList(0, K), top.toSortedList());
+    }
+
+    @Test
+    void testAddAllWithinRange() {
+        final var values = new Integer[]{5, 4, 3, 2, 1};
+
+        final var top = new TopK<Integer>(2, Integer::compare);
+        top.addAll(values, 1, 4);
+        assertEquals(List.of(2, 3), top.toSortedList());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top.addAll(values, 2, 1));
+
+        // Force ArrayIndexOutOfBoundsException
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, -1, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> top.addAll(values, 0, values.length + 1));
+    }
+
+    @Test
+    void testAddAllIterator() {
+        final var top = new TopK<String>(3, String::compareTo);
+        top.addAll(List.of("pear", "apple", "fig", "banana", "cherry").iterator());
+        assertEquals(List.of("apple", "banana", "cherry"), top.toSortedList());
+    }
+
+    @Test
+    void testMerge() {
+        final var randomizer = new UniformRandomizer();
+        final var values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomizer.nextInt(MIN_VALUE, MAX_VALUE);
+        }
+
+        final var top1 = new TopK<Integer>(K, Integer::compare);
+        top1.addAll(values, 0, 500);
+        final var top2 = new TopK<Integer>(K, Integer::compare);
+        top2.addAll(values, 500, values.length);
+        top1.merge(top2);
+
+        final var all = new TopK<Integer>(K, Integer::compare);
+        all.addAll(values);
+        assertEquals(all.toSortedList(), top1.toSortedList());
+        assertEquals(K, top2.size());
+
+        // merging an instance into itself keeps the same best instances
+        final var partial = new TopK<Integer>(K, Integer::compare);
+        partial.addAll(new Integer[]{3, 1, 2});
+        partial.merge(partial);
+        assertEquals(List.of(1, 1, 2, 2, 3, 3), partial.toSortedList());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> top1.merge(null));
+    }
+
+    @Test
+    void testClear() {
+        final var top = new TopK<Integer>(K, Integer::compare);
+        top.addAll(new Integer[]{3, 1, 2});
+        assertEquals(3, top.size());
+
+        top.clear();
+        assertEquals(0, top.size());
+        assertTrue(top.toSortedList().isEmpty());
+    }
+}